@@ -0,0 +1,64 @@
+-- 마이그레이션: ERP 인터페이스 아웃박스 테이블(MES_ERP_OUTBOX) 생성
+-- 생성일: 2026-10-17
+-- 목적: 생산지시/생산실적의 ERP 인터페이스 전송 건을 MES 저장과 같은 트랜잭션에서 기록하고,
+--       백그라운드 디스패처(ErpOutboxDispatcher)가 배치로 ERP에 전송 (재시도/지연 재시도 포함)
+-- 상태: PENDING(대기) -> SENDING(전송 중, LOCKED_UNTIL까지 점유) -> SENT(완료)
+--       재시도 한도를 넘으면 FAILED (상태 API에서 재처리 요청 시 PENDING으로 복귀)
+-- EXPECT_CNT: 첫 전송 직전 ERP IF 테이블의 같은 MESIFKey/WorkingTag 행 수 + 1
+--             재시도 시 ERP 행 수가 이 값 이상이면 이미 반영된 것으로 보고 다시 보내지 않는다.
+
+IF NOT EXISTS (
+    SELECT 1 FROM INFORMATION_SCHEMA.TABLES
+    WHERE TABLE_NAME = 'MES_ERP_OUTBOX'
+)
+BEGIN
+    CREATE TABLE MES_ERP_OUTBOX (
+        OUTBOX_ID     BIGINT IDENTITY(1,1) NOT NULL,
+        MSG_TYPE      VARCHAR(20)    NOT NULL,
+        MES_IF_KEY    VARCHAR(100)   NOT NULL,
+        WORKING_TAG   CHAR(1)        NOT NULL,
+        PAYLOAD       NVARCHAR(MAX)  NOT NULL,
+        STATUS        VARCHAR(10)    NOT NULL CONSTRAINT DF_MES_ERP_OUTBOX_STATUS DEFAULT 'PENDING',
+        RETRY_CNT     INT            NOT NULL CONSTRAINT DF_MES_ERP_OUTBOX_RETRY_CNT DEFAULT 0,
+        NEXT_TRY_DTM  DATETIME       NOT NULL CONSTRAINT DF_MES_ERP_OUTBOX_NEXT_TRY_DTM DEFAULT GETDATE(),
+        LOCKED_UNTIL  DATETIME       NULL,
+        EXPECT_CNT    INT            NULL,
+        LAST_ERROR    NVARCHAR(1000) NULL,
+        REG_DTM       DATETIME       NOT NULL CONSTRAINT DF_MES_ERP_OUTBOX_REG_DTM DEFAULT GETDATE(),
+        SENT_DTM      DATETIME       NULL,
+        CONSTRAINT PK_MES_ERP_OUTBOX PRIMARY KEY (OUTBOX_ID)
+    );
+    PRINT 'Table MES_ERP_OUTBOX created';
+END
+ELSE
+BEGIN
+    PRINT 'Table MES_ERP_OUTBOX already exists';
+END
+
+-- 디스패처 대상 조회 (상태 + 재시도 시각 순)
+IF NOT EXISTS (
+    SELECT 1 FROM sys.indexes
+    WHERE name = 'IX_MES_ERP_OUTBOX_STATUS' AND object_id = OBJECT_ID('MES_ERP_OUTBOX')
+)
+BEGIN
+    CREATE INDEX IX_MES_ERP_OUTBOX_STATUS ON MES_ERP_OUTBOX (STATUS, NEXT_TRY_DTM, OUTBOX_ID);
+    PRINT 'Index IX_MES_ERP_OUTBOX_STATUS created';
+END
+ELSE
+BEGIN
+    PRINT 'Index IX_MES_ERP_OUTBOX_STATUS already exists';
+END
+
+-- 같은 키의 선행 미전송 건 확인 (키별 전송 순서 보장)
+IF NOT EXISTS (
+    SELECT 1 FROM sys.indexes
+    WHERE name = 'IX_MES_ERP_OUTBOX_KEY' AND object_id = OBJECT_ID('MES_ERP_OUTBOX')
+)
+BEGIN
+    CREATE INDEX IX_MES_ERP_OUTBOX_KEY ON MES_ERP_OUTBOX (MSG_TYPE, MES_IF_KEY, OUTBOX_ID) INCLUDE (STATUS);
+    PRINT 'Index IX_MES_ERP_OUTBOX_KEY created';
+END
+ELSE
+BEGIN
+    PRINT 'Index IX_MES_ERP_OUTBOX_KEY already exists';
+END
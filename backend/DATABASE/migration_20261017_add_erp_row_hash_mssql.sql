@@ -0,0 +1,58 @@
+-- 마이그레이션: ERP 연동 대상 테이블에 ERP_ROW_HASH 컬럼 추가
+-- 생성일: 2026-10-17
+-- 목적: ERP 연동 시 MES에 기록되는 값의 해시(MD5, 32자리)를 보관하여
+--       내용이 바뀌지 않은 행은 UPDATE를 생략 (트랜잭션 로그/잠금 부하 감소)
+-- 대상: TCO403(품목), TCO601(거래처), TSA308(생산의뢰), TCO501(제품별공정별소요자재)
+-- 기존 행은 NULL이므로 첫 연동 시 한 번 UPDATE 되면서 해시가 채워진다.
+
+IF NOT EXISTS (
+    SELECT 1 FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_NAME = 'TCO403' AND COLUMN_NAME = 'ERP_ROW_HASH'
+)
+BEGIN
+    ALTER TABLE TCO403 ADD ERP_ROW_HASH CHAR(32) NULL;
+    PRINT 'Column ERP_ROW_HASH added to TCO403';
+END
+ELSE
+BEGIN
+    PRINT 'Column ERP_ROW_HASH already exists in TCO403';
+END
+
+IF NOT EXISTS (
+    SELECT 1 FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_NAME = 'TCO601' AND COLUMN_NAME = 'ERP_ROW_HASH'
+)
+BEGIN
+    ALTER TABLE TCO601 ADD ERP_ROW_HASH CHAR(32) NULL;
+    PRINT 'Column ERP_ROW_HASH added to TCO601';
+END
+ELSE
+BEGIN
+    PRINT 'Column ERP_ROW_HASH already exists in TCO601';
+END
+
+IF NOT EXISTS (
+    SELECT 1 FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_NAME = 'TSA308' AND COLUMN_NAME = 'ERP_ROW_HASH'
+)
+BEGIN
+    ALTER TABLE TSA308 ADD ERP_ROW_HASH CHAR(32) NULL;
+    PRINT 'Column ERP_ROW_HASH added to TSA308';
+END
+ELSE
+BEGIN
+    PRINT 'Column ERP_ROW_HASH already exists in TSA308';
+END
+
+IF NOT EXISTS (
+    SELECT 1 FROM INFORMATION_SCHEMA.COLUMNS
+    WHERE TABLE_NAME = 'TCO501' AND COLUMN_NAME = 'ERP_ROW_HASH'
+)
+BEGIN
+    ALTER TABLE TCO501 ADD ERP_ROW_HASH CHAR(32) NULL;
+    PRINT 'Column ERP_ROW_HASH added to TCO501';
+END
+ELSE
+BEGIN
+    PRINT 'Column ERP_ROW_HASH already exists in TCO501';
+END
@@ -37,6 +37,38 @@ CREATE INDEX IDX_SCHEDULER_ID ON SCHEDULER_HISTORY(SCHEDULER_ID);
 CREATE INDEX IDX_START_TIME ON SCHEDULER_HISTORY(START_TIME);
 CREATE INDEX IDX_STATUS ON SCHEDULER_HISTORY(STATUS);
 
+-- Scheduler Execution History Step Table (MSSQL) - 복합 연동 작업의 단계별 실행 이력
+CREATE TABLE SCHEDULER_HISTORY_STEP (
+                                   STEP_ID BIGINT IDENTITY(1,1) NOT NULL,
+                                   HISTORY_ID BIGINT NOT NULL,
+                                   STEP_NAME VARCHAR(100) NOT NULL,
+                                   DEPENDS_ON VARCHAR(500),
+                                   START_TIME DATETIME,
+                                   END_TIME DATETIME,
+                                   STATUS VARCHAR(20) NOT NULL,
+                                   EXECUTION_TIME_MS BIGINT,
+                                   ERROR_MESSAGE VARCHAR(4000),
+                                   REG_DT DATETIME NOT NULL DEFAULT GETDATE(),
+                                   PRIMARY KEY (STEP_ID),
+                                   CONSTRAINT FK_SCHEDULER_HISTORY_STEP_HISTORY FOREIGN KEY (HISTORY_ID)
+                                       REFERENCES SCHEDULER_HISTORY (HISTORY_ID) ON DELETE CASCADE
+);
+
+CREATE INDEX IDX_SCHEDULER_HISTORY_STEP_HISTORY_ID ON SCHEDULER_HISTORY_STEP(HISTORY_ID);
+
+-- Scheduler Watermark Table (MSSQL) - 스케쥴러별/ERP 원천 뷰별 증분 연동 기준점
+CREATE TABLE SCHEDULER_WATERMARK (
+                                   SCHEDULER_ID BIGINT NOT NULL,
+                                   SOURCE_VIEW VARCHAR(100) NOT NULL,
+                                   LAST_DATE_TIME DATETIME2(3) NOT NULL,
+                                   LAST_KEY VARCHAR(100),
+                                   UPD_DT DATETIME NOT NULL DEFAULT GETDATE(),
+                                   UPD_USER_ID VARCHAR(20),
+                                   PRIMARY KEY (SCHEDULER_ID, SOURCE_VIEW),
+                                   CONSTRAINT FK_SCHEDULER_WATERMARK_CONFIG FOREIGN KEY (SCHEDULER_ID)
+                                       REFERENCES SCHEDULER_CONFIG (SCHEDULER_ID) ON DELETE CASCADE
+);
+
 -- TSA308 생산 의뢰 테이블 (Production Request Table)
 CREATE TABLE TSA308 (
     FACTORY_CODE VARCHAR(10) NOT NULL,                 -- 공장코드
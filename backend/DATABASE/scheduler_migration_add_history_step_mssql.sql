@@ -0,0 +1,27 @@
+-- Migration script to add SCHEDULER_HISTORY_STEP table (MSSQL)
+-- 복합 연동 작업(executeInterface)의 단계별 시작/종료 시각, 상태, 소요 시간을 기록
+
+IF NOT EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'SCHEDULER_HISTORY_STEP') AND TYPE IN (N'U'))
+BEGIN
+    CREATE TABLE SCHEDULER_HISTORY_STEP (
+        STEP_ID BIGINT IDENTITY(1,1) NOT NULL,
+        HISTORY_ID BIGINT NOT NULL,
+        STEP_NAME VARCHAR(100) NOT NULL,
+        DEPENDS_ON VARCHAR(500) NULL,
+        START_TIME DATETIME NULL,
+        END_TIME DATETIME NULL,
+        STATUS VARCHAR(20) NOT NULL,
+        EXECUTION_TIME_MS BIGINT NULL,
+        ERROR_MESSAGE VARCHAR(4000) NULL,
+        REG_DT DATETIME NOT NULL DEFAULT GETDATE(),
+        PRIMARY KEY (STEP_ID),
+        CONSTRAINT FK_SCHEDULER_HISTORY_STEP_HISTORY FOREIGN KEY (HISTORY_ID)
+            REFERENCES SCHEDULER_HISTORY (HISTORY_ID) ON DELETE CASCADE
+    );
+    CREATE INDEX IDX_SCHEDULER_HISTORY_STEP_HISTORY_ID ON SCHEDULER_HISTORY_STEP(HISTORY_ID);
+    PRINT 'Created SCHEDULER_HISTORY_STEP table';
+END
+ELSE
+BEGIN
+    PRINT 'SCHEDULER_HISTORY_STEP table already exists';
+END
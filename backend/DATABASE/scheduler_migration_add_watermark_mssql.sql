@@ -0,0 +1,24 @@
+-- Migration script to add SCHEDULER_WATERMARK table (MSSQL)
+-- 스케쥴러별/ERP 원천 뷰별 증분 연동 기준점(High-Water Mark)
+--   LAST_DATE_TIME : 마지막으로 반영에 성공한 ERP LastDateTime
+--   LAST_KEY       : 같은 LastDateTime 내에서 마지막으로 반영한 원천 키 (동일 시각 행의 누락/중복 방지)
+
+IF NOT EXISTS (SELECT * FROM SYS.OBJECTS WHERE OBJECT_ID = OBJECT_ID(N'SCHEDULER_WATERMARK') AND TYPE IN (N'U'))
+BEGIN
+    CREATE TABLE SCHEDULER_WATERMARK (
+        SCHEDULER_ID BIGINT NOT NULL,
+        SOURCE_VIEW VARCHAR(100) NOT NULL,
+        LAST_DATE_TIME DATETIME2(3) NOT NULL,
+        LAST_KEY VARCHAR(100) NULL,
+        UPD_DT DATETIME NOT NULL DEFAULT GETDATE(),
+        UPD_USER_ID VARCHAR(20) NULL,
+        PRIMARY KEY (SCHEDULER_ID, SOURCE_VIEW),
+        CONSTRAINT FK_SCHEDULER_WATERMARK_CONFIG FOREIGN KEY (SCHEDULER_ID)
+            REFERENCES SCHEDULER_CONFIG (SCHEDULER_ID) ON DELETE CASCADE
+    );
+    PRINT 'Created SCHEDULER_WATERMARK table';
+END
+ELSE
+BEGIN
+    PRINT 'SCHEDULER_WATERMARK table already exists';
+END
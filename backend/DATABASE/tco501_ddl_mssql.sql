@@ -18,5 +18,6 @@ CREATE TABLE TCO501 (
     BOM_ITEM_SERL         INT            NULL,     -- 순번
     LAST_USER_SEQ         INT            NULL,     -- 최종수정자내부코드
     LAST_DATE_TIME        DATETIME       NULL,     -- 최종수정일시
+    ERP_ROW_HASH          CHAR(32)       NULL,     -- ERP 연동 반영 내용 해시 (변경 없는 행 UPDATE 생략용)
     CONSTRAINT PK_TCO501 PRIMARY KEY (COMPANY_SEQ, ITEM_SEQ, BOM_REV, PROC_REV, PROC_SEQ, SERL)
 );
@@ -0,0 +1,71 @@
+package egovframework.com.cmm.service;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 접수된 비동기 작업(async=true) 상태
+ * 작업 스레드가 상태를 바꾸고 조회 요청이 읽으므로 결과/메시지를 먼저 쓰고 상태를 마지막에 바꾼다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Schema(description = "비동기 작업 상태 VO")
+@Getter
+public class AsyncJob {
+
+	public static final String RUNNING = "RUNNING";
+	public static final String SUCCEEDED = "SUCCEEDED";
+	public static final String FAILED = "FAILED";
+
+	@Schema(description = "작업 ID")
+	private final String jobId;
+
+	@Schema(description = "작업 종류")
+	private final String jobType;
+
+	@JsonIgnore
+	private final String ownerId;
+
+	@Schema(description = "작업 상태 (RUNNING, SUCCEEDED, FAILED)")
+	private volatile String status = RUNNING;
+
+	@Schema(description = "실패 메시지")
+	private volatile String message;
+
+	@Schema(description = "작업 결과 (SUCCEEDED인 경우 동기 호출과 같은 응답)")
+	private volatile ResultVO result;
+
+	@Schema(description = "접수 일시")
+	private final LocalDateTime submittedAt;
+
+	@Schema(description = "종료 일시")
+	private volatile LocalDateTime finishedAt;
+
+	public AsyncJob(String jobId, String jobType, String ownerId, LocalDateTime submittedAt) {
+		this.jobId = jobId;
+		this.jobType = jobType;
+		this.ownerId = ownerId;
+		this.submittedAt = submittedAt;
+	}
+
+	public boolean isFinished() {
+		return !RUNNING.equals(status);
+	}
+
+	public void succeed(ResultVO result, LocalDateTime finishedAt) {
+		this.result = result;
+		this.finishedAt = finishedAt;
+		this.status = SUCCEEDED;
+	}
+
+	public void fail(String message, LocalDateTime finishedAt) {
+		this.message = message;
+		this.finishedAt = finishedAt;
+		this.status = FAILED;
+	}
+}
@@ -0,0 +1,129 @@
+package egovframework.com.cmm.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import egovframework.com.cmm.util.EgovTransactionHelper;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 공통코드(MES_CCMMNDETAIL_CODE) 코드그룹 캐시
+ * <ul>
+ *   <li>코드그룹(CODE_ID)별로 처음 조회할 때 읽어 수정할 수 없는 목록으로 보관한다.
+ *       같은 코드그룹도 조회 형태(사용 여부 조건, 반환 VO)마다 따로 보관한다.</li>
+ *   <li>공통코드 상세를 등록/수정/삭제하거나 ERP 워크센터 연동(COM010)이 쓰면 해당 코드그룹만 비운다.
+ *       트랜잭션 안에서 비우면 완료 후(커밋/롤백 무관)에 한 번 더 비워, 완료 전에 다른 요청이나 같은 트랜잭션이 읽어 둔 값도 지운다.</li>
+ *   <li>읽는 도중 같은 코드그룹이 비워지면 읽은 값은 보관하지 않는다.</li>
+ * </ul>
+ * 목록의 행 객체는 여러 요청이 함께 쓰므로 꺼낸 뒤 수정하지 않는다.
+ * 캐시는 서버 메모리에만 있으므로 서버를 여러 대 운영하면 다른 서버의 변경은 반영되지 않는다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Component("commonCodeCache")
+public class CommonCodeCache {
+
+	/**
+	 * 코드그룹 조회 (DB)
+	 */
+	@FunctionalInterface
+	public interface Loader<T> {
+		List<T> load() throws Exception;
+	}
+
+	private final Map<String, Map<String, List<?>>> groups = new ConcurrentHashMap<>();
+	private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+	private final AtomicLong hits = new AtomicLong();
+	private final AtomicLong misses = new AtomicLong();
+	private final AtomicLong invalidations = new AtomicLong();
+
+	/**
+	 * 코드그룹을 캐시에서 꺼내고, 없으면 읽어서 보관한다.
+	 *
+	 * @param codeId 코드그룹 ID
+	 * @param view 조회 형태 (같은 코드그룹의 다른 조회와 구분)
+	 * @param loader 캐시에 없을 때 DB 조회
+	 * @return 수정할 수 없는 목록
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> List<T> get(String codeId, String view, Loader<T> loader) throws Exception {
+		if (codeId == null) {
+			return loader.load();
+		}
+
+		Map<String, List<?>> views = groups.get(codeId);
+		List<?> cached = views != null ? views.get(view) : null;
+		if (cached != null) {
+			hits.incrementAndGet();
+			return (List<T>) cached;
+		}
+
+		misses.incrementAndGet();
+		long version = version(codeId).get();
+		List<T> loaded = loader.load();
+		List<T> immutable = Collections.unmodifiableList(loaded != null ? new ArrayList<T>(loaded) : new ArrayList<T>());
+
+		synchronized (this) {
+			if (version(codeId).get() == version) {
+				groups.computeIfAbsent(codeId, key -> new ConcurrentHashMap<>()).put(view, immutable);
+			}
+		}
+		return immutable;
+	}
+
+	/**
+	 * 코드그룹을 비운다. 트랜잭션 안이면 완료 후(커밋/롤백 무관)에 한 번 더 비운다.
+	 *
+	 * @param codeId 코드그룹 ID
+	 */
+	public void invalidate(String codeId) {
+		if (codeId == null) {
+			return;
+		}
+		evict(codeId);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			EgovTransactionHelper.afterCompletion(() -> evict(codeId));
+		}
+	}
+
+	/**
+	 * 캐시 상태 (조회 적중/미적중 수, 보관 중인 코드그룹 수)
+	 */
+	public Map<String, Object> stats() {
+		long hitCount = hits.get();
+		long missCount = misses.get();
+		long total = hitCount + missCount;
+
+		Map<String, Object> stats = new LinkedHashMap<>();
+		stats.put("hits", hitCount);
+		stats.put("misses", missCount);
+		stats.put("hitRate", total == 0 ? 0 : hitCount * 100 / total);
+		stats.put("invalidations", invalidations.get());
+		stats.put("cachedGroups", groups.size());
+		return stats;
+	}
+
+	private synchronized void evict(String codeId) {
+		version(codeId).incrementAndGet();
+		if (groups.remove(codeId) != null) {
+			log.debug("공통코드 캐시 비움: {}", codeId);
+		}
+		invalidations.incrementAndGet();
+	}
+
+	private AtomicLong version(String codeId) {
+		return versions.computeIfAbsent(codeId, key -> new AtomicLong());
+	}
+}
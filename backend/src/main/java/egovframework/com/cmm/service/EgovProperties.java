@@ -4,15 +4,12 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.io.IOException;
-import java.io.InputStream;
 import java.util.ArrayList;
 import java.util.Enumeration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Properties;
 
 import org.springframework.core.io.DefaultResourceLoader;
-import org.springframework.core.io.Resource;
 import org.springframework.core.io.support.ResourcePatternUtils;
 
 import egovframework.com.cmm.EgovWebUtil;
@@ -67,6 +64,13 @@ public class EgovProperties {
 	// /target/classes/application.properties
 	public static final String GLOBALS_PROPERTIES_FILE = "classpath:" + FILE_SEPARATOR + "application.properties";
 
+	// 프로퍼티 파일 수정 여부 확인 간격(ms)
+	static final long RELOAD_CHECK_INTERVAL_MILLIS = 5000L;
+
+	private static final PropertiesSnapshot GLOBALS = new PropertiesSnapshot(
+		ResourcePatternUtils.getResourcePatternResolver(new DefaultResourceLoader()).getResource(GLOBALS_PROPERTIES_FILE),
+		RELOAD_CHECK_INTERVAL_MILLIS, System::currentTimeMillis);
+
 	/**
 	 * 인자로 주어진 문자열을 Key값으로 하는 상대경로 프로퍼티 값을 절대경로로 반환한다(Globals.java 전용)
 	 * @param keyName String
@@ -103,29 +107,13 @@ public class EgovProperties {
 
 	/**
 	 * 인자로 주어진 문자열을 Key값으로 하는 프로퍼티 값을 반환한다(Globals.java 전용)
+	 * 파일은 메모리 스냅샷으로 보관하며, 수정 시각이 바뀐 경우에만 다시 읽는다. (PropertiesSnapshot 참조)
 	 * @param keyName String
 	 * @return String
 	*/
 	public static String getProperty(String keyName) {
-		String value = ERR_CODE;
-		value = "99";
-		
-        Resource resources = ResourcePatternUtils.getResourcePatternResolver(new DefaultResourceLoader())
-			    .getResource(GLOBALS_PROPERTIES_FILE);
-		
-        debug(GLOBALS_PROPERTIES_FILE + " : " + keyName);
-		
-		try (InputStream in = resources.getInputStream()) {
-			Properties props = new Properties(); 
-			props.load(new java.io.BufferedInputStream(in));
-			if ( props.getProperty(keyName) != null ) 
-				value = props.getProperty(keyName).trim();
-		} catch (FileNotFoundException fne) {
-			debug(fne);
-		} catch (IOException ioe) {
-			debug(ioe);
-		}
-		return value;
+		String value = GLOBALS.get(keyName);
+		return value != null ? value : "99";
 	}
 	
 	/**
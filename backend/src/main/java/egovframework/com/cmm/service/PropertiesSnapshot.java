@@ -0,0 +1,123 @@
+package egovframework.com.cmm.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+import org.springframework.core.io.Resource;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로퍼티 파일의 메모리 스냅샷 (EgovProperties 전용)
+ * <ul>
+ *   <li>처음 조회할 때 한 번 읽어 불변 Map으로 보관하고, 이후 조회는 파일을 열지 않는다.</li>
+ *   <li>checkIntervalMillis마다 한 번 파일 수정 시각만 확인하여 바뀐 경우에만 다시 읽는다.</li>
+ *   <li>확인/재로딩은 그 시점에 조회한 스레드 하나만 하고, 나머지 스레드는 기다리지 않고 기존 스냅샷을 읽는다.
+ *       다시 읽다 실패하면 기존 스냅샷을 그대로 쓴다.</li>
+ * </ul>
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+class PropertiesSnapshot {
+
+	private static final long UNKNOWN = -1L;
+
+	private final Resource resource;
+	private final long checkIntervalMillis;
+	private final LongSupplier clock;
+	private final AtomicBoolean checking = new AtomicBoolean();
+
+	private volatile Snapshot snapshot;
+	private volatile long nextCheckAt;
+
+	PropertiesSnapshot(Resource resource, long checkIntervalMillis, LongSupplier clock) {
+		this.resource = resource;
+		this.checkIntervalMillis = checkIntervalMillis;
+		this.clock = clock;
+	}
+
+	/**
+	 * @return 값(앞뒤 공백 제거), 없으면 null
+	 */
+	String get(String key) {
+		return current().values.get(key);
+	}
+
+	private Snapshot current() {
+		Snapshot current = snapshot;
+		if (current == null) {
+			return loadFirst();
+		}
+		long now = clock.getAsLong();
+		if (now >= nextCheckAt && checking.compareAndSet(false, true)) {
+			try {
+				nextCheckAt = now + checkIntervalMillis;
+				long lastModified = lastModified();
+				if (lastModified != current.lastModified) {
+					Snapshot reloaded = load(lastModified);
+					if (reloaded != null) {
+						snapshot = reloaded;
+						current = reloaded;
+						log.info("프로퍼티 파일 변경 감지, 다시 읽음: {}", resource);
+					}
+				}
+			} finally {
+				checking.set(false);
+			}
+		}
+		return current;
+	}
+
+	private synchronized Snapshot loadFirst() {
+		if (snapshot == null) {
+			Snapshot loaded = load(lastModified());
+			// 읽지 못하면 빈 스냅샷으로 두고 다음 확인 때 다시 읽는다
+			snapshot = loaded != null ? loaded : new Snapshot(Collections.<String, String>emptyMap(), UNKNOWN);
+			nextCheckAt = clock.getAsLong() + checkIntervalMillis;
+		}
+		return snapshot;
+	}
+
+	private Snapshot load(long lastModified) {
+		try (InputStream in = resource.getInputStream()) {
+			Properties props = new Properties();
+			props.load(new java.io.BufferedInputStream(in));
+
+			Map<String, String> values = new HashMap<String, String>();
+			for (String key : props.stringPropertyNames()) {
+				values.put(key, props.getProperty(key).trim());
+			}
+			return new Snapshot(Collections.unmodifiableMap(values), lastModified);
+		} catch (IOException e) {
+			log.debug("IGNORED: {}", e.getMessage());
+			return null;
+		}
+	}
+
+	private long lastModified() {
+		try {
+			return resource.lastModified();
+		} catch (IOException e) {
+			return UNKNOWN;
+		}
+	}
+
+	private static final class Snapshot {
+		private final Map<String, String> values;
+		private final long lastModified;
+
+		private Snapshot(Map<String, String> values, long lastModified) {
+			this.values = values;
+			this.lastModified = lastModified;
+		}
+	}
+}
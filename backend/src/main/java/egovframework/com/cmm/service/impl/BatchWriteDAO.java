@@ -0,0 +1,131 @@
+package egovframework.com.cmm.service.impl;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * 다건 INSERT/UPDATE/DELETE 배치 실행 DAO
+ * ExecutorType.BATCH SqlSessionTemplate(batchSqlSessionTemplate)으로 같은 문장을 묶어 실행하고,
+ * flushSize건마다 전송하여 행마다 발생하던 DB 왕복을 줄인다.
+ * 호출 중인 Spring 트랜잭션의 커넥션을 그대로 사용하므로 트랜잭션 안에서만 호출할 수 있으며,
+ * 메서드가 끝나기 전에 모두 전송하고 같은 트랜잭션의 SIMPLE 세션(egovSqlSessionTemplate) 1차 캐시를 비우므로,
+ * 이후 같은 트랜잭션의 조회에서 바로 보인다. (다른 세션의 쓰기는 MyBatis 로컬 캐시를 비우지 않음)
+ * selectKey/useGeneratedKeys로 키를 돌려받는 문장은 배치로 실행하지 않는다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Repository("batchWriteDAO")
+public class BatchWriteDAO {
+
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+
+    private final SqlSessionTemplate sqlSessionTemplate;
+
+    private final int flushSize;
+
+    @FunctionalInterface
+    private interface Operation {
+        void execute(SqlSessionTemplate session, String statementId, Object row);
+    }
+
+    public BatchWriteDAO(@Qualifier("batchSqlSessionTemplate") SqlSessionTemplate batchSqlSessionTemplate,
+                         @Qualifier("egovSqlSessionTemplate") SqlSessionTemplate sqlSessionTemplate,
+                         @Value("${Globals.batch.flushSize:500}") int flushSize) {
+        if (flushSize < 1) {
+            throw new IllegalArgumentException("flushSize must be greater than 0");
+        }
+        this.batchSqlSessionTemplate = batchSqlSessionTemplate;
+        this.sqlSessionTemplate = sqlSessionTemplate;
+        this.flushSize = flushSize;
+    }
+
+    /**
+     * 다건 INSERT
+     * @return 입력 행 순서와 같은 행별 처리 건수
+     */
+    public int[] insertAll(String statementId, List<?> rows) {
+        return execute(statementId, rows, SqlSessionTemplate::insert);
+    }
+
+    /**
+     * 다건 UPDATE
+     * @return 입력 행 순서와 같은 행별 처리 건수
+     */
+    public int[] updateAll(String statementId, List<?> rows) {
+        return execute(statementId, rows, SqlSessionTemplate::update);
+    }
+
+    /**
+     * 다건 DELETE
+     * @return 입력 행 순서와 같은 행별 처리 건수
+     */
+    public int[] deleteAll(String statementId, List<?> rows) {
+        return execute(statementId, rows, SqlSessionTemplate::delete);
+    }
+
+    /**
+     * 행별 처리 건수 합계 (드라이버가 건수를 알려주지 않은 행(SUCCESS_NO_INFO)은 1건으로 계산)
+     */
+    public static int total(int[] counts) {
+        int total = 0;
+        for (int count : counts) {
+            if (count == Statement.SUCCESS_NO_INFO) {
+                total++;
+            } else if (count > 0) {
+                total += count;
+            }
+        }
+        return total;
+    }
+
+    private int[] execute(String statementId, List<?> rows, Operation operation) {
+        if (rows == null || rows.isEmpty()) {
+            return new int[0];
+        }
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Batch write requires an active transaction: " + statementId);
+        }
+
+        int[] counts = new int[rows.size()];
+        int mapped = 0;
+        for (int i = 0; i < rows.size(); i++) {
+            operation.execute(batchSqlSessionTemplate, statementId, rows.get(i));
+            if ((i + 1) % flushSize == 0 || i == rows.size() - 1) {
+                mapped = collect(batchSqlSessionTemplate.flushStatements(), counts, mapped, statementId);
+            }
+        }
+        if (mapped != rows.size()) {
+            throw new IllegalStateException("Batch result count mismatch: " + statementId
+                    + " expected=" + rows.size() + ", actual=" + mapped);
+        }
+        // 배치 전 같은 트랜잭션에서 조회한 결과가 로컬 캐시에 남아 변경 전 값을 돌려주지 않도록 비운다
+        batchSqlSessionTemplate.clearCache();
+        sqlSessionTemplate.clearCache();
+        return counts;
+    }
+
+    /**
+     * BatchResult는 같은 SQL이 연속된 구간마다 하나씩 생성되므로, 순서대로 이어 붙이면 입력 행 순서와 일치한다.
+     */
+    private static int collect(List<BatchResult> results, int[] counts, int offset, String statementId) {
+        int mapped = offset;
+        for (BatchResult result : results) {
+            for (int count : result.getUpdateCounts()) {
+                if (mapped >= counts.length) {
+                    throw new IllegalStateException("Batch result count mismatch: " + statementId);
+                }
+                counts[mapped++] = count;
+            }
+        }
+        return mapped;
+    }
+}
@@ -7,6 +7,7 @@ import java.util.Map;
 
 import egovframework.com.cmm.ComDefaultCodeVO;
 import egovframework.com.cmm.service.CmmnDetailCode;
+import egovframework.com.cmm.service.CommonCodeCache;
 import egovframework.com.cmm.service.EgovCmmUseService;
 
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
@@ -36,6 +37,12 @@ public class EgovCmmUseServiceImpl extends EgovAbstractServiceImpl implements Eg
 	@Resource(name = "cmmUseDAO")
 	private CmmUseDAO cmmUseDAO;
 
+	/** 공통코드 코드그룹 캐시 (사용 중인 코드만, CmmnDetailCode 형태로 보관) */
+	@Resource(name = "commonCodeCache")
+	private CommonCodeCache commonCodeCache;
+
+	private static final String CMM_CODE_VIEW = "cmmUse";
+
 	/**
 	 * 공통코드를 조회한다.
 	 *
@@ -45,7 +52,7 @@ public class EgovCmmUseServiceImpl extends EgovAbstractServiceImpl implements Eg
 	 */
 	@Override
 	public List<CmmnDetailCode> selectCmmCodeDetail(ComDefaultCodeVO vo) throws Exception {
-		return cmmUseDAO.selectCmmCodeDetail(vo);
+		return commonCodeCache.get(vo.getCodeId(), CMM_CODE_VIEW, () -> cmmUseDAO.selectCmmCodeDetail(vo));
 	}
 
 	/**
@@ -63,7 +70,7 @@ public class EgovCmmUseServiceImpl extends EgovAbstractServiceImpl implements Eg
 		Iterator<?> iter = voList.iterator();
 		while (iter.hasNext()) {
 			vo = (ComDefaultCodeVO) iter.next();
-			map.put(vo.getCodeId(), cmmUseDAO.selectCmmCodeDetail(vo));
+			map.put(vo.getCodeId(), selectCmmCodeDetail(vo));
 		}
 
 		return map;
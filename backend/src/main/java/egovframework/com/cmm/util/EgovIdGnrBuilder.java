@@ -2,6 +2,7 @@ package egovframework.com.cmm.util;
 
 import javax.sql.DataSource;
 
+import egovframework.let.common.idgen.service.impl.EgovAdaptiveTableIdGnrServiceImpl;
 import org.egovframe.rte.fdl.idgnr.impl.EgovTableIdGnrServiceImpl;
 import org.egovframe.rte.fdl.idgnr.impl.strategy.EgovIdGnrStrategyImpl;
 
@@ -37,6 +38,9 @@ public class EgovIdGnrBuilder {
 	private String table;
 	private String tableName;
 
+	private int maxBlockSize = EgovAdaptiveTableIdGnrServiceImpl.DEFAULT_MAX_BLOCK_SIZE;
+	private long targetIntervalMillis = EgovAdaptiveTableIdGnrServiceImpl.DEFAULT_TARGET_INTERVAL_MILLIS;
+
 	public EgovIdGnrBuilder setDataSource(DataSource dataSource) {
 		this.dataSource = dataSource;
 		return this;
@@ -71,11 +75,23 @@ public class EgovIdGnrBuilder {
 		this.tableName = tableName;
 		return this;
 	}
+	/** 블록 크기 자동 조정 상한 (blockSize 이하이면 고정 크기) */
+	public EgovIdGnrBuilder setMaxBlockSize(int maxBlockSize) {
+		this.maxBlockSize = maxBlockSize;
+		return this;
+	}
+	/** 블록 1개를 소진하는 목표 간격(ms) */
+	public EgovIdGnrBuilder setTargetIntervalMillis(long targetIntervalMillis) {
+		this.targetIntervalMillis = targetIntervalMillis;
+		return this;
+	}
 
 	public EgovTableIdGnrServiceImpl build() {
 
-		EgovTableIdGnrServiceImpl egovTableIdGnrServiceImpl = new EgovTableIdGnrServiceImpl();
+		EgovAdaptiveTableIdGnrServiceImpl egovTableIdGnrServiceImpl = new EgovAdaptiveTableIdGnrServiceImpl();
 		egovTableIdGnrServiceImpl.setDataSource(dataSource);
+		egovTableIdGnrServiceImpl.setMaxBlockSize(maxBlockSize);
+		egovTableIdGnrServiceImpl.setTargetIntervalMillis(targetIntervalMillis);
 		if(egovIdGnrStrategyImpl != null) {
 			egovIdGnrStrategyImpl = new EgovIdGnrStrategyImpl();
 			egovIdGnrStrategyImpl.setPrefix(preFix);
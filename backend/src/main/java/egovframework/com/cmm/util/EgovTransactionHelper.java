@@ -0,0 +1,55 @@
+package egovframework.com.cmm.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 동기화 유틸리티
+ * 캐시 무효화, 디스패처 깨우기처럼 커밋된 변경에만 반응해야 하는 작업을 커밋 후로 미루거나, 트랜잭션 완료 후로 미룬다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public final class EgovTransactionHelper {
+
+	private EgovTransactionHelper() {
+	}
+
+	/**
+	 * 진행 중인 트랜잭션이 있으면 커밋 후, 없으면 즉시 실행한다. (롤백된 변경에는 실행하지 않음)
+	 *
+	 * @param action 실행할 작업
+	 */
+	public static void afterCommit(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	/**
+	 * 진행 중인 트랜잭션이 있으면 커밋/롤백과 관계없이 완료 후, 없으면 즉시 실행한다.
+	 * 트랜잭션 중 캐시에 읽어 둔 값이 롤백 후에도 남지 않아야 하는 경우에 사용한다.
+	 *
+	 * @param action 실행할 작업
+	 */
+	public static void afterCompletion(Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCompletion(int status) {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+}
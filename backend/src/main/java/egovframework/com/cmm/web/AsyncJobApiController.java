@@ -0,0 +1,63 @@
+package egovframework.com.cmm.web;
+
+import egovframework.com.cmm.LoginVO;
+import egovframework.com.cmm.ResponseCode;
+import egovframework.com.cmm.service.AsyncJob;
+import egovframework.com.cmm.service.ResultVO;
+import egovframework.com.cmm.util.ResultVoHelper;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 비동기 작업(async=true로 접수한 요청) 상태 조회 컨트롤러
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/async-jobs")
+@Tag(name = "AsyncJobApiController", description = "비동기 작업 상태 조회")
+public class AsyncJobApiController {
+
+    private final ResultVoHelper resultVoHelper;
+    private final AsyncRequestSupport asyncRequestSupport;
+
+    /**
+     * 접수한 작업의 상태와 결과를 조회한다. (본인이 접수한 작업만 조회 가능)
+     */
+    @Operation(
+            summary = "비동기 작업 상태 조회",
+            description = "접수한 작업의 상태(RUNNING, SUCCEEDED, FAILED)와 결과를 조회. 종료 후 보관 시간이 지나면 조회할 수 없음",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"AsyncJobApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @GetMapping("/{jobId}")
+    public ResultVO selectAsyncJob(@Parameter(description = "작업 ID") @PathVariable String jobId,
+                                   @Parameter(hidden = true) @AuthenticationPrincipal LoginVO user) {
+
+        AsyncJob job = asyncRequestSupport.getJob(jobId, user.getUniqId());
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("job", job);
+
+        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+    }
+}
@@ -0,0 +1,223 @@
+package egovframework.com.cmm.web;
+
+import egovframework.com.cmm.ResponseCode;
+import egovframework.com.cmm.exception.BizException;
+import egovframework.com.cmm.service.AsyncJob;
+import egovframework.com.cmm.service.ResultVO;
+import egovframework.com.cmm.util.ResultVoHelper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 오래 걸리는 요청의 비동기 처리 지원
+ * <ul>
+ *   <li>{@link #run}: 요청 스레드(Tomcat)는 바로 반납하고 asyncRequestTaskExecutor에서 처리한 뒤 같은 응답을 돌려준다.
+ *       Globals.web.async.timeoutMillis 안에 끝나지 않으면 jobId를 담은 시간 초과 응답을 보내며, 작업은 중단하지 않고 끝까지 진행한다.
+ *       (이때부터 submit과 같이 보관하여 jobId로 조회, 시간 안에 끝난 작업은 보관하지 않음)</li>
+ *   <li>{@link #submit}: 작업을 접수하고 jobId만 바로 돌려준다. 결과는 /api/async-jobs/{jobId}로 조회하며
+ *       종료 후 Globals.web.async.jobTtlMinutes분 동안 보관한다. (최대 Globals.web.async.maxJobs건)</li>
+ * </ul>
+ * 스레드 풀 대기열이 가득 차면 호출 스레드에서 실행하지 않고 바로 실패 응답을 보낸다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Component("asyncRequestSupport")
+public class AsyncRequestSupport {
+
+    private static final String BUSY_MESSAGE = "요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.";
+    private static final String TIMEOUT_MESSAGE = "처리 시간이 초과되었습니다. 작업은 계속 진행되니 잠시 후 작업 결과를 확인해주세요.";
+    private static final String FULL_MESSAGE = "진행 중인 작업이 많아 접수하지 못했습니다. 잠시 후 다시 시도해주세요.";
+    private static final String ERROR_MESSAGE = "서버 처리 중 오류가 발생했습니다.";
+
+    private final AsyncTaskExecutor executor;
+    private final ResultVoHelper resultVoHelper;
+    private final long timeoutMillis;
+    private final long jobTtlMinutes;
+    private final int maxJobs;
+    private final Clock clock;
+
+    private final Map<String, AsyncJob> jobs = new ConcurrentHashMap<>();
+
+    public AsyncRequestSupport(@Qualifier("asyncRequestTaskExecutor") AsyncTaskExecutor executor,
+                               ResultVoHelper resultVoHelper,
+                               @Value("${Globals.web.async.timeoutMillis:60000}") long timeoutMillis,
+                               @Value("${Globals.web.async.jobTtlMinutes:30}") long jobTtlMinutes,
+                               @Value("${Globals.web.async.maxJobs:200}") int maxJobs) {
+        this(executor, resultVoHelper, timeoutMillis, jobTtlMinutes, maxJobs, Clock.systemDefaultZone());
+    }
+
+    AsyncRequestSupport(AsyncTaskExecutor executor, ResultVoHelper resultVoHelper,
+                        long timeoutMillis, long jobTtlMinutes, int maxJobs, Clock clock) {
+        this.executor = executor;
+        this.resultVoHelper = resultVoHelper;
+        this.timeoutMillis = Math.max(1, timeoutMillis);
+        this.jobTtlMinutes = Math.max(1, jobTtlMinutes);
+        this.maxJobs = Math.max(1, maxJobs);
+        this.clock = clock;
+    }
+
+    /**
+     * 작업을 비동기 처리 스레드 풀에서 실행하고 결과를 응답한다.
+     * 작업에서 던진 예외는 요청에서 던진 것과 같이 GlobalExceptionHandler가 처리한다.
+     * 시간 안에 끝난 작업은 보관하지 않고, 시간 초과로 먼저 응답할 때만 결과를 잃지 않도록 submit과 같이 보관하여 응답에 jobId를 담는다.
+     * (보관 작업 수가 가득 차 있으면 jobId 없이 시간 초과만 응답)
+     *
+     * @param jobType 작업 종류 (로그와 상태 조회 응답에 표시)
+     * @param ownerId 요청한 사용자 ID (본인만 조회 가능)
+     * @param work 작업 (요청 값 검증과 사용자 정보 확인은 호출 전에 요청 스레드에서 끝낸다)
+     * @return 응답
+     */
+    public DeferredResult<ResultVO> run(String jobType, String ownerId, Callable<ResultVO> work) {
+        DeferredResult<ResultVO> deferred = new DeferredResult<>(timeoutMillis);
+        AsyncJob job = new AsyncJob(UUID.randomUUID().toString(), jobType, ownerId, LocalDateTime.now(clock));
+        deferred.onTimeout(() -> {
+            boolean kept = register(job);
+            log.warn("[ASYNC] 응답 시간 초과, 작업은 계속 진행. jobId={}, jobType={}, timeoutMillis={}, kept={}",
+                    job.getJobId(), jobType, timeoutMillis, kept);
+            deferred.setResult(failure(TIMEOUT_MESSAGE, kept ? jobStatus(job) : null));
+        });
+
+        try {
+            executor.submit(new DelegatingSecurityContextRunnable(() -> {
+                try {
+                    deferred.setResult(execute(job, work));
+                } catch (Exception e) {
+                    deferred.setErrorResult(e);
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            log.warn("[ASYNC] 처리 스레드 풀 포화로 거부. jobType={}", jobType);
+            deferred.setResult(failure(BUSY_MESSAGE, null));
+        }
+        return deferred;
+    }
+
+    /**
+     * 작업을 접수하고 jobId를 바로 응답한다.
+     *
+     * @param jobType 작업 종류 (상태 조회 응답에 표시)
+     * @param ownerId 접수한 사용자 ID (본인만 조회 가능)
+     * @param work 작업
+     * @return jobId, status를 담은 접수 응답
+     */
+    public DeferredResult<ResultVO> submit(String jobType, String ownerId, Callable<ResultVO> work) {
+        DeferredResult<ResultVO> deferred = new DeferredResult<>();
+        AsyncJob job = new AsyncJob(UUID.randomUUID().toString(), jobType, ownerId, LocalDateTime.now(clock));
+        if (!register(job)) {
+            log.warn("[ASYNC] 보관 작업 수 초과로 거부. jobType={}, maxJobs={}", jobType, maxJobs);
+            deferred.setResult(failure(FULL_MESSAGE, null));
+            return deferred;
+        }
+
+        try {
+            executor.submit(new DelegatingSecurityContextRunnable(() -> {
+                try {
+                    execute(job, work);
+                } catch (Exception e) {
+                    // execute에서 작업 상태와 로그에 남겼으므로 여기서는 무시 (결과는 jobId로 조회)
+                }
+            }));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            log.warn("[ASYNC] 처리 스레드 풀 포화로 거부. jobType={}", jobType);
+            deferred.setResult(failure(BUSY_MESSAGE, null));
+            return deferred;
+        }
+
+        deferred.setResult(resultVoHelper.buildFromMap(jobStatus(job), ResponseCode.SUCCESS, "작업이 접수되었습니다."));
+        return deferred;
+    }
+
+    /**
+     * 접수한 작업의 상태를 조회한다.
+     *
+     * @param jobId 작업 ID
+     * @param ownerId 조회하는 사용자 ID
+     * @return 작업 상태
+     * @throws BizException 작업이 없거나 보관 시간이 지났거나 다른 사용자의 작업인 경우
+     */
+    public AsyncJob getJob(String jobId, String ownerId) {
+        purgeExpired();
+        AsyncJob job = jobId == null ? null : jobs.get(jobId);
+        if (job == null || !Objects.equals(job.getOwnerId(), ownerId)) {
+            throw new BizException("작업을 찾을 수 없습니다. 종료 후 " + jobTtlMinutes + "분이 지난 작업은 조회할 수 없습니다.");
+        }
+        return job;
+    }
+
+    /**
+     * 작업을 실행하고 결과를 작업 상태에 남긴 뒤, 결과를 돌려주거나 예외를 다시 던진다.
+     */
+    private ResultVO execute(AsyncJob job, Callable<ResultVO> work) throws Exception {
+        try {
+            ResultVO result = work.call();
+            job.succeed(result, LocalDateTime.now(clock));
+            return result;
+        } catch (BizException | IllegalStateException | IllegalArgumentException e) {
+            log.warn("[ASYNC] 작업 실패. jobId={}, jobType={}, message={}", job.getJobId(), job.getJobType(), e.getMessage());
+            job.fail(e.getMessage(), LocalDateTime.now(clock));
+            throw e;
+        } catch (Exception e) {
+            log.error("[ASYNC] 작업 오류. jobId={}, jobType={}", job.getJobId(), job.getJobType(), e);
+            job.fail(ERROR_MESSAGE, LocalDateTime.now(clock));
+            throw e;
+        }
+    }
+
+    /**
+     * 보관 시간이 지난 작업을 지우고, 그래도 가득 차 있으면 가장 오래전에 끝난 작업부터 지운 뒤 새 작업을 보관한다.
+     *
+     * @return 보관했으면 true (진행 중인 작업으로만 가득 찬 경우 false)
+     */
+    private synchronized boolean register(AsyncJob job) {
+        purgeExpired();
+        while (jobs.size() >= maxJobs) {
+            AsyncJob oldest = jobs.values().stream()
+                    .filter(AsyncJob::isFinished)
+                    .min(Comparator.comparing(AsyncJob::getFinishedAt))
+                    .orElse(null);
+            if (oldest == null) {
+                return false;
+            }
+            jobs.remove(oldest.getJobId());
+        }
+        jobs.put(job.getJobId(), job);
+        return true;
+    }
+
+    private void purgeExpired() {
+        LocalDateTime expiredBefore = LocalDateTime.now(clock).minusMinutes(jobTtlMinutes);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(expiredBefore));
+    }
+
+    private static Map<String, Object> jobStatus(AsyncJob job) {
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("jobId", job.getJobId());
+        resultMap.put("status", job.getStatus());
+        return resultMap;
+    }
+
+    private ResultVO failure(String message, Map<String, Object> resultMap) {
+        return resultVoHelper.buildFromMap(resultMap != null ? resultMap : new HashMap<>(),
+                ResponseCode.BUSINESS_ERROR, message);
+    }
+}
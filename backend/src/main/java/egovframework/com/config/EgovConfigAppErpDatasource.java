@@ -25,6 +25,8 @@ import javax.sql.DataSource;
  *   수정일              수정자               수정내용
  *  -------------  ------------   ---------------------
  *   2025.11.06    SHMT-MES               최초 생성
+ *   2026.10.17    SHMT-MES               스트리밍 조회용 JdbcTemplate 추가
+ *   2026.10.17    SHMT-MES               커넥션 풀 상한/대기 시간, 쿼리 타임아웃 추가
  * </pre>
  *
  */
@@ -38,6 +40,11 @@ public class EgovConfigAppErpDatasource {
 	private String url;
 	private String userName;
 	private String password;
+	private int fetchSize;
+	private int maxTotal;
+	private long maxWaitMillis;
+	private int queryTimeoutSeconds;
+	private int syncQueryTimeoutSeconds;
 
 	@PostConstruct
 	void init() {
@@ -46,6 +53,11 @@ public class EgovConfigAppErpDatasource {
 		url = env.getProperty("Globals.erp.Url");
 		userName = env.getProperty("Globals.erp.UserName");
 		password = env.getProperty("Globals.erp.Password");
+		fetchSize = env.getProperty("Globals.erp.fetchSize", Integer.class, 500);
+		maxTotal = env.getProperty("Globals.erp.pool.maxTotal", Integer.class, 16);
+		maxWaitMillis = env.getProperty("Globals.erp.pool.maxWaitMillis", Long.class, 3000L);
+		queryTimeoutSeconds = env.getProperty("Globals.erp.queryTimeoutSeconds", Integer.class, 30);
+		syncQueryTimeoutSeconds = env.getProperty("Globals.erp.sync.queryTimeoutSeconds", Integer.class, 600);
 	}
 
 	/**
@@ -58,6 +70,11 @@ public class EgovConfigAppErpDatasource {
 		basicDataSource.setUrl(url);
 		basicDataSource.setUsername(userName);
 		basicDataSource.setPassword(password);
+		// ERP가 느려질 때 커넥션 대기로 요청 스레드가 무한정 묶이지 않도록 풀 상한과 대기 시간을 둔다
+		basicDataSource.setMaxTotal(maxTotal);
+		basicDataSource.setMaxWaitMillis(maxWaitMillis);
+		// 모든 ERP 문장(MyBatis 포함)의 기본 쿼리 타임아웃(초)
+		basicDataSource.setDefaultQueryTimeout(queryTimeoutSeconds);
 		return basicDataSource;
 	}
 
@@ -66,6 +83,19 @@ public class EgovConfigAppErpDatasource {
 	 */
 	@Bean(name = "erpJdbcTemplate")
 	public JdbcTemplate erpJdbcTemplate(@Qualifier("erpDataSource") DataSource dataSource) {
-		return new JdbcTemplate(dataSource);
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.setQueryTimeout(queryTimeoutSeconds);
+		return jdbcTemplate;
+	}
+
+	/**
+	 * @return [ERP 스트리밍 조회용 JdbcTemplate 설정 - fetch size 지정, 대량 연동용 쿼리 타임아웃]
+	 */
+	@Bean(name = "erpStreamingJdbcTemplate")
+	public JdbcTemplate erpStreamingJdbcTemplate(@Qualifier("erpDataSource") DataSource dataSource) {
+		JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+		jdbcTemplate.setFetchSize(fetchSize);
+		jdbcTemplate.setQueryTimeout(syncQueryTimeoutSeconds);
+		return jdbcTemplate;
 	}
 }
@@ -4,10 +4,12 @@ import javax.sql.DataSource;
 
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 import egovframework.com.cmm.util.EgovIdGnrBuilder;
+import egovframework.let.common.idgen.service.impl.EgovAdaptiveTableIdGnrServiceImpl;
 import org.egovframe.rte.fdl.idgnr.impl.EgovTableIdGnrServiceImpl;
 import org.egovframe.rte.fdl.idgnr.impl.strategy.EgovIdGnrStrategyImpl;
 
@@ -45,6 +47,24 @@ public class EgovConfigAppIdGen {
 	@Qualifier("egovDataSource")
 	DataSource egovDataSource;
 
+	/** 채번 블록 크기 자동 조정 상한 */
+	@Value("${Globals.idgen.adaptive.maxBlockSize:100}")
+	int adaptiveMaxBlockSize;
+
+	/** 채번 블록 1개를 소진하는 목표 간격(ms) */
+	@Value("${Globals.idgen.adaptive.targetIntervalMillis:5000}")
+	long adaptiveTargetIntervalMillis;
+
+	/**
+	 * 블록 크기 자동 조정 설정을 적용한 ID 생성기 builder
+	 * @return
+	 */
+	private EgovIdGnrBuilder idGnrBuilder() {
+		return new EgovIdGnrBuilder()
+			.setMaxBlockSize(adaptiveMaxBlockSize)
+			.setTargetIntervalMillis(adaptiveTargetIntervalMillis);
+	}
+
 	// 구현 방법 1:
 
 	/**
@@ -53,8 +73,10 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovFileIdGnrService() {
-		EgovTableIdGnrServiceImpl egovTableIdGnrServiceImpl = new EgovTableIdGnrServiceImpl();
+		EgovAdaptiveTableIdGnrServiceImpl egovTableIdGnrServiceImpl = new EgovAdaptiveTableIdGnrServiceImpl();
 		egovTableIdGnrServiceImpl.setDataSource(dataSource);
+		egovTableIdGnrServiceImpl.setMaxBlockSize(adaptiveMaxBlockSize);
+		egovTableIdGnrServiceImpl.setTargetIntervalMillis(adaptiveTargetIntervalMillis);
 		egovTableIdGnrServiceImpl.setStrategy(fileStrategy());
 		egovTableIdGnrServiceImpl.setBlockSize(10);
 		egovTableIdGnrServiceImpl.setTable("IDS");
@@ -83,7 +105,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovBBSMstrIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource).setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
+		return idGnrBuilder().setDataSource(dataSource).setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("IDS")
 			.setTableName("BBS_ID")
@@ -99,7 +121,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovTmplatIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource).setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
+		return idGnrBuilder().setDataSource(dataSource).setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("IDS")
 			.setTableName("TMPLAT_ID")
@@ -114,7 +136,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl deptSchdulManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource).setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
+		return idGnrBuilder().setDataSource(dataSource).setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("IDS")
 			.setTableName("SCHDUL_ID")
@@ -129,7 +151,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovWikiBookmarkIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -145,7 +167,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovRequestOfferIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -161,7 +183,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovRssTagManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -177,7 +199,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovNoteManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -193,7 +215,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovNoteTrnsmitIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -209,7 +231,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovNoteRecptnIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -225,7 +247,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovSystemCntcIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -241,7 +263,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCntcInsttIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -257,7 +279,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCntcSystemIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -273,7 +295,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCntcServiceIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -289,7 +311,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCntcMessageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -305,7 +327,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCntcMessageItemIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -321,7 +343,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovInsttCodeRecptnIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
 			.setTableName("INSTT_CODE_OPERT")
@@ -333,7 +355,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovAdministCodeRecptnIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
 			.setTableName("ADMIN_CODE_OPERT")
@@ -345,7 +367,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovPopupManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -361,7 +383,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovSrchwrdManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -377,7 +399,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovSrchwrdIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -393,7 +415,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovAdministrationWordIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -409,7 +431,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovIndvdlInfoPolicyIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -425,7 +447,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovUnityLinkIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -441,7 +463,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovOnlineMenualIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -457,7 +479,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovOnlinePollManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -473,7 +495,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovOnlinePollItemIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -489,7 +511,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovOnlinePollResultIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -505,7 +527,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("ids")
@@ -521,7 +543,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovNttIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -537,7 +559,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovClbIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -553,7 +575,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCmmntyIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -569,7 +591,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovUsrCnfrmIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(1)
 			.setTable("COMTECOPSEQ")
@@ -585,7 +607,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovMailMsgIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -601,7 +623,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovRestDeIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -614,7 +636,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovWordDicaryIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -630,7 +652,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovMgtIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -646,7 +668,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovEventInfoIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -662,7 +684,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovExtrlhrInfoIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -678,7 +700,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovQustnrTmplatManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -694,7 +716,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovQustnrManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -710,7 +732,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovQustnrQestnManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -726,7 +748,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovQustnrItemManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -742,7 +764,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl qustnrRespondManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -758,7 +780,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl qustnrRespondInfoIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -774,7 +796,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl diaryManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -790,7 +812,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovSiteManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -806,7 +828,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovRecomendSiteManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -822,7 +844,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovHpcmManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -838,7 +860,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovFaqManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -854,7 +876,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovNewsManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -870,7 +892,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovNcrdIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -886,7 +908,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovAdbkIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -902,7 +924,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovAdbkUserIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -918,7 +940,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovGroupIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -934,7 +956,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovRoleIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -950,7 +972,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovStplatManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -966,7 +988,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCpyrhtPrtcPolicyIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -982,7 +1004,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovQnaManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -998,7 +1020,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCnsltManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1014,7 +1036,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovLoginLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1030,7 +1052,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovSysLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1046,7 +1068,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovWebLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1062,7 +1084,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovTrsmrcvLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1078,7 +1100,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovBannerIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1094,7 +1116,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovLoginScrinImageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1110,7 +1132,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovMainImageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1126,7 +1148,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovIntnetSvcGuidanceIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1142,7 +1164,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovIndvdlPgeIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1158,7 +1180,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovReprtStatsIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1174,7 +1196,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovDtaUseStatsIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1190,7 +1212,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovSmsIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1206,7 +1228,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovScrapIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1222,7 +1244,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovDeptManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1238,7 +1260,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovNtwrkIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1254,7 +1276,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovServerEqpmnIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1270,7 +1292,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovServerIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1286,7 +1308,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovTroblIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1302,7 +1324,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovSynchrnServerIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1318,7 +1340,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovMtgPlaceManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1334,7 +1356,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovMtgPlaceResveIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1350,7 +1372,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovEventManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1366,7 +1388,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovEventAtdrnIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1382,7 +1404,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovRwardManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1398,7 +1420,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovCtsnnManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1414,7 +1436,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovAnnvrsryManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1430,7 +1452,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovLeaderSchdulIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1446,7 +1468,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovDeptJobBxIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1462,7 +1484,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovDeptJobIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1478,7 +1500,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovWikMnthngReprtIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1494,7 +1516,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovMemoTodoIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1510,7 +1532,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovMemoReprtIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1526,7 +1548,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovInfrmlSanctnIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1542,7 +1564,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovDbMntrngLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1558,7 +1580,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovTrsmrcvMntrngLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1574,7 +1596,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovBatchOpertIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1590,7 +1612,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovBatchSchdulIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1606,7 +1628,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovBatchResultIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1622,7 +1644,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovFileSysMntrngIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1638,7 +1660,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovNtwrkSvcMntrngLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1654,7 +1676,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovFileSysMntrngLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1670,7 +1692,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProxySvcIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1686,7 +1708,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProxyLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1702,7 +1724,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovDamManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1718,7 +1740,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovBackupOpertIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1734,7 +1756,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovBackupResultIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1750,7 +1772,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovServerResrceMntrngLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1766,7 +1788,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovHttpManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1782,7 +1804,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovHttpLogManageIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1798,7 +1820,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessMonIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1814,7 +1836,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessMonLogIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(egovDataSource)
+		return idGnrBuilder().setDataSource(egovDataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("COMTECOPSEQ")
@@ -1830,7 +1852,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovWorkplaceIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("IDS")
@@ -1846,7 +1868,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovWorkplaceWorkerIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("IDS")
@@ -1862,7 +1884,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovItemIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(10)
 			.setTable("IDS")
@@ -1878,7 +1900,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(1)
 			.setTable("IDS")
@@ -1894,7 +1916,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovWorkplaceProcessIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(1)
 			.setTable("IDS")
@@ -1910,7 +1932,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessDefectIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(1)
 			.setTable("IDS")
@@ -1926,7 +1948,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessInspectionIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(1)
 			.setTable("IDS")
@@ -1942,7 +1964,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessStopItemIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(1)
 			.setTable("IDS")
@@ -1958,7 +1980,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessEquipmentIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(1)
 			.setTable("IDS")
@@ -1974,7 +1996,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovEquipmentIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 			.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 			.setBlockSize(1)
 			.setTable("IDS")
@@ -1990,7 +2012,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessFlowIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 				.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 				.setBlockSize(1)
 				.setTable("IDS")
@@ -2006,7 +2028,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessFlowProcessIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 				.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 				.setBlockSize(1)
 				.setTable("IDS")
@@ -2022,7 +2044,7 @@ public class EgovConfigAppIdGen {
 	 */
 	@Bean(destroyMethod = "destroy")
 	public EgovTableIdGnrServiceImpl egovProcessFlowItemIdGnrService() {
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 				.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 				.setBlockSize(1)
 				.setTable("IDS")
@@ -2042,7 +2064,7 @@ public class EgovConfigAppIdGen {
 		SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
 		String dateStr = sdf.format(new Date());
 
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 				.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 				.setBlockSize(1)
 				.setTable("IDS")
@@ -2062,7 +2084,7 @@ public class EgovConfigAppIdGen {
 		SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
 		String dateStr = sdf.format(new Date());
 
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 				.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 				.setBlockSize(1)
 				.setTable("IDS")
@@ -2082,7 +2104,7 @@ public class EgovConfigAppIdGen {
 		SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
 		String dateStr = sdf.format(new Date());
 
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 				.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 				.setBlockSize(1)
 				.setTable("IDS")
@@ -2102,7 +2124,7 @@ public class EgovConfigAppIdGen {
 		SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
 		String dateStr = sdf.format(new Date());
 
-		return new EgovIdGnrBuilder().setDataSource(dataSource)
+		return idGnrBuilder().setDataSource(dataSource)
 				.setEgovIdGnrStrategyImpl(new EgovIdGnrStrategyImpl())
 				.setBlockSize(1)
 				.setTable("IDS")
@@ -5,7 +5,9 @@ import java.io.IOException;
 import javax.annotation.PostConstruct;
 import javax.sql.DataSource;
 
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.SqlSessionFactoryBuilder;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -87,4 +89,15 @@ public class EgovConfigAppMapper {
 		SqlSessionTemplate sqlSessionTemplate = new SqlSessionTemplate(sqlSession);
 		return sqlSessionTemplate;
 	}
+
+	/**
+	 * 다건 쓰기용 BATCH SqlSessionTemplate (BatchWriteDAO 전용)
+	 * MyBatis는 한 트랜잭션 안에서 같은 SqlSessionFactory의 ExecutorType을 바꿀 수 없으므로,
+	 * 매퍼 설정(Configuration)은 공유하고 SqlSessionFactory만 분리하여 기존 SIMPLE 세션과 같은 트랜잭션에 함께 참여한다.
+	 */
+	@Bean
+	public SqlSessionTemplate batchSqlSessionTemplate(@Qualifier("sqlSession") SqlSessionFactory sqlSession) {
+		SqlSessionFactory batchSqlSessionFactory = new SqlSessionFactoryBuilder().build(sqlSession.getConfiguration());
+		return new SqlSessionTemplate(batchSqlSessionFactory, ExecutorType.BATCH);
+	}
 }
@@ -1,10 +1,15 @@
 package egovframework.com.config;
 
+import javax.annotation.Resource;
+
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.ComponentScan;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.FilterType;
+import org.springframework.core.task.AsyncTaskExecutor;
 import org.springframework.stereotype.Repository;
 import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.config.annotation.AsyncSupportConfigurer;
 import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
 import org.springframework.web.servlet.config.annotation.ViewControllerRegistry;
 import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
@@ -37,6 +42,13 @@ import egovframework.com.cmm.interceptor.CustomAuthenticInterceptor;
 })
 public class EgovConfigWebDispatcherServlet implements WebMvcConfigurer {
 
+	/** 비동기 요청 처리 스레드 풀 (SchedulingConfig) */
+	@Resource(name = "asyncRequestTaskExecutor")
+	private AsyncTaskExecutor asyncRequestTaskExecutor;
+
+	@Value("${Globals.web.async.timeoutMillis:60000}")
+	private long asyncRequestTimeoutMillis;
+
 	// =====================================================================
 	// RequestMappingHandlerMapping 설정
 	// =====================================================================
@@ -60,6 +72,15 @@ public class EgovConfigWebDispatcherServlet implements WebMvcConfigurer {
 				"/auth/**");
 	}
 
+	// -------------------------------------------------------------
+	// 비동기 요청(Callable/DeferredResult) 처리 스레드 풀과 기본 응답 대기 시간
+	// -------------------------------------------------------------
+	@Override
+	public void configureAsyncSupport(AsyncSupportConfigurer configurer) {
+		configurer.setTaskExecutor(asyncRequestTaskExecutor);
+		configurer.setDefaultTimeout(asyncRequestTimeoutMillis);
+	}
+
 	// -------------------------------------------------------------
 	// RequestMappingHandlerMapping 설정 View Controller 추가
 	// -------------------------------------------------------------
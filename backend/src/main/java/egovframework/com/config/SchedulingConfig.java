@@ -1,9 +1,103 @@
 package egovframework.com.config;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 @Configuration
 @EnableScheduling
 public class SchedulingConfig {
+
+	/**
+	 * ERP-MES 연동 단계 실행 스레드 풀
+	 * 동시 실행 수를 제한하여 ERP/MES 커넥션 풀을 고갈시키지 않도록 하며,
+	 * 대기열이 가득 차면 호출 스레드에서 실행한다.
+	 */
+	@Bean(name = "erpSyncTaskExecutor")
+	public ThreadPoolTaskExecutor erpSyncTaskExecutor(@Value("${Globals.erp.sync.poolSize:4}") int poolSize) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(poolSize * 4);
+		executor.setThreadNamePrefix("erp-sync-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * BOM 스냅샷(TCO501) 백그라운드 갱신 전용 스레드 풀
+	 * 연동 스레드 풀과 나누어 조회 요청 스레드에서 ERP 재적재가 실행되지 않도록 하며,
+	 * 대기열이 가득 차면 호출 스레드에서 실행하지 않고 바로 거부한다. (다음 조회 시 다시 예약)
+	 */
+	@Bean(name = "bomSnapshotTaskExecutor")
+	public ThreadPoolTaskExecutor bomSnapshotTaskExecutor(@Value("${Globals.erp.bomSnapshot.poolSize:2}") int poolSize) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(poolSize * 8);
+		executor.setThreadNamePrefix("bom-snapshot-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(false);
+		return executor;
+	}
+
+	/**
+	 * 생산지시 병렬 일괄지시 스레드 풀
+	 * 계획마다 MES 커넥션을 하나씩 점유하므로 커넥션 풀 크기보다 작게 두며,
+	 * 대기열이 가득 차면 호출 스레드에서 실행한다.
+	 */
+	@Bean(name = "prodOrderBulkTaskExecutor")
+	public ThreadPoolTaskExecutor prodOrderBulkTaskExecutor(@Value("${Globals.production.order.bulkParallelism:4}") int poolSize) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(poolSize * 4);
+		executor.setThreadNamePrefix("prod-order-bulk-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * ERP 인터페이스 아웃박스 디스패처 깨우기 전용 스레드
+	 * 실행 중인 1건 외에 대기 1건만 두고 나머지 깨우기 요청은 버린다. (대기 건이 남은 건을 모두 처리)
+	 */
+	@Bean(name = "erpOutboxTaskExecutor")
+	public ThreadPoolTaskExecutor erpOutboxTaskExecutor() {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(1);
+		executor.setMaxPoolSize(1);
+		executor.setQueueCapacity(1);
+		executor.setThreadNamePrefix("erp-outbox-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.DiscardPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
+
+	/**
+	 * 오래 걸리는 요청(ERP 재고 조회, 생산지시 일괄지시/ERP 재전송) 비동기 처리 스레드 풀
+	 * 요청 스레드(Tomcat)를 ERP 왕복 동안 붙잡지 않도록 이 풀에서 처리하며,
+	 * 대기열이 가득 차면 호출 스레드에서 실행하지 않고 바로 거부한다. (AsyncRequestSupport 참조)
+	 */
+	@Bean(name = "asyncRequestTaskExecutor")
+	public ThreadPoolTaskExecutor asyncRequestTaskExecutor(@Value("${Globals.web.async.poolSize:8}") int poolSize,
+			@Value("${Globals.web.async.queueCapacity:32}") int queueCapacity) {
+		ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+		executor.setCorePoolSize(poolSize);
+		executor.setMaxPoolSize(poolSize);
+		executor.setQueueCapacity(queueCapacity);
+		executor.setThreadNamePrefix("async-request-");
+		executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+		executor.setWaitForTasksToCompleteOnShutdown(true);
+		executor.setAwaitTerminationSeconds(30);
+		return executor;
+	}
 }
@@ -5,15 +5,12 @@ import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
-import io.jsonwebtoken.ExpiredJwtException;
-import io.jsonwebtoken.MalformedJwtException;
-import io.jsonwebtoken.SignatureException;
-import io.jsonwebtoken.UnsupportedJwtException;
 import org.springframework.stereotype.Component;
 
 import egovframework.com.cmm.LoginVO;
 import egovframework.com.cmm.service.EgovProperties;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtException;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import lombok.extern.slf4j.Slf4j;
@@ -29,6 +26,11 @@ public class EgovJwtTokenUtil implements Serializable{
 	public static final long JWT_REFRESH_TOKEN_VALIDITY = 7 * 24 * 60 * 60; //리프레쉬 토큰 유효시간, 7일
 	
 	public static final String SECRET_KEY = EgovProperties.getProperty("Globals.jwt.secret");
+
+	// 서명 검증을 마친 토큰 캐시 최대 건수 (요청마다 HS512 서명 검증을 반복하지 않도록)
+	public static final int VERIFIED_TOKEN_CACHE_SIZE = 2000;
+
+	private final transient VerifiedTokenCache verifiedTokens = new VerifiedTokenCache(VERIFIED_TOKEN_CACHE_SIZE);
   
 	// retrieve username from jwt token
 	public String getUserIdFromToken(String token) {
@@ -40,10 +42,64 @@ public class EgovJwtTokenUtil implements Serializable{
 	}
 
 	public String getInfoFromToken(String type, String token) {
-		Claims claims = getClaimFromToken(token);
-	    Object info = claims.get(type);
+		return verify(token).get(type);
+	}
+
+	/**
+	 * 토큰을 한 번 파싱/서명 검증하여 불변 클레임으로 돌려준다.
+	 * 검증을 마친 토큰은 캐시하여 같은 토큰의 다음 요청은 다시 검증하지 않으며,
+	 * 만료되었거나 폐기(로그아웃)한 토큰은 캐시에서 통과시키지 않는다.
+	 *
+	 * @param token JWT
+	 * @return 검증된 클레임
+	 * @throws InvalidJwtException 서명 불일치, 만료, 형식 오류, 폐기된 토큰인 경우
+	 */
+	public JwtClaims verify(String token) throws InvalidJwtException {
+		if (token == null || token.isEmpty()) {
+			throw new InvalidJwtException("Unable to verify JWT Token: empty token");
+		}
+
+		String digest = VerifiedTokenCache.digest(token);
+		long now = System.currentTimeMillis();
+		if (verifiedTokens.isRevoked(digest, now)) {
+			throw new InvalidJwtException("Unable to verify JWT Token: revoked");
+		}
 
-	    return info != null ? info.toString() : null;
+		JwtClaims cached = verifiedTokens.get(digest, now);
+		if (cached != null) {
+			return cached;
+		}
+
+		try {
+			JwtClaims claims = JwtClaims.from(getAllClaimsFromToken(token));
+			verifiedTokens.put(digest, claims);
+			return claims;
+		} catch (IllegalArgumentException | JwtException e) {
+			throw new InvalidJwtException("Unable to verify JWT Token: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * 토큰을 폐기한다. (로그아웃) 액세스/리프레쉬 토큰 모두 만료 시각까지 검증에 실패하며, 이미 유효하지 않은 토큰은 무시한다.
+	 *
+	 * @param token JWT
+	 */
+	public void revoke(String token) {
+		try {
+			JwtClaims claims = verify(token);
+			verifiedTokens.revoke(VerifiedTokenCache.digest(token), claims.getExpiresAt(), System.currentTimeMillis());
+		} catch (InvalidJwtException e) {
+			log.debug("Skip revoking invalid token: " + e.getMessage());
+		}
+	}
+
+	/**
+	 * @param token JWT
+	 * @return 로그아웃으로 폐기한 토큰이면 true
+	 */
+	public boolean isRevoked(String token) {
+		return token != null && !token.isEmpty()
+				&& verifiedTokens.isRevoked(VerifiedTokenCache.digest(token), System.currentTimeMillis());
 	}
 
 	public Claims getClaimFromToken(String token) {
@@ -107,46 +163,26 @@ public class EgovJwtTokenUtil implements Serializable{
             .signWith(SignatureAlgorithm.HS512, SECRET_KEY).compact();
     }
 
+	//토큰을 한 번만 검증하여 사용자 정보를 만든다
 	public LoginVO getLoginVOFromToken(String token) throws InvalidJwtException{
-		LoginVO loginVO = new LoginVO();
-
-        try {
-		    loginVO.setId(getUserIdFromToken(token));
-			loginVO.setName(getInfoFromToken("name", token));
-			loginVO.setUserSe(getUserSeFromToken(token));
-			loginVO.setOrgnztId(getInfoFromToken("orgnztId", token));
-			loginVO.setUniqId(getInfoFromToken("uniqId", token));
-            loginVO.setGroupNm(getInfoFromToken("groupNm", token));
-
-            if(loginVO.getId() == null) throw new InvalidJwtException("Missing id in token");
-        } catch (IllegalArgumentException | ExpiredJwtException |
-                 MalformedJwtException | UnsupportedJwtException |
-                 SignatureException e) {
-            throw new InvalidJwtException("Unable to verify JWT Token: " + e.getMessage());
-        }
-
-		return loginVO;
+		JwtClaims claims = verify(token);
+		if(claims.getId() == null) throw new InvalidJwtException("Missing id in token");
+
+		return claims.toLoginVO();
 	}
 
-	//validate refresh token and return true if valid
+	//validate refresh token and return true if valid (로그아웃으로 폐기한 리프레쉬 토큰은 거부)
 	public boolean isValidRefreshToken(String token) {
-		try {
-			Claims claims = getAllClaimsFromToken(token);
-			String type = claims.get("type", String.class);
-			return "Refresh".equals(type) && !isTokenExpired(token);
-		} catch (Exception e) {
-			log.debug("Invalid refresh token: " + e.getMessage());
+		if (isRevoked(token)) {
+			log.debug("Revoked refresh token");
 			return false;
 		}
-	}
-
-	//check if token is expired
-	private boolean isTokenExpired(String token) {
 		try {
-			Date expiration = getAllClaimsFromToken(token).getExpiration();
-			return expiration.before(new Date());
+			JwtClaims claims = verify(token);
+			return "Refresh".equals(claims.getType()) && !claims.isExpired(System.currentTimeMillis());
 		} catch (Exception e) {
-			return true;
+			log.debug("Invalid refresh token: " + e.getMessage());
+			return false;
 		}
 	}
 }
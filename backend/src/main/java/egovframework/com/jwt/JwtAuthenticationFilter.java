@@ -57,6 +57,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         // step 2. 토큰에 내용이 있는지 확인해서 id값을 가져옴
         // Exception 핸들링 추가처리 (토큰 유효성, 토큰 변조 여부, 토큰 만료여부)
         // 내부적으로 parse하는 과정에서 해당 여부들이 검증됨
+        // 토큰은 요청당 한 번만 검증하며, 검증을 마친 토큰은 만료/폐기 전까지 캐시된 클레임을 사용함
         try {
             LoginVO loginVO = jwtTokenUtil.getLoginVOFromToken(jwtToken);
             logger.debug("===>>> id = " + loginVO.getId());
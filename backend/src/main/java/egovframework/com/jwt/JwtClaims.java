@@ -0,0 +1,80 @@
+package egovframework.com.jwt;
+
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+
+import egovframework.com.cmm.LoginVO;
+import io.jsonwebtoken.Claims;
+
+/**
+ * 서명 검증을 마친 JWT 클레임 (불변)
+ * 토큰은 요청마다 한 번만 파싱/검증하고, 필요한 값은 이 객체에서 꺼낸다.
+ * 검증 캐시에 보관되어 여러 요청이 함께 쓰므로 LoginVO는 {@link #toLoginVO()}로 매번 새로 만든다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public final class JwtClaims {
+
+	private final Map<String, String> values;
+	private final long expiresAt;
+
+	private JwtClaims(Map<String, String> values, long expiresAt) {
+		this.values = Collections.unmodifiableMap(values);
+		this.expiresAt = expiresAt;
+	}
+
+	/**
+	 * 검증된 jjwt 클레임에서 만든다.
+	 *
+	 * @param claims 서명 검증을 마친 클레임
+	 * @return 불변 클레임
+	 */
+	public static JwtClaims from(Claims claims) {
+		Map<String, String> values = new HashMap<>();
+		for (Map.Entry<String, Object> entry : claims.entrySet()) {
+			if (entry.getValue() != null) {
+				values.put(entry.getKey(), entry.getValue().toString());
+			}
+		}
+		Date expiration = claims.getExpiration();
+		return new JwtClaims(values, expiration != null ? expiration.getTime() : Long.MAX_VALUE);
+	}
+
+	public String get(String name) {
+		return values.get(name);
+	}
+
+	public String getId() {
+		return values.get("id");
+	}
+
+	public String getType() {
+		return values.get("type");
+	}
+
+	/**
+	 * @return 만료 시각(epoch ms), 만료 시각이 없는 토큰은 Long.MAX_VALUE
+	 */
+	public long getExpiresAt() {
+		return expiresAt;
+	}
+
+	public boolean isExpired(long now) {
+		return expiresAt <= now;
+	}
+
+	public LoginVO toLoginVO() {
+		LoginVO loginVO = new LoginVO();
+		loginVO.setId(values.get("id"));
+		loginVO.setName(values.get("name"));
+		loginVO.setUserSe(values.get("userSe"));
+		loginVO.setOrgnztId(values.get("orgnztId"));
+		loginVO.setUniqId(values.get("uniqId"));
+		loginVO.setGroupNm(values.get("groupNm"));
+		return loginVO;
+	}
+}
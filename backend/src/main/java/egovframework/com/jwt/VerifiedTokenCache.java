@@ -0,0 +1,91 @@
+package egovframework.com.jwt;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 서명 검증을 마친 토큰 캐시 (최근 사용 순 LRU, 최대 maxSize건)
+ * <ul>
+ *   <li>키는 토큰 원문이 아니라 SHA-256 다이제스트를 쓴다. (메모리/힙 덤프에 토큰이 남지 않도록)</li>
+ *   <li>만료된 토큰은 조회 시 바로 버리므로 만료 검사는 다시 파싱할 때 jjwt가 한다.</li>
+ *   <li>폐기(로그아웃)한 토큰은 만료 시각까지 따로 기억하여 캐시에 다시 들어오더라도 통과시키지 않는다.
+ *       폐기 목록은 서버 메모리에만 있으므로 서버를 여러 대 운영하면 각 서버에서 폐기해야 한다.</li>
+ * </ul>
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+class VerifiedTokenCache {
+
+	private final Map<String, JwtClaims> entries;
+	private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+	VerifiedTokenCache(final int maxSize) {
+		this.entries = new LinkedHashMap<String, JwtClaims>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, JwtClaims> eldest) {
+				return size() > maxSize;
+			}
+		};
+	}
+
+	/**
+	 * @return 캐시에 있고 만료되지 않았으면 클레임, 아니면 null
+	 */
+	JwtClaims get(String digest, long now) {
+		synchronized (entries) {
+			JwtClaims claims = entries.get(digest);
+			if (claims != null && claims.isExpired(now)) {
+				entries.remove(digest);
+				return null;
+			}
+			return claims;
+		}
+	}
+
+	void put(String digest, JwtClaims claims) {
+		synchronized (entries) {
+			entries.put(digest, claims);
+		}
+	}
+
+	boolean isRevoked(String digest, long now) {
+		Long expiresAt = revoked.get(digest);
+		return expiresAt != null && expiresAt > now;
+	}
+
+	/**
+	 * 토큰을 폐기한다. 만료 시각이 지난 폐기 기록은 이때 함께 정리한다.
+	 */
+	void revoke(String digest, long expiresAt, long now) {
+		revoked.values().removeIf(until -> until <= now);
+		revoked.put(digest, expiresAt);
+		synchronized (entries) {
+			entries.remove(digest);
+		}
+	}
+
+	int size() {
+		synchronized (entries) {
+			return entries.size();
+		}
+	}
+
+	static String digest(String token) {
+		try {
+			MessageDigest sha256 = MessageDigest.getInstance("SHA-256");
+			return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(sha256.digest(token.getBytes(StandardCharsets.UTF_8)));
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
@@ -6,6 +6,7 @@ import egovframework.com.cmm.service.ResultVO;
 import egovframework.com.cmm.util.ResultVoHelper;
 import egovframework.let.basedata.bom.domain.model.BomItemSearchRequestDTO;
 import egovframework.let.basedata.bom.domain.model.BomItemSearchRow;
+import egovframework.let.basedata.bom.domain.model.BomRequirementRow;
 import egovframework.let.basedata.bom.domain.model.BomTreeRow;
 import egovframework.let.basedata.bom.service.BomInquiryService;
 import egovframework.let.common.dto.ListResult;
@@ -25,6 +26,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.math.BigDecimal;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -106,4 +108,52 @@ public class BomInquiryApiController {
 
         return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
     }
+
+    /**
+     * 선택한 품목을 자재로 사용하는 상위 품목을 역전개한다.
+     */
+    @Operation(
+            summary = "BOM 역전개(사용처) 조회",
+            description = "선택한 품목을 자재로 사용하는 상위 품목을 최상위 품목까지 조회한다",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"BomInquiryApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @GetMapping("/bom/where-used")
+    public ResultVO getBomWhereUsed(@RequestParam int itemSeq) throws Exception {
+        List<BomTreeRow> tree = bomInquiryService.getWhereUsed(itemSeq);
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("tree", tree);
+
+        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+    }
+
+    /**
+     * 선택한 품목 기준 자재별 누적 소요량을 조회한다.
+     */
+    @Operation(
+            summary = "BOM 누적 소요량 조회",
+            description = "선택한 품목 수량 기준으로 하위 전 단계 자재의 소요량(소요량분자/분모 곱의 합)을 조회한다",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"BomInquiryApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @GetMapping("/bom/requirements")
+    public ResultVO getBomRequirements(
+            @RequestParam int itemSeq,
+            @RequestParam(defaultValue = "1") BigDecimal qty) throws Exception {
+        List<BomRequirementRow> requirements = bomInquiryService.getRequirements(itemSeq, qty);
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("resultList", requirements);
+
+        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+    }
 }
@@ -0,0 +1,17 @@
+package egovframework.let.basedata.bom.domain.model;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class BomGraphEdge {
+    private int companySeq;
+    private int itemSeq;
+    private int procSeq;
+    private int serl;
+    private Integer matItemSeq;
+    private BigDecimal needQtyNumerator;
+    private BigDecimal needQtyDenominator;
+    private Integer smDelvType;
+}
@@ -0,0 +1,12 @@
+package egovframework.let.basedata.bom.domain.model;
+
+import lombok.Data;
+
+@Data
+public class BomGraphItem {
+    private int itemSeq;
+    private String itemCode;
+    private String itemName;
+    private String itemSpec;
+    private String unitName;
+}
@@ -0,0 +1,17 @@
+package egovframework.let.basedata.bom.domain.model;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+@Data
+public class BomRequirementRow {
+    private int matItemSeq;
+    private String matItemNo;
+    private String matItemName;
+    private String matItemSpec;
+    private String unitName;
+    private BigDecimal needQty;
+    private int level;
+    private boolean leaf;
+}
@@ -1,8 +1,9 @@
 package egovframework.let.basedata.bom.domain.repository;
 
+import egovframework.let.basedata.bom.domain.model.BomGraphEdge;
+import egovframework.let.basedata.bom.domain.model.BomGraphItem;
 import egovframework.let.basedata.bom.domain.model.BomItemSearchRequestDTO;
 import egovframework.let.basedata.bom.domain.model.BomItemSearchRow;
-import egovframework.let.basedata.bom.domain.model.BomTreeRow;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
@@ -19,7 +20,19 @@ public class BomInquiryDAO extends EgovAbstractMapper {
         return (Integer) selectOne("BomInquiryDAO.selectBomItemsCnt", searchVO);
     }
 
-    public List<BomTreeRow> selectBomTreeRows(int itemSeq) throws Exception {
-        return selectList("BomInquiryDAO.selectBomTreeRows", itemSeq);
+    public List<BomGraphEdge> selectBomGraphEdges() throws Exception {
+        return selectList("BomInquiryDAO.selectBomGraphEdges");
+    }
+
+    public List<BomGraphEdge> selectBomGraphEdgesByItemSeqs(List<Integer> itemSeqs) throws Exception {
+        return selectList("BomInquiryDAO.selectBomGraphEdgesByItemSeqs", itemSeqs);
+    }
+
+    public List<BomGraphItem> selectBomGraphItems() throws Exception {
+        return selectList("BomInquiryDAO.selectBomGraphItems");
+    }
+
+    public List<BomGraphItem> selectBomGraphItemsByItemSeqs(List<Integer> itemSeqs) throws Exception {
+        return selectList("BomInquiryDAO.selectBomGraphItemsByItemSeqs", itemSeqs);
     }
 }
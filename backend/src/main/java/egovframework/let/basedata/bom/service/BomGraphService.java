@@ -0,0 +1,33 @@
+package egovframework.let.basedata.bom.service;
+
+import egovframework.let.basedata.bom.domain.model.BomRequirementRow;
+import egovframework.let.basedata.bom.domain.model.BomTreeRow;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * TCO501 BOM 메모리 그래프 서비스
+ * 정전개/역전개/누적 소요량을 DB 재귀 조회 없이 메모리 그래프에서 계산하고,
+ * TCO501 연동이 기록하면 변경된 품목만 부분 갱신하거나 전체를 다시 적재한다.
+ */
+public interface BomGraphService {
+
+    List<BomTreeRow> explode(int itemSeq) throws Exception;
+
+    List<BomTreeRow> whereUsed(int itemSeq) throws Exception;
+
+    List<BomRequirementRow> requirements(int itemSeq, BigDecimal qty) throws Exception;
+
+    /**
+     * 지정한 상위 품목의 TCO501 구성 행이 변경되었음을 알린다 (트랜잭션 커밋 후 다음 조회 시 부분 갱신).
+     * @param itemSeqs 구성 행이 변경된 상위 품목 ITEM_SEQ
+     */
+    void itemsChanged(Collection<Integer> itemSeqs);
+
+    /**
+     * 그래프 전체를 무효화한다 (트랜잭션 커밋 후 다음 조회 시 전체 재적재).
+     */
+    void invalidate();
+}
@@ -2,9 +2,11 @@ package egovframework.let.basedata.bom.service;
 
 import egovframework.let.basedata.bom.domain.model.BomItemSearchRequestDTO;
 import egovframework.let.basedata.bom.domain.model.BomItemSearchRow;
+import egovframework.let.basedata.bom.domain.model.BomRequirementRow;
 import egovframework.let.basedata.bom.domain.model.BomTreeRow;
 import egovframework.let.common.dto.ListResult;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 public interface BomInquiryService {
@@ -12,4 +14,8 @@ public interface BomInquiryService {
     ListResult<BomItemSearchRow> searchItems(BomItemSearchRequestDTO searchVO) throws Exception;
 
     List<BomTreeRow> getBomTree(int itemSeq) throws Exception;
+
+    List<BomTreeRow> getWhereUsed(int itemSeq) throws Exception;
+
+    List<BomRequirementRow> getRequirements(int itemSeq, BigDecimal qty) throws Exception;
 }
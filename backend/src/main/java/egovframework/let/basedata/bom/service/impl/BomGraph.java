@@ -0,0 +1,369 @@
+package egovframework.let.basedata.bom.service.impl;
+
+import egovframework.let.basedata.bom.domain.model.BomGraphEdge;
+import egovframework.let.basedata.bom.domain.model.BomGraphItem;
+import egovframework.let.basedata.bom.domain.model.BomRequirementRow;
+import egovframework.let.basedata.bom.domain.model.BomTreeRow;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * TCO501 BOM 메모리 그래프 (불변)
+ * 품목(ITEM_SEQ)을 정점, TCO501 한 행을 상위 품목 → 자재 간선으로 보고
+ * 정방향/역방향 인접 목록을 int 배열(CSR)로 보관한다.
+ * 형제 간선은 PROC_SEQ, SERL 순으로 정렬되어 있고, 전개 시 현재 경로에 이미 있는 품목은 다시 전개하지 않는다.
+ * 변경 시에는 기존 인스턴스를 수정하지 않고 새 인스턴스를 만들어 교체한다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+final class BomGraph {
+
+    /** 소요량 계산 정밀도 */
+    private static final MathContext QTY_CONTEXT = MathContext.DECIMAL64;
+
+    /** 소요량 소수 자릿수 (TCO501 DECIMAL(19,5)) */
+    private static final int QTY_SCALE = 5;
+
+    private static final int NO_NODE = -1;
+
+    /** 원본 구성 행 (부분 갱신 시 재구성용) */
+    private final List<BomGraphEdge> edges;
+    private final Map<Integer, BomGraphItem> items;
+
+    private final Map<Integer, Integer> nodeIndex;
+    private final int[] nodeItemSeq;
+
+    private final int[] edgeFrom;
+    private final int[] edgeTo;
+    private final int[] edgeCompany;
+    private final BigDecimal[] edgeRatio;
+
+    /** 정방향 인접 목록: 정점 i의 간선은 childEdges[childStart[i] .. childStart[i + 1]) */
+    private final int[] childStart;
+    private final int[] childEdges;
+
+    /** 역방향 인접 목록: 정점 i를 자재로 쓰는 간선은 parentEdges[parentStart[i] .. parentStart[i + 1]) */
+    private final int[] parentStart;
+    private final int[] parentEdges;
+
+    private BomGraph(List<BomGraphEdge> edges, Map<Integer, BomGraphItem> items) {
+        this.edges = edges;
+        this.items = items;
+
+        this.nodeIndex = new HashMap<>();
+        List<Integer> seqs = new ArrayList<>();
+        for (BomGraphEdge edge : edges) {
+            addNode(edge.getItemSeq(), seqs);
+            if (edge.getMatItemSeq() != null) {
+                addNode(edge.getMatItemSeq(), seqs);
+            }
+        }
+        this.nodeItemSeq = seqs.stream().mapToInt(Integer::intValue).toArray();
+
+        int edgeCount = edges.size();
+        this.edgeFrom = new int[edgeCount];
+        this.edgeTo = new int[edgeCount];
+        this.edgeCompany = new int[edgeCount];
+        this.edgeRatio = new BigDecimal[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            BomGraphEdge edge = edges.get(e);
+            edgeFrom[e] = nodeIndex.get(edge.getItemSeq());
+            edgeTo[e] = edge.getMatItemSeq() != null ? nodeIndex.get(edge.getMatItemSeq()) : NO_NODE;
+            edgeCompany[e] = edge.getCompanySeq();
+            edgeRatio[e] = ratioOf(edge);
+        }
+
+        Comparator<Integer> siblingOrder = Comparator
+                .<Integer>comparingInt(e -> edges.get(e).getProcSeq())
+                .thenComparingInt(e -> edges.get(e).getSerl());
+
+        this.childStart = new int[nodeItemSeq.length + 1];
+        this.childEdges = adjacency(edgeFrom, childStart,
+                Comparator.<Integer>comparingInt(e -> edgeFrom[e]).thenComparing(siblingOrder));
+
+        this.parentStart = new int[nodeItemSeq.length + 1];
+        this.parentEdges = adjacency(edgeTo, parentStart,
+                Comparator.<Integer>comparingInt(e -> edgeTo[e])
+                        .thenComparingInt(e -> edges.get(e).getItemSeq())
+                        .thenComparing(siblingOrder));
+    }
+
+    /**
+     * @param edges TCO501 구성 행 전체
+     * @param items 품목 표시 정보
+     */
+    static BomGraph build(List<BomGraphEdge> edges, Collection<BomGraphItem> items) {
+        return new BomGraph(new ArrayList<>(edges), toItemMap(items));
+    }
+
+    /**
+     * 지정한 상위 품목의 구성 행만 교체한 새 그래프를 만든다.
+     * @param itemSeqs 구성 행이 변경된 상위 품목
+     * @param replacedEdges 해당 품목의 현재 TCO501 구성 행
+     * @param changedItems 새로 등장하거나 변경된 품목 표시 정보
+     */
+    BomGraph patch(Collection<Integer> itemSeqs, List<BomGraphEdge> replacedEdges, Collection<BomGraphItem> changedItems) {
+        Set<Integer> replaced = new HashSet<>(itemSeqs);
+        List<BomGraphEdge> merged = new ArrayList<>(edges.size() + replacedEdges.size());
+        for (BomGraphEdge edge : edges) {
+            if (!replaced.contains(edge.getItemSeq())) {
+                merged.add(edge);
+            }
+        }
+        merged.addAll(replacedEdges);
+
+        Map<Integer, BomGraphItem> itemMap = new HashMap<>(items);
+        itemMap.putAll(toItemMap(changedItems));
+        return new BomGraph(merged, itemMap);
+    }
+
+    int edgeCount() {
+        return edges.size();
+    }
+
+    /**
+     * 루트 품목 정전개 (기존 재귀 CTE와 같은 순서/DEPTH 형식)
+     * @param rootItemSeq 루트 품목
+     * @return 전위 순회 순서의 BOM 행 (DEPTH: 형제 순번 2자리를 '-'로 연결)
+     */
+    List<BomTreeRow> explode(int rootItemSeq) {
+        Integer root = nodeIndex.get(rootItemSeq);
+        if (root == null) {
+            return Collections.emptyList();
+        }
+        boolean[] onPath = new boolean[nodeItemSeq.length];
+        onPath[root] = true;
+        List<BomTreeRow> rows = new ArrayList<>();
+        explode(root, null, "", onPath, rows);
+        return rows;
+    }
+
+    private void explode(int node, Integer company, String depth, boolean[] onPath, List<BomTreeRow> rows) {
+        for (int i = childStart[node]; i < childStart[node + 1]; i++) {
+            int e = childEdges[i];
+            if (company != null && edgeCompany[e] != company) {
+                continue;
+            }
+            String rowDepth = childDepth(depth, siblingNo(childEdges, childStart[node], i));
+            rows.add(toTreeRow(e, rowDepth));
+
+            int child = edgeTo[e];
+            if (child != NO_NODE && !onPath[child]) {
+                onPath[child] = true;
+                explode(child, edgeCompany[e], rowDepth, onPath, rows);
+                onPath[child] = false;
+            }
+        }
+    }
+
+    /**
+     * 역전개 (지정 품목을 자재로 사용하는 상위 품목을 최상위까지)
+     * @param itemSeq 자재 품목
+     * @return 전위 순회 순서의 사용처 행 (ITEM_SEQ: 상위 품목, MAT_ITEM_SEQ: 하위 자재)
+     */
+    List<BomTreeRow> whereUsed(int itemSeq) {
+        Integer start = nodeIndex.get(itemSeq);
+        if (start == null) {
+            return Collections.emptyList();
+        }
+        boolean[] onPath = new boolean[nodeItemSeq.length];
+        onPath[start] = true;
+        List<BomTreeRow> rows = new ArrayList<>();
+        whereUsed(start, null, "", onPath, rows);
+        return rows;
+    }
+
+    private void whereUsed(int node, Integer company, String depth, boolean[] onPath, List<BomTreeRow> rows) {
+        for (int i = parentStart[node]; i < parentStart[node + 1]; i++) {
+            int e = parentEdges[i];
+            if (company != null && edgeCompany[e] != company) {
+                continue;
+            }
+            String rowDepth = childDepth(depth, siblingNo(parentEdges, parentStart[node], i));
+            rows.add(toTreeRow(e, rowDepth));
+
+            int parent = edgeFrom[e];
+            if (!onPath[parent]) {
+                onPath[parent] = true;
+                whereUsed(parent, edgeCompany[e], rowDepth, onPath, rows);
+                onPath[parent] = false;
+            }
+        }
+    }
+
+    /**
+     * 루트 품목 기준 자재별 누적 소요량 (경로별 소요량분자/분모 곱의 합)
+     * @param rootItemSeq 루트 품목
+     * @param qty 루트 품목 수량
+     * @return 최초 등장 순서의 자재별 소요량
+     */
+    List<BomRequirementRow> requirements(int rootItemSeq, BigDecimal qty) {
+        Integer root = nodeIndex.get(rootItemSeq);
+        if (root == null) {
+            return Collections.emptyList();
+        }
+        Map<Integer, BomRequirementRow> totals = new LinkedHashMap<>();
+        boolean[] onPath = new boolean[nodeItemSeq.length];
+        onPath[root] = true;
+        accumulate(root, null, qty, 1, onPath, totals);
+
+        List<BomRequirementRow> rows = new ArrayList<>(totals.values());
+        for (BomRequirementRow row : rows) {
+            row.setNeedQty(row.getNeedQty().setScale(QTY_SCALE, RoundingMode.HALF_UP));
+        }
+        return rows;
+    }
+
+    private void accumulate(int node, Integer company, BigDecimal qty, int level, boolean[] onPath,
+                            Map<Integer, BomRequirementRow> totals) {
+        for (int i = childStart[node]; i < childStart[node + 1]; i++) {
+            int e = childEdges[i];
+            int child = edgeTo[e];
+            if (child == NO_NODE || (company != null && edgeCompany[e] != company)) {
+                continue;
+            }
+            BigDecimal childQty = qty.multiply(edgeRatio[e], QTY_CONTEXT);
+
+            BomRequirementRow row = totals.get(child);
+            if (row == null) {
+                row = newRequirementRow(child);
+                totals.put(child, row);
+            }
+            row.setNeedQty(row.getNeedQty().add(childQty, QTY_CONTEXT));
+            row.setLevel(Math.max(row.getLevel(), level));
+
+            if (!onPath[child]) {
+                onPath[child] = true;
+                accumulate(child, edgeCompany[e], childQty, level + 1, onPath, totals);
+                onPath[child] = false;
+            }
+        }
+    }
+
+    private BomRequirementRow newRequirementRow(int node) {
+        int itemSeq = nodeItemSeq[node];
+        BomGraphItem item = items.get(itemSeq);
+        BomRequirementRow row = new BomRequirementRow();
+        row.setMatItemSeq(itemSeq);
+        if (item != null) {
+            row.setMatItemNo(item.getItemCode());
+            row.setMatItemName(item.getItemName());
+            row.setMatItemSpec(item.getItemSpec());
+            row.setUnitName(item.getUnitName());
+        }
+        row.setNeedQty(BigDecimal.ZERO);
+        row.setLeaf(childStart[node] == childStart[node + 1]);
+        return row;
+    }
+
+    private BomTreeRow toTreeRow(int e, String depth) {
+        BomGraphEdge edge = edges.get(e);
+        BomTreeRow row = new BomTreeRow();
+        row.setDepth(depth);
+        row.setItemSeq(edge.getItemSeq());
+        BomGraphItem item = items.get(edge.getItemSeq());
+        if (item != null) {
+            row.setItemCode(item.getItemCode());
+            row.setItemName(item.getItemName());
+        }
+        row.setProcSeq(edge.getProcSeq());
+        if (edge.getMatItemSeq() != null) {
+            row.setMatItemSeq(edge.getMatItemSeq());
+            BomGraphItem mat = items.get(edge.getMatItemSeq());
+            if (mat != null) {
+                row.setMatItemNo(mat.getItemCode());
+                row.setMatItemName(mat.getItemName());
+                row.setMatItemSpec(mat.getItemSpec());
+                row.setUnitName(mat.getUnitName());
+            }
+        }
+        row.setNeedQtyNumerator(edge.getNeedQtyNumerator());
+        row.setNeedQtyDenominator(edge.getNeedQtyDenominator());
+        if (edge.getSmDelvType() != null) {
+            row.setSmDelvType(edge.getSmDelvType());
+        }
+        return row;
+    }
+
+    /**
+     * 같은 법인의 형제 간선 중 순번 (1부터, 순환으로 전개하지 않는 간선도 순번을 차지)
+     */
+    private int siblingNo(int[] adjacency, int from, int index) {
+        int company = edgeCompany[adjacency[index]];
+        int no = 0;
+        for (int i = from; i <= index; i++) {
+            if (edgeCompany[adjacency[i]] == company) {
+                no++;
+            }
+        }
+        return no;
+    }
+
+    private static String childDepth(String depth, int siblingNo) {
+        String no = siblingNo < 10 ? "0" + siblingNo : String.valueOf(siblingNo);
+        return depth.isEmpty() ? no : depth + "-" + no;
+    }
+
+    private static Map<Integer, BomGraphItem> toItemMap(Collection<BomGraphItem> items) {
+        Map<Integer, BomGraphItem> itemMap = new HashMap<>();
+        for (BomGraphItem item : items) {
+            // 공장별로 같은 품목이 중복되면 먼저 조회된 정보 사용
+            itemMap.putIfAbsent(item.getItemSeq(), item);
+        }
+        return itemMap;
+    }
+
+    private void addNode(int itemSeq, List<Integer> seqs) {
+        if (!nodeIndex.containsKey(itemSeq)) {
+            nodeIndex.put(itemSeq, seqs.size());
+            seqs.add(itemSeq);
+        }
+    }
+
+    /**
+     * 간선 끝점 배열로 CSR 인접 목록을 만든다 (끝점이 없는 간선 제외).
+     */
+    private int[] adjacency(int[] endpoint, int[] start, Comparator<Integer> order) {
+        Integer[] sorted = new Integer[endpoint.length];
+        int count = 0;
+        for (int e = 0; e < endpoint.length; e++) {
+            if (endpoint[e] != NO_NODE) {
+                sorted[count++] = e;
+                start[endpoint[e] + 1]++;
+            }
+        }
+        Arrays.sort(sorted, 0, count, order);
+        for (int i = 0; i < nodeItemSeq.length; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] adjacency = new int[count];
+        for (int i = 0; i < count; i++) {
+            adjacency[i] = sorted[i];
+        }
+        return adjacency;
+    }
+
+    private static BigDecimal ratioOf(BomGraphEdge edge) {
+        BigDecimal numerator = edge.getNeedQtyNumerator() != null ? edge.getNeedQtyNumerator() : BigDecimal.ZERO;
+        BigDecimal denominator = edge.getNeedQtyDenominator();
+        if (denominator == null || denominator.signum() == 0) {
+            return numerator;
+        }
+        return numerator.divide(denominator, QTY_CONTEXT);
+    }
+}
@@ -0,0 +1,154 @@
+package egovframework.let.basedata.bom.service.impl;
+
+import egovframework.com.cmm.util.EgovTransactionHelper;
+import egovframework.let.basedata.bom.domain.model.BomGraphEdge;
+import egovframework.let.basedata.bom.domain.model.BomGraphItem;
+import egovframework.let.basedata.bom.domain.model.BomRequirementRow;
+import egovframework.let.basedata.bom.domain.model.BomTreeRow;
+import egovframework.let.basedata.bom.domain.repository.BomInquiryDAO;
+import egovframework.let.basedata.bom.service.BomGraphService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * TCO501 BOM 메모리 그래프 서비스 구현체
+ * 최초 조회 시 TCO501 전체를 한 번 적재하고, 이후에는 연동이 알린 변경 품목만 다시 읽어 새 그래프로 교체한다.
+ * 조회는 잠금 없이 현재 그래프를 사용하며, 적재/갱신만 직렬화한다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Service("bomGraphService")
+@RequiredArgsConstructor
+public class BomGraphServiceImpl extends EgovAbstractServiceImpl implements BomGraphService {
+
+    /** 부분 갱신 최대 품목 수 (초과 시 전체 재적재) */
+    private static final int PATCH_LIMIT = 500;
+
+    /** IN 절 묶음 크기 (SQL Server 파라미터 2100개 제한) */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final BomInquiryDAO bomInquiryDAO;
+
+    private final Object loadLock = new Object();
+
+    /** 전체 무효화 횟수 */
+    private final AtomicLong invalidateSeq = new AtomicLong();
+
+    /** 부분 갱신 대기 품목 (중복 허용, 꺼낼 때 합침) */
+    private final Queue<Integer> pendingItemSeqs = new ConcurrentLinkedQueue<>();
+
+    private volatile long builtSeq;
+    private volatile BomGraph graph;
+
+    @Override
+    public List<BomTreeRow> explode(int itemSeq) throws Exception {
+        return currentGraph().explode(itemSeq);
+    }
+
+    @Override
+    public List<BomTreeRow> whereUsed(int itemSeq) throws Exception {
+        return currentGraph().whereUsed(itemSeq);
+    }
+
+    @Override
+    public List<BomRequirementRow> requirements(int itemSeq, BigDecimal qty) throws Exception {
+        return currentGraph().requirements(itemSeq, qty);
+    }
+
+    @Override
+    public void itemsChanged(Collection<Integer> itemSeqs) {
+        List<Integer> changed = new ArrayList<>(itemSeqs);
+        EgovTransactionHelper.afterCommit(() -> pendingItemSeqs.addAll(changed));
+    }
+
+    @Override
+    public void invalidate() {
+        EgovTransactionHelper.afterCommit(invalidateSeq::incrementAndGet);
+    }
+
+    private BomGraph currentGraph() throws Exception {
+        long built = builtSeq;
+        BomGraph current = graph;
+        if (current != null && built == invalidateSeq.get() && pendingItemSeqs.isEmpty()) {
+            return current;
+        }
+
+        synchronized (loadLock) {
+            long seq = invalidateSeq.get();
+            // 읽기 전에 대기 품목을 꺼내 두어야 적재 중 다시 알려진 변경이 지워지지 않는다 (다음 조회에서 반영)
+            List<Integer> pending = drainPending();
+            try {
+                if (graph == null || builtSeq != seq || pending.size() > PATCH_LIMIT) {
+                    graph = load();
+                    builtSeq = seq;
+                } else if (!pending.isEmpty()) {
+                    graph = patch(graph, pending);
+                }
+            } catch (Exception | Error e) {
+                pendingItemSeqs.addAll(pending);
+                throw e;
+            }
+            return graph;
+        }
+    }
+
+    private List<Integer> drainPending() {
+        Set<Integer> drained = new LinkedHashSet<>();
+        Integer itemSeq;
+        while ((itemSeq = pendingItemSeqs.poll()) != null) {
+            drained.add(itemSeq);
+        }
+        return new ArrayList<>(drained);
+    }
+
+    private BomGraph load() throws Exception {
+        long startTime = System.currentTimeMillis();
+        BomGraph loaded = BomGraph.build(bomInquiryDAO.selectBomGraphEdges(), bomInquiryDAO.selectBomGraphItems());
+        log.info("BOM 그래프 적재 완료: 구성 {}건, {}ms", loaded.edgeCount(), System.currentTimeMillis() - startTime);
+        return loaded;
+    }
+
+    private BomGraph patch(BomGraph current, List<Integer> itemSeqs) throws Exception {
+        List<BomGraphEdge> edges = new ArrayList<>();
+        for (List<Integer> chunk : chunks(itemSeqs)) {
+            edges.addAll(bomInquiryDAO.selectBomGraphEdgesByItemSeqs(chunk));
+        }
+
+        Set<Integer> touched = new LinkedHashSet<>(itemSeqs);
+        for (BomGraphEdge edge : edges) {
+            if (edge.getMatItemSeq() != null) {
+                touched.add(edge.getMatItemSeq());
+            }
+        }
+        List<BomGraphItem> items = new ArrayList<>();
+        for (List<Integer> chunk : chunks(new ArrayList<>(touched))) {
+            items.addAll(bomInquiryDAO.selectBomGraphItemsByItemSeqs(chunk));
+        }
+
+        log.debug("BOM 그래프 부분 갱신: 품목 {}건, 구성 {}건", itemSeqs.size(), edges.size());
+        return current.patch(itemSeqs, edges, items);
+    }
+
+    private static List<List<Integer>> chunks(List<Integer> values) {
+        List<List<Integer>> chunks = new ArrayList<>();
+        for (int from = 0; from < values.size(); from += IN_CHUNK_SIZE) {
+            chunks.add(values.subList(from, Math.min(from + IN_CHUNK_SIZE, values.size())));
+        }
+        return chunks;
+    }
+}
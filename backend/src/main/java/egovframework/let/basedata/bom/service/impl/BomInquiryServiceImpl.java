@@ -2,14 +2,17 @@ package egovframework.let.basedata.bom.service.impl;
 
 import egovframework.let.basedata.bom.domain.model.BomItemSearchRequestDTO;
 import egovframework.let.basedata.bom.domain.model.BomItemSearchRow;
+import egovframework.let.basedata.bom.domain.model.BomRequirementRow;
 import egovframework.let.basedata.bom.domain.model.BomTreeRow;
 import egovframework.let.basedata.bom.domain.repository.BomInquiryDAO;
+import egovframework.let.basedata.bom.service.BomGraphService;
 import egovframework.let.basedata.bom.service.BomInquiryService;
 import egovframework.let.common.dto.ListResult;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.springframework.stereotype.Service;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 @Service("BomInquiryService")
@@ -17,6 +20,7 @@ import java.util.List;
 public class BomInquiryServiceImpl extends EgovAbstractServiceImpl implements BomInquiryService {
 
     private final BomInquiryDAO bomInquiryDAO;
+    private final BomGraphService bomGraphService;
 
     @Override
     public ListResult<BomItemSearchRow> searchItems(BomItemSearchRequestDTO searchVO) throws Exception {
@@ -27,6 +31,16 @@ public class BomInquiryServiceImpl extends EgovAbstractServiceImpl implements Bo
 
     @Override
     public List<BomTreeRow> getBomTree(int itemSeq) throws Exception {
-        return bomInquiryDAO.selectBomTreeRows(itemSeq);
+        return bomGraphService.explode(itemSeq);
+    }
+
+    @Override
+    public List<BomTreeRow> getWhereUsed(int itemSeq) throws Exception {
+        return bomGraphService.whereUsed(itemSeq);
+    }
+
+    @Override
+    public List<BomRequirementRow> getRequirements(int itemSeq, BigDecimal qty) throws Exception {
+        return bomGraphService.requirements(itemSeq, qty);
     }
 }
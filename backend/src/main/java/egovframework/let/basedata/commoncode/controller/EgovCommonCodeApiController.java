@@ -372,4 +372,27 @@ public class EgovCommonCodeApiController {
 
         return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
     }
+
+    /**
+     * 공통코드 캐시 상태를 조회한다.
+     */
+    @Operation(
+            summary = "공통코드 캐시 상태 조회",
+            description = "공통코드 캐시의 조회 적중/미적중 수, 비운 횟수, 보관 중인 코드그룹 수를 조회한다",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"EgovCommonCodeApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @GetMapping("/common-code-cache/stats")
+    public ResultVO selectCommonCodeCacheStats(
+            @Parameter(hidden = true) @AuthenticationPrincipal LoginVO user) {
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("cacheStats", commonCodeService.selectCommonCodeCacheStats());
+
+        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+    }
 }
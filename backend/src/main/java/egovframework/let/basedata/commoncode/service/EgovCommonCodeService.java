@@ -132,4 +132,10 @@ public interface EgovCommonCodeService {
 	 * @throws Exception
 	 */
 	boolean isCodeExists(String codeId, String code) throws Exception;
+
+	/**
+	 * 공통코드 캐시 상태를 조회한다. (조회 적중/미적중 수, 비운 횟수, 보관 중인 코드그룹 수)
+	 * @return 캐시 상태
+	 */
+	Map<String, Object> selectCommonCodeCacheStats();
 }
@@ -1,5 +1,6 @@
 package egovframework.let.basedata.commoncode.service.impl;
 
+import egovframework.com.cmm.service.CommonCodeCache;
 import egovframework.let.basedata.commoncode.domain.model.CommonCode;
 import egovframework.let.basedata.commoncode.domain.model.CommonCodeVO;
 import egovframework.let.basedata.commoncode.domain.model.CommonDetailCode;
@@ -37,6 +38,10 @@ public class EgovCommonCodeServiceImpl extends EgovAbstractServiceImpl implement
 
 	private final CommonCodeDAO commonCodeDAO;
 	private final CommonDetailCodeDAO commonDetailCodeDAO;
+	private final CommonCodeCache commonCodeCache;
+
+	private static final String DETAIL_ALL_VIEW = "detail";
+	private static final String DETAIL_USE_AT_VIEW = "detail:";
 
 	/**
 	 * 공통코드 목록을 조회한다.
@@ -95,11 +100,11 @@ public class EgovCommonCodeServiceImpl extends EgovAbstractServiceImpl implement
 	}
 
 	/**
-	 * 공통코드 상세 목록을 조회한다.
+	 * 공통코드 상세 목록을 조회한다. (코드그룹 캐시 사용, 상세 등록/수정/삭제 시 비움)
 	 */
 	@Override
 	public List<CommonDetailCode> selectCommonDetailCodeList(String codeId) throws Exception {
-		return commonDetailCodeDAO.selectCommonDetailCodeList(codeId);
+		return commonCodeCache.get(codeId, DETAIL_ALL_VIEW, () -> commonDetailCodeDAO.selectCommonDetailCodeList(codeId));
 	}
 
 	/**
@@ -110,7 +115,8 @@ public class EgovCommonCodeServiceImpl extends EgovAbstractServiceImpl implement
 		Map<String, String> params = new HashMap<>();
 		params.put("codeId", codeId);
 		params.put("useAt", useAt);
-		return commonDetailCodeDAO.selectCommonDetailCodeListByUseAt(params);
+		return commonCodeCache.get(codeId, DETAIL_USE_AT_VIEW + (useAt != null ? useAt : ""),
+				() -> commonDetailCodeDAO.selectCommonDetailCodeListByUseAt(params));
 	}
 
 	/**
@@ -131,6 +137,7 @@ public class EgovCommonCodeServiceImpl extends EgovAbstractServiceImpl implement
 	@Transactional
 	public void insertCommonDetailCode(CommonDetailCode commonDetailCode) throws Exception {
 		commonDetailCodeDAO.insertCommonDetailCode(commonDetailCode);
+		commonCodeCache.invalidate(commonDetailCode.getCodeId());
 	}
 
 	/**
@@ -140,6 +147,7 @@ public class EgovCommonCodeServiceImpl extends EgovAbstractServiceImpl implement
 	@Transactional
 	public void updateCommonDetailCode(CommonDetailCode commonDetailCode) throws Exception {
 		commonDetailCodeDAO.updateCommonDetailCode(commonDetailCode);
+		commonCodeCache.invalidate(commonDetailCode.getCodeId());
 	}
 
 	/**
@@ -152,6 +160,7 @@ public class EgovCommonCodeServiceImpl extends EgovAbstractServiceImpl implement
 		params.put("codeId", codeId);
 		params.put("code", code);
 		commonDetailCodeDAO.deleteCommonDetailCode(params);
+		commonCodeCache.invalidate(codeId);
 	}
 
 	@Override
@@ -162,4 +171,9 @@ public class EgovCommonCodeServiceImpl extends EgovAbstractServiceImpl implement
 		int count = commonDetailCodeDAO.selectCodeCheck(params);
 		return count > 0;
 	}
+
+	@Override
+	public Map<String, Object> selectCommonCodeCacheStats() {
+		return commonCodeCache.stats();
+	}
 }
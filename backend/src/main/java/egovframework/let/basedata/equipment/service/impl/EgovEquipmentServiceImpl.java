@@ -6,6 +6,8 @@ import egovframework.let.basedata.equipment.domain.model.WorkcenterEquipRow;
 import egovframework.let.basedata.equipment.domain.repository.EquipmentDAO;
 import egovframework.let.basedata.equipment.service.EgovEquipmentService;
 import egovframework.let.common.dto.ListResult;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.service.MasterDataCacheService;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.idgnr.EgovIdGnrService;
@@ -38,6 +40,7 @@ import java.util.Map;
 public class EgovEquipmentServiceImpl extends EgovAbstractServiceImpl implements EgovEquipmentService {
 
 	private final EquipmentDAO equipmentDAO;
+	private final MasterDataCacheService masterDataCacheService;
 
 	@Resource(name = "egovEquipmentIdGnrService")
 	private EgovIdGnrService egovEquipmentIdGnrService;
@@ -81,6 +84,7 @@ public class EgovEquipmentServiceImpl extends EgovAbstractServiceImpl implements
 		}
 		
 		equipmentDAO.insertEquipment(equipment);
+		masterDataCacheService.refresh(MasterTable.EQUIPMENT);
 	}
 
 	/**
@@ -90,6 +94,7 @@ public class EgovEquipmentServiceImpl extends EgovAbstractServiceImpl implements
 	@Transactional
 	public void updateEquipment(Equipment equipment) throws Exception {
 		equipmentDAO.updateEquipment(equipment);
+		masterDataCacheService.refresh(MasterTable.EQUIPMENT);
 	}
 
 	/**
@@ -99,6 +104,7 @@ public class EgovEquipmentServiceImpl extends EgovAbstractServiceImpl implements
 	@Transactional
 	public void deleteEquipment(String equipmentId) throws Exception {
 		equipmentDAO.deleteEquipment(equipmentId);
+		masterDataCacheService.refresh(MasterTable.EQUIPMENT);
 	}
 
 	/**
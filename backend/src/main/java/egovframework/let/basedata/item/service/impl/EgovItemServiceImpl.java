@@ -4,6 +4,8 @@ import egovframework.let.basedata.item.domain.model.Item;
 import egovframework.let.basedata.item.domain.model.ItemVO;
 import egovframework.let.basedata.item.domain.repository.ItemDAO;
 import egovframework.let.basedata.item.service.EgovItemService;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.service.MasterDataCacheService;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.idgnr.EgovIdGnrService;
@@ -36,6 +38,7 @@ import java.util.Map;
 public class EgovItemServiceImpl extends EgovAbstractServiceImpl implements EgovItemService {
 
 	private final ItemDAO itemDAO;
+	private final MasterDataCacheService masterDataCacheService;
 
 	@Resource(name = "egovItemIdGnrService")
 	private EgovIdGnrService egovItemIdGnrService;
@@ -72,6 +75,7 @@ public class EgovItemServiceImpl extends EgovAbstractServiceImpl implements Egov
 		String itemId = egovItemIdGnrService.getNextStringId();
 		item.setItemId(itemId);
 		itemDAO.insertItem(item);
+		masterDataCacheService.refresh(MasterTable.ITEM);
 	}
 
 	/**
@@ -81,6 +85,7 @@ public class EgovItemServiceImpl extends EgovAbstractServiceImpl implements Egov
 	@Transactional
 	public void updateItem(Item item) throws Exception {
 		itemDAO.updateItem(item);
+		masterDataCacheService.refresh(MasterTable.ITEM);
 	}
 
 	/**
@@ -93,6 +98,7 @@ public class EgovItemServiceImpl extends EgovAbstractServiceImpl implements Egov
 		params.put("itemCode", itemCode);
 		params.put("userId", userId);
 		itemDAO.deleteItem(params);
+		masterDataCacheService.refresh(MasterTable.ITEM);
 	}
 
 	@Override
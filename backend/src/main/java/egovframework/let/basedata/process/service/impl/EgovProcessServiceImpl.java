@@ -4,6 +4,9 @@ import egovframework.let.basedata.process.domain.model.*;
 import egovframework.let.basedata.process.domain.model.Process;
 import egovframework.let.basedata.process.domain.repository.*;
 import egovframework.let.basedata.process.service.EgovProcessService;
+import egovframework.let.basedata.processFlow.service.ProcessFlowDefinitionService;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.service.MasterDataCacheService;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.idgnr.EgovIdGnrService;
@@ -40,6 +43,8 @@ public class EgovProcessServiceImpl extends EgovAbstractServiceImpl implements E
 	private final ProcessInspectionDAO processInspectionDAO;
 	private final ProcessStopItemDAO processStopItemDAO;
 	private final ProcessEquipmentDAO processEquipmentDAO;
+	private final MasterDataCacheService masterDataCacheService;
+	private final ProcessFlowDefinitionService processFlowDefinitionService;
 
 	@Resource(name = "egovProcessIdGnrService")
 	private EgovIdGnrService egovProcessIdGnrService;
@@ -94,6 +99,8 @@ public class EgovProcessServiceImpl extends EgovAbstractServiceImpl implements E
 		}
 		
 		processDAO.insertProcess(process);
+		masterDataCacheService.refresh(MasterTable.PROCESS);
+		processFlowDefinitionService.invalidate();
 	}
 
 	/**
@@ -103,6 +110,8 @@ public class EgovProcessServiceImpl extends EgovAbstractServiceImpl implements E
 	@Transactional
 	public void updateProcess(Process process) throws Exception {
 		processDAO.updateProcess(process);
+		masterDataCacheService.refresh(MasterTable.PROCESS);
+		processFlowDefinitionService.invalidate();
 	}
 
 	/**
@@ -113,6 +122,8 @@ public class EgovProcessServiceImpl extends EgovAbstractServiceImpl implements E
 	public void deleteProcess(String processId) throws Exception {
 		// Cascade delete will handle related records
 		processDAO.deleteProcess(processId);
+		masterDataCacheService.refresh(MasterTable.PROCESS);
+		processFlowDefinitionService.invalidate();
 	}
 
 	/**
@@ -0,0 +1,251 @@
+package egovframework.let.basedata.processFlow.domain.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 컴파일된 공정흐름 (품목별 라우팅)
+ * <ul>
+ *   <li>공정흐름(TPR110)의 공정(TPR110D)을 순번(SEQ) 순으로 배열에 담고, 순번 색인을 미리 만든다.</li>
+ *   <li>앞/뒤 공정, 계획 공정, 공정흐름 문자열("A > B")을 DB 조회 없이 구한다.</li>
+ * </ul>
+ * 생성 후 바뀌지 않으므로 여러 요청이 함께 쓴다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public final class CompiledProcessFlow {
+
+	private final String factoryCode;
+	private final String processFlowId;
+	private final String processFlowCode;
+	private final String processFlowName;
+
+	/** 순번(SEQ) 순 공정 */
+	private final Step[] steps;
+	private final List<Step> stepList;
+	private final Map<Integer, Step> stepBySeq;
+	private final Step planStep;
+	private final String flowText;
+
+	private CompiledProcessFlow(ProcessFlowDefinitionRow header, Step[] steps) {
+		this.factoryCode = header.getFactoryCode();
+		this.processFlowId = header.getProcessFlowId();
+		this.processFlowCode = header.getProcessFlowCode();
+		this.processFlowName = header.getProcessFlowName();
+		this.steps = steps;
+		this.stepList = Collections.unmodifiableList(Arrays.asList(steps));
+
+		Map<Integer, Step> bySeq = new HashMap<>();
+		Step plan = null;
+		StringBuilder text = new StringBuilder();
+		for (Step step : steps) {
+			bySeq.putIfAbsent(step.seq, step);
+			if (plan == null && step.isPlanProcess()) {
+				plan = step;
+			}
+			if (text.length() > 0) {
+				text.append(" > ");
+			}
+			text.append(step.workName != null ? step.workName : step.workCode);
+		}
+		this.stepBySeq = Collections.unmodifiableMap(bySeq);
+		this.planStep = plan;
+		this.flowText = steps.length == 0 ? null : text.toString();
+	}
+
+	/**
+	 * 한 공정흐름의 적재 행으로 컴파일한다. 순번이 없는 행(공정 미등록)은 공정에서 제외한다.
+	 *
+	 * @param rows 같은 공정흐름의 적재 행 (1건 이상)
+	 */
+	public static CompiledProcessFlow compile(List<ProcessFlowDefinitionRow> rows) {
+		List<ProcessFlowDefinitionRow> sorted = new ArrayList<>();
+		for (ProcessFlowDefinitionRow row : rows) {
+			if (row.getSeq() != null && row.getWorkCode() != null) {
+				sorted.add(row);
+			}
+		}
+		sorted.sort(Comparator.comparing(ProcessFlowDefinitionRow::getSeq)
+				.thenComparing(row -> row.getWorkSeq() != null ? row.getWorkSeq() : 0));
+
+		Step[] steps = new Step[sorted.size()];
+		for (int i = 0; i < steps.length; i++) {
+			steps[i] = new Step(i, i == steps.length - 1, sorted.get(i));
+		}
+		return new CompiledProcessFlow(rows.get(0), steps);
+	}
+
+	public String getFactoryCode() {
+		return factoryCode;
+	}
+
+	public String getProcessFlowId() {
+		return processFlowId;
+	}
+
+	public String getProcessFlowCode() {
+		return processFlowCode;
+	}
+
+	public String getProcessFlowName() {
+		return processFlowName;
+	}
+
+	/**
+	 * @return 순번 순 공정 (수정 불가)
+	 */
+	public List<Step> getSteps() {
+		return stepList;
+	}
+
+	/**
+	 * @return 순번(TPR110D.SEQ)의 공정, 없으면 null
+	 */
+	public Step step(Integer seq) {
+		return seq != null ? stepBySeq.get(seq) : null;
+	}
+
+	/**
+	 * 순번과 공정코드가 모두 맞는 공정 (생산지시의 TPR110D_SEQ + WORK_CODE 확인용)
+	 *
+	 * @return 해당 공정, 순번이 없거나 공정코드가 다르면 null
+	 */
+	public Step step(Integer seq, String workCode) {
+		Step step = step(seq);
+		return step != null && Objects.equals(step.workCode, workCode) ? step : null;
+	}
+
+	/**
+	 * @return 앞 공정, 첫 공정이면 null
+	 */
+	public Step predecessor(Step step) {
+		return step.index > 0 ? steps[step.index - 1] : null;
+	}
+
+	/**
+	 * @return 뒤 공정, 마지막 공정이면 null
+	 */
+	public Step successor(Step step) {
+		return step.index + 1 < steps.length ? steps[step.index + 1] : null;
+	}
+
+	/**
+	 * @return 계획 공정(PLAN_FLAG = 'Y'), 없으면 null
+	 */
+	public Step getPlanStep() {
+		return planStep;
+	}
+
+	/**
+	 * @return 공정명(없으면 공정코드)을 순번 순으로 " > " 로 이은 문자열, 공정이 없으면 null
+	 */
+	public String getFlowText() {
+		return flowText;
+	}
+
+	/**
+	 * 공정흐름의 한 공정 (TPR110D + TPR102)
+	 */
+	public static final class Step {
+		private final int index;
+		private final boolean finalStep;
+		private final int seq;
+		private final Integer workSeq;
+		private final String workCode;
+		private final String workName;
+		private final String erpProcessMapping;
+		private final String equipmentIntegrationYn;
+		private final String planFlag;
+		private final String lastFlag;
+		private final String erpResultFlag;
+		private final String packingFlag;
+
+		private Step(int index, boolean finalStep, ProcessFlowDefinitionRow row) {
+			this.index = index;
+			this.finalStep = finalStep;
+			this.seq = row.getSeq();
+			this.workSeq = row.getWorkSeq();
+			this.workCode = row.getWorkCode();
+			this.workName = row.getWorkName();
+			this.erpProcessMapping = row.getErpProcessMapping();
+			this.equipmentIntegrationYn = row.getEquipmentIntegrationYn();
+			this.planFlag = row.getPlanFlag();
+			this.lastFlag = row.getLastFlag();
+			this.erpResultFlag = row.getErpResultFlag();
+			this.packingFlag = row.getPackingFlag();
+		}
+
+		/**
+		 * @return 공정흐름 안의 위치 (0부터)
+		 */
+		public int getIndex() {
+			return index;
+		}
+
+		/**
+		 * @return 순번상 마지막 공정 여부
+		 */
+		public boolean isFinalStep() {
+			return finalStep;
+		}
+
+		/**
+		 * @return LAST_FLAG(I/F연동) = 'Y' 여부 (ERP 생산지시 연동 공정)
+		 */
+		public boolean isLastProcess() {
+			return "Y".equals(lastFlag);
+		}
+
+		public boolean isPlanProcess() {
+			return "Y".equals(planFlag);
+		}
+
+		public int getSeq() {
+			return seq;
+		}
+
+		public Integer getWorkSeq() {
+			return workSeq;
+		}
+
+		public String getWorkCode() {
+			return workCode;
+		}
+
+		public String getWorkName() {
+			return workName;
+		}
+
+		public String getErpProcessMapping() {
+			return erpProcessMapping;
+		}
+
+		public String getEquipmentIntegrationYn() {
+			return equipmentIntegrationYn;
+		}
+
+		public String getPlanFlag() {
+			return planFlag;
+		}
+
+		public String getLastFlag() {
+			return lastFlag;
+		}
+
+		public String getErpResultFlag() {
+			return erpResultFlag;
+		}
+
+		public String getPackingFlag() {
+			return packingFlag;
+		}
+	}
+}
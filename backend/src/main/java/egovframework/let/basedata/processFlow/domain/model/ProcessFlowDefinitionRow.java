@@ -0,0 +1,26 @@
+package egovframework.let.basedata.processFlow.domain.model;
+
+import lombok.Data;
+
+/**
+ * 공정흐름 정의 적재 행 (TPR110 + TPR110D + TPR102)
+ * 공정이 없는 공정흐름은 헤더 컬럼만 채워지고 공정 컬럼은 null 이다.
+ */
+@Data
+public class ProcessFlowDefinitionRow {
+    private String factoryCode;
+    private String processFlowId;
+    private String processFlowCode;
+    private String processFlowName;
+
+    private Integer seq;
+    private Integer workSeq;
+    private String workCode;
+    private String workName;
+    private String erpProcessMapping;
+    private String equipmentIntegrationYn;
+    private String planFlag;
+    private String lastFlag;
+    private String erpResultFlag;
+    private String packingFlag;
+}
@@ -1,6 +1,7 @@
 package egovframework.let.basedata.processFlow.domain.repository;
 
 import egovframework.let.basedata.processFlow.domain.model.ProcessFlow;
+import egovframework.let.basedata.processFlow.domain.model.ProcessFlowDefinitionRow;
 import egovframework.let.basedata.processFlow.domain.model.ProcessFlowItem;
 import egovframework.let.basedata.processFlow.domain.model.ProcessFlowProcess;
 import egovframework.let.basedata.processFlow.domain.model.ProcessFlowVO;
@@ -138,4 +139,20 @@ public class ProcessFlowDAO extends EgovAbstractMapper {
         log.info("==========> selectItemByFlowId <==========");
         return selectList("ProcessFlowItemDAO.selectItemByFlowId", params);
     }
+
+    /**
+     * 공정흐름 정의 전체 (공정흐름 + 공정 + 공정 기준정보, 공정흐름/순번 순)
+     */
+    public List<ProcessFlowDefinitionRow> selectProcessFlowDefinitionRows() {
+        log.info("==========> selectProcessFlowDefinitionRows <==========");
+        return selectList("ProcessFlowProcessDAO.selectProcessFlowDefinitionRows");
+    }
+
+    /**
+     * 공정흐름별 등록 품목 전체 (품목 ID → 공정흐름 ID)
+     */
+    public List<ProcessFlowItem> selectProcessFlowItemLinks() {
+        log.info("==========> selectProcessFlowItemLinks <==========");
+        return selectList("ProcessFlowItemDAO.selectProcessFlowItemLinks");
+    }
 }
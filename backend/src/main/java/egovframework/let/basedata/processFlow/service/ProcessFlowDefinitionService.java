@@ -0,0 +1,31 @@
+package egovframework.let.basedata.processFlow.service;
+
+import egovframework.let.basedata.processFlow.domain.model.CompiledProcessFlow;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 품목별 컴파일된 공정흐름 서비스
+ * 공정흐름(TPR110/TPR110D/TPR112/TPR102)을 한 번 적재해 품목별 라우팅으로 보관하고,
+ * 공정흐름을 저장하면 커밋 후 다음 조회에서 다시 적재한다.
+ */
+public interface ProcessFlowDefinitionService {
+
+    /**
+     * @param itemId 품목 ID (TPR112.PROD_CODE_ID)
+     * @return 품목의 공정흐름, 등록되지 않은 품목이면 null
+     */
+    CompiledProcessFlow getByItem(String itemId) throws Exception;
+
+    /**
+     * @param itemIds 품목 ID 목록
+     * @return 품목 ID별 공정흐름 (등록되지 않은 품목은 빠짐)
+     */
+    Map<String, CompiledProcessFlow> getByItems(Collection<String> itemIds) throws Exception;
+
+    /**
+     * 공정흐름 전체를 무효화한다 (트랜잭션 커밋 후 다음 조회 시 다시 적재).
+     */
+    void invalidate();
+}
@@ -10,6 +10,7 @@ import egovframework.let.basedata.processFlow.domain.repository.ProcessFlowDAO;
 import egovframework.let.basedata.processFlow.dto.ProcessFlowProcessSaveRequest;
 import egovframework.let.basedata.processFlow.dto.ProcessFlowItemDeltaResponse;
 import egovframework.let.basedata.processFlow.service.EgovProcessFlowService;
+import egovframework.let.basedata.processFlow.service.ProcessFlowDefinitionService;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.idgnr.EgovIdGnrService;
@@ -49,6 +50,7 @@ import java.util.stream.Collectors;
 public class EgovProcessFlowServiceImpl extends EgovAbstractServiceImpl implements EgovProcessFlowService {
 
 	private final ProcessFlowDAO processFlowDAO;
+	private final ProcessFlowDefinitionService processFlowDefinitionService;
 
 	@Resource(name = "egovProcessFlowIdGnrService")
 	private EgovIdGnrService egovProcessFlowIdGnrService;
@@ -85,18 +87,21 @@ public class EgovProcessFlowServiceImpl extends EgovAbstractServiceImpl implemen
 		pf.setProcessFlowId(processId);
 		pf.setProcessFlowCode(processCode);
 		processFlowDAO.createProcessFlow(pf);
+		processFlowDefinitionService.invalidate();
 	}
 
 	@Transactional
 	@Override
 	public void updateProcessFlow(ProcessFlow processFlow) throws Exception {
 		processFlowDAO.updateProcessFlow(processFlow);
+		processFlowDefinitionService.invalidate();
 	}
 
 	@Transactional
 	@Override
 	public void deleteProcessFlow(String processFlowId) throws Exception {
 		processFlowDAO.deleteProcessFlow(processFlowId);
+		processFlowDefinitionService.invalidate();
 	}
 
 
@@ -150,7 +155,7 @@ public class EgovProcessFlowServiceImpl extends EgovAbstractServiceImpl implemen
 			// DB insert
 			processFlowDAO.insertProcessFlowProcess(p);
 		}
-
+		processFlowDefinitionService.invalidate();
 	}
 
 	@Transactional(rollbackFor = Exception.class)
@@ -189,6 +194,7 @@ public class EgovProcessFlowServiceImpl extends EgovAbstractServiceImpl implemen
 			row.setRegUserId(userId);
 			processFlowDAO.insertProcessFlowProcess(row);
 		}
+		processFlowDefinitionService.invalidate();
 		return processFlowDAO.selectProcessByFlowId(processFlowId, factoryCode);
 	}
 
@@ -278,6 +284,7 @@ public class EgovProcessFlowServiceImpl extends EgovAbstractServiceImpl implemen
 			processFlowDAO.insertProcessFlowItem(master);
 			added.add(master);
 		}
+		processFlowDefinitionService.invalidate();
 		return new ProcessFlowItemDeltaResponse(added, deleteIds);
 	}
 
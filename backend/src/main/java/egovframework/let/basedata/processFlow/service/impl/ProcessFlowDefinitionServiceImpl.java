@@ -0,0 +1,114 @@
+package egovframework.let.basedata.processFlow.service.impl;
+
+import egovframework.com.cmm.util.EgovTransactionHelper;
+import egovframework.let.basedata.processFlow.domain.model.CompiledProcessFlow;
+import egovframework.let.basedata.processFlow.domain.model.ProcessFlowDefinitionRow;
+import egovframework.let.basedata.processFlow.domain.model.ProcessFlowItem;
+import egovframework.let.basedata.processFlow.domain.repository.ProcessFlowDAO;
+import egovframework.let.basedata.processFlow.service.ProcessFlowDefinitionService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 품목별 컴파일된 공정흐름 서비스 구현체
+ * 최초 조회 시 공정흐름 전체를 한 번 적재해 공정흐름별로 컴파일하고, 품목 ID로 찾을 수 있게 보관한다.
+ * 공정흐름/공정 저장이 무효화를 알리면 커밋 후 다음 조회에서 전체를 다시 적재한다.
+ * 조회는 잠금 없이 현재 정의를 사용하며, 적재만 직렬화한다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Service("processFlowDefinitionService")
+@RequiredArgsConstructor
+public class ProcessFlowDefinitionServiceImpl extends EgovAbstractServiceImpl implements ProcessFlowDefinitionService {
+
+    private final ProcessFlowDAO processFlowDAO;
+
+    private final Object loadLock = new Object();
+
+    /** 무효화 횟수 */
+    private final AtomicLong invalidateSeq = new AtomicLong();
+
+    private volatile long builtSeq;
+    private volatile Map<String, CompiledProcessFlow> flowsByItem;
+
+    @Override
+    public CompiledProcessFlow getByItem(String itemId) throws Exception {
+        return itemId != null ? currentFlows().get(itemId) : null;
+    }
+
+    @Override
+    public Map<String, CompiledProcessFlow> getByItems(Collection<String> itemIds) throws Exception {
+        Map<String, CompiledProcessFlow> flows = currentFlows();
+        Map<String, CompiledProcessFlow> result = new HashMap<>();
+        for (String itemId : itemIds) {
+            CompiledProcessFlow flow = itemId != null ? flows.get(itemId) : null;
+            if (flow != null) {
+                result.put(itemId, flow);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void invalidate() {
+        EgovTransactionHelper.afterCommit(invalidateSeq::incrementAndGet);
+    }
+
+    private Map<String, CompiledProcessFlow> currentFlows() throws Exception {
+        long built = builtSeq;
+        Map<String, CompiledProcessFlow> current = flowsByItem;
+        if (current != null && built == invalidateSeq.get()) {
+            return current;
+        }
+
+        synchronized (loadLock) {
+            long seq = invalidateSeq.get();
+            if (flowsByItem == null || builtSeq != seq) {
+                // 적재 중 새로 알려진 무효화는 다음 조회에서 반영
+                flowsByItem = load();
+                builtSeq = seq;
+            }
+            return flowsByItem;
+        }
+    }
+
+    private Map<String, CompiledProcessFlow> load() throws Exception {
+        long startTime = System.currentTimeMillis();
+
+        Map<String, List<ProcessFlowDefinitionRow>> rowsByFlow = new LinkedHashMap<>();
+        for (ProcessFlowDefinitionRow row : processFlowDAO.selectProcessFlowDefinitionRows()) {
+            rowsByFlow.computeIfAbsent(row.getProcessFlowId(), key -> new ArrayList<>()).add(row);
+        }
+        Map<String, CompiledProcessFlow> flows = new HashMap<>();
+        for (Map.Entry<String, List<ProcessFlowDefinitionRow>> entry : rowsByFlow.entrySet()) {
+            flows.put(entry.getKey(), CompiledProcessFlow.compile(entry.getValue()));
+        }
+
+        Map<String, CompiledProcessFlow> byItem = new HashMap<>();
+        for (ProcessFlowItem link : processFlowDAO.selectProcessFlowItemLinks()) {
+            CompiledProcessFlow flow = flows.get(link.getProcessFlowId());
+            if (flow != null) {
+                // 한 품목은 한 공정흐름에만 등록된다 (중복 시 먼저 등록된 흐름)
+                byItem.putIfAbsent(link.getFlowItemCodeId(), flow);
+            }
+        }
+
+        log.info("공정흐름 정의 적재 완료: 공정흐름 {}건, 품목 {}건, {}ms",
+                flows.size(), byItem.size(), System.currentTimeMillis() - startTime);
+        return Collections.unmodifiableMap(byItem);
+    }
+}
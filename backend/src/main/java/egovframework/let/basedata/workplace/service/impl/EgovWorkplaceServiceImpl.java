@@ -5,6 +5,8 @@ import egovframework.let.basedata.workplace.domain.repository.WorkplaceDAO;
 import egovframework.let.basedata.workplace.domain.repository.WorkplaceProcessDAO;
 import egovframework.let.basedata.workplace.domain.repository.WorkplaceWorkerDAO;
 import egovframework.let.basedata.workplace.service.EgovWorkplaceService;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.service.MasterDataCacheService;
 import lombok.RequiredArgsConstructor;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.idgnr.EgovIdGnrService;
@@ -39,6 +41,7 @@ public class EgovWorkplaceServiceImpl extends EgovAbstractServiceImpl implements
 	private final WorkplaceDAO workplaceDAO;
 	private final WorkplaceWorkerDAO workplaceWorkerDAO;
 	private final WorkplaceProcessDAO workplaceProcessDAO;
+	private final MasterDataCacheService masterDataCacheService;
 
 	@Resource(name = "egovWorkplaceIdGnrService")
 	private EgovIdGnrService egovWorkplaceIdGnrService;
@@ -81,6 +84,7 @@ public class EgovWorkplaceServiceImpl extends EgovAbstractServiceImpl implements
 		String workplaceId = egovWorkplaceIdGnrService.getNextStringId();
 		workplace.setWorkplaceId(workplaceId);
 		workplaceDAO.insertWorkplace(workplace);
+		masterDataCacheService.refresh(MasterTable.WORKCENTER);
 	}
 
 	/**
@@ -90,6 +94,7 @@ public class EgovWorkplaceServiceImpl extends EgovAbstractServiceImpl implements
 	@Transactional
 	public void updateWorkplace(Workplace workplace) throws Exception {
 		workplaceDAO.updateWorkplace(workplace);
+		masterDataCacheService.refresh(MasterTable.WORKCENTER);
 	}
 
 	/**
@@ -101,6 +106,7 @@ public class EgovWorkplaceServiceImpl extends EgovAbstractServiceImpl implements
 		// 작업장에 속한 작업자들도 함께 삭제
 		workplaceWorkerDAO.deleteWorkplaceWorkersByWorkplaceId(workplaceId);
 		workplaceDAO.deleteWorkplace(workplaceId);
+		masterDataCacheService.refresh(MasterTable.WORKCENTER);
 	}
 
 	/**
@@ -10,4 +10,7 @@ public class ConditionalIdKey {
     private String tableName;
     private String condition1;
     private String condition2;
+
+    /** 한 번에 예약할 개수 */
+    private long count = 1;
 }
@@ -0,0 +1,25 @@
+package egovframework.let.common.idgen.domain.model;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+public class DailySequenceBlock {
+
+    private String tableName;
+    private String prefix;
+    private String seqDate;
+    private long blockSize;
+    private long seed;
+
+    /** 기존 ID 검색용 접두어 (prefix + seqDate) */
+    public String getIdPrefix() {
+        return prefix + seqDate;
+    }
+
+    /** 기존 ID의 일련번호 시작 위치 (1부터) */
+    public int getSuffixStart() {
+        return getIdPrefix().length() + 1;
+    }
+}
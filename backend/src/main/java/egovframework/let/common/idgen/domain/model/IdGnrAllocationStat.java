@@ -0,0 +1,22 @@
+package egovframework.let.common.idgen.domain.model;
+
+import lombok.Data;
+
+@Data
+public class IdGnrAllocationStat {
+
+    private String generatorName;
+    private String table;
+    private String tableName;
+    private int blockSize;
+    private int minBlockSize;
+    private int maxBlockSize;
+    /** 블록 예약 횟수 (IDS 테이블 갱신 횟수) */
+    private long allocations;
+    /** 예약한 ID 개수 */
+    private long allocatedIds;
+    private long growCount;
+    private long shrinkCount;
+    /** 마지막 예약 시각 (epoch millis, 예약 전이면 null) */
+    private Long lastAllocatedAt;
+}
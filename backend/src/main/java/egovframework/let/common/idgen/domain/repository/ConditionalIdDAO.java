@@ -1,6 +1,7 @@
 package egovframework.let.common.idgen.domain.repository;
 
 import egovframework.let.common.idgen.domain.model.ConditionalIdKey;
+import egovframework.let.common.idgen.domain.model.DailySequenceBlock;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
@@ -10,4 +11,16 @@ public class ConditionalIdDAO extends EgovAbstractMapper {
     public Long nextConditionalId(ConditionalIdKey key) {
         return selectOne("ConditionalIdDAO.nextConditionalId", key);
     }
+
+    public Long reserveConditionalIds(ConditionalIdKey key) {
+        return selectOne("ConditionalIdDAO.reserveConditionalIds", key);
+    }
+
+    public Long selectDailySequenceSeed(DailySequenceBlock block) {
+        return selectOne("ConditionalIdDAO.selectDailySequenceSeed", block);
+    }
+
+    public Long reserveDailySequenceBlock(DailySequenceBlock block) {
+        return selectOne("ConditionalIdDAO.reserveDailySequenceBlock", block);
+    }
 }
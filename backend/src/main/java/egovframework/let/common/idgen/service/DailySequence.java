@@ -0,0 +1,42 @@
+package egovframework.let.common.idgen.service;
+
+/**
+ * 일자별 채번 대상 (접두어 + yyyyMMdd + 일련번호)
+ * 일련번호 자릿수는 기존 ID 형식과 같으며, 자릿수를 넘으면 자릿수가 늘어난다.
+ */
+public enum DailySequence {
+
+    /** 생산지시 TPR504ID (PO + yyyyMMdd + 0000) */
+    PROD_ORDER("TPR504", "PO", 4),
+
+    /** 생산실적 TPR601ID (PR + yyyyMMdd + 0000) */
+    PROD_RESULT("TPR601", "PR", 4),
+
+    /** 생산실적 작업자 TPR601WID (PRW + yyyyMMdd + 000) */
+    PROD_RESULT_WORKER("TPR601W", "PRW", 3),
+
+    /** 생산실적 불량 상세 TPR605ID (QC + yyyyMMdd + 0000) */
+    PROD_RESULT_BAD("TPR605", "QC", 4);
+
+    private final String tableName;
+    private final String prefix;
+    private final int width;
+
+    DailySequence(String tableName, String prefix, int width) {
+        this.tableName = tableName;
+        this.prefix = prefix;
+        this.width = width;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getPrefix() {
+        return prefix;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+}
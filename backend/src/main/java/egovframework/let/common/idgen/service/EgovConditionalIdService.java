@@ -1,6 +1,13 @@
 package egovframework.let.common.idgen.service;
 
+import java.util.List;
+
 public interface EgovConditionalIdService {
 
     String getNextStringId(String tableName, String condition1, String condition2, String prefix, int cipers, char fillChar) throws Exception;
+
+    /**
+     * 같은 조건의 ID를 count개 연속으로 예약한다 (DB 1회 갱신)
+     */
+    List<String> getNextStringIds(String tableName, String condition1, String condition2, String prefix, int cipers, char fillChar, int count) throws Exception;
 }
@@ -0,0 +1,20 @@
+package egovframework.let.common.idgen.service;
+
+import java.util.List;
+
+public interface EgovDailySequenceService {
+
+    /**
+     * 오늘 날짜 기준 다음 ID
+     * @param sequence 채번 대상
+     * @return 접두어 + yyyyMMdd + 일련번호
+     */
+    String nextId(DailySequence sequence) throws Exception;
+
+    /**
+     * 오늘 날짜 기준 다음 ID n개 (증가 순)
+     * @param sequence 채번 대상
+     * @param count 개수
+     */
+    List<String> nextIds(DailySequence sequence, int count) throws Exception;
+}
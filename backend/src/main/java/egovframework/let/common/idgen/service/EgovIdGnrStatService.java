@@ -0,0 +1,13 @@
+package egovframework.let.common.idgen.service;
+
+import egovframework.let.common.idgen.domain.model.IdGnrAllocationStat;
+
+import java.util.List;
+
+public interface EgovIdGnrStatService {
+
+    /**
+     * 테이블 ID 생성기별 블록 예약 통계 (예약 횟수 내림차순)
+     */
+    List<IdGnrAllocationStat> selectAllocationStats();
+}
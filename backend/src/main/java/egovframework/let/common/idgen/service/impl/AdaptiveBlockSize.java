@@ -0,0 +1,85 @@
+package egovframework.let.common.idgen.service.impl;
+
+/**
+ * 채번 블록 크기 조정 정책
+ * 직전 블록을 목표 간격의 절반보다 빨리 소진하면 블록을 두 배로 늘리고(최대값까지),
+ * 목표 간격의 IDLE_FACTOR배 이상 예약이 없었으면 유휴 구간마다 절반으로 줄인다(최소값까지).
+ * 호출자가 동기화한다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+final class AdaptiveBlockSize {
+
+    /** 유휴 판단 배수 (목표 간격 대비) */
+    static final int IDLE_FACTOR = 4;
+
+    private final int minSize;
+    private final int maxSize;
+    private final long targetIntervalMillis;
+
+    private int size;
+    private long lastAllocatedAt = -1;
+    private long growCount;
+    private long shrinkCount;
+
+    AdaptiveBlockSize(int minSize, int maxSize, long targetIntervalMillis) {
+        if (minSize < 1) {
+            throw new IllegalArgumentException("minSize must be greater than 0");
+        }
+        if (targetIntervalMillis < 1) {
+            throw new IllegalArgumentException("targetIntervalMillis must be greater than 0");
+        }
+        this.minSize = minSize;
+        this.maxSize = Math.max(minSize, maxSize);
+        this.targetIntervalMillis = targetIntervalMillis;
+        this.size = minSize;
+    }
+
+    /**
+     * 이번에 예약할 블록 크기
+     */
+    int next(long now) {
+        if (lastAllocatedAt >= 0) {
+            long elapsed = now - lastAllocatedAt;
+            long idleMillis = targetIntervalMillis * IDLE_FACTOR;
+            if (elapsed < targetIntervalMillis / 2 && size < maxSize) {
+                size = (int) Math.min((long) size * 2, maxSize);
+                growCount++;
+            } else if (elapsed >= idleMillis && size > minSize) {
+                long halvings = Math.min(elapsed / idleMillis, 31);
+                size = Math.max(minSize, size >> halvings);
+                shrinkCount++;
+            }
+        }
+        return size;
+    }
+
+    /**
+     * 예약 성공 시 호출
+     */
+    void allocated(long now) {
+        lastAllocatedAt = now;
+    }
+
+    int size() {
+        return size;
+    }
+
+    int minSize() {
+        return minSize;
+    }
+
+    int maxSize() {
+        return maxSize;
+    }
+
+    long growCount() {
+        return growCount;
+    }
+
+    long shrinkCount() {
+        return shrinkCount;
+    }
+}
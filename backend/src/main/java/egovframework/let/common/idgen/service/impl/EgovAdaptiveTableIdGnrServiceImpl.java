@@ -0,0 +1,152 @@
+package egovframework.let.common.idgen.service.impl;
+
+import egovframework.let.common.idgen.domain.model.IdGnrAllocationStat;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.rte.fdl.cmmn.exception.FdlException;
+import org.egovframe.rte.fdl.idgnr.impl.EgovTableIdGnrServiceImpl;
+
+import java.math.BigDecimal;
+import java.util.function.LongSupplier;
+
+/**
+ * 블록 크기 자동 조정 테이블 ID 생성기
+ * 설정한 blockSize를 최소값으로 사용하고, 호출 빈도에 따라 블록 크기를 maxBlockSize까지 늘리거나 유휴 시 줄여
+ * 자주 쓰는 생성기가 IDS 테이블 행 잠금을 잡는 횟수를 줄인다.
+ * 블록 크기는 이전 블록을 모두 소진하여 새 블록을 예약하는 시점에만 바꾸므로 발급 중인 블록 범위를 벗어나지 않는다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+public class EgovAdaptiveTableIdGnrServiceImpl extends EgovTableIdGnrServiceImpl {
+
+    public static final int DEFAULT_MAX_BLOCK_SIZE = 100;
+
+    public static final long DEFAULT_TARGET_INTERVAL_MILLIS = 5000L;
+
+    private final LongSupplier clock;
+
+    private int maxBlockSize = DEFAULT_MAX_BLOCK_SIZE;
+    private long targetIntervalMillis = DEFAULT_TARGET_INTERVAL_MILLIS;
+
+    private String table;
+    private String tableName;
+
+    private AdaptiveBlockSize policy;
+    private long allocations;
+    private long allocatedIds;
+    private long lastAllocatedAt = -1;
+
+    public EgovAdaptiveTableIdGnrServiceImpl() {
+        this(System::currentTimeMillis);
+    }
+
+    EgovAdaptiveTableIdGnrServiceImpl(LongSupplier clock) {
+        this.clock = clock;
+    }
+
+    @Override
+    public synchronized void setBlockSize(int blockSize) {
+        super.setBlockSize(blockSize);
+        this.policy = new AdaptiveBlockSize(blockSize, maxBlockSize, targetIntervalMillis);
+    }
+
+    public synchronized void setMaxBlockSize(int maxBlockSize) {
+        this.maxBlockSize = maxBlockSize;
+        if (policy != null) {
+            policy = new AdaptiveBlockSize(policy.minSize(), maxBlockSize, targetIntervalMillis);
+        }
+    }
+
+    public synchronized void setTargetIntervalMillis(long targetIntervalMillis) {
+        this.targetIntervalMillis = targetIntervalMillis;
+        if (policy != null) {
+            policy = new AdaptiveBlockSize(policy.minSize(), maxBlockSize, targetIntervalMillis);
+        }
+    }
+
+    @Override
+    public void setTable(String table) {
+        super.setTable(table);
+        this.table = table;
+    }
+
+    @Override
+    public void setTableName(String tableName) {
+        super.setTableName(tableName);
+        this.tableName = tableName;
+    }
+
+    @Override
+    protected synchronized long allocateLongIdBlock(int blockSize) throws FdlException {
+        int size = resize(blockSize);
+        try {
+            long first = super.allocateLongIdBlock(size);
+            allocated(size);
+            return first;
+        } catch (FdlException | RuntimeException e) {
+            super.setBlockSize(blockSize);
+            throw e;
+        }
+    }
+
+    @Override
+    protected synchronized BigDecimal allocateBigDecimalIdBlock(int blockSize) throws FdlException {
+        int size = resize(blockSize);
+        try {
+            BigDecimal first = super.allocateBigDecimalIdBlock(size);
+            allocated(size);
+            return first;
+        } catch (FdlException | RuntimeException e) {
+            super.setBlockSize(blockSize);
+            throw e;
+        }
+    }
+
+    /**
+     * 이번 블록 크기를 정하고 상위 클래스의 블록 경계에도 반영한다.
+     * 예약 실패 시에는 호출 시점의 블록 크기로 되돌려 다음 호출에서 다시 예약하게 한다.
+     */
+    private int resize(int current) {
+        if (policy == null) {
+            return current;
+        }
+        int size = policy.next(clock.getAsLong());
+        if (size != current) {
+            super.setBlockSize(size);
+            log.debug("채번 블록 크기 변경: {}.{} {} -> {}", table, tableName, current, size);
+        }
+        return size;
+    }
+
+    private void allocated(int size) {
+        long now = clock.getAsLong();
+        if (policy != null) {
+            policy.allocated(now);
+        }
+        allocations++;
+        allocatedIds += size;
+        lastAllocatedAt = now;
+    }
+
+    /**
+     * 블록 예약 통계
+     */
+    public synchronized IdGnrAllocationStat getAllocationStat() {
+        IdGnrAllocationStat stat = new IdGnrAllocationStat();
+        stat.setTable(table);
+        stat.setTableName(tableName);
+        if (policy != null) {
+            stat.setBlockSize(policy.size());
+            stat.setMinBlockSize(policy.minSize());
+            stat.setMaxBlockSize(policy.maxSize());
+            stat.setGrowCount(policy.growCount());
+            stat.setShrinkCount(policy.shrinkCount());
+        }
+        stat.setAllocations(allocations);
+        stat.setAllocatedIds(allocatedIds);
+        stat.setLastAllocatedAt(lastAllocatedAt >= 0 ? lastAllocatedAt : null);
+        return stat;
+    }
+}
@@ -3,42 +3,163 @@ package egovframework.let.common.idgen.service.impl;
 import egovframework.let.common.idgen.domain.model.ConditionalIdKey;
 import egovframework.let.common.idgen.domain.repository.ConditionalIdDAO;
 import egovframework.let.common.idgen.service.EgovConditionalIdService;
-import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.util.StringUtils;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 조건별 채번 서비스
+ * 기본은 호출 트랜잭션 안에서 IDS2를 갱신하여 롤백 시 번호도 함께 되돌린다.
+ * Globals.idgen.conditional.cacheTables에 지정한 테이블은 (테이블, 조건1, 조건2)별 블록을
+ * 별도 트랜잭션으로 예약하여 메모리에서 발급하므로, 블록마다 DB를 한 번만 갱신하는 대신 빈 번호가 생길 수 있다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
 @Service("egovConditionalIdService")
-@RequiredArgsConstructor
 public class EgovConditionalIdServiceImpl implements EgovConditionalIdService {
 
     private static final String NONE_TOKEN = "__NONE__";
     private static final int TABLE_NAME_MAX_LENGTH = 30;
     private static final int CONDITION_MAX_LENGTH = 50;
 
+    /** 블록 캐시 최대 조건 수 (초과 시 비우고 다시 예약) */
+    private static final int MAX_CACHED_KEYS = 10000;
+
+    private static final char KEY_SEPARATOR = '\u001f';
+
     private final ConditionalIdDAO conditionalIdDAO;
 
+    private final TransactionTemplate reserveTransaction;
+
+    private final int blockSize;
+
+    private final Set<String> cacheTables;
+
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    /**
+     * 조건별 예약 블록 [next, end]
+     */
+    private static final class Block {
+        private long next = 1;
+        private long end = 0;
+    }
+
+    public EgovConditionalIdServiceImpl(ConditionalIdDAO conditionalIdDAO,
+                                        PlatformTransactionManager txManager,
+                                        @Value("${Globals.idgen.conditional.blockSize:20}") int blockSize,
+                                        @Value("${Globals.idgen.conditional.cacheTables:}") String cacheTables) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be greater than 0");
+        }
+        this.conditionalIdDAO = conditionalIdDAO;
+        this.reserveTransaction = new TransactionTemplate(txManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        this.cacheTables = parseTables(cacheTables);
+    }
+
     @Override
     @Transactional
     public String getNextStringId(String tableName, String condition1, String condition2, String prefix, int cipers, char fillChar) throws Exception {
+        return getNextStringIds(tableName, condition1, condition2, prefix, cipers, fillChar, 1).get(0);
+    }
+
+    @Override
+    @Transactional
+    public List<String> getNextStringIds(String tableName, String condition1, String condition2, String prefix, int cipers, char fillChar, int count) throws Exception {
         if (!StringUtils.hasText(tableName)) {
             throw new IllegalArgumentException("tableName must not be empty");
         }
         if (cipers < 0) {
             throw new IllegalArgumentException("cipers must be greater than or equal to 0");
         }
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be greater than 0");
+        }
 
         ConditionalIdKey key = new ConditionalIdKey();
         key.setTableName(validateLength(tableName.trim(), TABLE_NAME_MAX_LENGTH, "tableName"));
         key.setCondition1(normalizeCondition(condition1));
         key.setCondition2(normalizeCondition(condition2));
 
-        Long nextId = conditionalIdDAO.nextConditionalId(key);
-        if (nextId == null) {
+        List<String> ids = new ArrayList<>(count);
+        if (cacheTables.contains(key.getTableName())) {
+            takeFromBlock(key, count, prefix, cipers, fillChar, ids);
+            return ids;
+        }
+
+        long last = reserve(key, count);
+        for (long value = last - count + 1; value <= last; value++) {
+            ids.add(buildId(prefix, value, cipers, fillChar));
+        }
+        return ids;
+    }
+
+    /**
+     * 메모리 블록에서 발급하고, 부족하면 남은 개수와 블록 크기 중 큰 만큼 별도 트랜잭션으로 예약한다.
+     * 예약은 즉시 커밋되므로 호출 트랜잭션이 롤백되어도 같은 번호가 다시 발급되지 않는다.
+     */
+    private void takeFromBlock(ConditionalIdKey key, int count, String prefix, int cipers, char fillChar, List<String> ids) {
+        String cacheKey = key.getTableName() + KEY_SEPARATOR + key.getCondition1() + KEY_SEPARATOR + key.getCondition2();
+        if (blocks.size() >= MAX_CACHED_KEYS && !blocks.containsKey(cacheKey)) {
+            blocks.clear();
+        }
+        Block block = blocks.computeIfAbsent(cacheKey, k -> new Block());
+
+        synchronized (block) {
+            while (ids.size() < count) {
+                if (block.next > block.end) {
+                    long size = Math.max(blockSize, count - ids.size());
+                    Long last = reserveTransaction.execute(status -> reserve(key, size));
+                    block.next = last - size + 1;
+                    block.end = last;
+                    log.debug("조건별 채번 블록 예약: {} {} {} [{} ~ {}]",
+                            key.getTableName(), key.getCondition1(), key.getCondition2(), block.next, block.end);
+                }
+                ids.add(buildId(prefix, block.next++, cipers, fillChar));
+            }
+        }
+    }
+
+    private long reserve(ConditionalIdKey key, long count) {
+        key.setCount(count);
+        Long last = count == 1
+                ? conditionalIdDAO.nextConditionalId(key)
+                : conditionalIdDAO.reserveConditionalIds(key);
+        if (last == null) {
             throw new IllegalStateException("Failed to generate conditional id");
         }
+        return last;
+    }
 
-        return buildId(prefix, nextId, cipers, fillChar);
+    private static Set<String> parseTables(String tables) {
+        if (!StringUtils.hasText(tables)) {
+            return Collections.emptySet();
+        }
+        Set<String> parsed = new HashSet<>();
+        for (String table : tables.split(",")) {
+            if (StringUtils.hasText(table)) {
+                parsed.add(table.trim());
+            }
+        }
+        return Collections.unmodifiableSet(parsed);
     }
 
     private String normalizeCondition(String condition) {
@@ -0,0 +1,150 @@
+package egovframework.let.common.idgen.service.impl;
+
+import egovframework.let.common.idgen.domain.model.DailySequenceBlock;
+import egovframework.let.common.idgen.domain.repository.ConditionalIdDAO;
+import egovframework.let.common.idgen.service.DailySequence;
+import egovframework.let.common.idgen.service.EgovDailySequenceService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 일자별 채번 서비스
+ * 접두어/일자별 카운터를 IDS2에서 블록 단위로 예약하고 메모리에서 발급하여,
+ * ID마다 대상 테이블을 MAX 조회하던 방식의 경합/스캔을 없앤다.
+ * 블록 예약은 별도 트랜잭션으로 즉시 커밋하므로 IDS2 행 잠금을 호출 트랜잭션 동안 잡지 않는다.
+ * 서버 재시작 시 사용하지 않은 블록 잔여분은 건너뛰므로 일련번호에 빈 번호가 생길 수 있다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Service("egovDailySequenceService")
+public class EgovDailySequenceServiceImpl implements EgovDailySequenceService {
+
+    /** 일련번호 최대 자릿수 (ID 컬럼 NVARCHAR(20) - 접두어 3 - 일자 8) */
+    private static final int MAX_WIDTH = 9;
+
+    private static final DateTimeFormatter SEQ_DATE_FORMAT = DateTimeFormatter.BASIC_ISO_DATE;
+
+    private final ConditionalIdDAO conditionalIdDAO;
+
+    private final TransactionTemplate reserveTransaction;
+
+    private final int blockSize;
+
+    private final int wideWidth;
+
+    private final Map<DailySequence, Counter> counters = new EnumMap<>(DailySequence.class);
+
+    /**
+     * 채번 대상별 메모리 카운터 (예약된 블록 [next, end])
+     */
+    private static final class Counter {
+        private String seqDate;
+        private boolean seeded;
+        private long next;
+        private long end;
+    }
+
+    public EgovDailySequenceServiceImpl(ConditionalIdDAO conditionalIdDAO,
+                                        PlatformTransactionManager txManager,
+                                        @Value("${Globals.idgen.daily.blockSize:20}") int blockSize,
+                                        @Value("${Globals.idgen.daily.wideWidth:0}") int wideWidth) {
+        if (blockSize < 1) {
+            throw new IllegalArgumentException("blockSize must be greater than 0");
+        }
+        if (wideWidth < 0 || wideWidth > MAX_WIDTH) {
+            throw new IllegalArgumentException("wideWidth must be between 0 and " + MAX_WIDTH);
+        }
+        this.conditionalIdDAO = conditionalIdDAO;
+        this.reserveTransaction = new TransactionTemplate(txManager);
+        this.reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.blockSize = blockSize;
+        this.wideWidth = wideWidth;
+        for (DailySequence sequence : DailySequence.values()) {
+            counters.put(sequence, new Counter());
+        }
+    }
+
+    @Override
+    public String nextId(DailySequence sequence) throws Exception {
+        return nextIds(sequence, 1).get(0);
+    }
+
+    @Override
+    public List<String> nextIds(DailySequence sequence, int count) throws Exception {
+        if (count < 1) {
+            throw new IllegalArgumentException("count must be greater than 0");
+        }
+        String seqDate = LocalDate.now().format(SEQ_DATE_FORMAT);
+        Counter counter = counters.get(sequence);
+        List<String> ids = new ArrayList<>(count);
+
+        synchronized (counter) {
+            if (!seqDate.equals(counter.seqDate)) {
+                // 일자가 바뀌면 새 카운터로 시작 (이전 일자 블록 잔여분은 사용하지 않음)
+                counter.seqDate = seqDate;
+                counter.seeded = false;
+                counter.next = 1;
+                counter.end = 0;
+            }
+            while (ids.size() < count) {
+                if (counter.next > counter.end) {
+                    reserve(sequence, counter, Math.max(blockSize, count - ids.size()));
+                }
+                ids.add(format(sequence, seqDate, counter.next++));
+            }
+        }
+        return ids;
+    }
+
+    /**
+     * IDS2에서 다음 블록을 예약한다.
+     * 일자 첫 블록은 대상 테이블에 이미 발급된 최대 일련번호 이후부터 예약한다.
+     */
+    private void reserve(DailySequence sequence, Counter counter, int size) {
+        boolean seedFromTable = !counter.seeded;
+        DailySequenceBlock block = new DailySequenceBlock();
+        block.setTableName(sequence.getTableName());
+        block.setPrefix(sequence.getPrefix());
+        block.setSeqDate(counter.seqDate);
+        block.setBlockSize(size);
+
+        Long last = reserveTransaction.execute(status -> {
+            if (seedFromTable) {
+                Long seed = conditionalIdDAO.selectDailySequenceSeed(block);
+                block.setSeed(seed != null ? seed : 0L);
+            }
+            return conditionalIdDAO.reserveDailySequenceBlock(block);
+        });
+        if (last == null) {
+            throw new IllegalStateException("Failed to reserve daily sequence block: " + sequence);
+        }
+        counter.seeded = true;
+        counter.next = last - size + 1;
+        counter.end = last;
+        log.debug("일자별 채번 블록 예약: {} {} [{} ~ {}]", sequence, counter.seqDate, counter.next, counter.end);
+    }
+
+    private String format(DailySequence sequence, String seqDate, long value) {
+        int width = Math.max(sequence.getWidth(), wideWidth);
+        String number = String.valueOf(value);
+        StringBuilder builder = new StringBuilder(sequence.getPrefix()).append(seqDate);
+        for (int i = number.length(); i < width; i++) {
+            builder.append('0');
+        }
+        return builder.append(number).toString();
+    }
+}
@@ -0,0 +1,46 @@
+package egovframework.let.common.idgen.service.impl;
+
+import egovframework.let.common.idgen.domain.model.IdGnrAllocationStat;
+import egovframework.let.common.idgen.service.EgovIdGnrStatService;
+import lombok.RequiredArgsConstructor;
+import org.egovframe.rte.fdl.idgnr.impl.EgovTableIdGnrServiceImpl;
+import org.springframework.context.ApplicationContext;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 테이블 ID 생성기 통계 서비스 구현체
+ * 등록된 EgovAdaptiveTableIdGnrServiceImpl 빈의 블록 예약 통계를 모아 자주 쓰는 생성기를 확인한다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Service("egovIdGnrStatService")
+@RequiredArgsConstructor
+public class EgovIdGnrStatServiceImpl implements EgovIdGnrStatService {
+
+    private final ApplicationContext applicationContext;
+
+    @Override
+    public List<IdGnrAllocationStat> selectAllocationStats() {
+        Map<String, EgovTableIdGnrServiceImpl> generators =
+                applicationContext.getBeansOfType(EgovTableIdGnrServiceImpl.class);
+
+        List<IdGnrAllocationStat> stats = new ArrayList<>();
+        for (Map.Entry<String, EgovTableIdGnrServiceImpl> entry : generators.entrySet()) {
+            if (entry.getValue() instanceof EgovAdaptiveTableIdGnrServiceImpl) {
+                IdGnrAllocationStat stat = ((EgovAdaptiveTableIdGnrServiceImpl) entry.getValue()).getAllocationStat();
+                stat.setGeneratorName(entry.getKey());
+                stats.add(stat);
+            }
+        }
+        stats.sort(Comparator.comparingLong(IdGnrAllocationStat::getAllocations).reversed()
+                .thenComparing(IdGnrAllocationStat::getGeneratorName));
+        return stats;
+    }
+}
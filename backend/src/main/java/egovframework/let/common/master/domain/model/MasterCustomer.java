@@ -0,0 +1,16 @@
+package egovframework.let.common.master.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기준정보 캐시 - 거래처 (TCO601)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterCustomer {
+    private String customerCode;
+    private String customerName;
+}
@@ -0,0 +1,18 @@
+package egovframework.let.common.master.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기준정보 캐시 - 설비 (TPR151)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterEquipment {
+    private String equipSysCd;
+    private String equipCd;
+    private String equipmentName;
+    private String equipSpec;
+}
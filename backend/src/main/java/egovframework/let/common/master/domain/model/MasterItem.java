@@ -0,0 +1,21 @@
+package egovframework.let.common.master.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기준정보 캐시 - 품목 (TCO403)
+ * 캐시 행은 여러 요청이 함께 쓰므로 setter를 두지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterItem {
+    private String itemId;
+    private String itemCode;
+    private String itemName;
+    private String itemSpec;
+    private String itemType;
+    private String unit;
+}
@@ -0,0 +1,31 @@
+package egovframework.let.common.master.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기준정보 캐시 - 공정 (TPR102)
+ * 공정코드는 공장별로 정의되므로 공장코드 + 공정코드로 찾는다. ({@link #key})
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterProcess {
+    private String factoryCode;
+    private String workCode;
+    private String workName;
+    private String erpProcessMapping;
+    private String equipmentIntegrationYn;
+
+    /**
+     * 캐시 키 (공장코드|공정코드), 둘 중 하나라도 없으면 null
+     */
+    public static String key(String factoryCode, String workCode) {
+        return factoryCode != null && workCode != null ? factoryCode + "|" + workCode : null;
+    }
+
+    public String getKey() {
+        return key(factoryCode, workCode);
+    }
+}
@@ -0,0 +1,60 @@
+package egovframework.let.common.master.domain.model;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 기준정보 캐시 대상 테이블
+ * 테이블별 조회 SQL과 캐시 키(조인에 쓰는 코드 컬럼)를 정의한다.
+ *
+ * @param <T> 캐시 행 타입
+ */
+public final class MasterTable<T> {
+
+    public static final MasterTable<MasterItem> ITEM =
+            new MasterTable<>("TCO403", "MasterDataDAO.selectItems", MasterItem::getItemId);
+    public static final MasterTable<MasterProcess> PROCESS =
+            new MasterTable<>("TPR102", "MasterDataDAO.selectProcesses", MasterProcess::getKey);
+    public static final MasterTable<MasterEquipment> EQUIPMENT =
+            new MasterTable<>("TPR151", "MasterDataDAO.selectEquipments", MasterEquipment::getEquipSysCd);
+    public static final MasterTable<MasterWorkcenter> WORKCENTER =
+            new MasterTable<>("TPR101", "MasterDataDAO.selectWorkcenters", MasterWorkcenter::getWorkcenterCode);
+    public static final MasterTable<MasterCustomer> CUSTOMER =
+            new MasterTable<>("TCO601", "MasterDataDAO.selectCustomers", MasterCustomer::getCustomerCode);
+
+    private static final List<MasterTable<?>> VALUES =
+            Collections.unmodifiableList(Arrays.asList(ITEM, PROCESS, EQUIPMENT, WORKCENTER, CUSTOMER));
+
+    private final String tableName;
+    private final String statementId;
+    private final Function<T, String> keyOf;
+
+    private MasterTable(String tableName, String statementId, Function<T, String> keyOf) {
+        this.tableName = tableName;
+        this.statementId = statementId;
+        this.keyOf = keyOf;
+    }
+
+    public static List<MasterTable<?>> values() {
+        return VALUES;
+    }
+
+    public String getTableName() {
+        return tableName;
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public String keyOf(T row) {
+        return keyOf.apply(row);
+    }
+
+    @Override
+    public String toString() {
+        return tableName;
+    }
+}
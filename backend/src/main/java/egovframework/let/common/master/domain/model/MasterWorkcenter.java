@@ -0,0 +1,17 @@
+package egovframework.let.common.master.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기준정보 캐시 - 작업장 (TPR101)
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class MasterWorkcenter {
+    private String workcenterCode;
+    private String workcenterName;
+    private String erpWorkplaceMapping;
+}
@@ -0,0 +1,26 @@
+package egovframework.let.common.master.domain.repository;
+
+import egovframework.let.common.master.domain.model.MasterTable;
+import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository("MasterDataDAO")
+public class MasterDataDAO extends EgovAbstractMapper {
+
+    /**
+     * 기준정보 테이블 전체 조회 (캐시 적재)
+     */
+    public <T> List<T> selectAll(MasterTable<T> table) {
+        return selectList(table.getStatementId());
+    }
+
+    /**
+     * 기준정보 테이블 키 목록 조회 (캐시에 없는 키 보충)
+     * @param keys 2100개 제한을 넘지 않도록 나눈 키 목록
+     */
+    public <T> List<T> selectByKeys(MasterTable<T> table, List<String> keys) {
+        return selectList(table.getStatementId(), keys);
+    }
+}
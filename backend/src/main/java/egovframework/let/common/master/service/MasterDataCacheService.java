@@ -0,0 +1,38 @@
+package egovframework.let.common.master.service;
+
+import egovframework.let.common.master.domain.model.MasterTable;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * 기준정보(품목/공정/설비/작업장/거래처) 메모리 캐시 서비스
+ * 조회 결과 행에 코드명/규격을 붙이기 위한 반복 조인과 단건 조회를 대신한다.
+ * 테이블 단위로 전체를 한 번에 적재하고, 저장/연동이 갱신을 알리면 다음 조회 때 다시 적재한다.
+ */
+public interface MasterDataCacheService {
+
+    /**
+     * 키 목록에 해당하는 기준정보를 한 번에 조회한다 (캐시에 없는 키만 DB에서 보충).
+     * @param table 대상 테이블
+     * @param keys 조회 키 (null/중복 허용)
+     * @return 키별 행 (없는 키는 포함하지 않음)
+     */
+    <T> Map<String, T> getAll(MasterTable<T> table, Collection<String> keys) throws Exception;
+
+    /**
+     * 키 하나에 해당하는 기준정보를 조회한다.
+     * @return 행, 없으면 null
+     */
+    <T> T get(MasterTable<T> table, String key) throws Exception;
+
+    /**
+     * 테이블이 변경되었음을 알린다 (트랜잭션 커밋 후 다음 조회 시 전체 재적재).
+     */
+    void refresh(MasterTable<?> table);
+
+    /**
+     * 모든 대상 테이블을 미리 적재한다 (서버 기동 완료 시).
+     */
+    void preload();
+}
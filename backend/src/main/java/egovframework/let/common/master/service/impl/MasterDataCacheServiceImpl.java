@@ -0,0 +1,208 @@
+package egovframework.let.common.master.service.impl;
+
+import egovframework.com.cmm.util.EgovTransactionHelper;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.domain.repository.MasterDataDAO;
+import egovframework.let.common.master.service.MasterDataCacheService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 기준정보 메모리 캐시 서비스 구현체
+ * <ul>
+ *   <li>테이블별로 전체 행을 한 번에 읽어 키별 불변 Map으로 보관하고, 조회는 잠금 없이 현재 스냅샷을 쓴다.</li>
+ *   <li>저장/연동이 refresh를 부르면 테이블 버전을 올리고(트랜잭션이면 커밋 후), 다음 조회에서 전체를 다시 적재한다.
+ *       다른 서버나 DB 직접 수정분은 MAX_AGE_MILLIS가 지나면 다시 적재하여 반영한다.</li>
+ *   <li>스냅샷에 없는 키는 IN 조회로 보충하여 스냅샷에 더하고, DB에도 없던 키는 다음 재적재까지 다시 조회하지 않는다.</li>
+ * </ul>
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Service("masterDataCacheService")
+@RequiredArgsConstructor
+public class MasterDataCacheServiceImpl extends EgovAbstractServiceImpl implements MasterDataCacheService {
+
+    /** 스냅샷 최대 유지 시간 (다른 서버/DB 직접 수정 반영 주기) */
+    static final long MAX_AGE_MILLIS = 10 * 60 * 1000L;
+
+    /** IN 절 묶음 크기 (SQL Server 파라미터 2100개 제한) */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final MasterDataDAO masterDataDAO;
+
+    private final Map<MasterTable<?>, Holder<?>> holders = new ConcurrentHashMap<>();
+
+    @Override
+    public <T> Map<String, T> getAll(MasterTable<T> table, Collection<String> keys) throws Exception {
+        Map<String, T> result = new HashMap<>();
+        if (keys == null || keys.isEmpty()) {
+            return result;
+        }
+
+        Holder<T> holder = holder(table);
+        Snapshot<T> snapshot = current(table, holder);
+
+        Set<String> missing = new LinkedHashSet<>();
+        for (String key : keys) {
+            if (key == null || key.isEmpty()) {
+                continue;
+            }
+            T row = snapshot.rows.get(key);
+            if (row != null) {
+                result.put(key, row);
+            } else if (!snapshot.absent.contains(key)) {
+                missing.add(key);
+            }
+        }
+
+        if (!missing.isEmpty()) {
+            result.putAll(fill(table, holder, snapshot, new ArrayList<>(missing)));
+        }
+        return result;
+    }
+
+    @Override
+    public <T> T get(MasterTable<T> table, String key) throws Exception {
+        return getAll(table, Collections.singletonList(key)).get(key);
+    }
+
+    @Override
+    public void refresh(MasterTable<?> table) {
+        Holder<?> holder = holder(table);
+        EgovTransactionHelper.afterCommit(holder.refreshSeq::incrementAndGet);
+    }
+
+    @Override
+    @EventListener(ApplicationReadyEvent.class)
+    public void preload() {
+        for (MasterTable<?> table : MasterTable.values()) {
+            try {
+                current(table, holder(table));
+            } catch (Exception e) {
+                // 기동은 계속하고 첫 조회 때 다시 적재
+                log.warn("기준정보 캐시 미리 적재 실패: {} - {}", table, e.getMessage());
+            }
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> Holder<T> holder(MasterTable<T> table) {
+        return (Holder<T>) holders.computeIfAbsent(table, key -> new Holder<>());
+    }
+
+    private <T> Snapshot<T> current(MasterTable<T> table, Holder<T> holder) throws Exception {
+        Snapshot<T> current = holder.snapshot;
+        if (isFresh(current, holder)) {
+            return current;
+        }
+
+        synchronized (holder) {
+            current = holder.snapshot;
+            if (isFresh(current, holder)) {
+                return current;
+            }
+            long seq = holder.refreshSeq.get();
+            try {
+                holder.snapshot = load(table, seq);
+            } catch (Exception e) {
+                if (current == null) {
+                    throw e;
+                }
+                // 다시 적재하지 못하면 기존 스냅샷으로 응답하고 다음 조회에서 재시도
+                log.warn("기준정보 캐시 재적재 실패, 기존 값 사용: {} - {}", table, e.getMessage());
+                return current;
+            }
+            return holder.snapshot;
+        }
+    }
+
+    private static boolean isFresh(Snapshot<?> snapshot, Holder<?> holder) {
+        return snapshot != null
+                && snapshot.seq == holder.refreshSeq.get()
+                && System.currentTimeMillis() - snapshot.loadedAt < MAX_AGE_MILLIS;
+    }
+
+    private <T> Snapshot<T> load(MasterTable<T> table, long seq) throws Exception {
+        long startTime = System.currentTimeMillis();
+        Map<String, T> rows = new HashMap<>();
+        for (T row : masterDataDAO.selectAll(table)) {
+            String key = table.keyOf(row);
+            if (key != null) {
+                rows.put(key, row);
+            }
+        }
+        log.info("기준정보 캐시 적재 완료: {} {}건, {}ms", table, rows.size(), System.currentTimeMillis() - startTime);
+        return new Snapshot<>(Collections.unmodifiableMap(rows), ConcurrentHashMap.newKeySet(), seq, startTime);
+    }
+
+    /**
+     * 스냅샷에 없는 키를 DB에서 읽어 스냅샷에 더한다 (읽는 동안 스냅샷이 바뀌었으면 결과만 돌려준다).
+     */
+    private <T> Map<String, T> fill(MasterTable<T> table, Holder<T> holder, Snapshot<T> snapshot, List<String> keys) throws Exception {
+        Map<String, T> found = new LinkedHashMap<>();
+        for (int from = 0; from < keys.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + IN_CHUNK_SIZE, keys.size()));
+            for (T row : masterDataDAO.selectByKeys(table, chunk)) {
+                String key = table.keyOf(row);
+                if (key != null) {
+                    found.put(key, row);
+                }
+            }
+        }
+
+        synchronized (holder) {
+            if (holder.snapshot == snapshot && snapshot.seq == holder.refreshSeq.get()) {
+                for (String key : keys) {
+                    if (!found.containsKey(key)) {
+                        snapshot.absent.add(key);
+                    }
+                }
+                if (!found.isEmpty()) {
+                    Map<String, T> rows = new HashMap<>(snapshot.rows);
+                    rows.putAll(found);
+                    holder.snapshot = new Snapshot<>(Collections.unmodifiableMap(rows), snapshot.absent, snapshot.seq, snapshot.loadedAt);
+                }
+            }
+        }
+        log.debug("기준정보 캐시 보충: {} 요청 {}건, 조회 {}건", table, keys.size(), found.size());
+        return found;
+    }
+
+    private static final class Holder<T> {
+        private final AtomicLong refreshSeq = new AtomicLong();
+        private volatile Snapshot<T> snapshot;
+    }
+
+    private static final class Snapshot<T> {
+        private final Map<String, T> rows;
+        private final Set<String> absent;
+        private final long seq;
+        private final long loadedAt;
+
+        private Snapshot(Map<String, T> rows, Set<String> absent, long seq, long loadedAt) {
+            this.rows = rows;
+            this.absent = absent;
+            this.seq = seq;
+            this.loadedAt = loadedAt;
+        }
+    }
+}
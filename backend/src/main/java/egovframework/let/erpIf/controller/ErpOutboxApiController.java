@@ -0,0 +1,113 @@
+package egovframework.let.erpIf.controller;
+
+import egovframework.com.cmm.ResponseCode;
+import egovframework.com.cmm.service.ResultVO;
+import egovframework.com.cmm.util.ResultVoHelper;
+import egovframework.let.erpIf.domain.model.ErpOutboxRetryDto;
+import egovframework.let.erpIf.service.ErpOutboxService;
+import egovframework.let.erpIf.service.ErpOutboxType;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ERP 인터페이스 아웃박스 상태 API 컨트롤러
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/erp-outbox")
+@Tag(name = "ErpOutboxApiController", description = "ERP 인터페이스 전송 상태")
+public class ErpOutboxApiController {
+
+    private static final int MAX_FAILED_LIMIT = 1000;
+
+    private final ResultVoHelper resultVoHelper;
+
+    private final ErpOutboxService erpOutboxService;
+
+    /**
+     * 대기/실패 건수와 최근 실패 목록 조회
+     */
+    @Operation(
+            summary = "ERP 인터페이스 전송 상태 조회",
+            description = "유형(작업지시/작업실적)·상태별 미전송 건수와 최근 전송 실패 목록을 조회합니다.",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"ErpOutboxApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @GetMapping("/status")
+    public ResultVO selectOutboxStatus(
+            @RequestParam(value = "failedLimit", defaultValue = "100") int failedLimit
+    ) throws Exception {
+        int limit = Math.max(1, Math.min(failedLimit, MAX_FAILED_LIMIT));
+        return resultVoHelper.buildFromMap(erpOutboxService.selectOutboxStatus(limit), ResponseCode.SUCCESS);
+    }
+
+    /**
+     * 전송 실패(FAILED) 건 재처리
+     */
+    @Operation(
+            summary = "ERP 인터페이스 전송 실패 재처리",
+            description = "FAILED 상태의 전송 건을 재시도 대기로 되돌립니다. 조건을 비우면 전체를 재처리합니다.",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"ErpOutboxApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @PostMapping("/retry")
+    public ResultVO retryFailed(@RequestBody ErpOutboxRetryDto dto) throws Exception {
+        ErpOutboxType type = dto.getMsgType() == null || dto.getMsgType().isEmpty()
+                ? null
+                : ErpOutboxType.valueOf(dto.getMsgType());
+
+        int requeued = erpOutboxService.requeueFailed(type, dto.getMesIfKeys(), dto.getOutboxIds());
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("requeued", requeued);
+        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+    }
+
+    /**
+     * 병합 대기 중인 건 즉시 전송
+     */
+    @Operation(
+            summary = "ERP 인터페이스 병합 대기 건 즉시 전송",
+            description = "작업실적 수정 병합을 위해 전송을 미루고 있는 건을 바로 전송합니다. 유형을 비우면 전체를 전송합니다.",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"ErpOutboxApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @PostMapping("/flush")
+    public ResultVO flush(@RequestParam(value = "msgType", required = false) String msgType) throws Exception {
+        ErpOutboxType type = msgType == null || msgType.isEmpty() ? null : ErpOutboxType.valueOf(msgType);
+
+        int released = erpOutboxService.flush(type);
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("released", released);
+        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+    }
+}
@@ -0,0 +1,14 @@
+package egovframework.let.erpIf.domain.model;
+
+import lombok.Data;
+
+/**
+ * ERP IF 테이블의 MESIFKey/WorkingTag별 행 수
+ */
+@Data
+public class ErpIfKeyCount {
+
+    private String mesIfKey;
+    private String workingTag;
+    private int cnt;
+}
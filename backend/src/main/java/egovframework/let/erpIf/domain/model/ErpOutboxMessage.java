@@ -0,0 +1,31 @@
+package egovframework.let.erpIf.domain.model;
+
+import lombok.Data;
+
+/**
+ * ERP 인터페이스 아웃박스(MES_ERP_OUTBOX) 메시지
+ */
+@Data
+public class ErpOutboxMessage {
+
+    private Long outboxId;
+    /** 메시지 유형 (PROD_ORDER/PROD_RESULT) */
+    private String msgType;
+    private String mesIfKey;
+    /** A: 추가, D: 삭제 */
+    private String workingTag;
+    /** ERP IF DTO(JSON) */
+    private String payload;
+    /** PENDING/SENDING/SENT/FAILED */
+    private String status;
+    private int retryCnt;
+    /** 첫 전송 시 기대하는 ERP IF 테이블 행 수 (재시도 시 중복 전송 판정) */
+    private Integer expectCnt;
+    private String nextTryDtm;
+    private String lastError;
+    private String regDtm;
+    private String sentDtm;
+
+    /** 재시도 지연(초) - 상태 갱신 시에만 사용 */
+    private long delaySeconds;
+}
@@ -0,0 +1,17 @@
+package egovframework.let.erpIf.domain.model;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * ERP 인터페이스 아웃박스 FAILED 재처리 요청 (조건을 모두 비우면 전체)
+ */
+@Data
+public class ErpOutboxRetryDto {
+
+    /** PROD_ORDER/PROD_RESULT */
+    private String msgType;
+    private List<String> mesIfKeys;
+    private List<Long> outboxIds;
+}
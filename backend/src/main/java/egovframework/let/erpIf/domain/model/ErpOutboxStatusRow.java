@@ -0,0 +1,16 @@
+package egovframework.let.erpIf.domain.model;
+
+import lombok.Data;
+
+/**
+ * ERP 인터페이스 아웃박스 유형/상태별 집계
+ */
+@Data
+public class ErpOutboxStatusRow {
+
+    private String msgType;
+    private String status;
+    private long cnt;
+    /** 가장 오래된 등록 일시 */
+    private String oldestRegDtm;
+}
@@ -1,5 +1,6 @@
 package egovframework.let.erpIf.domain.repository;
 
+import egovframework.let.erpIf.domain.model.ErpIfKeyCount;
 import egovframework.let.production.order.domain.model.ErpIFProdOrderDto;
 import egovframework.let.production.order.domain.model.ErpIFProdOrderResultDto;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
@@ -38,6 +39,11 @@ public class ErpIFProdOrderDAO extends EgovAbstractMapper {
         return (Integer) selectOne("ErpIFProdOrderDAO.existsByMesIfKey", mesIfKey);
     }
 
+    // ERP 작업지시 인터페이스 다건 INSERT - 최근 행이 같은 WorkingTag로 ERP 미처리인 건은 제외, 등록된 키 반환
+    public List<ErpIfKeyCount> insertErpIFProdOrderIfAbsent(List<ErpIFProdOrderDto> list) {
+        return selectList("ErpIFProdOrderDAO.insertErpIFProdOrderIfAbsent", list);
+    }
+
     // 주어진 MESIFKey 목록 중 ERP IF 테이블에 존재하는 key 반환
     public List<String> selectExistingMesIfKeys(List<String> mesIfKeys) {
         return selectList("ErpIFProdOrderDAO.selectExistingMesIfKeys", mesIfKeys);
@@ -48,4 +54,9 @@ public class ErpIFProdOrderDAO extends EgovAbstractMapper {
         return selectList("ErpIFProdOrderDAO.selectErpResultByMesIfKeys", mesIfKeys);
     }
 
+    // MESIFKey/WorkingTag별 ERP IF 행 수 (아웃박스 재전송 시 중복 판정)
+    public List<ErpIfKeyCount> selectIfKeyCounts(List<String> mesIfKeys) {
+        return selectList("ErpIFProdOrderDAO.selectIfKeyCounts", mesIfKeys);
+    }
+
 }
@@ -1,11 +1,13 @@
 package egovframework.let.erpIf.domain.repository;
 
+import egovframework.let.erpIf.domain.model.ErpIfKeyCount;
 import egovframework.let.production.result.domain.model.ErpIFProdResultDto;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.stereotype.Repository;
 
 import javax.annotation.Resource;
+import java.util.List;
 
 @Repository("ErpIFProdResultDAO")
 public class ErpIFProdResultDAO extends EgovAbstractMapper {
@@ -19,4 +21,15 @@ public class ErpIFProdResultDAO extends EgovAbstractMapper {
     public void insertErpIFProdResult(ErpIFProdResultDto dto) {
         insert("ErpIFProdResultDAO.insertErpIFProdResult", dto);
     }
-}
\ No newline at end of file
+
+    // ERP 생산실적 인터페이스 INSERT_BATCH
+    public void insertErpIFProdResultBatch(List<ErpIFProdResultDto> list) {
+        if (list == null || list.isEmpty()) return;
+        insert("ErpIFProdResultDAO.insertErpIFProdResultBatch", list);
+    }
+
+    // MESIFKey/WorkingTag별 ERP IF 행 수 (아웃박스 재전송 시 중복 판정)
+    public List<ErpIfKeyCount> selectIfKeyCounts(List<String> mesIfKeys) {
+        return selectList("ErpIFProdResultDAO.selectIfKeyCounts", mesIfKeys);
+    }
+}
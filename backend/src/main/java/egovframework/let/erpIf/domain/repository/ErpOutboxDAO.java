@@ -0,0 +1,97 @@
+package egovframework.let.erpIf.domain.repository;
+
+import egovframework.let.erpIf.domain.model.ErpOutboxMessage;
+import egovframework.let.erpIf.domain.model.ErpOutboxStatusRow;
+import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * ERP 인터페이스 아웃박스(MES_ERP_OUTBOX) DAO (MES DB)
+ */
+@Repository("ErpOutboxDAO")
+public class ErpOutboxDAO extends EgovAbstractMapper {
+
+    public static final String INSERT_OUTBOX = "ErpOutboxDAO.insertOutbox";
+
+    // 아웃박스 등록
+    public void insertOutbox(ErpOutboxMessage message) {
+        insert(INSERT_OUTBOX, message);
+    }
+
+    // 전송 대상 점유 (PENDING 중 재시도 시각 도래 건 + 점유 만료된 SENDING 건, 키별 선행 미전송 건이 없는 것만)
+    public List<ErpOutboxMessage> claimOutbox(int batchSize, int leaseSeconds) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("batchSize", batchSize);
+        param.put("leaseSeconds", leaseSeconds);
+        return selectList("ErpOutboxDAO.claimOutbox", param);
+    }
+
+    // 첫 전송 시 기대 ERP 행 수 기록
+    public int updateExpectCnt(List<ErpOutboxMessage> messages) {
+        if (messages == null || messages.isEmpty()) return 0;
+        return update("ErpOutboxDAO.updateExpectCnt", messages);
+    }
+
+    // 전송 완료
+    public int updateSent(List<Long> outboxIds) {
+        if (outboxIds == null || outboxIds.isEmpty()) return 0;
+        return update("ErpOutboxDAO.updateSent", outboxIds);
+    }
+
+    // 전송 실패 (재시도 대기 또는 FAILED)
+    public int updateRetry(ErpOutboxMessage message) {
+        return update("ErpOutboxDAO.updateRetry", message);
+    }
+
+    // 유형/상태별 집계
+    public List<ErpOutboxStatusRow> selectStatusSummary() {
+        return selectList("ErpOutboxDAO.selectStatusSummary");
+    }
+
+    // FAILED 목록 (최근 순)
+    public List<ErpOutboxMessage> selectFailedList(int limit) {
+        return selectList("ErpOutboxDAO.selectFailedList", limit);
+    }
+
+    // 주어진 키 중 아직 SENT가 아닌 메시지가 있는 키
+    public List<String> selectUnsentMesIfKeys(String msgType, List<String> mesIfKeys) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("msgType", msgType);
+        param.put("mesIfKeys", mesIfKeys);
+        return selectList("ErpOutboxDAO.selectUnsentMesIfKeys", param);
+    }
+
+    // FAILED 건을 재시도 횟수를 초기화하여 PENDING으로 복귀
+    public int requeueFailed(String msgType, List<String> mesIfKeys, List<Long> outboxIds) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("msgType", msgType);
+        param.put("mesIfKeys", mesIfKeys);
+        param.put("outboxIds", outboxIds);
+        return update("ErpOutboxDAO.requeueFailed", param);
+    }
+
+    // 병합 대상 조회: 한 번도 전송 시도하지 않은 PENDING 건 (등록 트랜잭션 종료까지 행 잠금, 키별 등록 순)
+    public List<ErpOutboxMessage> selectCoalescable(String msgType, List<String> mesIfKeys) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("msgType", msgType);
+        param.put("mesIfKeys", mesIfKeys);
+        return selectList("ErpOutboxDAO.selectCoalescable", param);
+    }
+
+    // 병합으로 대체된 대기 건 삭제
+    public int deleteOutbox(List<Long> outboxIds) {
+        if (outboxIds == null || outboxIds.isEmpty()) return 0;
+        return delete("ErpOutboxDAO.deleteOutbox", outboxIds);
+    }
+
+    // 병합 대기 중인 건을 즉시 전송 대상으로 전환 (msgType이 없으면 전체)
+    public int releaseDelayed(String msgType) {
+        Map<String, Object> param = new HashMap<>();
+        param.put("msgType", msgType);
+        return update("ErpOutboxDAO.releaseDelayed", param);
+    }
+}
@@ -0,0 +1,293 @@
+package egovframework.let.erpIf.service;
+
+import egovframework.com.cmm.exception.BizException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * ERP DB 접근 보호 (동시 호출 제한 + 실패율 기반 회로 차단)
+ * <ul>
+ *   <li>동시 호출은 Globals.erp.guard.maxConcurrent건으로 제한하고, 자리가 나지 않으면 maxWaitMillis 후 바로 실패한다.
+ *       ERP가 느려져도 ERP를 쓰지 않는 화면의 요청 스레드까지 묶이지 않도록 한다.</li>
+ *   <li>오래 걸리는 대용량 연동(스트리밍 조회)은 {@link #callBatch}로 별도 한도(batchMaxConcurrent)를 쓰고 batchMaxWaitMillis까지 기다린다.
+ *       연동이 화면/전송 호출의 자리를 차지하거나, 화면 호출 때문에 연동이 바로 실패하지 않도록 한다.</li>
+ *   <li>최근 slidingWindowSize건 중 minimumCalls건 이상이 끝났고 실패율이 failureRateThreshold% 이상이면 회로를 열어
+ *       openSeconds 동안 ERP를 호출하지 않고 바로 실패한다.</li>
+ *   <li>열린 시간이 지나면 halfOpenProbes건만 시험 호출을 허용하여, 모두 성공하면 닫고 하나라도 실패하면 다시 연다.</li>
+ * </ul>
+ * 호출 시간 제한은 ERP 커넥션 풀의 대기 시간/쿼리 타임아웃(EgovConfigAppErpDatasource)으로 걸고,
+ * 시간 초과로 실패한 호출도 실패율에 포함한다. 무결성 위반처럼 ERP 상태와 무관한 오류는 실패로 세지 않는다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Component("erpAccessGuard")
+public class ErpAccessGuard {
+
+    public static final String CLOSED = "CLOSED";
+    public static final String OPEN = "OPEN";
+    public static final String HALF_OPEN = "HALF_OPEN";
+
+    /**
+     * ERP 호출 (람다에서 던지는 예외를 그대로 다시 던진다)
+     */
+    @FunctionalInterface
+    public interface ErpCall<T, E extends Exception> {
+        T call() throws E;
+    }
+
+    private final Bulkhead interactive;
+    private final Bulkhead batch;
+    private final int failureRateThreshold;
+    private final int minimumCalls;
+    private final long openMillis;
+    private final int halfOpenProbes;
+    private final Clock clock;
+
+    // 최근 호출 결과 (true = 실패), 원형 버퍼
+    private final boolean[] outcomes;
+    private int outcomeCount;
+    private int outcomeIndex;
+    private int failureCount;
+
+    private String state = CLOSED;
+    private long openUntil;
+    private int probesInFlight;
+    private int probeSuccesses;
+    private String lastError;
+
+    private final AtomicLong rejectedByCircuit = new AtomicLong();
+
+    public ErpAccessGuard(@Value("${Globals.erp.guard.maxConcurrent:12}") int maxConcurrent,
+                          @Value("${Globals.erp.guard.maxWaitMillis:2000}") long maxWaitMillis,
+                          @Value("${Globals.erp.guard.batchMaxConcurrent:4}") int batchMaxConcurrent,
+                          @Value("${Globals.erp.guard.batchMaxWaitMillis:60000}") long batchMaxWaitMillis,
+                          @Value("${Globals.erp.guard.slidingWindowSize:20}") int slidingWindowSize,
+                          @Value("${Globals.erp.guard.minimumCalls:10}") int minimumCalls,
+                          @Value("${Globals.erp.guard.failureRateThreshold:50}") int failureRateThreshold,
+                          @Value("${Globals.erp.guard.openSeconds:30}") long openSeconds,
+                          @Value("${Globals.erp.guard.halfOpenProbes:2}") int halfOpenProbes) {
+        this(maxConcurrent, maxWaitMillis, batchMaxConcurrent, batchMaxWaitMillis, slidingWindowSize, minimumCalls,
+                failureRateThreshold, openSeconds, halfOpenProbes, Clock.systemDefaultZone());
+    }
+
+    ErpAccessGuard(int maxConcurrent, long maxWaitMillis, int batchMaxConcurrent, long batchMaxWaitMillis,
+                   int slidingWindowSize, int minimumCalls, int failureRateThreshold, long openSeconds,
+                   int halfOpenProbes, Clock clock) {
+        this.interactive = new Bulkhead(maxConcurrent, maxWaitMillis);
+        this.batch = new Bulkhead(batchMaxConcurrent, batchMaxWaitMillis);
+        this.outcomes = new boolean[Math.max(1, slidingWindowSize)];
+        this.minimumCalls = Math.max(1, Math.min(minimumCalls, outcomes.length));
+        this.failureRateThreshold = Math.max(1, Math.min(failureRateThreshold, 100));
+        this.openMillis = TimeUnit.SECONDS.toMillis(Math.max(1, openSeconds));
+        this.halfOpenProbes = Math.max(1, halfOpenProbes);
+        this.clock = clock;
+    }
+
+    /**
+     * 회로 상태와 동시 호출 한도를 확인한 뒤 ERP를 호출한다.
+     *
+     * @param operation 로그/상태 표시용 작업 이름
+     * @param call ERP 호출
+     * @return 호출 결과
+     * @throws ErpUnavailableException 회로가 열려 있거나 동시 호출 한도를 넘은 경우 (ERP는 호출하지 않음)
+     */
+    public <T, E extends Exception> T call(String operation, ErpCall<T, E> call) throws E {
+        return call(operation, interactive, call);
+    }
+
+    /**
+     * 대용량 연동용 ERP 호출. 회로 차단은 함께 쓰고, 동시 호출 한도는 화면/전송 호출과 따로 둔다.
+     *
+     * @param operation 로그/상태 표시용 작업 이름
+     * @param call ERP 호출
+     * @return 호출 결과
+     * @throws ErpUnavailableException 회로가 열려 있거나 연동 동시 호출 한도를 넘은 경우 (ERP는 호출하지 않음)
+     */
+    public <T, E extends Exception> T callBatch(String operation, ErpCall<T, E> call) throws E {
+        return call(operation, batch, call);
+    }
+
+    private <T, E extends Exception> T call(String operation, Bulkhead bulkhead, ErpCall<T, E> call) throws E {
+        boolean probe = acquireCircuit(operation);
+        boolean acquired = false;
+        try {
+            acquired = bulkhead.permits.tryAcquire(bulkhead.maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!acquired) {
+            releaseProbe(probe);
+            bulkhead.rejected.incrementAndGet();
+            log.warn("[ERP GUARD] 동시 호출 한도 초과로 거부. operation={}, maxConcurrent={}", operation, bulkhead.maxConcurrent);
+            throw new ErpUnavailableException("ERP 요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        try {
+            T result = call.call();
+            record(probe, null);
+            return result;
+        } catch (Exception e) {
+            record(probe, isErpFailure(e) ? e : null);
+            throw e;
+        } catch (Error e) {
+            record(probe, e);
+            throw e;
+        } finally {
+            bulkhead.permits.release();
+        }
+    }
+
+    /**
+     * 지금 ERP 호출이 허용되는지 확인한다. (회로가 열려 있는 동안 false, 상태는 바꾸지 않음)
+     */
+    public synchronized boolean isCallPermitted() {
+        return !OPEN.equals(state) || clock.millis() >= openUntil;
+    }
+
+    /**
+     * 상태 조회 (health 응답용)
+     */
+    public synchronized Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("state", OPEN.equals(state) && clock.millis() >= openUntil ? HALF_OPEN : state);
+        status.put("failureRate", failureRate());
+        status.put("bufferedCalls", outcomeCount);
+        status.put("failedCalls", failureCount);
+        status.put("activeCalls", interactive.activeCalls());
+        status.put("maxConcurrent", interactive.maxConcurrent);
+        status.put("rejectedByBulkhead", interactive.rejected.get());
+        status.put("batchActiveCalls", batch.activeCalls());
+        status.put("batchMaxConcurrent", batch.maxConcurrent);
+        status.put("batchRejectedByBulkhead", batch.rejected.get());
+        status.put("rejectedByCircuit", rejectedByCircuit.get());
+        status.put("openUntil", OPEN.equals(state) ? Instant.ofEpochMilli(openUntil).toString() : null);
+        status.put("lastError", lastError);
+        return status;
+    }
+
+    /**
+     * @return 반열림 상태의 시험 호출이면 true
+     */
+    private synchronized boolean acquireCircuit(String operation) {
+        if (OPEN.equals(state)) {
+            if (clock.millis() < openUntil) {
+                rejectedByCircuit.incrementAndGet();
+                throw new ErpUnavailableException("ERP 연결이 원활하지 않아 요청을 중단했습니다. 잠시 후 다시 시도해주세요.");
+            }
+            state = HALF_OPEN;
+            probesInFlight = 0;
+            probeSuccesses = 0;
+            log.info("[ERP GUARD] 회로 반열림, 시험 호출 허용. operation={}", operation);
+        }
+        if (HALF_OPEN.equals(state)) {
+            if (probesInFlight + probeSuccesses >= halfOpenProbes) {
+                rejectedByCircuit.incrementAndGet();
+                throw new ErpUnavailableException("ERP 연결 상태를 확인하는 중입니다. 잠시 후 다시 시도해주세요.");
+            }
+            probesInFlight++;
+            return true;
+        }
+        return false;
+    }
+
+    private synchronized void releaseProbe(boolean probe) {
+        if (probe && HALF_OPEN.equals(state)) {
+            probesInFlight--;
+        }
+    }
+
+    private synchronized void record(boolean probe, Throwable failure) {
+        if (failure != null) {
+            lastError = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+        }
+        if (probe) {
+            if (!HALF_OPEN.equals(state)) {
+                return;
+            }
+            probesInFlight--;
+            if (failure != null) {
+                open("시험 호출 실패");
+            } else if (++probeSuccesses >= halfOpenProbes) {
+                state = CLOSED;
+                resetWindow();
+                log.info("[ERP GUARD] 시험 호출 {}건 성공, 회로 닫힘", probeSuccesses);
+            }
+            return;
+        }
+        if (!CLOSED.equals(state)) {
+            return;
+        }
+
+        if (outcomeCount == outcomes.length) {
+            if (outcomes[outcomeIndex]) failureCount--;
+        } else {
+            outcomeCount++;
+        }
+        outcomes[outcomeIndex] = failure != null;
+        if (failure != null) failureCount++;
+        outcomeIndex = (outcomeIndex + 1) % outcomes.length;
+
+        if (outcomeCount >= minimumCalls && failureRate() >= failureRateThreshold) {
+            open("실패율 " + failureRate() + "%");
+        }
+    }
+
+    private void open(String reason) {
+        state = OPEN;
+        openUntil = clock.millis() + openMillis;
+        probesInFlight = 0;
+        probeSuccesses = 0;
+        resetWindow();
+        log.warn("[ERP GUARD] 회로 열림 ({}), {}ms 동안 ERP 호출 차단. lastError={}", reason, openMillis, lastError);
+    }
+
+    private void resetWindow() {
+        outcomeCount = 0;
+        outcomeIndex = 0;
+        failureCount = 0;
+    }
+
+    private int failureRate() {
+        return outcomeCount == 0 ? 0 : failureCount * 100 / outcomeCount;
+    }
+
+    /**
+     * ERP 상태와 무관한 오류(무결성 위반, 업무 오류)는 실패로 세지 않는다.
+     */
+    private static boolean isErpFailure(Exception e) {
+        return !(e instanceof DataIntegrityViolationException) && !(e instanceof BizException);
+    }
+
+    /**
+     * 동시 호출 한도 (화면/전송용, 대용량 연동용 각각)
+     */
+    private static final class Bulkhead {
+        private final int maxConcurrent;
+        private final long maxWaitMillis;
+        private final Semaphore permits;
+        private final AtomicLong rejected = new AtomicLong();
+
+        Bulkhead(int maxConcurrent, long maxWaitMillis) {
+            this.maxConcurrent = Math.max(1, maxConcurrent);
+            this.maxWaitMillis = Math.max(0, maxWaitMillis);
+            this.permits = new Semaphore(this.maxConcurrent, true);
+        }
+
+        int activeCalls() {
+            return maxConcurrent - permits.availablePermits();
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package egovframework.let.erpIf.service;
+
+import egovframework.let.production.order.domain.model.ErpIFProdOrderDto;
+import egovframework.let.production.result.domain.model.ErpIFProdResultDto;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ERP 인터페이스 아웃박스 서비스
+ * MES 저장과 같은 트랜잭션에서 전송 건을 기록하고, 커밋 후 디스패처가 배치로 ERP에 전송한다.
+ */
+public interface ErpOutboxService {
+
+    /**
+     * 작업지시 IF 등록 (등록 순서대로 전송)
+     */
+    void enqueueProdOrders(List<ErpIFProdOrderDto> list) throws Exception;
+
+    /**
+     * 작업실적 IF 등록 (등록 순서대로 전송, 병합 대기 시간 안에 같은 실적이 다시 등록되면 최종 변경분만 전송)
+     */
+    void enqueueProdResults(List<ErpIFProdResultDto> list) throws Exception;
+
+    /**
+     * 병합 대기 중인 건을 즉시 전송한다. (type이 없으면 전체)
+     */
+    int flush(ErpOutboxType type) throws Exception;
+
+    /**
+     * 주어진 키 중 아직 전송 완료되지 않은(대기/전송 중/실패) 메시지가 있는 키
+     */
+    Set<String> selectUnsentMesIfKeys(ErpOutboxType type, List<String> mesIfKeys) throws Exception;
+
+    /**
+     * FAILED 메시지를 재시도 대기로 되돌린다. (조건을 주지 않으면 전체)
+     */
+    int requeueFailed(ErpOutboxType type, List<String> mesIfKeys, List<Long> outboxIds) throws Exception;
+
+    /**
+     * 유형/상태별 대기·실패 건수와 최근 실패 목록
+     */
+    Map<String, Object> selectOutboxStatus(int failedLimit) throws Exception;
+}
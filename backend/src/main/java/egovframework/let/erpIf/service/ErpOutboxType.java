@@ -0,0 +1,13 @@
+package egovframework.let.erpIf.service;
+
+/**
+ * ERP 인터페이스 아웃박스 메시지 유형
+ */
+public enum ErpOutboxType {
+
+    /** 작업지시 (SHM_IF_TPDSFCWorkOrder) */
+    PROD_ORDER,
+
+    /** 작업실적 (SHM_IF_TPDSFCWorkReport) */
+    PROD_RESULT
+}
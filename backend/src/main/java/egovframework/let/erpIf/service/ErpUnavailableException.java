@@ -0,0 +1,20 @@
+package egovframework.let.erpIf.service;
+
+import egovframework.com.cmm.exception.BizException;
+
+/**
+ * ERP 접근 차단(회로 열림) 또는 동시 호출 한도 초과로 ERP를 호출하지 않고 바로 실패할 때 발생한다.
+ * 화면에는 메시지를 그대로 보여준다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public class ErpUnavailableException extends BizException {
+
+    private static final long serialVersionUID = 1L;
+
+    public ErpUnavailableException(String message) {
+        super(message);
+    }
+}
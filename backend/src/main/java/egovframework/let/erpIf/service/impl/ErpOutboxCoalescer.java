@@ -0,0 +1,55 @@
+package egovframework.let.erpIf.service.impl;
+
+import egovframework.let.erpIf.domain.model.ErpOutboxMessage;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 같은 MES_IF_KEY의 미전송 A/D 메시지 순서를 ERP에 보낼 최종 변경분으로 합친다.
+ * <ul>
+ *   <li>D로 시작하면 ERP에 이미 있는 행을 지우는 것이므로 첫 D(기존 값)를 남긴다.</li>
+ *   <li>A로 끝나면 마지막 A(최종 값)만 남기고, D로 끝나면 추가할 행이 없다.</li>
+ * </ul>
+ * 예) D,A,D,A → D,A(최종) / A,D,A → A(최종) / A,D → 없음 / D,A,D → D
+ * A 다음 A, D 다음 D처럼 순서가 맞지 않으면 합치지 않는다(null 반환).
+ */
+final class ErpOutboxCoalescer {
+
+    private static final String ADD = "A";
+    private static final String DELETE = "D";
+
+    private ErpOutboxCoalescer() {
+    }
+
+    /**
+     * @param messages 등록 순서대로 정렬된 같은 키의 메시지
+     * @return 합친 메시지 (합칠 수 없으면 null)
+     */
+    static List<ErpOutboxMessage> net(List<ErpOutboxMessage> messages) {
+        ErpOutboxMessage firstDelete = null;
+        ErpOutboxMessage lastAdd = null;
+        Boolean exists = null;
+
+        for (ErpOutboxMessage message : messages) {
+            String tag = message.getWorkingTag();
+            if (DELETE.equals(tag)) {
+                if (Boolean.FALSE.equals(exists)) return null;
+                if (exists == null) firstDelete = message;
+                exists = false;
+                lastAdd = null;
+            } else if (ADD.equals(tag)) {
+                if (Boolean.TRUE.equals(exists)) return null;
+                exists = true;
+                lastAdd = message;
+            } else {
+                return null;
+            }
+        }
+
+        List<ErpOutboxMessage> net = new ArrayList<>(2);
+        if (firstDelete != null) net.add(firstDelete);
+        if (lastAdd != null) net.add(lastAdd);
+        return net;
+    }
+}
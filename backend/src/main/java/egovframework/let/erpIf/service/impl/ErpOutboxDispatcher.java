@@ -0,0 +1,404 @@
+package egovframework.let.erpIf.service.impl;
+
+import egovframework.let.erpIf.domain.model.ErpIfKeyCount;
+import egovframework.let.erpIf.domain.model.ErpOutboxMessage;
+import egovframework.let.erpIf.domain.repository.ErpIFProdOrderDAO;
+import egovframework.let.erpIf.domain.repository.ErpIFProdResultDAO;
+import egovframework.let.erpIf.domain.repository.ErpOutboxDAO;
+import egovframework.let.erpIf.service.ErpAccessGuard;
+import egovframework.let.erpIf.service.ErpOutboxType;
+import egovframework.let.erpIf.service.ErpUnavailableException;
+import egovframework.let.production.order.domain.model.ErpIFProdOrderDto;
+import egovframework.let.production.order.service.EgovProductionOrderService;
+import egovframework.let.production.result.domain.model.ErpIFProdResultDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * ERP 인터페이스 아웃박스 디스패처
+ * MES_ERP_OUTBOX의 대기 건을 점유하여 유형별 다건 INSERT로 ERP IF 테이블에 전송한다.
+ * <ul>
+ *   <li>작업실적은 병합 대기 시각(NEXT_TRY_DTM)이 지난 뒤 점유하며, 교대 마감(Globals.erp.outbox.flushCron, 기본 08시/20시)에 모두 앞당겨 보낸다.</li>
+ *   <li>주기 실행(Globals.erp.outbox.pollMillis)과 등록 트랜잭션 커밋 직후의 깨우기로 실행되며, 한 번에 하나만 실행한다.</li>
+ *   <li>같은 MES_IF_KEY의 메시지는 앞선 메시지가 전송 완료된 뒤에만 점유되므로 A/D 순서가 유지된다.</li>
+ *   <li>첫 전송 전에 ERP IF 테이블의 같은 키/WorkingTag 행 수 + 1을 EXPECT_CNT로 기록하고,
+ *       재시도 시 ERP 행 수가 EXPECT_CNT 이상이면 이미 반영된 것으로 보고 다시 보내지 않는다.</li>
+ *   <li>다건 전송이 실패하면 건별로 다시 보내 실패 건만 지연 재시도(지수 증가)하고, 한도를 넘으면 FAILED로 둔다.</li>
+ *   <li>ERP 접근이 차단된 동안(ErpAccessGuard 회로 열림)은 점유하지 않고, 전송 중 차단되면 남은 점유 건을
+ *       재시도 횟수를 늘리지 않은 채 점유 만료 후 다시 처리한다.</li>
+ * </ul>
+ * 메서드 단위 트랜잭션 대상(*Impl)이 아니므로 각 DAO 호출은 즉시 커밋된다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class ErpOutboxDispatcher {
+
+    /** 다건 INSERT 1회 행 수 (작업지시 행당 파라미터 23개, SQL Server 파라미터 2100개 제한) */
+    static final int ORDER_CHUNK_SIZE = 80;
+
+    /** 다건 INSERT 1회 행 수 (작업실적 행당 파라미터 21개) */
+    static final int RESULT_CHUNK_SIZE = 90;
+
+    /** 점유 건수 상한 (EXPECT_CNT 일괄 갱신 시 행당 파라미터 2개) */
+    private static final int MAX_BATCH_SIZE = 1000;
+
+    /** 1회 실행에서 점유를 반복하는 최대 횟수 (남은 건은 다음 주기에 처리) */
+    private static final int MAX_ROUNDS = 20;
+
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private static final int MAX_ERROR_LENGTH = 1000;
+
+    private final ErpOutboxDAO outboxDAO;
+    private final ErpIFProdOrderDAO erpOrderDAO;
+    private final ErpIFProdResultDAO erpResultDAO;
+    private final ErpAccessGuard erpAccessGuard;
+    private final ObjectProvider<EgovProductionOrderService> productionOrderService;
+    private final TaskExecutor executor;
+
+    private final boolean enabled;
+    private final int batchSize;
+    private final int maxRetries;
+    private final int leaseSeconds;
+    private final long baseDelaySeconds;
+    private final long maxDelaySeconds;
+
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile boolean rerun;
+
+    public ErpOutboxDispatcher(ErpOutboxDAO outboxDAO,
+                               ErpIFProdOrderDAO erpOrderDAO,
+                               ErpIFProdResultDAO erpResultDAO,
+                               ErpAccessGuard erpAccessGuard,
+                               ObjectProvider<EgovProductionOrderService> productionOrderService,
+                               @Qualifier("erpOutboxTaskExecutor") TaskExecutor executor,
+                               @Value("${Globals.erp.outbox.enabled:true}") boolean enabled,
+                               @Value("${Globals.erp.outbox.batchSize:200}") int batchSize,
+                               @Value("${Globals.erp.outbox.maxRetries:10}") int maxRetries,
+                               @Value("${Globals.erp.outbox.leaseSeconds:120}") int leaseSeconds,
+                               @Value("${Globals.erp.outbox.baseDelaySeconds:5}") long baseDelaySeconds,
+                               @Value("${Globals.erp.outbox.maxDelaySeconds:600}") long maxDelaySeconds) {
+        this.outboxDAO = outboxDAO;
+        this.erpOrderDAO = erpOrderDAO;
+        this.erpResultDAO = erpResultDAO;
+        this.erpAccessGuard = erpAccessGuard;
+        this.productionOrderService = productionOrderService;
+        this.executor = executor;
+        this.enabled = enabled;
+        this.batchSize = Math.max(1, Math.min(batchSize, MAX_BATCH_SIZE));
+        this.maxRetries = Math.max(1, maxRetries);
+        this.leaseSeconds = Math.max(1, leaseSeconds);
+        this.baseDelaySeconds = Math.max(1, baseDelaySeconds);
+        this.maxDelaySeconds = Math.max(this.baseDelaySeconds, maxDelaySeconds);
+    }
+
+    /**
+     * 등록 트랜잭션 커밋 후 호출. 전용 스레드에서 바로 전송을 시작한다. (이미 대기 중이면 무시)
+     */
+    public void wakeUp() {
+        if (!enabled) return;
+        try {
+            executor.execute(this::dispatch);
+        } catch (RuntimeException e) {
+            log.debug("[ERP OUTBOX] wake-up skipped", e);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${Globals.erp.outbox.pollMillis:5000}",
+            initialDelayString = "${Globals.erp.outbox.pollMillis:5000}")
+    public void poll() {
+        if (!enabled) return;
+        dispatch();
+    }
+
+    /**
+     * 교대 마감 시각(Globals.erp.outbox.flushCron)에 병합 대기 중인 건을 모두 즉시 전송한다.
+     */
+    @Scheduled(cron = "${Globals.erp.outbox.flushCron:0 0 8,20 * * *}")
+    public void flushAtShiftClose() {
+        if (!enabled) return;
+        try {
+            int released = outboxDAO.releaseDelayed(null);
+            log.info("[ERP OUTBOX] 교대 마감 즉시 전송 전환 {}건", released);
+        } catch (RuntimeException e) {
+            log.warn("[ERP OUTBOX] shift-close flush failed", e);
+        }
+        dispatch();
+    }
+
+    /**
+     * 대기 건이 없거나 반복 한도에 도달할 때까지 전송한다.
+     * 실행 중에 다시 깨우면 현재 실행이 끝난 뒤 한 번 더 돈다.
+     *
+     * @return 처리한(완료/재시도/실패) 메시지 수
+     */
+    public int dispatch() {
+        if (!running.compareAndSet(false, true)) {
+            rerun = true;
+            return 0;
+        }
+        int handled = 0;
+        try {
+            do {
+                rerun = false;
+                handled += drain();
+            } while (rerun);
+        } catch (Exception e) {
+            log.warn("[ERP OUTBOX] dispatch failed", e);
+        } finally {
+            running.set(false);
+        }
+        return handled;
+    }
+
+    private int drain() {
+        int handled = 0;
+        for (int round = 0; round < MAX_ROUNDS; round++) {
+            if (!erpAccessGuard.isCallPermitted()) {
+                log.debug("[ERP OUTBOX] ERP 접근 차단 중, 전송 보류");
+                break;
+            }
+            List<ErpOutboxMessage> claimed = outboxDAO.claimOutbox(batchSize, leaseSeconds);
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+
+            Map<String, List<ErpOutboxMessage>> byType = new LinkedHashMap<>();
+            for (ErpOutboxMessage message : claimed) {
+                byType.computeIfAbsent(message.getMsgType(), k -> new ArrayList<>()).add(message);
+            }
+            try {
+                byType.forEach(this::send);
+            } catch (ErpUnavailableException e) {
+                log.info("[ERP OUTBOX] ERP 접근 차단으로 전송 중단, 남은 점유 건은 점유 만료 후 다시 처리. {}", e.getMessage());
+                return handled;
+            }
+
+            handled += claimed.size();
+            if (claimed.size() < batchSize) {
+                break;
+            }
+        }
+        return handled;
+    }
+
+    private void send(String msgType, List<ErpOutboxMessage> messages) {
+        ErpOutboxType type;
+        try {
+            type = ErpOutboxType.valueOf(msgType);
+        } catch (IllegalArgumentException e) {
+            messages.forEach(m -> fail(m, "Unknown message type: " + msgType, true));
+            return;
+        }
+
+        List<ErpOutboxMessage> toSend;
+        try {
+            toSend = skipDelivered(type, messages);
+        } catch (ErpUnavailableException e) {
+            throw e;
+        } catch (Exception e) {
+            log.warn("[ERP OUTBOX][{}] ERP 반영 여부 확인 실패. cnt={}", type, messages.size(), e);
+            messages.forEach(m -> fail(m, errorMessage(e), false));
+            return;
+        }
+
+        List<String> sentKeys = new ArrayList<>();
+        int chunkSize = type == ErpOutboxType.PROD_ORDER ? ORDER_CHUNK_SIZE : RESULT_CHUNK_SIZE;
+        for (int from = 0; from < toSend.size(); from += chunkSize) {
+            List<ErpOutboxMessage> chunk = toSend.subList(from, Math.min(from + chunkSize, toSend.size()));
+            try {
+                insertBatch(type, chunk);
+            } catch (ErpUnavailableException e) {
+                throw e;
+            } catch (Exception e) {
+                log.warn("[ERP OUTBOX][{}] 다건 전송 실패, 건별 재전송. cnt={}", type, chunk.size(), e);
+                for (ErpOutboxMessage message : chunk) {
+                    try {
+                        insertBatch(type, Collections.singletonList(message));
+                    } catch (ErpUnavailableException unavailable) {
+                        throw unavailable;
+                    } catch (Exception single) {
+                        fail(message, errorMessage(single), single instanceof IllegalArgumentException);
+                        continue;
+                    }
+                    sent(Collections.singletonList(message), sentKeys);
+                }
+                continue;
+            }
+            sent(chunk, sentKeys);
+        }
+
+        if (type == ErpOutboxType.PROD_ORDER && !sentKeys.isEmpty()) {
+            syncOrderResults(sentKeys);
+        }
+    }
+
+    /**
+     * 이미 ERP에 반영된 재시도 건은 SENT로 처리하고, 처음 보내는 건은 EXPECT_CNT를 기록한 뒤 전송 대상으로 돌려준다.
+     */
+    private List<ErpOutboxMessage> skipDelivered(ErpOutboxType type, List<ErpOutboxMessage> messages) {
+        Map<String, Integer> erpCounts = selectErpCounts(type, messages.stream()
+                .map(ErpOutboxMessage::getMesIfKey)
+                .distinct()
+                .collect(Collectors.toList()));
+
+        List<ErpOutboxMessage> delivered = new ArrayList<>();
+        List<ErpOutboxMessage> firstTry = new ArrayList<>();
+        List<ErpOutboxMessage> toSend = new ArrayList<>();
+        for (ErpOutboxMessage message : messages) {
+            int erpCount = erpCounts.getOrDefault(countKey(message.getMesIfKey(), message.getWorkingTag()), 0);
+            if (message.getExpectCnt() == null) {
+                message.setExpectCnt(erpCount + 1);
+                firstTry.add(message);
+                toSend.add(message);
+            } else if (erpCount >= message.getExpectCnt()) {
+                delivered.add(message);
+            } else {
+                toSend.add(message);
+            }
+        }
+
+        outboxDAO.updateExpectCnt(firstTry);
+        if (!delivered.isEmpty()) {
+            log.info("[ERP OUTBOX][{}] 이미 ERP에 반영된 재시도 건 {}건 완료 처리", type, delivered.size());
+            markSent(delivered);
+        }
+        return toSend;
+    }
+
+    private Map<String, Integer> selectErpCounts(ErpOutboxType type, List<String> keys) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + IN_CHUNK_SIZE, keys.size()));
+            List<ErpIfKeyCount> rows = erpAccessGuard.call("selectIfKeyCounts", () -> type == ErpOutboxType.PROD_ORDER
+                    ? erpOrderDAO.selectIfKeyCounts(chunk)
+                    : erpResultDAO.selectIfKeyCounts(chunk));
+            for (ErpIfKeyCount row : rows) {
+                counts.put(countKey(row.getMesIfKey(), row.getWorkingTag()), row.getCnt());
+            }
+        }
+        return counts;
+    }
+
+    private void insertBatch(ErpOutboxType type, List<ErpOutboxMessage> messages) {
+        if (type == ErpOutboxType.PROD_ORDER) {
+            List<ErpIFProdOrderDto> list = new ArrayList<>(messages.size());
+            for (ErpOutboxMessage message : messages) {
+                list.add(ErpOutboxPayload.read(message.getPayload(), ErpIFProdOrderDto.class));
+            }
+            erpAccessGuard.call("insertErpIFProdOrderBatch", () -> {
+                erpOrderDAO.insertErpIFProdOrderBatch(list);
+                return null;
+            });
+        } else {
+            List<ErpIFProdResultDto> list = new ArrayList<>(messages.size());
+            for (ErpOutboxMessage message : messages) {
+                list.add(ErpOutboxPayload.read(message.getPayload(), ErpIFProdResultDto.class));
+            }
+            erpAccessGuard.call("insertErpIFProdResultBatch", () -> {
+                erpResultDAO.insertErpIFProdResultBatch(list);
+                return null;
+            });
+        }
+    }
+
+    /**
+     * ERP 전송 성공 건 완료 처리
+     * 완료 기록에 실패해도 다시 전송하지 않는다. (점유 만료 후 재점유 시 EXPECT_CNT로 반영 여부를 확인)
+     */
+    private void sent(List<ErpOutboxMessage> messages, List<String> sentKeys) {
+        messages.forEach(m -> sentKeys.add(m.getMesIfKey()));
+        try {
+            markSent(messages);
+        } catch (Exception e) {
+            log.warn("[ERP OUTBOX] 완료 상태 기록 실패. cnt={}", messages.size(), e);
+        }
+    }
+
+    private void markSent(List<ErpOutboxMessage> messages) {
+        outboxDAO.updateSent(messages.stream().map(ErpOutboxMessage::getOutboxId).collect(Collectors.toList()));
+    }
+
+    /**
+     * 재시도 대기(PENDING) 또는 한도 초과/복구 불가 시 FAILED로 기록한다.
+     * 기록에 실패해도 점유 만료(LOCKED_UNTIL) 후 다시 점유되므로 유실되지 않는다.
+     */
+    private void fail(ErpOutboxMessage message, String error, boolean permanent) {
+        int retryCnt = message.getRetryCnt() + 1;
+        message.setRetryCnt(retryCnt);
+        message.setLastError(error);
+        if (permanent || retryCnt >= maxRetries) {
+            message.setStatus("FAILED");
+            message.setDelaySeconds(0);
+            log.error("[ERP OUTBOX][{}] 전송 실패 확정. outboxId={}, mesIfKey={}, workingTag={}, retry={}, error={}",
+                    message.getMsgType(), message.getOutboxId(), message.getMesIfKey(),
+                    message.getWorkingTag(), retryCnt, error);
+        } else {
+            message.setStatus("PENDING");
+            message.setDelaySeconds(backoffSeconds(retryCnt, baseDelaySeconds, maxDelaySeconds));
+            log.warn("[ERP OUTBOX][{}] 전송 실패, {}초 후 재시도. outboxId={}, mesIfKey={}, retry={}",
+                    message.getMsgType(), message.getDelaySeconds(), message.getOutboxId(),
+                    message.getMesIfKey(), retryCnt);
+        }
+        try {
+            outboxDAO.updateRetry(message);
+        } catch (Exception e) {
+            log.warn("[ERP OUTBOX] 재시도 상태 기록 실패. outboxId={}", message.getOutboxId(), e);
+        }
+    }
+
+    /**
+     * 작업지시 전송 후 ERP 처리 결과를 TPR504에 반영 (실패 시 수동 동기화 사용)
+     */
+    private void syncOrderResults(List<String> mesIfKeys) {
+        try {
+            EgovProductionOrderService service = productionOrderService.getIfAvailable();
+            if (service != null) {
+                int updated = service.syncErpResultByMesIfKeys(mesIfKeys);
+                log.info("[ERP IF][AUTO SYNC] {}건 동기화", updated);
+            }
+        } catch (Exception e) {
+            log.warn("[ERP IF][AUTO SYNC] 동기화 실패 (수동 동기화 사용)", e);
+        }
+    }
+
+    /**
+     * 재시도 지연: base * 2^(retry-1), 최대 max
+     */
+    static long backoffSeconds(int retryCnt, long baseSeconds, long maxSeconds) {
+        int shift = Math.min(Math.max(retryCnt - 1, 0), 30);
+        long delay = baseSeconds << shift;
+        return delay <= 0 || delay > maxSeconds ? maxSeconds : delay;
+    }
+
+    private static String countKey(String mesIfKey, String workingTag) {
+        return mesIfKey + "|" + workingTag;
+    }
+
+    private static String errorMessage(Exception e) {
+        Throwable root = e;
+        while (root.getCause() != null && root.getCause() != root) {
+            root = root.getCause();
+        }
+        String message = root.getClass().getSimpleName() + ": " + root.getMessage();
+        return message.length() > MAX_ERROR_LENGTH ? message.substring(0, MAX_ERROR_LENGTH) : message;
+    }
+}
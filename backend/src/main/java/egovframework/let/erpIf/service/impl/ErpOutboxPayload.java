@@ -0,0 +1,34 @@
+package egovframework.let.erpIf.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * 아웃박스 PAYLOAD(JSON) 변환
+ * 화면 응답용 ObjectMapper(HTML 이스케이프 설정)와 분리하여 ERP IF DTO 값을 그대로 보존한다.
+ */
+final class ErpOutboxPayload {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+
+    private ErpOutboxPayload() {
+    }
+
+    static String write(Object dto) {
+        try {
+            return MAPPER.writeValueAsString(dto);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("ERP outbox payload serialization failed", e);
+        }
+    }
+
+    static <T> T read(String payload, Class<T> type) {
+        try {
+            return MAPPER.readValue(payload, type);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("ERP outbox payload deserialization failed", e);
+        }
+    }
+}
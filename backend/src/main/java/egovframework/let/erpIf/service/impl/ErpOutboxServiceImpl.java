@@ -0,0 +1,225 @@
+package egovframework.let.erpIf.service.impl;
+
+import egovframework.com.cmm.service.impl.BatchWriteDAO;
+import egovframework.com.cmm.util.EgovTransactionHelper;
+import egovframework.let.erpIf.domain.model.ErpOutboxMessage;
+import egovframework.let.erpIf.domain.model.ErpOutboxStatusRow;
+import egovframework.let.erpIf.domain.repository.ErpOutboxDAO;
+import egovframework.let.erpIf.service.ErpOutboxService;
+import egovframework.let.erpIf.service.ErpOutboxType;
+import egovframework.let.production.order.domain.model.ErpIFProdOrderDto;
+import egovframework.let.production.result.domain.model.ErpIFProdResultDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * ERP 인터페이스 아웃박스 서비스 구현
+ * 호출한 서비스의 트랜잭션(MES) 안에서 MES_ERP_OUTBOX에 기록하므로 MES 저장이 롤백되면 전송 건도 함께 사라지고,
+ * 커밋된 건은 ERP 장애와 무관하게 남아 디스패처가 재시도한다.
+ * 작업실적은 병합 대기 시간(Globals.erp.outbox.resultCoalesceSeconds, 기본 60초) 동안 전송을 미루고, 그 사이 같은 실적의
+ * 수정(D+A)이 다시 등록되면 아직 전송하지 않은 건과 합쳐 최종 변경분만 보낸다. (교대 마감 시각과 요청 시 즉시 전송)
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Service("ErpOutboxService")
+public class ErpOutboxServiceImpl implements ErpOutboxService {
+
+    /** IN 목록 분할 크기 (SQL Server 파라미터 2100개 제한) */
+    private static final int IN_CHUNK_SIZE = 1000;
+
+    private final ErpOutboxDAO outboxDAO;
+    private final BatchWriteDAO batchWriteDAO;
+    private final ErpOutboxDispatcher dispatcher;
+
+    private final long resultCoalesceSeconds;
+
+    public ErpOutboxServiceImpl(ErpOutboxDAO outboxDAO,
+                                BatchWriteDAO batchWriteDAO,
+                                ErpOutboxDispatcher dispatcher,
+                                @Value("${Globals.erp.outbox.resultCoalesceSeconds:60}") long resultCoalesceSeconds) {
+        this.outboxDAO = outboxDAO;
+        this.batchWriteDAO = batchWriteDAO;
+        this.dispatcher = dispatcher;
+        this.resultCoalesceSeconds = Math.max(0, resultCoalesceSeconds);
+    }
+
+    @Override
+    public void enqueueProdOrders(List<ErpIFProdOrderDto> list) throws Exception {
+        enqueue(ErpOutboxType.PROD_ORDER, list, ErpIFProdOrderDto::getMesIfKey, ErpIFProdOrderDto::getWorkingTag);
+    }
+
+    @Override
+    public void enqueueProdResults(List<ErpIFProdResultDto> list) throws Exception {
+        enqueue(ErpOutboxType.PROD_RESULT, list, ErpIFProdResultDto::getMesIfKey, ErpIFProdResultDto::getWorkingTag);
+    }
+
+    @Override
+    public int flush(ErpOutboxType type) throws Exception {
+        int released = outboxDAO.releaseDelayed(type != null ? type.name() : null);
+        if (released > 0) {
+            log.info("[ERP OUTBOX] 병합 대기 {}건 즉시 전송 전환. type={}", released, type);
+            EgovTransactionHelper.afterCommit(dispatcher::wakeUp);
+        }
+        return released;
+    }
+
+    @Override
+    public Set<String> selectUnsentMesIfKeys(ErpOutboxType type, List<String> mesIfKeys) throws Exception {
+        Set<String> keys = new HashSet<>();
+        if (mesIfKeys == null || mesIfKeys.isEmpty()) return keys;
+        for (int from = 0; from < mesIfKeys.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = mesIfKeys.subList(from, Math.min(from + IN_CHUNK_SIZE, mesIfKeys.size()));
+            keys.addAll(outboxDAO.selectUnsentMesIfKeys(type.name(), chunk));
+        }
+        return keys;
+    }
+
+    @Override
+    public int requeueFailed(ErpOutboxType type, List<String> mesIfKeys, List<Long> outboxIds) throws Exception {
+        String msgType = type != null ? type.name() : null;
+        int requeued;
+        if (mesIfKeys != null && mesIfKeys.size() > IN_CHUNK_SIZE) {
+            requeued = 0;
+            for (int from = 0; from < mesIfKeys.size(); from += IN_CHUNK_SIZE) {
+                List<String> chunk = mesIfKeys.subList(from, Math.min(from + IN_CHUNK_SIZE, mesIfKeys.size()));
+                requeued += outboxDAO.requeueFailed(msgType, chunk, outboxIds);
+            }
+        } else {
+            requeued = outboxDAO.requeueFailed(msgType, mesIfKeys, outboxIds);
+        }
+        if (requeued > 0) {
+            log.info("[ERP OUTBOX] FAILED {}건 재시도 대기로 전환. type={}", requeued, msgType);
+            EgovTransactionHelper.afterCommit(dispatcher::wakeUp);
+        }
+        return requeued;
+    }
+
+    @Override
+    public Map<String, Object> selectOutboxStatus(int failedLimit) throws Exception {
+        List<ErpOutboxStatusRow> summary = outboxDAO.selectStatusSummary();
+
+        long pendingCnt = 0;
+        long failedCnt = 0;
+        for (ErpOutboxStatusRow row : summary) {
+            if ("FAILED".equals(row.getStatus())) {
+                failedCnt += row.getCnt();
+            } else {
+                pendingCnt += row.getCnt();
+            }
+        }
+
+        Map<String, Object> map = new HashMap<>();
+        map.put("summary", summary);
+        map.put("pendingCnt", pendingCnt);
+        map.put("failedCnt", failedCnt);
+        map.put("resultList", outboxDAO.selectFailedList(failedLimit));
+        return map;
+    }
+
+    private <T> void enqueue(ErpOutboxType type, List<T> list,
+                             Function<T, String> mesIfKey, Function<T, String> workingTag) {
+        if (list == null || list.isEmpty()) return;
+
+        List<ErpOutboxMessage> messages = new ArrayList<>(list.size());
+        for (T dto : list) {
+            ErpOutboxMessage message = new ErpOutboxMessage();
+            message.setMsgType(type.name());
+            message.setMesIfKey(mesIfKey.apply(dto));
+            message.setWorkingTag(workingTag.apply(dto));
+            message.setPayload(ErpOutboxPayload.write(dto));
+            messages.add(message);
+        }
+
+        if (type == ErpOutboxType.PROD_RESULT && resultCoalesceSeconds > 0) {
+            for (ErpOutboxMessage message : messages) {
+                message.setDelaySeconds(resultCoalesceSeconds);
+            }
+            // 병합 대상 행 잠금이 커밋까지 유지되어야 하므로 트랜잭션 안에서만 병합
+            if (TransactionSynchronizationManager.isActualTransactionActive()) {
+                messages = coalesce(type, messages);
+                if (messages.isEmpty()) return;
+            }
+        }
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            batchWriteDAO.insertAll(ErpOutboxDAO.INSERT_OUTBOX, messages);
+        } else {
+            for (ErpOutboxMessage message : messages) {
+                outboxDAO.insertOutbox(message);
+            }
+        }
+        log.debug("[ERP OUTBOX] {} {}건 등록", type, messages.size());
+
+        EgovTransactionHelper.afterCommit(dispatcher::wakeUp);
+    }
+
+    /**
+     * 같은 키의 미전송 대기 건과 새로 등록하는 건을 합쳐 최종 변경분으로 바꾼다.
+     * 대체된 대기 건은 삭제하고, 합친 건은 기존 대기 건의 전송 예정 시각을 이어받아 병합 대기가 계속 늘어나지 않게 한다.
+     */
+    private List<ErpOutboxMessage> coalesce(ErpOutboxType type, List<ErpOutboxMessage> messages) {
+        Map<String, List<ErpOutboxMessage>> incoming = new LinkedHashMap<>();
+        for (ErpOutboxMessage message : messages) {
+            incoming.computeIfAbsent(message.getMesIfKey(), k -> new ArrayList<>()).add(message);
+        }
+
+        List<String> keys = new ArrayList<>(incoming.keySet());
+        Map<String, List<ErpOutboxMessage>> pending = new HashMap<>();
+        for (int from = 0; from < keys.size(); from += IN_CHUNK_SIZE) {
+            List<String> chunk = keys.subList(from, Math.min(from + IN_CHUNK_SIZE, keys.size()));
+            for (ErpOutboxMessage message : outboxDAO.selectCoalescable(type.name(), chunk)) {
+                pending.computeIfAbsent(message.getMesIfKey(), k -> new ArrayList<>()).add(message);
+            }
+        }
+
+        List<ErpOutboxMessage> result = new ArrayList<>(messages.size());
+        List<Long> replaced = new ArrayList<>();
+        for (Map.Entry<String, List<ErpOutboxMessage>> entry : incoming.entrySet()) {
+            List<ErpOutboxMessage> existing = pending.getOrDefault(entry.getKey(), new ArrayList<>());
+            List<ErpOutboxMessage> sequence = new ArrayList<>(existing);
+            sequence.addAll(entry.getValue());
+
+            List<ErpOutboxMessage> net = ErpOutboxCoalescer.net(sequence);
+            if (net == null) {
+                log.warn("[ERP OUTBOX] A/D 순서가 맞지 않아 병합하지 않음. type={}, key={}", type, entry.getKey());
+                result.addAll(entry.getValue());
+                continue;
+            }
+
+            if (!existing.isEmpty()) {
+                String nextTryDtm = existing.get(0).getNextTryDtm();
+                for (ErpOutboxMessage message : existing) {
+                    replaced.add(message.getOutboxId());
+                }
+                for (ErpOutboxMessage message : net) {
+                    message.setNextTryDtm(nextTryDtm);
+                    message.setDelaySeconds(resultCoalesceSeconds);
+                }
+            }
+            result.addAll(net);
+        }
+
+        for (int from = 0; from < replaced.size(); from += IN_CHUNK_SIZE) {
+            outboxDAO.deleteOutbox(replaced.subList(from, Math.min(from + IN_CHUNK_SIZE, replaced.size())));
+        }
+        if (result.size() != messages.size() || !replaced.isEmpty()) {
+            log.debug("[ERP OUTBOX] {} 병합: 등록 {}건 + 대기 {}건 -> {}건",
+                    type, messages.size(), replaced.size(), result.size());
+        }
+        return result;
+    }
+}
@@ -3,6 +3,7 @@ package egovframework.let.main.controller;
 import egovframework.com.cmm.ResponseCode;
 import egovframework.com.cmm.service.ResultVO;
 import egovframework.com.cmm.util.ResultVoHelper;
+import egovframework.let.common.idgen.service.EgovIdGnrStatService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -32,6 +33,8 @@ public class EgovSystemApiController {
 
     private final ResultVoHelper resultVoHelper;
 
+    private final EgovIdGnrStatService idGnrStatService;
+
     /**
      * 서버 시간 조회
      * 클라이언트-서버 시간 동기화를 위한 API
@@ -69,4 +72,24 @@ public class EgovSystemApiController {
         
         return resultVoHelper.buildFromMap(result, ResponseCode.SUCCESS);
     }
+
+    /**
+     * 테이블 ID 생성기별 블록 예약 통계 조회
+     */
+    @Operation(
+            summary = "ID 생성기 통계 조회",
+            description = "IDS 테이블 ID 생성기별 현재 블록 크기와 예약 횟수를 조회합니다.",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"EgovSystemApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @GetMapping("/idgen-stats")
+    public ResultVO getIdGnrStats() {
+        Map<String, Object> result = new HashMap<>();
+        result.put("resultList", idGnrStatService.selectAllocationStats());
+        return resultVoHelper.buildFromMap(result, ResponseCode.SUCCESS);
+    }
 }
@@ -1,5 +1,6 @@
 package egovframework.let.production.kpi.domain.repository;
 
+import egovframework.com.cmm.service.impl.BatchWriteDAO;
 import egovframework.let.production.kpi.domain.model.WorkplaceKpiReqDTO;
 import egovframework.let.production.kpi.domain.model.WorkplaceKpiRow;
 import egovframework.let.production.kpi.domain.model.WorkplaceKpiSummaryRow;
@@ -7,11 +8,15 @@ import egovframework.let.production.kpi.domain.model.WorkplaceKpiVO;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
+import javax.annotation.Resource;
 import java.util.List;
 
 @Repository("WorkplaceKpiDAO")
 public class WorkplaceKpiDAO extends EgovAbstractMapper {
 
+    @Resource(name = "batchWriteDAO")
+    private BatchWriteDAO batchWriteDAO;
+
     /** 기간 내 기존 데이터 삭제 (작업장 + dateFrom~dateTo) */
     public int deleteKpiByRange(WorkplaceKpiVO vo) throws Exception {
         return delete("WorkplaceKpiDAO.deleteKpiByRange", vo);
@@ -22,6 +27,11 @@ public class WorkplaceKpiDAO extends EgovAbstractMapper {
         return insert("WorkplaceKpiDAO.insertKpi", dto);
     }
 
+    /** 다건 INSERT (배치 실행) */
+    public int insertKpiList(List<WorkplaceKpiReqDTO> list) throws Exception {
+        return BatchWriteDAO.total(batchWriteDAO.insertAll("WorkplaceKpiDAO.insertKpi", list));
+    }
+
     /** 로우 데이터 목록 조회 */
     public List<WorkplaceKpiRow> selectKpiList(WorkplaceKpiVO vo) throws Exception {
         return selectList("WorkplaceKpiDAO.selectKpiList", vo);
@@ -57,8 +57,8 @@ public class EgovWorkplaceKpiServiceImpl extends EgovAbstractServiceImpl impleme
         for (WorkplaceKpiReqDTO dto : dataList) {
             dto.setFactoryCode(factoryCode);
             dto.setRegId(regId);
-            workplaceKpiDAO.insertKpi(dto);
         }
+        workplaceKpiDAO.insertKpiList(dataList);
     }
 
     @Override
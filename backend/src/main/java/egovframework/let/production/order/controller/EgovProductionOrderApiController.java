@@ -4,10 +4,12 @@ import egovframework.com.cmm.LoginVO;
 import egovframework.com.cmm.ResponseCode;
 import egovframework.com.cmm.service.ResultVO;
 import egovframework.com.cmm.util.ResultVoHelper;
+import egovframework.com.cmm.web.AsyncRequestSupport;
 import egovframework.com.jwt.EgovJwtTokenUtil;
 import egovframework.let.common.dto.ListResult;
 import egovframework.let.cop.bbs.dto.request.BbsSearchRequestDTO;
 import egovframework.let.production.order.domain.model.*;
+import egovframework.let.production.order.service.EgovProductionOrderBulkService;
 import egovframework.let.production.order.service.EgovProductionOrderService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -18,6 +20,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Callable;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.rte.fdl.property.EgovPropertyService;
@@ -30,6 +33,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.async.DeferredResult;
 
 /**
  * 생산 지시를 관리하기 위한 컨트롤러 클래스
@@ -60,7 +64,9 @@ public class EgovProductionOrderApiController {
     private final EgovJwtTokenUtil jwtTokenUtil;
     private final ResultVoHelper resultVoHelper;
     private final EgovProductionOrderService productionOrderService;
+    private final EgovProductionOrderBulkService productionOrderBulkService;
     private final EgovPropertyService propertyService;
+    private final AsyncRequestSupport asyncRequestSupport;
 
     /**
      * 생산 지시 목록을 조회한다.
@@ -247,15 +253,53 @@ public class EgovProductionOrderApiController {
             @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
     })
     @PostMapping("/bulk")
-    public ResultVO bulkCreateProductionOrders(
+    public DeferredResult<ResultVO> bulkCreateProductionOrders(
             @RequestBody List<ProdPlanKeyDto> plans,
+            @RequestParam(value = "parallel", defaultValue = "false") boolean parallel,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
             @Parameter(hidden = true) @AuthenticationPrincipal LoginVO user
-    ) throws Exception {
+    ) {
 
         for (ProdPlanKeyDto dto : plans) {
             dto.setOpmanCode(user.getUniqId());
         }
 
+        // ERP 전송까지 요청 스레드를 붙잡지 않도록 비동기 처리 스레드 풀에서 처리 (async=true면 접수 후 jobId 반환)
+        Callable<ResultVO> work = () -> parallel
+                ? createProductionOrdersParallel(plans, user)
+                : createProductionOrdersSequential(plans, user);
+
+        return async
+                ? asyncRequestSupport.submit("production-order-bulk", user.getUniqId(), work)
+                : asyncRequestSupport.run("production-order-bulk", user.getUniqId(), work);
+    }
+
+    // 병렬 모드: 계획별 트랜잭션으로 동시에 생성하고 계획별 성공/실패를 resultList로 반환
+    private ResultVO createProductionOrdersParallel(List<ProdPlanKeyDto> plans, LoginVO user) throws Exception {
+        List<ProdPlanOrderResult> planResults = productionOrderBulkService.bulkCreateProductionOrdersParallel(plans);
+        long failedCount = planResults.stream()
+                .filter(r -> ProdPlanOrderResult.FAILED.equals(r.getOutcome())
+                        || ProdPlanOrderResult.TIMEOUT.equals(r.getOutcome())
+                        || ProdPlanOrderResult.NOT_STARTED.equals(r.getOutcome()))
+                .count();
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("user", user);
+        resultMap.put("erpIfFailed", false);
+        resultMap.put("resultList", planResults);
+        resultMap.put("failedCount", failedCount);
+
+        return resultVoHelper.buildFromMap(
+                resultMap,
+                ResponseCode.SUCCESS,
+                failedCount > 0
+                        ? "생산계획 일괄지시 중 " + failedCount + "건이 실패했습니다."
+                        : "생산계획 일괄지시가 완료되었습니다."
+        );
+    }
+
+    // 순차 모드: 전체를 한 번에 생성하고 ERP 전송 실패 여부를 반환
+    private ResultVO createProductionOrdersSequential(List<ProdPlanKeyDto> plans, LoginVO user) throws Exception {
         boolean erpIfFailed = productionOrderService.bulkCreateProductionOrders(plans);
 
         Map<String, Object> resultMap = new HashMap<>();
@@ -297,26 +341,35 @@ public class EgovProductionOrderApiController {
             @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
     })
     @PostMapping("/erp-if-resend")
-    public ResultVO resendErpIf(
+    public DeferredResult<ResultVO> resendErpIf(
             @RequestBody List<ProdPlanKeyDto> plans,
+            @RequestParam(value = "async", defaultValue = "false") boolean async,
             @Parameter(hidden = true) @AuthenticationPrincipal LoginVO user
-    ) throws Exception {
+    ) {
 
         for (ProdPlanKeyDto dto : plans) {
             dto.setOpmanCode(user.getUniqId());
         }
 
-        boolean sent = productionOrderService.resendErpIf(plans);
+        Callable<ResultVO> work = () -> {
+            List<ErpIfSendResult> results = productionOrderService.resendErpIf(plans);
+            boolean sent = results.stream().noneMatch(r -> ErpIfSendResult.FAILED.equals(r.getOutcome()));
 
-        Map<String, Object> resultMap = new HashMap<>();
-        resultMap.put("user", user);
-        resultMap.put("sent", sent);
+            Map<String, Object> resultMap = new HashMap<>();
+            resultMap.put("user", user);
+            resultMap.put("sent", sent);
+            resultMap.put("resultList", results);
 
-        String message = sent
-                ? "ERP IF 재전송이 완료되었습니다."
-                : "ERP IF 전송 중 오류가 발생했습니다.";
+            String message = sent
+                    ? "ERP IF 재전송이 완료되었습니다."
+                    : "ERP IF 전송 중 오류가 발생했습니다.";
 
-        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS, message);
+            return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS, message);
+        };
+
+        return async
+                ? asyncRequestSupport.submit("production-order-erp-resend", user.getUniqId(), work)
+                : asyncRequestSupport.run("production-order-erp-resend", user.getUniqId(), work);
     }
 
 
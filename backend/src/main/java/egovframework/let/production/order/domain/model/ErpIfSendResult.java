@@ -0,0 +1,31 @@
+package egovframework.let.production.order.domain.model;
+
+import lombok.Data;
+
+/**
+ * ERP IF 다건 전송 키별 결과
+ */
+@Data
+public class ErpIfSendResult {
+
+    /** ERP IF 테이블에 등록됨 */
+    public static final String SENT = "SENT";
+    /** 같은 키/처리구분 행이 이미 있어 보내지 않음 */
+    public static final String SKIPPED = "SKIPPED";
+    /** 등록 실패 (message에 사유) */
+    public static final String FAILED = "FAILED";
+
+    private String mesIfKey;
+    private String workingTag;      // A / D
+    private String outcome;         // SENT / SKIPPED / FAILED
+    private String message;
+
+    public static ErpIfSendResult of(ErpIFProdOrderDto dto, String outcome, String message) {
+        ErpIfSendResult result = new ErpIfSendResult();
+        result.setMesIfKey(dto.getMesIfKey());
+        result.setWorkingTag(dto.getWorkingTag());
+        result.setOutcome(outcome);
+        result.setMessage(message);
+        return result;
+    }
+}
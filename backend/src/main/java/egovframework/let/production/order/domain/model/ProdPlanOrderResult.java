@@ -0,0 +1,39 @@
+package egovframework.let.production.order.domain.model;
+
+import lombok.Data;
+
+/**
+ * 생산계획 일괄지시 계획별 결과
+ */
+@Data
+public class ProdPlanOrderResult {
+
+    /** 생산지시 생성됨 */
+    public static final String ORDERED = "ORDERED";
+    /** 이미 지시된 계획이라 건너뜀 */
+    public static final String SKIPPED = "SKIPPED";
+    /** 생성 실패 - 해당 계획만 롤백 (message에 사유) */
+    public static final String FAILED = "FAILED";
+    /** 제한 시간 안에 끝나지 않음 - 처리 중이었으므로 커밋되었을 수 있음 (처리 여부 미확인) */
+    public static final String TIMEOUT = "TIMEOUT";
+    /** 제한 시간이 지나 시작하지 않음 - 처리되지 않았으므로 다시 지시 가능 */
+    public static final String NOT_STARTED = "NOT_STARTED";
+
+    private String prodplanDate;
+    private int prodplanSeq;
+    private int prodworkSeq;
+    private String prodplanDetailId;
+    private String outcome;         // ORDERED / SKIPPED / FAILED / TIMEOUT / NOT_STARTED
+    private String message;
+
+    public static ProdPlanOrderResult of(ProdPlanKeyDto plan, String outcome, String message) {
+        ProdPlanOrderResult result = new ProdPlanOrderResult();
+        result.setProdplanDate(plan.getProdplanDate());
+        result.setProdplanSeq(plan.getProdplanSeq());
+        result.setProdworkSeq(plan.getProdworkSeq());
+        result.setProdplanDetailId(plan.getProdplanDetailId());
+        result.setOutcome(outcome);
+        result.setMessage(message);
+        return result;
+    }
+}
@@ -0,0 +1,22 @@
+package egovframework.let.production.order.domain.model;
+
+import lombok.Data;
+
+/**
+ * 생산계획별 최상위 품목 (병렬 일괄지시 묶음 구성용)
+ */
+@Data
+public class ProdPlanRootItemRow {
+
+    /** 생산계획일 (YYYYMMDD) */
+    private String prodplanDate;
+
+    /** 생산계획 SEQ */
+    private int prodplanSeq;
+
+    /** 생산작업 SEQ */
+    private int prodworkSeq;
+
+    /** 최상위 품목 (ERP ItemSeq) */
+    private Integer itemSeq;
+}
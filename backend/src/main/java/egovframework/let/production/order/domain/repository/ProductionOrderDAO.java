@@ -5,6 +5,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -70,6 +71,12 @@ public class ProductionOrderDAO extends EgovAbstractMapper {
         return selectList("ProductionOrderDAO.selectRootItemCodesByPlan", param);
     }
 
+    // 생산지시] 여러 생산계획의 루트 품목(ERP ItemSeq)을 계획 키와 함께 한 번에 조회
+    public List<ProdPlanRootItemRow> selectRootItemCodesByPlans(List<ProdPlanKeyDto> plans) {
+        log.info("==========> selectRootItemCodesByPlans <==========");
+        return selectList("ProductionOrderDAO.selectRootItemCodesByPlans", plans);
+    }
+
     // 생산지시] 생산지시 등록되기 전 제품의 공정 가져오기
     public List<ProdOrderRow> selectFlowProcessByPlanId(ProdOrderSearchParam param) throws Exception {
         log.info("==========> selectFlowProcessByPlanId <==========");
@@ -82,12 +89,6 @@ public class ProductionOrderDAO extends EgovAbstractMapper {
         return selectList("ProductionOrderDAO.selectProdOrders", param);
     }
 
-    // 생산지시] 생산지시 저장 전 nextId 가져오기
-    public String selectProdOrderNextId(){
-        log.info("==========> selectProdOrderNextId <==========");
-        return selectOne("ProductionOrderDAO.selectProdOrderNextId");
-    }
-
     // 생산지시] 생산지시 저장 전 WORK_SEQ 가져오기
     public int selectProdOrderWorkSeq(ProdOrderInsertDto dto) throws Exception {
         log.info("==========> selectProdOrderWorkSeq <==========");
@@ -195,4 +196,44 @@ public class ProductionOrderDAO extends EgovAbstractMapper {
         log.info("==========> selectProdPlanKeyByProdorderId <==========");
         return selectOne("ProductionOrderDAO.selectProdPlanKeyByProdorderId", prodorderId);
     }
+
+    // ERP 결과 동기화: 결과 적재용 세션 임시테이블(#ERP_RESULT) 생성
+    public void createErpResultWork() {
+        log.info("==========> createErpResultWork <==========");
+        update("ProductionOrderDAO.createErpResultWork");
+    }
+
+    // ERP 결과 동기화: 결과 행을 임시테이블에 적재 (chunkNo + 행 순번으로 입력 순서 보존)
+    public int insertErpResultWork(int chunkNo, List<ErpIFProdOrderResultDto> rows) {
+        log.info("==========> insertErpResultWork <==========");
+        Map<String, Object> param = new HashMap<>();
+        param.put("chunkNo", chunkNo);
+        param.put("rows", rows);
+        return insert("ProductionOrderDAO.insertErpResultWork", param);
+    }
+
+    // ERP 결과 동기화: 임시테이블 기준 TPR504 결과 반영 + 미연동공정 삭제 확정, 반영 건수 반환
+    public int applyErpResultWork() {
+        log.info("==========> applyErpResultWork <==========");
+        Integer matched = selectOne("ProductionOrderDAO.applyErpResultWork");
+        return matched != null ? matched : 0;
+    }
+
+    // ERP 결과 동기화: 반영 대상 생산계획 중 남은 생산지시가 없는 계획 키 조회
+    public List<ProdPlanKeyDto> selectEmptiedErpResultPlans() {
+        log.info("==========> selectEmptiedErpResultPlans <==========");
+        return selectList("ProductionOrderDAO.selectEmptiedErpResultPlans");
+    }
+
+    // ERP 결과 동기화: 생산계획(TPR301/TPR301M) ORDER_FLAG=PLANNED, LOT_NO='' 일괄 복원
+    public int updateProdPlansToPlanned(List<ProdPlanKeyDto> plans) {
+        log.info("==========> updateProdPlansToPlanned <==========");
+        return update("ProductionOrderDAO.updateProdPlansToPlanned", plans);
+    }
+
+    // ERP 결과 동기화: 임시테이블 삭제
+    public void dropErpResultWork() {
+        log.info("==========> dropErpResultWork <==========");
+        update("ProductionOrderDAO.dropErpResultWork");
+    }
 }
@@ -0,0 +1,24 @@
+package egovframework.let.production.order.service;
+
+import egovframework.let.production.order.domain.model.ProdPlanKeyDto;
+import egovframework.let.production.order.domain.model.ProdPlanOrderResult;
+
+import java.util.List;
+
+/**
+ * 생산지시 병렬 일괄지시 서비스 인터페이스
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public interface EgovProductionOrderBulkService {
+
+    /**
+     * 선택한 생산계획의 생산지시를 계획별 트랜잭션으로 나누어 병렬 생성한다.
+     * 일부 계획이 실패해도 나머지 계획은 저장된다.
+     * @param plans 생산계획 키 목록
+     * @return 요청 순서(중복 계획 제외)대로의 계획별 결과 (ORDERED/SKIPPED/FAILED)
+     */
+    List<ProdPlanOrderResult> bulkCreateProductionOrdersParallel(List<ProdPlanKeyDto> plans) throws Exception;
+}
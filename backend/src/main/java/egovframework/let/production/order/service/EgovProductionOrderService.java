@@ -51,19 +51,26 @@ public interface EgovProductionOrderService {
 	// 생산지시 삭제
 	void deleteProductionOrder(ProdOrderDeleteDto dto) throws Exception;
 
-	// 생산지시 일괄 저장
+	// 생산지시 일괄 저장 (반환값: ERP IF 전송 실패 여부 - 아웃박스 비동기 전송이므로 항상 false)
 	boolean bulkCreateProductionOrders(List<ProdPlanKeyDto> prodOrderList) throws Exception;
 
+	/**
+	 * 생산계획 1건의 생산지시를 자체 트랜잭션으로 생성 (병렬 일괄지시용)
+	 * @param plan 생산계획 키
+	 * @return 생성 여부 (이미 지시된 계획이면 false)
+	 */
+	boolean createProductionOrdersForPlan(ProdPlanKeyDto plan) throws Exception;
+
 	// 생산지시 일괄 삭제
 	void bulkCancelProductionOrders(List<ProdPlanKeyDto> prodOrderList) throws Exception;
 
 	/**
 	 * 선택한 생산계획의 공정 데이터를 ERP IF 테이블에 재전송
-	 * ERP에 이미 존재하는 mesIfKey는 건너뜀
+	 * 삭제 요청(ORDER_FLAG='D') 공정은 삭제(D)를, 나머지는 추가(A)를 다건으로 보내며 ERP에 이미 있는 건은 건너뜀
 	 * @param plans 재전송 대상 생산계획 키 목록
-	 * @return ERP 전송 성공 여부 (실패 시 false)
+	 * @return mesIfKey별 전송 결과 (SENT/SKIPPED/FAILED)
 	 */
-	boolean resendErpIf(List<ProdPlanKeyDto> plans) throws Exception;
+	List<ErpIfSendResult> resendErpIf(List<ProdPlanKeyDto> plans) throws Exception;
 
 	/** 작업중단 처리 — TPR504 ORDER_FLAG='S', TPR301/M ORDER_FLAG='STOPPED', TPR301.PROD_QTY=변경수량 */
 	void stopWork(StopWorkDto dto) throws Exception;
@@ -75,4 +82,10 @@ public interface EgovProductionOrderService {
 	 */
 	int syncErpResult(List<ProdPlanKeyDto> plans) throws Exception;
 
+	/**
+	 * 주어진 생산지시 ID(MESIFKey)의 ERP 처리 결과를 TPR504에 반영 (ERP IF 아웃박스 전송 직후 자동 동기화)
+	 * @return 업데이트된 건수
+	 */
+	int syncErpResultByMesIfKeys(List<String> mesIfKeys) throws Exception;
+
 }
\ No newline at end of file
@@ -2,6 +2,7 @@ package egovframework.let.production.order.service;
 
 import egovframework.let.production.order.domain.model.ErpIFProdOrderDto;
 import egovframework.let.production.order.domain.model.ErpIFProdOrderResultDto;
+import egovframework.let.production.order.domain.model.ErpIfSendResult;
 
 import java.util.List;
 import java.util.Set;
@@ -16,6 +17,12 @@ public interface ErpIFProdOrderService {
     // MES → ERP batch전송 (A / D)
     boolean sendProdOrderBatchToErp(List<ErpIFProdOrderDto> list) throws Exception;
 
+    // MES → ERP 재전송 (A) - 같은 A가 ERP 미처리로 대기 중인 키를 제외하고 다건 등록, 키별 결과 반환
+    List<ErpIfSendResult> resendProdOrdersToErp(List<ErpIFProdOrderDto> list);
+
+    // MES → ERP 삭제 (D) - 같은 D가 ERP 미처리로 대기 중인 키를 제외하고 다건 등록, 키별 결과 반환
+    List<ErpIfSendResult> deleteProdOrdersFromErp(List<ErpIFProdOrderDto> list);
+
     // ERP → MES 결과 반영
     void updateProdOrderResult(ErpIFProdOrderResultDto dto) throws Exception;
 
@@ -1,13 +1,19 @@
 package egovframework.let.production.order.service.impl;
 
 import egovframework.com.cmm.exception.BizException;
+import egovframework.let.basedata.processFlow.domain.model.CompiledProcessFlow;
+import egovframework.let.basedata.processFlow.service.ProcessFlowDefinitionService;
+import egovframework.let.erpIf.service.ErpOutboxService;
+import egovframework.let.erpIf.service.ErpOutboxType;
 import egovframework.let.common.dto.ListResult;
+import egovframework.let.common.idgen.service.DailySequence;
 import egovframework.let.common.idgen.service.EgovConditionalIdService;
+import egovframework.let.common.idgen.service.EgovDailySequenceService;
 import egovframework.let.production.order.domain.model.*;
 import egovframework.let.production.order.domain.repository.ProductionOrderDAO;
 import egovframework.let.production.order.service.EgovProductionOrderService;
 import egovframework.let.production.order.service.ErpIFProdOrderService;
-import egovframework.let.scheduler.service.ErpToMesInterfaceService;
+import egovframework.let.scheduler.service.TPDROUItemProcMatSnapshotService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
@@ -46,7 +52,16 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 	private final ErpIFProdOrderService erpIfService;
 
 	private final EgovConditionalIdService egovConditionalIdService;
-	private final ErpToMesInterfaceService erpToMesInterfaceService;
+	private final TPDROUItemProcMatSnapshotService bomSnapshotService;
+	private final EgovDailySequenceService dailySequenceService;
+	private final ErpOutboxService erpOutboxService;
+	private final ProcessFlowDefinitionService processFlowDefinitionService;
+
+	/** ERP 결과 임시테이블 적재 단위 (행당 파라미터 9개, SQL Server 2100개 제한) */
+	private static final int ERP_RESULT_CHUNK_SIZE = 200;
+
+	/** 생산계획 PLANNED 복원 단위 (계획당 파라미터 5개) */
+	private static final int PLAN_KEY_CHUNK_SIZE = 400;
 
 	@Resource(name = "egovProdOrderIdGnrService")
 	private EgovIdGnrService egovProdOrderIdGnrService;
@@ -97,7 +112,8 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 	public ListResult<ProdOrderRow> selectFlowProcessByPlanId(ProdOrderSearchParam param) throws Exception{
 		List<Integer> rootItemSeqs = productionOrderDAO.selectRootItemCodesByPlan(param);
 		for (Integer itemSeq : rootItemSeqs) {
-			erpToMesInterfaceService.resyncTPDROUItemProcMatByRootItem(itemSeq);
+			// TCO501 BOM 스냅샷 사용 (변경된 경우에만 ERP에서 재적재)
+			bomSnapshotService.ensureFresh(itemSeq);
 		}
 
 		List<ProdOrderRow> list = productionOrderDAO.selectFlowProcessByPlanId(param);
@@ -112,11 +128,54 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 	@Override
 	public ListResult<ProdOrderRow> selectProdOrdersByPlanId(ProdOrderSearchParam param) throws Exception{
 
-		List<ProdOrderRow> list = productionOrderDAO.selectProdOrdersByPlanId(param);
+		List<ProdOrderRow> list = selectSavedOrders(param);
 		return new ListResult<>(list, 0);
 	}
 
 
+	/**
+	 * 저장된 생산지시 조회
+	 * LAST_FLAG(I/F연동)는 품목의 컴파일된 공정흐름에서 TPR110D_SEQ + WORK_CODE가 맞는 공정의 값으로 채운다.
+	 */
+	private List<ProdOrderRow> selectSavedOrders(ProdOrderSearchParam param) throws Exception {
+		List<ProdOrderRow> rows = productionOrderDAO.selectProdOrdersByPlanId(param);
+
+		Set<String> itemIds = new HashSet<>();
+		for (ProdOrderRow row : rows) {
+			if (row.getItemCodeId() != null) {
+				itemIds.add(String.valueOf(row.getItemCodeId()));
+			}
+		}
+		Map<String, CompiledProcessFlow> flows = processFlowDefinitionService.getByItems(itemIds);
+		for (ProdOrderRow row : rows) {
+			CompiledProcessFlow flow = row.getItemCodeId() != null ? flows.get(String.valueOf(row.getItemCodeId())) : null;
+			CompiledProcessFlow.Step step = flow != null ? flow.step(row.getTpr110dSeq(), row.getWorkCode()) : null;
+			if (step != null) {
+				row.setLastFlag(step.getLastFlag());
+			}
+		}
+		return rows;
+	}
+
+	/**
+	 * 공정흐름이 등록된 품목이면 지시 공정이 흐름에 있는지 확인하고 공정 플래그를 흐름 값으로 맞춘다.
+	 * 공정흐름이 없는 품목은 화면에서 받은 값을 그대로 쓴다.
+	 */
+	private static void applyFlowStep(ProdOrderInsertDto dto, Map<String, CompiledProcessFlow> flows) {
+		CompiledProcessFlow flow = dto.getItemCodeId() != null ? flows.get(String.valueOf(dto.getItemCodeId())) : null;
+		if (flow == null) {
+			return;
+		}
+		CompiledProcessFlow.Step step = flow.step(dto.getTpr110dSeq(), dto.getWorkCode());
+		if (step == null) {
+			throw new BizException("공정흐름에 없는 공정입니다. workCode=" + dto.getWorkCode() + ", seq=" + dto.getTpr110dSeq());
+		}
+		dto.setLastFlag(step.getLastFlag());
+		dto.setPlanFlag(step.getPlanFlag());
+		dto.setErpResultFlag(step.getErpResultFlag());
+		dto.setPackingFlag(step.getPackingFlag());
+	}
+
 	/**
 	 * 생산지시 저장
 	 * MES 생산지시 저장
@@ -136,7 +195,17 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 		String lotNo = null;
 		String planLotNo = null;
 
+		Set<String> itemIds = new HashSet<>();
+		for (ProdOrderInsertDto dto : prodOrderList) {
+			if (dto.getItemCodeId() != null) {
+				itemIds.add(String.valueOf(dto.getItemCodeId()));
+			}
+		}
+		Map<String, CompiledProcessFlow> flows = processFlowDefinitionService.getByItems(itemIds);
+
         for (ProdOrderInsertDto dto : prodOrderList) {
+
+			applyFlowStep(dto, flows);
 			
 			if (dto.getLotNo() != null && !dto.getLotNo().isEmpty()) {
 				lotNo = dto.getLotNo();
@@ -170,7 +239,7 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 
 
 			// 생산지시 ID 채번
-			String nextId = productionOrderDAO.selectProdOrderNextId();
+			String nextId = dailySequenceService.nextId(DailySequence.PROD_ORDER);
 			dto.setProdorderId(nextId);
 
 			// WORK_SEQ 채번
@@ -187,18 +256,8 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 			}
 		}
 
-		// ERP IF 배치 전송
-		try {
-			boolean erpSendSuccess = erpIfService.sendProdOrderBatchToErp(erpIfList);
-			if (!erpSendSuccess) {
-				log.warn("[ERP IF][PROD ORDER][A][BATCH] send failed but MES save will continue. cnt={}", erpIfList.size());
-			} else {
-				autoSyncErpResult(erpIfList);
-			}
-		} catch (Exception e) {
-			// MES 트랜잭션 영향 X
-			log.warn("[ERP IF][PROD ORDER][A][BATCH] 전송 실패. cnt={}", erpIfList.size(), e);
-		}
+		// ERP IF 아웃박스 등록 (커밋 후 디스패처가 배치 전송 + 결과 동기화)
+		erpOutboxService.enqueueProdOrders(erpIfList);
 
 		// 생산계획TPR301 ORDER_FLAG UPDATE
 		if (!prodOrderList.isEmpty()) {
@@ -282,7 +341,7 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 		newPlanKey.setProdworkSeq(dto.getProdworkSeq());
 
 
-		List<ProdOrderRow> orders = productionOrderDAO.selectProdOrdersByPlanId(planKey);
+		List<ProdOrderRow> orders = selectSavedOrders(planKey);
 
 		for (ProdOrderRow row : orders) {
 			boolean isLastProcess = "Y".equals(row.getLastFlag());
@@ -293,37 +352,23 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 			}
 		}
 
+		List<ErpIFProdOrderDto> erpIfList = new ArrayList<>();
 		for (ProdOrderRow row : orders) {
-			ProdOrderDeleteDto rowDto = new ProdOrderDeleteDto();
-			rowDto.setProdplanDate(row.getProdplanDate());
-			rowDto.setProdplanSeq(row.getProdplanSeq());
-			rowDto.setProdworkSeq(row.getProdworkSeq());
-			rowDto.setOpmanCode(dto.getOpmanCode());
-			rowDto.setLotNo(row.getLotNo());
-			rowDto.setProdorderId(row.getProdorderId());
-			rowDto.setProdCodeId(row.getProdCodeId());
-			rowDto.setErpWorkOrderSeq(row.getErpWorkOrderSeq());
-			rowDto.setErpWorkOrderSerl(row.getErpWorkOrderSerl());
-
-			// ERP IF DTO 전송 (D) - LAST_FLAG(I/F연동) = 'Y' 공정만 연동
+			ProdOrderDeleteDto rowDto = toDeleteDto(row, dto.getOpmanCode());
+
+			// ERP IF DTO 수집 (D) - LAST_FLAG(I/F연동) = 'Y' 공정만 연동
 			boolean isLastProcess = "Y".equals(row.getLastFlag());
 			if (isLastProcess) {
-				try {
-					ErpIFProdOrderDto erpDto = convertDeleteToIfDto(rowDto);
-					boolean erpSendSuccess = erpIfService.sendProdOrderToErp(erpDto);
-					if (!erpSendSuccess) {
-						log.warn("[ERP IF][PROD ORDER][D] send failed but MES delete will continue. prodorderId={}", row.getProdorderId());
-					}
-				} catch (Exception e) {
-					log.warn("[ERP IF][PROD ORDER][D] 전송 실패. prodorderId={}", row.getProdorderId(), e);
-				}
-
+				erpIfList.add(convertDeleteToIfDto(rowDto));
 			}
 
 			productionOrderDAO.deleteReqProductionOrder(rowDto);
 //			productionOrderDAO.deleteProductionOrder(rowDto);
 		}
 
+		// ERP IF 아웃박스 등록 (같은 키의 A 전송이 끝난 뒤 전송)
+		erpOutboxService.enqueueProdOrders(erpIfList);
+
 		// erp에서 먼저 삭제가 된 다음에 해당 내역 처리 되어야 함
 //		int remaining = productionOrderDAO.selectProdorderIdsByPlanKey(newPlanKey).size();
 //		if (remaining == 0) {
@@ -333,19 +378,37 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 	}
 
 
+	/**
+	 * 생산지시 row → 삭제(요청) DTO
+	 */
+	private static ProdOrderDeleteDto toDeleteDto(ProdOrderRow row, String opmanCode) {
+		ProdOrderDeleteDto rowDto = new ProdOrderDeleteDto();
+		rowDto.setProdplanDate(row.getProdplanDate());
+		rowDto.setProdplanSeq(row.getProdplanSeq());
+		rowDto.setProdworkSeq(row.getProdworkSeq());
+		rowDto.setOpmanCode(opmanCode);
+		rowDto.setLotNo(row.getLotNo());
+		rowDto.setProdorderId(row.getProdorderId());
+		rowDto.setProdCodeId(row.getProdCodeId());
+		rowDto.setErpWorkOrderSeq(row.getErpWorkOrderSeq());
+		rowDto.setErpWorkOrderSerl(row.getErpWorkOrderSerl());
+		return rowDto;
+	}
+
+
 	/**
 	 * 선택한 여러 생산계획에 대해 생산지시를 일괄 생성
 	 * 이미 지시된 계획은 제외
 	 * MES 생산지시 저장
-	 * ERP IF
+	 * ERP IF (아웃박스 등록, 커밋 후 비동기 전송)
 	 * 생산계획 ORDER_FLAG = ORDERED UPDATE
+	 * @return ERP IF 전송 실패 여부 - 전송은 커밋 후 디스패처가 재시도까지 처리하므로 항상 false
 	 */
 	@Override
 	@Transactional(rollbackFor = Exception.class)
 	public boolean bulkCreateProductionOrders(List<ProdPlanKeyDto> plans) throws Exception {
 		long startedAt = System.currentTimeMillis();
 		log.info("[BULK] service start, planCount={}", plans == null ? 0 : plans.size());
-		boolean erpIfFailed = false;
 
 
 		if (plans == null || plans.isEmpty()) return false;
@@ -353,100 +416,84 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 		String year = LocalDate.now().format(DateTimeFormatter.ofPattern("yy"));
 
 		for (ProdPlanKeyDto plan : plans) {
+			createOrdersForPlan(plan, year);
+		}
 
-			// 1. 이미 생산 지시된 계획인지 체크
-			// 이미 지시되어있으면 다음계획으로 이동
-			if (isAlreadyOrdered(plan)) {
-				continue;
-			}
+		log.info("[BULK] service end, elapsed={}ms", System.currentTimeMillis() - startedAt);
+		return false;
+	}
 
-			// 2. 생산계획 기준 지시대상 공정 조회
-			List<ProdOrderRow> targets = findInsertTargets(plan);
-			if (targets.isEmpty()) {
-				throw new BizException("공정흐름이 등록되지 않은 품목이 존재합니다. \n" +
-						"생산지시번호 : "+plan.getProdplanDetailId());
-			}
 
-			String planLotNo = null;
+	/**
+	 * 생산계획 1건의 생산지시를 생성한다. (병렬 일괄지시에서 계획별 트랜잭션으로 호출)
+	 * 실패 시 해당 계획의 지시/LOT 채번/아웃박스 등록만 롤백된다.
+	 * @return 생성 여부 (이미 지시된 계획이면 false)
+	 */
+	@Override
+	@Transactional(rollbackFor = Exception.class)
+	public boolean createProductionOrdersForPlan(ProdPlanKeyDto plan) throws Exception {
+		return createOrdersForPlan(plan, LocalDate.now().format(DateTimeFormatter.ofPattern("yy")));
+	}
 
-			for (ProdOrderRow row : targets) {
-				String prodCode = row.getProdCode();
-				if (prodCode == null || prodCode.isEmpty()) {
-					prodCode = row.getItemCode();
-				}
-				String lotNo = egovConditionalIdService.getNextStringId(
-						"TPR301M",
-						prodCode,
-						year,
-						prodCode + "-" + year,
-						3,
-						'0'
-				);
-				row.setLotNo(lotNo);
-				if ("Y".equals(row.getPlanFlag())) {
-					planLotNo = lotNo;
-				}
-				row.setProdplanDetailId(plan.getProdplanDetailId());
-				row.setOrderSeqno(plan.getOrderSeqno());
-				row.setOrderHistno(plan.getOrderHistno());
-			}
+	/**
+	 * 생산계획 1건의 지시대상 공정 조회 → LOT 채번 → 생산지시 저장 → 아웃박스 등록 → 계획 상태 갱신
+	 * @return 생성 여부 (이미 지시된 계획이면 false)
+	 */
+	private boolean createOrdersForPlan(ProdPlanKeyDto plan, String year) throws Exception {
 
-			// 3. 생산지시 저장
-			List<ErpIFProdOrderDto> ifList = createProductionOrders(plan, targets);
-			try {
-				log.info("[BULK] ERP IF start, size={}", ifList.size());
-
-				// 인터페이스부분
-				boolean erpSendSuccess = erpIfService.sendProdOrderBatchToErp(ifList);
-				if (!erpSendSuccess) {
-					erpIfFailed = true;
-					log.warn(
-							"[ERP IF][PROD ORDER][A][BULK] send failed but MES save will continue. detailId={}, date={}, seq={}, workSeq={}, cnt={}",
-							plan.getProdplanDetailId(),
-							plan.getProdplanDate(),
-							plan.getProdplanSeq(),
-							plan.getProdworkSeq(),
-							ifList.size()
-					);
-				} else {
-					log.info("[BULK] ERP IF end, size={}", ifList.size());
-					autoSyncErpResult(ifList);
-				}
-			} catch (Exception e) {
-				erpIfFailed = true;
-				log.warn(
-						"[ERP IF][PROD ORDER][A][BULK] send failed. detailId={}, date={}, seq={}, workSeq={}, cnt={}",
-						plan.getProdplanDetailId(),
-						plan.getProdplanDate(),
-						plan.getProdplanSeq(),
-						plan.getProdworkSeq(),
-						ifList.size(),
-						e
-				);
+		// 1. 이미 생산 지시된 계획인지 체크
+		// 이미 지시되어있으면 건너뜀
+		if (isAlreadyOrdered(plan)) {
+			return false;
+		}
+
+		// 2. 생산계획 기준 지시대상 공정 조회
+		List<ProdOrderRow> targets = findInsertTargets(plan);
+		if (targets.isEmpty()) {
+			throw new BizException("공정흐름이 등록되지 않은 품목이 존재합니다. \n" +
+					"생산지시번호 : "+plan.getProdplanDetailId());
+		}
+
+		String planLotNo = null;
+
+		// LOT 번호는 품목별로 필요한 개수를 한 번에 예약
+		Map<String, Iterator<String>> lotNos = reserveLotNos(targets, year);
+
+		for (ProdOrderRow row : targets) {
+			String lotNo = lotNos.get(lotProdCode(row)).next();
+			row.setLotNo(lotNo);
+			if ("Y".equals(row.getPlanFlag())) {
+				planLotNo = lotNo;
 			}
+			row.setProdplanDetailId(plan.getProdplanDetailId());
+			row.setOrderSeqno(plan.getOrderSeqno());
+			row.setOrderHistno(plan.getOrderHistno());
+		}
 
+		// 3. 생산지시 저장
+		List<ErpIFProdOrderDto> ifList = createProductionOrders(plan, targets);
 
-			// 4. 생산계획 order_flag 갱신 TPR301.ORDER_FLAG = ORDERED
-			updatePlanOrderFlag(
+		// 인터페이스부분 - 같은 트랜잭션에서 아웃박스에 기록하고 커밋 후 디스패처가 전송
+		erpOutboxService.enqueueProdOrders(ifList);
+
+
+		// 4. 생산계획 order_flag 갱신 TPR301.ORDER_FLAG = ORDERED
+		updatePlanOrderFlag(
+				plan.getProdplanDate(),
+				plan.getProdplanSeq(),
+				plan.getProdworkSeq(),
+				"ORDERED"
+		);
+
+		if (planLotNo != null && !planLotNo.isEmpty()) {
+			updatePlanLotNo(
 					plan.getProdplanDate(),
 					plan.getProdplanSeq(),
 					plan.getProdworkSeq(),
-					"ORDERED"
+					planLotNo
 			);
-
-			if (planLotNo != null && !planLotNo.isEmpty()) {
-				updatePlanLotNo(
-						plan.getProdplanDate(),
-						plan.getProdplanSeq(),
-						plan.getProdworkSeq(),
-						planLotNo
-				);
-			}
-
 		}
-
-		log.info("[BULK] service end, elapsed={}ms", System.currentTimeMillis() - startedAt);
-		return erpIfFailed;
+		return true;
 	}
 
 
@@ -501,14 +548,18 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 	/**
 	 * 선택한 생산계획의 공정 데이터를 ERP IF 테이블에 재전송
 	 * - ORDERED 상태인 계획의 기존 생산지시 공정 row를 조회
-	 * - ERP에 없는 mesIfKey만 필터하여 배치 전송
+	 * - 삭제 요청(ORDER_FLAG='D') 공정은 ERP에 삭제 행이 없을 때 D를, 나머지는 ERP에 없을 때 A를 다건 전송
+	 *   (ERP 존재 여부 확인과 등록을 한 문장으로 처리하며 키별 결과를 돌려줌)
+	 * - 아웃박스에 미전송 건이 있는 mesIfKey는 아웃박스 순서대로 전송되도록 제외하고, FAILED 건은 재시도 대기로 되돌림
 	 */
 	@Override
-	@Transactional(readOnly = true)
-	public boolean resendErpIf(List<ProdPlanKeyDto> plans) throws Exception {
-		if (plans == null || plans.isEmpty()) return false;
+	@Transactional
+	public List<ErpIfSendResult> resendErpIf(List<ProdPlanKeyDto> plans) throws Exception {
+		List<ErpIfSendResult> results = new ArrayList<>();
+		if (plans == null || plans.isEmpty()) return results;
 
-		List<ErpIFProdOrderDto> candidates = new ArrayList<>();
+		List<ErpIFProdOrderDto> adds = new ArrayList<>();
+		List<ErpIFProdOrderDto> deletes = new ArrayList<>();
 
 		for (ProdPlanKeyDto plan : plans) {
 			ProdOrderSearchParam param = new ProdOrderSearchParam();
@@ -516,43 +567,60 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 			param.setProdplanSeq(plan.getProdplanSeq());
 			param.setProdworkSeq(plan.getProdworkSeq());
 
-			List<ProdOrderRow> orders = productionOrderDAO.selectProdOrdersByPlanId(param);
+			List<ProdOrderRow> orders = selectSavedOrders(param);
 			for (ProdOrderRow row : orders) {
 				boolean isLastProcess = "Y".equals(row.getLastFlag());
+				if (row.getProdorderId() == null || row.getProdorderId().isEmpty() || !isLastProcess) {
+					continue;
+				}
+
+				if ("D".equals(row.getOrderFlag())) {
+					boolean hasErpWorkOrder = row.getErpWorkOrderSeq() != null && row.getErpWorkOrderSeq() != 0
+							&& row.getErpWorkOrderSerl() != null && row.getErpWorkOrderSerl() != 0;
+					if (hasErpWorkOrder) {
+						deletes.add(convertDeleteToIfDto(toDeleteDto(row, plan.getOpmanCode())));
+					}
+					continue;
+				}
+
 				boolean hasErpMapping = row.getWorkCodeId() != null && row.getWorkCodeId() > 0;
-				if (row.getProdorderId() != null && !row.getProdorderId().isEmpty()
-						&& isLastProcess && hasErpMapping) {
+				if (hasErpMapping) {
 					row.setOrderHistno(plan.getOrderHistno());
 					row.setOrderSeqno(plan.getOrderSeqno());
-					candidates.add(convertRowToIfDto(row, plan.getOpmanCode()));
+					adds.add(convertRowToIfDto(row, plan.getOpmanCode()));
 				}
 			}
 		}
 
-		if (candidates.isEmpty()) {
+		if (adds.isEmpty() && deletes.isEmpty()) {
 			log.info("[ERP IF][RESEND] 전송 대상 없음 (생산지시 미존재)");
-			return true;
+			return results;
 		}
 
-		List<String> allKeys = candidates.stream()
-				.map(ErpIFProdOrderDto::getMesIfKey)
-				.collect(Collectors.toList());
+		List<String> allKeys = new ArrayList<>();
+		adds.forEach(dto -> allKeys.add(dto.getMesIfKey()));
+		deletes.forEach(dto -> allKeys.add(dto.getMesIfKey()));
 
-		Set<String> existingKeys = erpIfService.selectExistingMesIfKeys(allKeys);
+		Set<String> outboxKeys = erpOutboxService.selectUnsentMesIfKeys(ErpOutboxType.PROD_ORDER, allKeys);
+		if (!outboxKeys.isEmpty()) {
+			int requeued = erpOutboxService.requeueFailed(ErpOutboxType.PROD_ORDER, new ArrayList<>(outboxKeys), null);
+			log.info("[ERP IF][RESEND] 아웃박스 미전송 {}건 제외 (FAILED {}건 재시도 대기)", outboxKeys.size(), requeued);
+		}
 
-		List<ErpIFProdOrderDto> toSend = candidates.stream()
-				.filter(dto -> !existingKeys.contains(dto.getMesIfKey()))
+		List<ErpIFProdOrderDto> addsToSend = adds.stream()
+				.filter(dto -> !outboxKeys.contains(dto.getMesIfKey()))
+				.collect(Collectors.toList());
+		List<ErpIFProdOrderDto> deletesToSend = deletes.stream()
+				.filter(dto -> !outboxKeys.contains(dto.getMesIfKey()))
 				.collect(Collectors.toList());
 
-		if (toSend.isEmpty()) {
-			log.info("[ERP IF][RESEND] 모두 이미 전송됨. cnt={}", candidates.size());
-			return true;
-		}
+		results.addAll(erpIfService.resendProdOrdersToErp(addsToSend));
+		results.addAll(erpIfService.deleteProdOrdersFromErp(deletesToSend));
 
-		log.info("[ERP IF][RESEND] 전송 시작. total={}, toSend={}", candidates.size(), toSend.size());
-		boolean success = erpIfService.sendProdOrderBatchToErp(toSend);
-		log.info("[ERP IF][RESEND] 전송 완료. success={}", success);
-		return success;
+		long failed = results.stream().filter(r -> ErpIfSendResult.FAILED.equals(r.getOutcome())).count();
+		log.info("[ERP IF][RESEND] 전송 완료. add={}, delete={}, outboxPending={}, failed={}",
+				adds.size(), deletes.size(), outboxKeys.size(), failed);
+		return results;
 	}
 
 
@@ -565,7 +633,13 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 			prodorderIds.addAll(ids);
 		}
 
-		if (prodorderIds.isEmpty()) {
+		return syncErpResultByMesIfKeys(prodorderIds);
+	}
+
+
+	@Override
+	public int syncErpResultByMesIfKeys(List<String> prodorderIds) throws Exception {
+		if (prodorderIds == null || prodorderIds.isEmpty()) {
 			return 0;
 		}
 
@@ -617,6 +691,42 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 		return list != null ? list : Collections.emptyList();
 	}
 
+	/**
+	 * 지시대상 공정의 LOT 번호를 품목(PROD_CODE)별로 필요한 개수만큼 한 번에 채번한다.
+	 * 같은 품목 안에서는 공정 순서대로 발급된다.
+	 * 채번 행(IDS2)은 트랜잭션 종료까지 잠기므로, 병렬 일괄지시에서 교착이 생기지 않도록 품목코드 순으로 예약한다.
+	 */
+	private Map<String, Iterator<String>> reserveLotNos(List<ProdOrderRow> targets, String year) throws Exception {
+		Map<String, Integer> counts = new TreeMap<>();
+		for (ProdOrderRow row : targets) {
+			counts.merge(lotProdCode(row), 1, Integer::sum);
+		}
+
+		Map<String, Iterator<String>> lotNos = new HashMap<>();
+		for (Map.Entry<String, Integer> entry : counts.entrySet()) {
+			String prodCode = entry.getKey();
+			List<String> reserved = egovConditionalIdService.getNextStringIds(
+					"TPR301M",
+					prodCode,
+					year,
+					prodCode + "-" + year,
+					3,
+					'0',
+					entry.getValue()
+			);
+			lotNos.put(prodCode, reserved.iterator());
+		}
+		return lotNos;
+	}
+
+	private static String lotProdCode(ProdOrderRow row) {
+		String prodCode = row.getProdCode();
+		if (prodCode == null || prodCode.isEmpty()) {
+			prodCode = row.getItemCode();
+		}
+		return prodCode;
+	}
+
 	/**
 	 * 생산계획 + 공정 정보를 기반으로 생산지시 INSERT DTO를 생성한다.
 	 */
@@ -677,7 +787,7 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 
 			ProdOrderInsertDto dto = mapToInsertDto(plan, row);
 			// 생산지시 ID 채번
-			dto.setProdorderId(productionOrderDAO.selectProdOrderNextId());
+			dto.setProdorderId(dailySequenceService.nextId(DailySequence.PROD_ORDER));
 			// WORK_SEQ 채번
 			dto.setOrderSeq(productionOrderDAO.selectProdOrderWorkSeq(dto));
 
@@ -872,69 +982,51 @@ public class EgovProductionOrderServiceImpl extends EgovAbstractServiceImpl impl
 		return dto;
 	}
 
-	private void autoSyncErpResult(List<ErpIFProdOrderDto> sent) {
-		try {
-			List<String> keys = sent.stream().map(ErpIFProdOrderDto::getMesIfKey).collect(Collectors.toList());
-			List<ErpIFProdOrderResultDto> results = erpIfService.selectErpResultByMesIfKeys(keys);
-			applyErpResults(results);
-			log.info("[ERP IF][AUTO SYNC] {}건 동기화", results.size());
-		} catch (Exception e) {
-			log.warn("[ERP IF][AUTO SYNC] 동기화 실패 (수동 동기화 사용)", e);
-		}
-	}
-
 	/**
 	 * ERP 처리 결과를 TPR504에 반영한다.
+	 * 결과를 세션 임시테이블(#ERP_RESULT)에 한 번 적재한 뒤 결과 반영, 미연동공정 삭제 확정, 전량 삭제 계획 조회를
+	 * 결과 건수와 무관하게 몇 개의 집합 문장으로 처리한다.
 	 * 반영 후 생산지시가 전부 삭제된 생산계획은 TPR301/TPR301M의 ORDER_FLAG를 PLANNED로, LOT_NO를 빈값으로 되돌린다.
+	 * LAST_FLAG='N'(ERP 미연동) 공정은 ERP로 전송되지 않아 결과 동기화로 DELETE_FLAG를 확정받을 수 없으므로,
+	 * 같은 계획의 ERP 연동공정(LAST_FLAG='Y')이 삭제 요청 중인 것 없이 전부 확정된 시점에 함께 DELETE_FLAG=1로 확정한다.
 	 */
 	private int applyErpResults(List<ErpIFProdOrderResultDto> results) throws Exception {
-		int updated = 0;
-		for (ErpIFProdOrderResultDto r : results) {
-			updated += productionOrderDAO.updateErpResultByProdorderId(r);
-
-			ProdPlanKeyDto planKey = productionOrderDAO.selectProdPlanKeyByProdorderId(r.getMesIfKey());
-			if (planKey != null) {
-				cascadeDeleteToUnlinkedProcesses(planKey);
-
-				int remaining = productionOrderDAO.selectProdorderIdsByPlanKey(planKey).size();
-				if (remaining == 0) {
-					updatePlanOrderFlag(planKey.getProdplanDate(), planKey.getProdplanSeq(), planKey.getProdworkSeq(), "PLANNED");
-					updatePlanLotNo(planKey.getProdplanDate(), planKey.getProdplanSeq(), planKey.getProdworkSeq(), "");
-				}
-			}
+		if (results == null || results.isEmpty()) {
+			return 0;
 		}
-		return updated;
-	}
 
-	/**
-	 * LAST_FLAG='N'(ERP 미연동) 공정은 ERP로 전송되지 않아 결과 동기화로 DELETE_FLAG를 확정받을 수 없다.
-	 * 같은 계획의 ERP 연동공정(LAST_FLAG='Y')이 삭제 요청 중인 것 없이 전부 DELETE_FLAG=1로 확정된 시점에
-	 * 미연동공정도 함께 DELETE_FLAG=1로 확정한다.
-	 */
-	private void cascadeDeleteToUnlinkedProcesses(ProdPlanKeyDto planKey) throws Exception {
-		ProdOrderSearchParam param = new ProdOrderSearchParam();
-		param.setProdplanDate(planKey.getProdplanDate());
-		param.setProdplanSeq(planKey.getProdplanSeq());
-		param.setProdworkSeq(planKey.getProdworkSeq());
+		productionOrderDAO.createErpResultWork();
+		try {
+			int chunkNo = 0;
+			for (int from = 0; from < results.size(); from += ERP_RESULT_CHUNK_SIZE) {
+				int to = Math.min(from + ERP_RESULT_CHUNK_SIZE, results.size());
+				productionOrderDAO.insertErpResultWork(chunkNo++, results.subList(from, to));
+			}
 
-		List<ProdOrderRow> remaining = productionOrderDAO.selectProdOrdersByPlanId(param);
+			int updated = productionOrderDAO.applyErpResultWork();
 
-		boolean linkedStillPending = remaining.stream()
-				.anyMatch(row -> "Y".equals(row.getLastFlag()) && "D".equals(row.getOrderFlag()));
-		if (linkedStillPending) {
-			return;
+			List<ProdPlanKeyDto> emptied = productionOrderDAO.selectEmptiedErpResultPlans();
+			for (int from = 0; from < emptied.size(); from += PLAN_KEY_CHUNK_SIZE) {
+				int to = Math.min(from + PLAN_KEY_CHUNK_SIZE, emptied.size());
+				productionOrderDAO.updateProdPlansToPlanned(emptied.subList(from, to));
+			}
+
+			log.info("[ERP IF][SYNC] 결과 반영 완료. results={}, updated={}, plannedPlans={}",
+					results.size(), updated, emptied.size());
+			return updated;
+		} finally {
+			dropErpResultWork();
 		}
+	}
 
-		for (ProdOrderRow row : remaining) {
-			if (!"Y".equals(row.getLastFlag()) && "D".equals(row.getOrderFlag())) {
-				ProdOrderDeleteDto delDto = new ProdOrderDeleteDto();
-				delDto.setProdplanDate(row.getProdplanDate());
-				delDto.setProdplanSeq(row.getProdplanSeq());
-				delDto.setProdworkSeq(row.getProdworkSeq());
-				delDto.setProdorderId(row.getProdorderId());
-				delDto.setOpmanCode(row.getOpmanCode2());
-				productionOrderDAO.deleteProductionOrder(delDto);
-			}
+	/**
+	 * 임시테이블 정리 실패가 본래 예외를 가리지 않도록 로그만 남긴다. (다음 생성 시 기존 테이블을 먼저 삭제한다)
+	 */
+	private void dropErpResultWork() {
+		try {
+			productionOrderDAO.dropErpResultWork();
+		} catch (RuntimeException e) {
+			log.warn("[ERP IF][SYNC] 임시테이블 삭제 실패: {}", e.getMessage());
 		}
 	}
 
@@ -1,8 +1,12 @@
 package egovframework.let.production.order.service.impl;
 
 import egovframework.let.production.order.domain.model.ErpIFProdOrderDto;
+import egovframework.let.erpIf.domain.model.ErpIfKeyCount;
 import egovframework.let.production.order.domain.model.ErpIFProdOrderResultDto;
+import egovframework.let.production.order.domain.model.ErpIfSendResult;
 import egovframework.let.erpIf.domain.repository.ErpIFProdOrderDAO;
+import egovframework.let.erpIf.service.ErpAccessGuard;
+import egovframework.let.erpIf.service.ErpUnavailableException;
 import egovframework.let.production.order.service.ErpIFProdOrderService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -12,8 +16,12 @@ import org.springframework.stereotype.Service;
 import javax.sql.DataSource;
 import java.sql.Connection;
 import java.sql.DatabaseMetaData;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 @Slf4j
@@ -21,30 +29,41 @@ import java.util.Set;
 @RequiredArgsConstructor
 public class ErpIFProdOrderServiceImpl implements ErpIFProdOrderService {
 
+    /** 다건 INSERT 1회 행 수 (행당 파라미터 20개, SQL Server 파라미터 2100개 제한) */
+    private static final int SEND_CHUNK_SIZE = 80;
+
     private final ErpIFProdOrderDAO erpIfDao;
 
     @Qualifier("erpDataSource")
     private final DataSource erpDataSource;
 
+    private final ErpAccessGuard erpAccessGuard;
+
     /**
      * ERP DB 연결 정보 확인용 (INSERT 안 함)
      */
     @Override
     public void checkErpDbConnection() throws Exception {
 
-        try (Connection conn = erpDataSource.getConnection()) {
+        erpAccessGuard.call("checkErpDbConnection", () -> {
+            try (Connection conn = erpDataSource.getConnection()) {
 
-            DatabaseMetaData meta = conn.getMetaData();
+                DatabaseMetaData meta = conn.getMetaData();
 
-            log.info("[ERP IF][DB CHECK] URL      = {}", meta.getURL());
-            log.info("[ERP IF][DB CHECK] USERNAME = {}", meta.getUserName());
-        }
+                log.info("[ERP IF][DB CHECK] URL      = {}", meta.getURL());
+                log.info("[ERP IF][DB CHECK] USERNAME = {}", meta.getUserName());
+            }
+            return null;
+        });
     }
 
     @Override
     public boolean sendProdOrderToErp(ErpIFProdOrderDto dto) {
         try {
-            erpIfDao.insertErpIFProdOrder(dto);
+            erpAccessGuard.call("insertErpIFProdOrder", () -> {
+                erpIfDao.insertErpIFProdOrder(dto);
+                return null;
+            });
             return true;
         } catch (Exception e) {
             log.warn("[ERP IF][PROD ORDER][SINGLE] send failed. mesIfKey={}", dto != null ? dto.getMesIfKey() : null, e);
@@ -56,7 +75,10 @@ public class ErpIFProdOrderServiceImpl implements ErpIFProdOrderService {
     public boolean sendProdOrderBatchToErp(List<ErpIFProdOrderDto> list) {
         if (list == null || list.isEmpty()) return true;
         try {
-            erpIfDao.insertErpIFProdOrderBatch(list);
+            erpAccessGuard.call("insertErpIFProdOrderBatch", () -> {
+                erpIfDao.insertErpIFProdOrderBatch(list);
+                return null;
+            });
             return true;
         } catch (Exception e) {
             log.warn("[ERP IF][PROD ORDER][BATCH] send failed. cnt={}", list.size(), e);
@@ -64,16 +86,89 @@ public class ErpIFProdOrderServiceImpl implements ErpIFProdOrderService {
         }
     }
 
+    @Override
+    public List<ErpIfSendResult> resendProdOrdersToErp(List<ErpIFProdOrderDto> list) {
+        return sendIfAbsent("A", list);
+    }
+
+    @Override
+    public List<ErpIfSendResult> deleteProdOrdersFromErp(List<ErpIFProdOrderDto> list) {
+        return sendIfAbsent("D", list);
+    }
+
+    /**
+     * MESIFKey의 최근 ERP IF 행이 같은 WorkingTag로 아직 미처리인 건을 제외하고 다건 INSERT 한 문장으로 등록한다.
+     * 묶음 등록이 실패하면 해당 묶음을 건별로 다시 등록하여 실패한 키만 FAILED로 돌려준다.
+     * 같은 키가 여러 번 들어오면 첫 건만 보낸다.
+     */
+    private List<ErpIfSendResult> sendIfAbsent(String workingTag, List<ErpIFProdOrderDto> list) {
+        if (list == null || list.isEmpty()) return new ArrayList<>();
+
+        Map<String, ErpIFProdOrderDto> byKey = new LinkedHashMap<>();
+        List<ErpIfSendResult> results = new ArrayList<>(list.size());
+        for (ErpIFProdOrderDto dto : list) {
+            if (!workingTag.equals(dto.getWorkingTag())) {
+                results.add(ErpIfSendResult.of(dto, ErpIfSendResult.FAILED, "WorkingTag must be " + workingTag));
+            } else if (byKey.putIfAbsent(dto.getMesIfKey(), dto) != null) {
+                results.add(ErpIfSendResult.of(dto, ErpIfSendResult.SKIPPED, "duplicate key in request"));
+            }
+        }
+
+        List<ErpIFProdOrderDto> rows = new ArrayList<>(byKey.values());
+        int sent = 0;
+        for (int from = 0; from < rows.size(); from += SEND_CHUNK_SIZE) {
+            List<ErpIFProdOrderDto> chunk = rows.subList(from, Math.min(from + SEND_CHUNK_SIZE, rows.size()));
+            try {
+                sent += collect(chunk, insertIfAbsent(chunk), results);
+            } catch (ErpUnavailableException e) {
+                // ERP 접근 차단 중에는 건별 재전송하지 않고 바로 실패 처리
+                for (ErpIFProdOrderDto dto : chunk) {
+                    results.add(ErpIfSendResult.of(dto, ErpIfSendResult.FAILED, e.getMessage()));
+                }
+            } catch (Exception e) {
+                log.warn("[ERP IF][PROD ORDER][{}] batch send failed, retry one by one. cnt={}", workingTag, chunk.size(), e);
+                for (ErpIFProdOrderDto dto : chunk) {
+                    try {
+                        sent += collect(Collections.singletonList(dto),
+                                insertIfAbsent(Collections.singletonList(dto)), results);
+                    } catch (Exception rowError) {
+                        log.warn("[ERP IF][PROD ORDER][{}] send failed. mesIfKey={}", workingTag, dto.getMesIfKey(), rowError);
+                        results.add(ErpIfSendResult.of(dto, ErpIfSendResult.FAILED, rowError.getMessage()));
+                    }
+                }
+            }
+        }
+        log.info("[ERP IF][PROD ORDER][{}] requested={}, sent={}, results={}", workingTag, list.size(), sent, results.size());
+        return results;
+    }
+
+    private List<ErpIfKeyCount> insertIfAbsent(List<ErpIFProdOrderDto> rows) {
+        return erpAccessGuard.call("insertErpIFProdOrderIfAbsent", () -> erpIfDao.insertErpIFProdOrderIfAbsent(rows));
+    }
+
+    private static int collect(List<ErpIFProdOrderDto> chunk, List<ErpIfKeyCount> inserted, List<ErpIfSendResult> results) {
+        Set<String> insertedKeys = new HashSet<>();
+        for (ErpIfKeyCount row : inserted) {
+            insertedKeys.add(row.getMesIfKey());
+        }
+        for (ErpIFProdOrderDto dto : chunk) {
+            boolean sent = insertedKeys.contains(dto.getMesIfKey());
+            results.add(ErpIfSendResult.of(dto, sent ? ErpIfSendResult.SENT : ErpIfSendResult.SKIPPED,
+                    sent ? null : "already pending in ERP IF"));
+        }
+        return insertedKeys.size();
+    }
+
     @Override
     public void updateProdOrderResult(ErpIFProdOrderResultDto dto) {
-        erpIfDao.updateErpIFProdOrderResult(dto);
+        erpAccessGuard.call("updateErpIFProdOrderResult", () -> erpIfDao.updateErpIFProdOrderResult(dto));
     }
 
     @Override
     public Set<String> selectExistingMesIfKeys(List<String> mesIfKeys) {
         if (mesIfKeys == null || mesIfKeys.isEmpty()) return new HashSet<>();
         try {
-            return new HashSet<>(erpIfDao.selectExistingMesIfKeys(mesIfKeys));
+            return new HashSet<>(erpAccessGuard.call("selectExistingMesIfKeys", () -> erpIfDao.selectExistingMesIfKeys(mesIfKeys)));
         } catch (Exception e) {
             log.warn("[ERP IF][MESIFKEY CHECK] ERP DB 조회 실패, erpIfInserted 전부 false 처리", e);
             return new HashSet<>();
@@ -84,7 +179,7 @@ public class ErpIFProdOrderServiceImpl implements ErpIFProdOrderService {
     public List<ErpIFProdOrderResultDto> selectErpResultByMesIfKeys(List<String> mesIfKeys) {
         if (mesIfKeys == null || mesIfKeys.isEmpty()) return new java.util.ArrayList<>();
         try {
-            return erpIfDao.selectErpResultByMesIfKeys(mesIfKeys);
+            return erpAccessGuard.call("selectErpResultByMesIfKeys", () -> erpIfDao.selectErpResultByMesIfKeys(mesIfKeys));
         } catch (Exception e) {
             log.warn("[ERP IF][RESULT SYNC] ERP DB 결과 조회 실패. keys={}", mesIfKeys.size(), e);
             return new java.util.ArrayList<>();
@@ -0,0 +1,239 @@
+package egovframework.let.production.order.service.impl;
+
+import egovframework.let.production.order.domain.model.ProdPlanKeyDto;
+import egovframework.let.production.order.domain.model.ProdPlanOrderResult;
+import egovframework.let.production.order.domain.model.ProdPlanRootItemRow;
+import egovframework.let.production.order.domain.repository.ProductionOrderDAO;
+import egovframework.let.production.order.service.EgovProductionOrderBulkService;
+import egovframework.let.production.order.service.EgovProductionOrderService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 생산지시 병렬 일괄지시
+ * 최상위 품목이 겹치는 계획끼리 묶어 묶음 안에서는 순서대로, 묶음끼리는 prodOrderBulkTaskExecutor에서 동시에 처리한다.
+ * 계획마다 EgovProductionOrderService.createProductionOrdersForPlan을 호출하여 계획별 트랜잭션으로 저장하므로
+ * 실패한 계획의 지시/LOT 채번만 롤백된다.
+ * 전체를 하나의 트랜잭션으로 묶지 않도록 전역 트랜잭션 AOP 대상(*Impl)이 아닌 이름을 쓰고, 트랜잭션 없이 실행함을 명시한다.
+ * 전체 대기는 Globals.production.order.bulkTimeoutSeconds로 제한한다. 시간을 넘기면 아직 시작하지 않은 계획은 처리하지 않고
+ * NOT_STARTED로, 처리 중이던 계획은 끝까지 진행되어 커밋될 수 있으므로 TIMEOUT(결과 미확인)으로 구분하여 돌려준다.
+ *
+ * LOT 번호(TPR301M, 품목/연도별)는 계획 트랜잭션 안에서 IDS2 행을 갱신하여 채번하므로
+ * 같은 품목을 채번하는 다른 계획은 커밋/롤백까지 대기하고, 롤백되면 번호도 함께 되돌아가 빈 번호가 생기지 않는다.
+ * (Globals.idgen.conditional.cacheTables에 TPR301M을 지정하면 블록 예약으로 빈 번호가 생길 수 있다.)
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Service("egovProductionOrderBulkService")
+public class ProdOrderParallelBulkRunner implements EgovProductionOrderBulkService {
+
+    private final EgovProductionOrderService productionOrderService;
+
+    private final ProductionOrderDAO productionOrderDAO;
+
+    private final Executor executor;
+
+    private final long timeoutMillis;
+
+    /** 최상위 품목 일괄 조회 단위 (계획당 파라미터 3개, SQL Server 2100개 제한) */
+    private static final int ROOT_ITEM_PLAN_CHUNK_SIZE = 500;
+
+    public ProdOrderParallelBulkRunner(EgovProductionOrderService productionOrderService,
+                                       ProductionOrderDAO productionOrderDAO,
+                                       @Qualifier("prodOrderBulkTaskExecutor") Executor executor,
+                                       @Value("${Globals.production.order.bulkTimeoutSeconds:300}") long timeoutSeconds) {
+        this.productionOrderService = productionOrderService;
+        this.productionOrderDAO = productionOrderDAO;
+        this.executor = executor;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(Math.max(1, timeoutSeconds));
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public List<ProdPlanOrderResult> bulkCreateProductionOrdersParallel(List<ProdPlanKeyDto> plans) throws Exception {
+        List<ProdPlanOrderResult> results = new ArrayList<>();
+        if (plans == null || plans.isEmpty()) return results;
+
+        long startedAt = System.currentTimeMillis();
+
+        // 같은 계획 중복 제거 (요청 순서 유지)
+        Map<String, ProdPlanKeyDto> unique = new LinkedHashMap<>();
+        for (ProdPlanKeyDto plan : plans) {
+            unique.putIfAbsent(planKey(plan), plan);
+        }
+
+        List<List<ProdPlanKeyDto>> groups = groupByRootItem(new ArrayList<>(unique.values()));
+        log.info("[BULK][PARALLEL] start, planCount={}, groupCount={}", unique.size(), groups.size());
+
+        Map<String, ProdPlanOrderResult> resultByPlan = new ConcurrentHashMap<>();
+        // 시작한 계획 - 시간 초과 표시와 같은 잠금 안에서 기록하여, 표시 후에는 새로 시작하는 계획이 없게 한다
+        Set<String> started = new HashSet<>();
+        AtomicBoolean timedOut = new AtomicBoolean();
+        List<CompletableFuture<Void>> futures = new ArrayList<>(groups.size());
+        for (List<ProdPlanKeyDto> group : groups) {
+            futures.add(CompletableFuture.runAsync(() -> {
+                for (ProdPlanKeyDto plan : group) {
+                    synchronized (started) {
+                        // 시간 초과 후에는 남은 계획을 시작하지 않는다
+                        if (timedOut.get()) return;
+                        started.add(planKey(plan));
+                    }
+                    resultByPlan.put(planKey(plan), createForPlan(plan));
+                }
+            }, executor));
+        }
+        awaitAll(futures, started, timedOut);
+
+        int failed = 0;
+        for (Map.Entry<String, ProdPlanKeyDto> entry : unique.entrySet()) {
+            ProdPlanOrderResult result = resultByPlan.get(entry.getKey());
+            if (result == null) {
+                boolean inFlight;
+                synchronized (started) {
+                    inFlight = started.contains(entry.getKey());
+                }
+                result = inFlight
+                        ? ProdPlanOrderResult.of(entry.getValue(), ProdPlanOrderResult.TIMEOUT,
+                                "처리 시간이 초과되어 결과를 확인하지 못했습니다. 생산지시 현황에서 확인해주세요.")
+                        : ProdPlanOrderResult.of(entry.getValue(), ProdPlanOrderResult.NOT_STARTED,
+                                "제한 시간 안에 시작하지 못해 처리하지 않았습니다. 다시 지시해주세요.");
+            }
+            if (!ProdPlanOrderResult.ORDERED.equals(result.getOutcome())
+                    && !ProdPlanOrderResult.SKIPPED.equals(result.getOutcome())) failed++;
+            results.add(result);
+        }
+
+        log.info("[BULK][PARALLEL] end, planCount={}, failed={}, elapsed={}ms",
+                results.size(), failed, System.currentTimeMillis() - startedAt);
+        return results;
+    }
+
+    /**
+     * 묶음 실행을 최대 timeoutMillis까지 기다린다. 시간을 넘기면 남은 계획을 시작하지 않도록 표시한다.
+     */
+    private void awaitAll(List<CompletableFuture<Void>> futures, Set<String> started, AtomicBoolean timedOut)
+            throws InterruptedException {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(timeoutMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            synchronized (started) {
+                timedOut.set(true);
+            }
+            log.warn("[BULK][PARALLEL] {}ms 안에 끝나지 않아 남은 계획 처리를 중단합니다.", timeoutMillis);
+        } catch (ExecutionException e) {
+            // 계획별 예외는 createForPlan에서 결과로 바뀌므로 실행기 거부 등만 해당
+            log.error("[BULK][PARALLEL] 묶음 실행 실패", e.getCause());
+        } catch (InterruptedException e) {
+            synchronized (started) {
+                timedOut.set(true);
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 계획 1건 생성 - 예외는 실패 결과로 바꾸어 다른 계획 처리를 계속한다.
+     */
+    private ProdPlanOrderResult createForPlan(ProdPlanKeyDto plan) {
+        try {
+            boolean created = productionOrderService.createProductionOrdersForPlan(plan);
+            return ProdPlanOrderResult.of(plan, created ? ProdPlanOrderResult.ORDERED : ProdPlanOrderResult.SKIPPED, null);
+        } catch (Exception e) {
+            log.warn("[BULK][PARALLEL] 생산지시 생성 실패 - plan={}, detailId={}", planKey(plan), plan.getProdplanDetailId(), e);
+            return ProdPlanOrderResult.of(plan, ProdPlanOrderResult.FAILED, e.getMessage());
+        }
+    }
+
+    /**
+     * 최상위 품목(BOM 스냅샷/공정흐름 조회 대상)이 하나라도 겹치는 계획을 같은 묶음으로 모은다.
+     * 묶음 순서와 묶음 안의 계획 순서는 요청 순서를 따른다.
+     */
+    private List<List<ProdPlanKeyDto>> groupByRootItem(List<ProdPlanKeyDto> plans) {
+        int[] parent = new int[plans.size()];
+        for (int i = 0; i < parent.length; i++) {
+            parent[i] = i;
+        }
+
+        Map<String, List<Integer>> rootItemsByPlan = rootItems(plans);
+        Map<Integer, Integer> firstPlanByItem = new HashMap<>();
+        for (int i = 0; i < plans.size(); i++) {
+            for (Integer itemSeq : rootItemsByPlan.getOrDefault(planKey(plans.get(i)), Collections.emptyList())) {
+                if (itemSeq == null) continue;
+                Integer first = firstPlanByItem.putIfAbsent(itemSeq, i);
+                if (first != null) {
+                    union(parent, first, i);
+                }
+            }
+        }
+
+        Map<Integer, List<ProdPlanKeyDto>> groups = new LinkedHashMap<>();
+        for (int i = 0; i < plans.size(); i++) {
+            groups.computeIfAbsent(find(parent, i), k -> new ArrayList<>()).add(plans.get(i));
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    /**
+     * 전체 계획의 최상위 품목을 한 번에 조회한다 (계획 키별).
+     * 조회에 실패한 묶음의 계획은 단독 묶음으로 처리한다. (같은 품목 LOT 채번은 DB 잠금으로 직렬화됨)
+     */
+    private Map<String, List<Integer>> rootItems(List<ProdPlanKeyDto> plans) {
+        Map<String, List<Integer>> itemsByPlan = new HashMap<>();
+        for (int from = 0; from < plans.size(); from += ROOT_ITEM_PLAN_CHUNK_SIZE) {
+            List<ProdPlanKeyDto> chunk = plans.subList(from, Math.min(from + ROOT_ITEM_PLAN_CHUNK_SIZE, plans.size()));
+            try {
+                for (ProdPlanRootItemRow row : productionOrderDAO.selectRootItemCodesByPlans(chunk)) {
+                    String key = row.getProdplanDate() + "|" + row.getProdplanSeq() + "|" + row.getProdworkSeq();
+                    itemsByPlan.computeIfAbsent(key, k -> new ArrayList<>()).add(row.getItemSeq());
+                }
+            } catch (Exception e) {
+                log.warn("[BULK][PARALLEL] 최상위 품목 조회 실패 - planCount={}", chunk.size(), e);
+            }
+        }
+        return itemsByPlan;
+    }
+
+    private static int find(int[] parent, int i) {
+        while (parent[i] != i) {
+            parent[i] = parent[parent[i]];
+            i = parent[i];
+        }
+        return i;
+    }
+
+    // 묶음 대표는 요청 순서가 앞선 계획
+    private static void union(int[] parent, int a, int b) {
+        int rootA = find(parent, a);
+        int rootB = find(parent, b);
+        if (rootA != rootB) {
+            parent[Math.max(rootA, rootB)] = Math.min(rootA, rootB);
+        }
+    }
+
+    private static String planKey(ProdPlanKeyDto plan) {
+        return plan.getProdplanDate() + "|" + plan.getProdplanSeq() + "|" + plan.getProdworkSeq();
+    }
+}
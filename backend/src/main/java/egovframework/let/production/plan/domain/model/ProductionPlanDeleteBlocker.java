@@ -0,0 +1,28 @@
+package egovframework.let.production.plan.domain.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Schema(description = "생산계획 일괄 삭제 불가 사유 행")
+@Getter
+@Setter
+public class ProductionPlanDeleteBlocker implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /** 계획이 존재하지 않음 */
+    public static final String NOT_FOUND = "NOT_FOUND";
+    /** 삭제되지 않은 생산지시가 있음 */
+    public static final String ORDERED = "ORDERED";
+    /** 생산실적이 있음 */
+    public static final String RESULTED = "RESULTED";
+
+    @Schema(description = "계획번호")
+    private String planNo;
+
+    @Schema(description = "삭제 불가 사유 코드 (NOT_FOUND/ORDERED/RESULTED)")
+    private String blockCode;
+}
@@ -1,6 +1,7 @@
 package egovframework.let.production.plan.domain.repository;
 
 import egovframework.let.production.plan.domain.model.ProductionPlan;
+import egovframework.let.production.plan.domain.model.ProductionPlanDeleteBlocker;
 import egovframework.let.production.plan.domain.model.ProductionPlanMaster;
 import egovframework.let.production.plan.domain.model.ProductionPlanMonthlyDailyRow;
 import egovframework.let.production.plan.domain.model.ProductionPlanMonthlyOrderSummary;
@@ -10,7 +11,9 @@ import egovframework.let.production.plan.domain.model.ProductionRequestVO;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 생산계획 데이터 처리를 위한 DAO 클래스
@@ -250,33 +253,25 @@ public class ProductionPlanDAO extends EgovAbstractMapper {
 	}
 
 	/**
-	 * 생산계획에 연결된 생산지시 개수를 조회한다.
-	 * @param plan 생산계획 정보
-	 * @return 생산지시 개수
+	 * 계획번호 목록 중 삭제할 수 없는 계획과 사유를 한 번에 조회한다.
+	 * 미존재, 생산지시 등록, 생산실적 등록 순으로 먼저 해당하는 사유 하나만 돌려준다.
+	 * @param factoryCode 공장코드
+	 * @param planNos 계획번호 목록
+	 * @return 삭제 불가 계획별 사유 (삭제 가능한 계획은 포함되지 않음)
 	 * @throws Exception SQL 실행 중 오류 발생 시
 	 */
-	public int selectProductionOrderCount(ProductionPlanMaster master) throws Exception {
-		return selectOne("ProductionPlanDAO.selectProductionOrderCount", master);
+	public List<ProductionPlanDeleteBlocker> selectProductionPlanDeleteBlockers(String factoryCode, List<String> planNos) throws Exception {
+		return selectList("ProductionPlanDAO.selectProductionPlanDeleteBlockers", planNosParam(factoryCode, planNos));
 	}
 
 	/**
-	 * 생산계획에 등록된 생산실적 개수를 조회한다.
-	 * @param plan 생산계획 정보
-	 * @return 생산실적 개수
+	 * 생산계획 행 목록 중 생산실적이 등록된 행 개수를 한 번에 조회한다.
+	 * @param planList factoryCode, prodPlanId, prodworkSeq 포함
+	 * @return 생산실적이 등록된 행 개수
 	 * @throws Exception SQL 실행 중 오류 발생 시
 	 */
-	public int selectProductionResultCount(ProductionPlanMaster master) throws Exception {
-		return selectOne("ProductionPlanDAO.selectProductionResultCount", master);
-	}
-
-	/**
-	 * 행(PRODWORK_SEQ) 단위 생산실적 개수를 조회한다. (그룹 계획 부분 실적 체크용)
-	 * @param plan factoryCode, prodPlanDate, prodPlanSeq, prodworkSeq 포함
-	 * @return 해당 행의 생산실적 개수
-	 * @throws Exception SQL 실행 중 오류 발생 시
-	 */
-	public int selectProductionResultCountByWork(ProductionPlan plan) throws Exception {
-		return selectOne("ProductionPlanDAO.selectProductionResultCountByWork", plan);
+	public int selectProductionResultCountByWorks(List<ProductionPlan> planList) throws Exception {
+		return selectOne("ProductionPlanDAO.selectProductionResultCountByWorks", planList);
 	}
 
 	/**
@@ -290,34 +285,46 @@ public class ProductionPlanDAO extends EgovAbstractMapper {
 	}
 
 	/**
-	 * 생산계획 날짜만 수정한다. (지시 완료 상태에서 허용)
-	 * @param plan factoryCode, prodPlanId, planDate, opmanCode2 포함
-	 * @return 수정(UPDATE) 결과, 성공 시 1
+	 * 생산계획 행 목록의 날짜/납기일/공정/설비를 한 문장으로 수정한다. (지시 완료 상태에서 허용)
+	 * @param planList factoryCode, prodPlanId, prodworkSeq, planDate, deliveryDate, processCode, equipmentId, opmanCode2 포함
+	 * @return 수정(UPDATE) 건수
 	 * @throws Exception SQL 실행 중 오류 발생 시
 	 */
-	public int updateProductionPlanDateOnly(ProductionPlan plan) throws Exception {
-		return update("ProductionPlanDAO.updateProductionPlanDateOnly", plan);
+	public int updateProductionPlanDates(List<ProductionPlan> planList) throws Exception {
+		return update("ProductionPlanDAO.updateProductionPlanDates", planList);
 	}
 
 	/**
-	 * 생산계획 행 기준으로 생산지시일(WORKDT_DATE)을 수정한다.
-	 * TPR504.PRODPLAN_ID 값 체계에 의존하지 않도록 TPR301 조인 키(PRODPLAN_DATE/SEQ/WORK_SEQ)로 매칭한다.
-	 * @param plan factoryCode, prodPlanId, prodworkSeq, planDate, opmanCode2 포함
-	 * @return 수정(UPDATE) 결과
+	 * 생산계획 행 목록 기준으로 생산지시일(WORKDT_DATE)/공정/설비를 한 문장으로 동기화한다.
+	 * TPR504.PRODPLAN_ID 값 체계에 의존하지 않도록 TPR301 조인 키(PRODPLAN_DATE/SEQ/WORK_SEQ)로 매칭하며,
+	 * 수정된 TPR301 값을 옮기므로 updateProductionPlanDates 이후에 호출한다.
+	 * @param planList factoryCode, prodPlanId, prodworkSeq, opmanCode2 포함
+	 * @return 수정(UPDATE) 건수
 	 * @throws Exception SQL 실행 중 오류 발생 시
 	 */
-	public int updateProductionOrderWorkDateByPlanId(ProductionPlan plan) throws Exception {
-		return update("ProductionPlanDAO.updateProductionOrderWorkDateByPlanId", plan);
+	public int updateProductionOrdersByPlans(List<ProductionPlan> planList) throws Exception {
+		return update("ProductionPlanDAO.updateProductionOrdersByPlans", planList);
 	}
 
 	/**
-	 * 생산계획 행 기준으로 생산지시 공정/설비를 수정한다.
-	 * @param plan factoryCode, prodPlanId, prodworkSeq, processCode, equipmentId, opmanCode2 포함
-	 * @return 수정(UPDATE) 결과
+	 * 계획번호 목록의 생산계획 참조(주문연결), 상세, 마스터를 차례로 삭제한다.
+	 * @param factoryCode 공장코드
+	 * @param planNos 계획번호 목록
+	 * @return 삭제된 마스터 건수
 	 * @throws Exception SQL 실행 중 오류 발생 시
 	 */
-	public int updateProductionOrderEquipmentByPlanId(ProductionPlan plan) throws Exception {
-		return update("ProductionPlanDAO.updateProductionOrderEquipmentByPlanId", plan);
+	public int deleteProductionPlansByPlanIds(String factoryCode, List<String> planNos) throws Exception {
+		Map<String, Object> params = planNosParam(factoryCode, planNos);
+		delete("ProductionPlanDAO.deleteProductionPlanReferencesByPlanIds", params);
+		delete("ProductionPlanDAO.deleteProductionPlansByPlanIds", params);
+		return delete("ProductionPlanDAO.deleteProductionPlanMastersByPlanIds", params);
+	}
+
+	private static Map<String, Object> planNosParam(String factoryCode, List<String> planNos) {
+		Map<String, Object> params = new HashMap<>();
+		params.put("factoryCode", factoryCode);
+		params.put("planNos", planNos);
+		return params;
 	}
 
 }
\ No newline at end of file
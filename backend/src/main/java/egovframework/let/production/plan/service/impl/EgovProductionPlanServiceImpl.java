@@ -5,6 +5,7 @@ import egovframework.let.common.idgen.service.EgovConditionalIdService;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
 import org.egovframe.rte.fdl.idgnr.EgovIdGnrService;
 import egovframework.let.production.plan.domain.model.ProductionPlan;
+import egovframework.let.production.plan.domain.model.ProductionPlanDeleteBlocker;
 import egovframework.let.production.plan.domain.model.ProductionPlanMaster;
 import egovframework.let.production.plan.domain.model.ProductionPlanMonthlyDailyRow;
 import egovframework.let.production.plan.domain.model.ProductionPlanMonthlyOrderSummary;
@@ -28,6 +29,7 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
@@ -56,6 +58,10 @@ import java.util.LinkedHashSet;
 public class EgovProductionPlanServiceImpl extends EgovAbstractServiceImpl implements EgovProductionPlanService {
 	private static final int DEFAULT_DELIVERY_BUSINESS_DAYS = 8;
 	private static final DateTimeFormatter BASIC_DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyyMMdd");
+	// 계획 행 일괄 수정 시 한 번에 보낼 행 수 (행당 파라미터 최대 8개, SQL Server 파라미터 2100개 제한)
+	private static final int PLAN_ROW_CHUNK_SIZE = 250;
+	// 계획번호 IN/VALUES 목록 최대 건수
+	private static final int PLAN_NO_CHUNK_SIZE = 1000;
 
 	private final ProductionPlanDAO productionPlanDAO;
 	private final EgovConditionalIdService egovConditionalIdService;
@@ -282,15 +288,16 @@ public class EgovProductionPlanServiceImpl extends EgovAbstractServiceImpl imple
 		if (!planList.isEmpty()) {
 			String currentOrderFlag = productionPlanDAO.selectProductionPlanOrderFlag(planList.get(0));
 			if ("ORDERED".equals(currentOrderFlag)) {
-				// 행(PRODWORK_SEQ) 단위로 실적 체크: 실적 없는 행만 날짜 수정 허용
-				for (ProductionPlan plan : planList) {
-					int resultCount = productionPlanDAO.selectProductionResultCountByWork(plan);
-					if (resultCount > 0) {
+				// 행(PRODWORK_SEQ) 단위로 실적 체크: 변경 행 중 하나라도 실적이 있으면 전체 수정 불가
+				for (List<ProductionPlan> chunk : chunks(planList, PLAN_ROW_CHUNK_SIZE)) {
+					if (productionPlanDAO.selectProductionResultCountByWorks(chunk) > 0) {
 						throw new RuntimeException("생산실적이 등록된 계획은 계획일을 수정할 수 없습니다.");
 					}
-					productionPlanDAO.updateProductionPlanDateOnly(plan);
-					productionPlanDAO.updateProductionOrderWorkDateByPlanId(plan);
-					productionPlanDAO.updateProductionOrderEquipmentByPlanId(plan);
+				}
+				// 계획 행 수정 후 생산지시(TPR504)로 날짜/공정/설비를 조인 UPDATE로 전파
+				for (List<ProductionPlan> chunk : chunks(planList, PLAN_ROW_CHUNK_SIZE)) {
+					productionPlanDAO.updateProductionPlanDates(chunk);
+					productionPlanDAO.updateProductionOrdersByPlans(chunk);
 				}
 				productionPlanDAO.updateProductionPlanMaster(master);
 				return; // PROD_DATE 변경은 TPR301R 참조에 영향 없으므로 references 처리 불필요
@@ -355,24 +362,30 @@ public class EgovProductionPlanServiceImpl extends EgovAbstractServiceImpl imple
 			return result;
 		}
 
+		List<String> targetPlanNos = new ArrayList<>();
 		for (String planNo : new LinkedHashSet<>(planNos)) {
 			if (!StringUtils.hasText(planNo)) {
 				addFailureDetail(failureDetails, "", "계획번호가 없습니다.");
 				continue;
 			}
+			targetPlanNos.add(planNo);
+		}
 
-			try {
-				ProductionPlanMaster master = new ProductionPlanMaster();
-				master.setFactoryCode(factoryCode);
-				master.setProdPlanId(planNo);
-				master.setOpmanCode2(opmanCode2);
-
-				deleteProductionPlanInternal(master);
-				deletedCount++;
-			} catch (RuntimeException e) {
-				addFailureDetail(failureDetails, planNo, e.getMessage());
+		// 삭제 불가 사유를 한 번에 조회하고, 통과한 계획만 일괄 삭제
+		Map<String, String> blockReasons = selectDeleteBlockReasons(factoryCode, targetPlanNos);
+		List<String> deletablePlanNos = new ArrayList<>();
+		for (String planNo : targetPlanNos) {
+			String reason = blockReasons.get(planNo);
+			if (reason != null) {
+				addFailureDetail(failureDetails, planNo, reason);
+			} else {
+				deletablePlanNos.add(planNo);
 			}
 		}
+		for (List<String> chunk : chunks(deletablePlanNos, PLAN_NO_CHUNK_SIZE)) {
+			productionPlanDAO.deleteProductionPlansByPlanIds(factoryCode, chunk);
+		}
+		deletedCount = deletablePlanNos.size();
 
 		Map<String, Object> result = new HashMap<>();
 		result.put("deletedCount", deletedCount);
@@ -387,20 +400,34 @@ public class EgovProductionPlanServiceImpl extends EgovAbstractServiceImpl imple
 	}
 
 	private void validateProductionPlanDeletable(ProductionPlanMaster master) throws Exception {
-		List<ProductionPlan> existingPlans = productionPlanDAO.selectProductionPlanByPlanNo(master.getProdPlanId());
-		if (existingPlans == null || existingPlans.isEmpty()) {
-			throw new RuntimeException("삭제할 생산계획을 찾을 수 없습니다.");
+		String reason = selectDeleteBlockReasons(master.getFactoryCode(), Collections.singletonList(master.getProdPlanId()))
+				.get(master.getProdPlanId());
+		if (reason != null) {
+			throw new RuntimeException(reason);
 		}
+	}
 
-		int orderCount = productionPlanDAO.selectProductionOrderCount(master);
-		if (orderCount > 0) {
-			throw new RuntimeException("생산지시가 등록된 계획은 삭제할 수 없습니다. 먼저 생산지시를 취소해주세요.");
+	/**
+	 * 계획번호별 삭제 불가 사유 메시지를 조회한다. (삭제 가능한 계획은 포함되지 않음)
+	 */
+	private Map<String, String> selectDeleteBlockReasons(String factoryCode, List<String> planNos) throws Exception {
+		Map<String, String> reasons = new HashMap<>();
+		for (List<String> chunk : chunks(planNos, PLAN_NO_CHUNK_SIZE)) {
+			for (ProductionPlanDeleteBlocker blocker : productionPlanDAO.selectProductionPlanDeleteBlockers(factoryCode, chunk)) {
+				reasons.put(blocker.getPlanNo(), toDeleteBlockMessage(blocker.getBlockCode()));
+			}
 		}
+		return reasons;
+	}
 
-		int resultCount = productionPlanDAO.selectProductionResultCount(master);
-		if (resultCount > 0) {
-			throw new RuntimeException("생산실적이 등록된 계획은 삭제할 수 없습니다.");
+	private String toDeleteBlockMessage(String blockCode) {
+		if (ProductionPlanDeleteBlocker.NOT_FOUND.equals(blockCode)) {
+			return "삭제할 생산계획을 찾을 수 없습니다.";
+		}
+		if (ProductionPlanDeleteBlocker.ORDERED.equals(blockCode)) {
+			return "생산지시가 등록된 계획은 삭제할 수 없습니다. 먼저 생산지시를 취소해주세요.";
 		}
+		return "생산실적이 등록된 계획은 삭제할 수 없습니다.";
 	}
 
 	private void executeProductionPlanDelete(ProductionPlanMaster master) throws Exception {
@@ -414,6 +441,14 @@ public class EgovProductionPlanServiceImpl extends EgovAbstractServiceImpl imple
 		productionPlanDAO.deleteProductionPlanMaster(master);
 	}
 
+	private static <T> List<List<T>> chunks(List<T> list, int size) {
+		List<List<T>> chunks = new ArrayList<>();
+		for (int from = 0; from < list.size(); from += size) {
+			chunks.add(list.subList(from, Math.min(from + size, list.size())));
+		}
+		return chunks;
+	}
+
 	private void addFailureDetail(List<Map<String, String>> failureDetails, String planNo, String reason) {
 		Map<String, String> detail = new HashMap<>();
 		detail.put("planNo", planNo);
@@ -19,6 +19,7 @@ import org.egovframe.rte.fdl.property.EgovPropertyService;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -125,6 +126,51 @@ public class EgovProductionResultApiController {
 		return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS, message);
 	}
 
+	/**
+	 * 생산실적을 일괄 등록한다 (교대 마감 등 다건 등록)
+	 * @param details 생산실적 등록 요청 정보
+	 * @param user 사용자 정보
+	 * @return ResultVO
+	 * @throws Exception
+	 */
+	@Operation(
+			summary = "생산실적 일괄 등록",
+			description = "생산실적을 일괄 등록한다 (ID/순번 일괄 채번, 배치 저장)",
+			security = {@SecurityRequirement(name = "Authorization")},
+			tags = {"EgovProductionResultApiController"}
+	)
+	@ApiResponses(value = {
+			@ApiResponse(responseCode = "200", description = "등록 성공"),
+			@ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+	})
+	@PostMapping("/bulk")
+	public ResultVO registerProductionResults(
+			@RequestBody List<ProdResultInsertDto> details,
+			@Parameter(hidden = true) @AuthenticationPrincipal LoginVO user) throws Exception {
+
+		for (ProdResultInsertDto detail : details) {
+			detail.setOpmanCode(user.getUniqId());
+		}
+
+		String erpFailReason = productionResultService.registerProductionResults(details);
+
+		// 채번된 TPR601ID (요청 순서, 신규 행이 아니면 요청 값 그대로)
+		List<String> tpr601Ids = new ArrayList<>();
+		for (ProdResultInsertDto detail : details) {
+			tpr601Ids.add(detail.getTpr601Id());
+		}
+
+		Map<String, Object> resultMap = new HashMap<>();
+		resultMap.put("user", user);
+		resultMap.put("tpr601Ids", tpr601Ids);
+		resultMap.put("erpFailReason", erpFailReason);
+
+		String message = erpFailReason != null
+				? "실적 등록은 성공했지만 ERP 전송에 실패했습니다. (" + erpFailReason + ")"
+				: "생산실적이 등록되었습니다.";
+		return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS, message);
+	}
+
 	/**
 	 * 생산실적을 수정한다
 	 * @param details 생산실적 수정 요청 정보
@@ -26,10 +26,12 @@ public class ProdResultOrderRow {
     private String workCode;
     private String workName;
 
+    private String itemCodeId;
     private String itemCode;
     private String itemName;
     private String lotNo;
 
+    private String prodCodeId;
     private String prodCode;
     private String prodName;
     private String prodSpec;
@@ -1,11 +1,13 @@
 package egovframework.let.production.result.domain.repository;
 
+import egovframework.com.cmm.service.impl.BatchWriteDAO;
 import egovframework.let.production.result.domain.model.ProdResultBadDetailDto;
 import egovframework.let.production.result.domain.model.*;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
+import javax.annotation.Resource;
 import java.util.List;
 
 /**
@@ -29,6 +31,9 @@ import java.util.List;
 @Repository("ProductionResultDAO")
 public class ProductionResultDAO extends EgovAbstractMapper {
 
+	@Resource(name = "batchWriteDAO")
+	private BatchWriteDAO batchWriteDAO;
+
 	// 조건에 맞는 생산지시 목록 반환
 	public List<ProdResultOrderRow> selectProductionOrderList(ProdResultSearchDto searchVO) throws Exception {
 		log.info("==========> selectProductionOrderList <==========");
@@ -41,30 +46,30 @@ public class ProductionResultDAO extends EgovAbstractMapper {
 		return (Integer)selectOne("ProductionResultDAO.selectProductionOrderListCount", searchVO);
 	}
 
-	// 생산실적 TPR601 nextId 가져오기
-	public String selectProdResultNextId() throws Exception {
-		log.info("==========> selectProdResultNextId <==========");
-		return (String)selectOne("ProductionResultDAO.selectProdResultNextId");
-	}
-
 	// 생산실적 시퀀스 가져오기 PROD_SEQ
 	public int selectProdSeq(ProdResultInsertDto params) throws Exception {
 		log.info("==========> selectProdSeq <==========");
 		return (Integer)selectOne("ProductionResultDAO.selectProdSeq", params);
 	}
 
-	// 생산실적 TPR605 nextId 가져오기
-	public String selectProdResultBadNextId() throws Exception {
-		log.info("==========> selectProdResultBadNextId <==========");
-		return (String)selectOne("ProductionResultDAO.selectProdResultBadNextId");
-	}
-
 	// 생산실적 등록
 	public void insertProductionResult(ProdResultInsertDto dto) throws Exception {
 		log.info("==========> insertProductionResult <==========");
 		insert("ProductionResultDAO.insertProductionResult", dto);
 	}
 
+	// 생산실적 키(PRODPLAN_DATE/SEQ, PRODWORK_SEQ, WORK_SEQ)별 현재 최대 PROD_SEQ (prodSeq에 담아 반환, 트랜잭션 종료까지 잠금)
+	public List<ProdResultBaseDetailDto> selectMaxProdSeqs(List<? extends ProdResultDetailParent> keys) throws Exception {
+		log.info("==========> selectMaxProdSeqs <==========");
+		return selectList("ProductionResultDAO.selectMaxProdSeqs", keys);
+	}
+
+	// 생산실적 다건 등록 (배치 실행)
+	public int insertProductionResults(List<ProdResultInsertDto> list) throws Exception {
+		log.info("==========> insertProductionResults <==========");
+		return BatchWriteDAO.total(batchWriteDAO.insertAll("ProductionResultDAO.insertProductionResult", list));
+	}
+
 	// 생산실적 수정
 	public void updateProductionResult(ProdResultUpdateDto dto) throws Exception {
 		log.info("==========> updateProductionResult <==========");
@@ -83,10 +88,10 @@ public class ProductionResultDAO extends EgovAbstractMapper {
 		return (ProdResultErpLinkRow) selectOne("ProductionResultDAO.selectProductionResultForErp", key);
 	}
 
-	// 생산실적 작업자 TPR601W nextId 가져오기
-	public String selectProdResultWorkerNextId() throws Exception {
-		log.info("==========> selectProdResultWorkerNextId <==========");
-		return (String)selectOne("ProductionResultDAO.selectProdResultWorkerNextId");
+	// 생산실적 ERP IF 전송용 다건 조회 (TPR601ID 목록, 1000건 이하)
+	public List<ProdResultErpLinkRow> selectProductionResultsForErp(List<String> tpr601Ids) throws Exception {
+		log.info("==========> selectProductionResultsForErp <==========");
+		return selectList("ProductionResultDAO.selectProductionResultsForErp", tpr601Ids);
 	}
 
 	// 생산실적 시퀀스 가져오기 PROD_SEQ
@@ -101,6 +106,12 @@ public class ProductionResultDAO extends EgovAbstractMapper {
 		insert("ProductionResultDAO.insertProductionResultWorker", dto);
 	}
 
+	// 생산실적 -작업자 다건 등록 (배치 실행)
+	public int insertProductionResultWorkers(List<ProdResultWorkerDto> list) throws Exception {
+		log.info("==========> insertProductionResultWorkers <==========");
+		return BatchWriteDAO.total(batchWriteDAO.insertAll("ProductionResultDAO.insertProductionResultWorker", list));
+	}
+
 	// 생산실적 -작업자 삭제 (오버로드)
 	public void deleteProductionResultWorker(ProdResultDetailParent dto) throws Exception {
 		log.info("==========> deleteProductionResultWorker <==========");
@@ -119,6 +130,30 @@ public class ProductionResultDAO extends EgovAbstractMapper {
 		insert("ProductionResultDAO.insertBadDetail", dto);
 	}
 
+	// 생산실적 - 불량 상세 다건 등록 (배치 실행)
+	public int insertBadDetails(List<ProdResultBadDetailDto> list) throws Exception {
+		log.info("==========> insertBadDetails <==========");
+		return BatchWriteDAO.total(batchWriteDAO.insertAll("ProductionResultDAO.insertBadDetail", list));
+	}
+
+	// 생산실적 - 불량 상세 수량 다건 수정 (BAD_SEQ 기준, 배치 실행)
+	public int updateBadDetails(List<ProdResultBadDetailDto> list) throws Exception {
+		log.info("==========> updateBadDetails <==========");
+		return BatchWriteDAO.total(batchWriteDAO.updateAll("ProductionResultDAO.updateBadDetail", list));
+	}
+
+	// 생산실적 - 불량 상세 다건 삭제 (BAD_SEQ 기준, 배치 실행)
+	public int deleteBadDetailRows(List<ProdResultBadDetailDto> list) throws Exception {
+		log.info("==========> deleteBadDetailRows <==========");
+		return BatchWriteDAO.total(batchWriteDAO.deleteAll("ProductionResultDAO.deleteBadDetail", list));
+	}
+
+	// 생산실적 - 불량 상세 기존 행 조회 (BAD_SEQ/TPR605ID 포함, 변경분 비교용)
+	public List<ProdResultBadDetailDto> selectBadDetailRows(ProdResultDetailParent dto) throws Exception {
+		log.info("==========> selectBadDetailRows <==========");
+		return selectList("ProductionResultDAO.selectBadDetailRows", dto);
+	}
+
 	// 생산실적 - 불량 상세 삭제
 	public void deleteBadDetails(ProdResultDetailParent dto) throws Exception {
 		log.info("==========> deleteBadDetails <==========");
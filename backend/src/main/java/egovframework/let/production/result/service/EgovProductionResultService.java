@@ -35,6 +35,16 @@ public interface EgovProductionResultService {
     // 생산실적 TPR601 등록, ERP 전송 실패 시 실패 사유 반환 (성공 시 null)
     String insertProductionResult(List<ProdResultInsertDto> resultList) throws Exception;
 
+    /**
+     * 생산실적을 일괄 등록한다. (교대 마감 등 다건 등록용)
+     * ID/PROD_SEQ를 한 번에 채번하고 실적/작업자/불량상세를 배치로 저장하여
+     * 등록 건수와 관계없이 DB 왕복 횟수를 일정하게 유지한다.
+     * @param resultList 등록할 실적 (TPR601ID가 "new-"로 시작하는 행만 등록, 채번된 TPR601ID/PROD_SEQ로 갱신됨)
+     * @return ERP 전송 실패 사유 (성공 시 null)
+     * @throws Exception
+     */
+    String registerProductionResults(List<ProdResultInsertDto> resultList) throws Exception;
+
     // 생산실적 수정, ERP 전송 실패 시 실패 사유 반환 (성공 시 null)
     String updateProductionResult(List<ProdResultUpdateDto> resultList) throws Exception;
 
@@ -1,11 +1,20 @@
 package egovframework.let.production.result.service.impl;
 
 import egovframework.let.common.dto.ListResult;
+import egovframework.let.common.idgen.service.DailySequence;
+import egovframework.let.common.idgen.service.EgovDailySequenceService;
+import egovframework.let.common.master.domain.model.MasterCustomer;
+import egovframework.let.common.master.domain.model.MasterEquipment;
+import egovframework.let.common.master.domain.model.MasterItem;
+import egovframework.let.common.master.domain.model.MasterProcess;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.domain.model.MasterWorkcenter;
+import egovframework.let.common.master.service.MasterDataCacheService;
+import egovframework.let.erpIf.service.ErpOutboxService;
 import egovframework.let.production.result.domain.model.ProdResultBadDetailDto;
 import egovframework.let.production.result.domain.model.*;
 import egovframework.let.production.result.domain.repository.ProductionResultDAO;
 import egovframework.let.production.result.service.EgovProductionResultService;
-import egovframework.let.production.result.service.ErpIFProdResultService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.egovframe.rte.fdl.cmmn.EgovAbstractServiceImpl;
@@ -13,7 +22,12 @@ import org.springframework.stereotype.Service;
 
 import javax.transaction.Transactional;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * 생산계획 관리를 위한 서비스 구현 클래스
@@ -37,7 +51,14 @@ import java.util.List;
 public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl implements EgovProductionResultService {
 
 	private final ProductionResultDAO productionResultDAO;
-	private final ErpIFProdResultService erpIfService;
+	private final ErpOutboxService erpOutboxService;
+	private final EgovDailySequenceService dailySequenceService;
+	private final MasterDataCacheService masterDataCacheService;
+
+	// IN 목록 최대 건수 (SQL Server 파라미터 2100개 제한)
+	private static final int IN_CHUNK_SIZE = 1000;
+	// PROD_SEQ 일괄 조회 시 한 번에 보낼 키 수 (키당 파라미터 4개)
+	private static final int PROD_SEQ_KEY_CHUNK_SIZE = 400;
 
 	@Override
 	public ListResult<ProdResultOrderRow> selectProductionOrderList(ProdResultSearchDto dto) throws Exception {
@@ -46,10 +67,68 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 
 		List<ProdResultOrderRow> list = productionResultDAO.selectProductionOrderList(dto);
 		int resultCnt = productionResultDAO.selectProductionOrderListCount(dto);
+		fillMasterNames(list);
 
 		return new ListResult<>(list, resultCnt);
 	}
 
+	/**
+	 * 생산지시 목록에 거래처/작업장/공정/품목/설비 이름을 기준정보 캐시에서 채운다.
+	 */
+	private void fillMasterNames(List<ProdResultOrderRow> list) throws Exception {
+		if (list.isEmpty()) {
+			return;
+		}
+
+		List<String> customerCodes = new ArrayList<>();
+		List<String> workcenterCodes = new ArrayList<>();
+		List<String> processKeys = new ArrayList<>();
+		List<String> itemIds = new ArrayList<>();
+		List<String> equipSysCds = new ArrayList<>();
+		for (ProdResultOrderRow row : list) {
+			customerCodes.add(row.getCustomerCode());
+			workcenterCodes.add(row.getWorkcenterCode());
+			processKeys.add(MasterProcess.key(row.getFactoryCode(), row.getWorkCode()));
+			itemIds.add(row.getItemCodeId());
+			itemIds.add(row.getProdCodeId());
+			equipSysCds.add(row.getEquipSysCd());
+		}
+
+		Map<String, MasterCustomer> customers = masterDataCacheService.getAll(MasterTable.CUSTOMER, customerCodes);
+		Map<String, MasterWorkcenter> workcenters = masterDataCacheService.getAll(MasterTable.WORKCENTER, workcenterCodes);
+		Map<String, MasterProcess> processes = masterDataCacheService.getAll(MasterTable.PROCESS, processKeys);
+		Map<String, MasterItem> items = masterDataCacheService.getAll(MasterTable.ITEM, itemIds);
+		Map<String, MasterEquipment> equipments = masterDataCacheService.getAll(MasterTable.EQUIPMENT, equipSysCds);
+
+		for (ProdResultOrderRow row : list) {
+			MasterCustomer customer = customers.get(row.getCustomerCode());
+			row.setCustomerName(customer != null ? customer.getCustomerName() : null);
+
+			MasterWorkcenter workcenter = workcenters.get(row.getWorkcenterCode());
+			row.setWorkcenterName(workcenter != null ? workcenter.getWorkcenterName() : null);
+
+			// 기존 조인과 같이 공장코드 + 공정코드로 찾는다
+			MasterProcess process = processes.get(MasterProcess.key(row.getFactoryCode(), row.getWorkCode()));
+			row.setWorkName(process != null ? process.getWorkName() : null);
+
+			MasterItem item = items.get(row.getItemCodeId());
+			row.setItemCode(item != null ? nvl(item.getItemCode()) : "");
+			row.setItemName(item != null ? nvl(item.getItemName()) : "");
+
+			MasterItem prod = items.get(row.getProdCodeId());
+			row.setProdCode(prod != null ? nvl(prod.getItemCode()) : "");
+			row.setProdName(prod != null ? nvl(prod.getItemName()) : "");
+			row.setProdSpec(prod != null ? nvl(prod.getItemSpec()) : "");
+
+			MasterEquipment equipment = equipments.get(row.getEquipSysCd());
+			row.setEquipSysCdNm(equipment != null ? nvl(equipment.getEquipmentName()) : "");
+		}
+	}
+
+	private static String nvl(String value) {
+		return value != null ? value : "";
+	}
+
 	// 생산실적 저장
 	@Override
 	@Transactional
@@ -57,12 +136,13 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 		log.info("==========> insertProductionResult <==========");
 
 		List<String> erpFailReasons = new ArrayList<>();
+		List<ErpIFProdResultDto> erpIfList = new ArrayList<>();
+		BadDetailChanges badChanges = new BadDetailChanges();
 
 		for(ProdResultInsertDto dto : resultList){
-			String tpr601Id = dto.getTpr601Id();
-			if (tpr601Id.toLowerCase().startsWith("new-")) {
-				// 저장일자의 max TPR601ID 값 가져오기
-				String nextId = productionResultDAO.selectProdResultNextId();
+			if (isNewResult(dto)) {
+				// TPR601ID 채번
+				String nextId = dailySequenceService.nextId(DailySequence.PROD_RESULT);
 				dto.setTpr601Id(nextId);
 
 				// prod_seq 값 가져오기
@@ -75,20 +155,16 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 				// TPR601W 저장
 				saveProductionResultWorkers(dto);
 
-				// 불량 상세 저장
-				saveProductionResultBadDetails(dto);
+				// 불량 상세 수집 (루프 종료 후 일괄 저장)
+				addNewBadDetails(dto, 0, badChanges);
 
 
-				// ERP IF 전송 (A) - 실패해도 MES 저장은 유지. sendProdResultToErp는 예외를 던지지 않고 boolean만 반환하므로 결과를 직접 확인한다.
+				// ERP IF DTO 수집 (A) - 연계정보를 만들지 못해도 MES 저장은 유지
 				try {
 					ProdResultErpLinkRow row = productionResultDAO.selectProductionResultForErp(dto);
-					boolean erpSendSuccess = erpIfService.sendProdResultToErp(buildAddIfDto(
+					erpIfList.add(buildAddIfDto(
 							row, dto.getProdQty(), dto.getGoodQty(), dto.getBadQty(),
 							dto.getProdStime(), dto.getProdEtime(), dto.getWorkerCodes()));
-					if (!erpSendSuccess) {
-						log.warn("생산실적 ERP 전송 실패 - tpr601Id={}", dto.getTpr601Id());
-						erpFailReasons.add("ERP 전송에 실패했습니다. 관리자에게 문의하세요.");
-					}
 				} catch (Exception e) {
 					log.warn("생산실적 ERP 전송 실패 - tpr601Id={}", dto.getTpr601Id(), e);
 					erpFailReasons.add(e.getMessage());
@@ -109,6 +185,98 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 
 		}
 
+		// 불량 상세 일괄 저장
+		applyBadDetailChanges(badChanges);
+
+		// ERP IF 아웃박스 등록 (커밋 후 디스패처가 배치 전송)
+		erpOutboxService.enqueueProdResults(erpIfList);
+
+		return erpFailReasons.isEmpty() ? null : String.join("; ", erpFailReasons);
+	}
+
+	// 생산실적 일괄 저장 - 채번/조회/저장을 건별이 아닌 요청 단위로 묶어 DB 왕복 횟수를 일정하게 유지
+	@Override
+	@Transactional
+	public String registerProductionResults(List<ProdResultInsertDto> resultList) throws Exception {
+		log.info("==========> registerProductionResults <==========");
+
+		List<ProdResultInsertDto> newResults = new ArrayList<>();
+		for (ProdResultInsertDto dto : resultList) {
+			if (isNewResult(dto)) newResults.add(dto);
+		}
+		if (newResults.isEmpty()) return null;
+
+		// 1. TPR601ID 일괄 채번, PROD_SEQ는 키별 현재 최대값 다음부터 요청 순서대로 부여
+		List<String> resultIds = dailySequenceService.nextIds(DailySequence.PROD_RESULT, newResults.size());
+		Map<String, Integer> lastProdSeqs = selectLastProdSeqs(newResults);
+		int workerCount = 0;
+		for (int i = 0; i < newResults.size(); i++) {
+			ProdResultInsertDto dto = newResults.get(i);
+			dto.setTpr601Id(resultIds.get(i));
+			dto.setProdSeq(lastProdSeqs.merge(
+					prodSeqKey(dto.getProdplanDate(), dto.getProdplanSeq(), dto.getProdworkSeq(), dto.getWorkSeq()),
+					1, Integer::sum));
+			if (dto.getWorkerCodes() != null) workerCount += dto.getWorkerCodes().size();
+		}
+
+		// 2. 작업자/불량 상세 구성 - 신규 실적이므로 WORKER_SEQ/BAD_SEQ는 1부터
+		List<ProdResultWorkerDto> workers = new ArrayList<>();
+		if (workerCount > 0) {
+			Iterator<String> workerIds =
+					dailySequenceService.nextIds(DailySequence.PROD_RESULT_WORKER, workerCount).iterator();
+			for (ProdResultInsertDto dto : newResults) {
+				workers.addAll(buildWorkers(dto, workerIds));
+			}
+		}
+		BadDetailChanges badChanges = new BadDetailChanges();
+		for (ProdResultInsertDto dto : newResults) {
+			addNewBadDetails(dto, 0, badChanges);
+		}
+
+		// 3. TPR601 / TPR601W / TPR605 배치 저장
+		productionResultDAO.insertProductionResults(newResults);
+		if (!workers.isEmpty()) {
+			productionResultDAO.insertProductionResultWorkers(workers);
+		}
+		applyBadDetailChanges(badChanges);
+
+		// 4. ERP IF DTO 수집 (A) - 연계정보를 한 번에 조회, 만들지 못해도 MES 저장은 유지
+		List<String> erpFailReasons = new ArrayList<>();
+		List<ErpIFProdResultDto> erpIfList = new ArrayList<>();
+		Map<String, ProdResultErpLinkRow> linkRows = new HashMap<>();
+		try {
+			for (int from = 0; from < resultIds.size(); from += IN_CHUNK_SIZE) {
+				List<String> chunk = resultIds.subList(from, Math.min(from + IN_CHUNK_SIZE, resultIds.size()));
+				for (ProdResultErpLinkRow row : productionResultDAO.selectProductionResultsForErp(chunk)) {
+					linkRows.put(row.getTpr601Id(), row);
+				}
+			}
+		} catch (Exception e) {
+			log.warn("생산실적 ERP 연계정보 일괄 조회 실패 - {}건", resultIds.size(), e);
+			erpFailReasons.add(e.getMessage());
+		}
+
+		if (erpFailReasons.isEmpty()) {
+			for (ProdResultInsertDto dto : newResults) {
+				ProdResultErpLinkRow row = linkRows.get(dto.getTpr601Id());
+				if (row == null) {
+					erpFailReasons.add("ERP 연계정보 없음 - " + dto.getTpr601Id());
+					continue;
+				}
+				try {
+					erpIfList.add(buildAddIfDto(
+							row, dto.getProdQty(), dto.getGoodQty(), dto.getBadQty(),
+							dto.getProdStime(), dto.getProdEtime(), dto.getWorkerCodes()));
+				} catch (Exception e) {
+					log.warn("생산실적 ERP 전송 실패 - tpr601Id={}", dto.getTpr601Id(), e);
+					erpFailReasons.add(e.getMessage());
+				}
+			}
+		}
+
+		// ERP IF 아웃박스 등록 (커밋 후 디스패처가 배치 전송)
+		erpOutboxService.enqueueProdResults(erpIfList);
+
 		return erpFailReasons.isEmpty() ? null : String.join("; ", erpFailReasons);
 	}
 
@@ -119,6 +287,8 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 		log.info("==========> updateProductionResult <==========");
 
 		List<String> erpFailReasons = new ArrayList<>();
+		List<ErpIFProdResultDto> erpIfList = new ArrayList<>();
+		BadDetailChanges badChanges = new BadDetailChanges();
 
 		for(ProdResultUpdateDto  dto : resultList){
 
@@ -132,27 +302,20 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 			productionResultDAO.deleteProductionResultWorker(dto);
 			saveProductionResultWorkers(dto);
 
-			// 🔥 3. 불량 DELETE → INSERT (추가)
-			saveProductionResultBadDetails(dto);
+			// 불량 상세 변경분 수집 (QC_CODE 기준 비교, 루프 종료 후 일괄 반영)
+			diffBadDetails(dto, badChanges);
 
-			// ERP IF 전송: 기존 실적 취소(D) 후 재생성(A) - 각각 독립적으로 실패를 격리.
-			// sendProdResultToErp는 예외를 던지지 않고 boolean만 반환하므로 결과를 직접 확인한다.
+			// ERP IF DTO 수집: 기존 실적 취소(D) 후 재생성(A) - 아웃박스가 같은 키는 등록 순서대로 전송
 			try {
-				if (!erpIfService.sendProdResultToErp(buildDeleteIfDto(beforeRow))) {
-					log.warn("생산실적 ERP 취소전송 실패 - tpr601Id={}", dto.getTpr601Id());
-					erpFailReasons.add("ERP 전송에 실패했습니다. 관리자에게 문의하세요.");
-				}
+				erpIfList.add(buildDeleteIfDto(beforeRow));
 			} catch (Exception e) {
 				log.warn("생산실적 ERP 취소전송 실패 - tpr601Id={}", dto.getTpr601Id(), e);
 				erpFailReasons.add(e.getMessage());
 			}
 			try {
-				if (!erpIfService.sendProdResultToErp(buildAddIfDto(
+				erpIfList.add(buildAddIfDto(
 						beforeRow, dto.getProdQty(), dto.getGoodQty(), dto.getBadQty(),
-						dto.getProdStime(), dto.getProdEtime(), dto.getWorkerCodes()))) {
-					log.warn("생산실적 ERP 재생성전송 실패 - tpr601Id={}", dto.getTpr601Id());
-					erpFailReasons.add("ERP 전송에 실패했습니다. 관리자에게 문의하세요.");
-				}
+						dto.getProdStime(), dto.getProdEtime(), dto.getWorkerCodes()));
 			} catch (Exception e) {
 				log.warn("생산실적 ERP 재생성전송 실패 - tpr601Id={}", dto.getTpr601Id(), e);
 				erpFailReasons.add(e.getMessage());
@@ -161,6 +324,12 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 			// TPR601M DELETE ALL -> INSERT
 		}
 
+		// 불량 상세 변경분 일괄 반영
+		applyBadDetailChanges(badChanges);
+
+		// ERP IF 아웃박스 등록 (커밋 후 디스패처가 배치 전송)
+		erpOutboxService.enqueueProdResults(erpIfList);
+
 		return erpFailReasons.isEmpty() ? null : String.join("; ", erpFailReasons);
 	}
 
@@ -193,13 +362,9 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 		// 4. 실적 삭제 TPR601
 		productionResultDAO.deleteProductionResult(dto);
 
-		// ERP IF 전송 (D) - 실패해도 MES 삭제는 유지. sendProdResultToErp는 예외를 던지지 않고 boolean만 반환하므로 결과를 직접 확인한다.
+		// ERP IF 아웃박스 등록 (D) - 연계정보 조회에 실패해도 MES 삭제는 유지
 		if (beforeRow != null) {
-			boolean erpSendSuccess = erpIfService.sendProdResultToErp(buildDeleteIfDto(beforeRow));
-			if (!erpSendSuccess) {
-				log.warn("생산실적 ERP 삭제전송 실패 - tpr601Id={}", dto.getTpr601Id());
-				return "ERP 전송에 실패했습니다. 관리자에게 문의하세요.";
-			}
+			erpOutboxService.enqueueProdResults(Collections.singletonList(buildDeleteIfDto(beforeRow)));
 		}
 
 		return null;
@@ -227,14 +392,52 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 	}
 
 
-	// 생산실적 작업자 저장
+	// 신규 등록 대상 여부 (화면에서 추가한 행은 TPR601ID가 "new-"로 시작)
+	private boolean isNewResult(ProdResultInsertDto dto) {
+		return dto.getTpr601Id() != null && dto.getTpr601Id().toLowerCase().startsWith("new-");
+	}
+
+	// 키별 현재 최대 PROD_SEQ 일괄 조회 (중복 키는 한 번만 조회)
+	private Map<String, Integer> selectLastProdSeqs(List<ProdResultInsertDto> results) throws Exception {
+		Map<String, ProdResultInsertDto> keys = new LinkedHashMap<>();
+		for (ProdResultInsertDto dto : results) {
+			keys.putIfAbsent(prodSeqKey(dto.getProdplanDate(), dto.getProdplanSeq(), dto.getProdworkSeq(), dto.getWorkSeq()), dto);
+		}
+
+		List<ProdResultInsertDto> keyList = new ArrayList<>(keys.values());
+		Map<String, Integer> lastProdSeqs = new HashMap<>();
+		for (int from = 0; from < keyList.size(); from += PROD_SEQ_KEY_CHUNK_SIZE) {
+			List<ProdResultInsertDto> chunk = keyList.subList(from, Math.min(from + PROD_SEQ_KEY_CHUNK_SIZE, keyList.size()));
+			for (ProdResultBaseDetailDto row : productionResultDAO.selectMaxProdSeqs(chunk)) {
+				lastProdSeqs.put(prodSeqKey(row.getProdplanDate(), row.getProdplanSeq(), row.getProdworkSeq(), row.getWorkSeq()),
+						row.getProdSeq());
+			}
+		}
+		return lastProdSeqs;
+	}
+
+	private static String prodSeqKey(String prodplanDate, Integer prodplanSeq, Integer prodworkSeq, Integer workSeq) {
+		return prodplanDate + "|" + prodplanSeq + "|" + prodworkSeq + "|" + workSeq;
+	}
+
+	// 생산실적 작업자 저장 (신규 실적 또는 기존 작업자 삭제 후 호출되므로 WORKER_SEQ는 1부터)
 	private void saveProductionResultWorkers(ProdResultDetailParent parent) throws Exception {
 		log.info("==========> saveProductionResultWorkers <==========");
 
 		List<String> workers = parent.getWorkerCodes();
 		if (workers == null || workers.isEmpty()) return;
 
-		for (String workerCode : workers) {
+		Iterator<String> workerIds = dailySequenceService.nextIds(DailySequence.PROD_RESULT_WORKER, workers.size()).iterator();
+		productionResultDAO.insertProductionResultWorkers(buildWorkers(parent, workerIds));
+	}
+
+	// 실적의 작업자 행 구성 (TPR601WID는 미리 채번한 목록에서 순서대로 사용)
+	private List<ProdResultWorkerDto> buildWorkers(ProdResultDetailParent parent, Iterator<String> workerIds) {
+		List<ProdResultWorkerDto> list = new ArrayList<>();
+		if (parent.getWorkerCodes() == null) return list;
+
+		int seq = 1;
+		for (String workerCode : parent.getWorkerCodes()) {
 			ProdResultWorkerDto dto = new ProdResultWorkerDto();
 
 			// key 복사
@@ -247,55 +450,102 @@ public class EgovProductionResultServiceImpl extends EgovAbstractServiceImpl imp
 
 			dto.setTpr601Id(parent.getTpr601Id());
 			dto.setWorkerCode(workerCode);
+			dto.setTpr601wId(workerIds.next());
+			dto.setWorkerSeq(seq++);
 
-			// 채번
-			dto.setTpr601wId(productionResultDAO.selectProdResultWorkerNextId());
-			dto.setWorkerSeq(productionResultDAO.selectProdResultWorkerSeq(dto));
-
-			productionResultDAO.insertProductionResultWorker(dto);
+			list.add(dto);
 		}
+		return list;
 	}
 
-	// 생산실적 불량 상세 저장
-	private void saveProductionResultBadDetails(ProdResultDetailParent parent) throws Exception {
-		log.info("==========> saveProductionResultBadDetails <==========");
-
-		List<ProdResultBadDetailDto> badList = parent.getBadDetails();
-
-		productionResultDAO.deleteBadDetails(parent);
-
-		if (badList == null || badList.isEmpty()) return;
+	// 요청한 불량 수량을 QC_CODE별로 합산 (수량 0 이하는 제외, 입력 순서 유지)
+	private Map<String, Integer> mergeBadQty(ProdResultDetailParent parent) {
+		Map<String, Integer> qtyByCode = new LinkedHashMap<>();
+		if (parent.getBadDetails() == null) return qtyByCode;
 
-		int seq = 1;
-
-		for (ProdResultBadDetailDto bad : badList) {
+		for (ProdResultBadDetailDto bad : parent.getBadDetails()) {
 			if (bad.getQcQty() == null || bad.getQcQty() <= 0) continue;
+			qtyByCode.merge(bad.getQcCode(), bad.getQcQty(), Integer::sum);
+		}
+		return qtyByCode;
+	}
 
-			// DTO 생성
-			ProdResultBadDetailDto dto = new ProdResultBadDetailDto();
+	// 신규 실적의 불량 상세를 INSERT 대상으로 수집 (BAD_SEQ는 lastSeq 다음부터)
+	private void addNewBadDetails(ProdResultDetailParent parent, int lastSeq, BadDetailChanges changes) {
+		int seq = lastSeq;
+		for (Map.Entry<String, Integer> bad : mergeBadQty(parent).entrySet()) {
+			changes.inserts.add(newBadDetail(parent, bad.getKey(), bad.getValue(), ++seq));
+		}
+	}
 
-			String nextId = productionResultDAO.selectProdResultBadNextId();
-			dto.setTpr605Id(nextId);
+	// 기존 불량 상세와 요청을 QC_CODE 기준으로 비교 - 수량이 바뀐 코드는 UPDATE, 빠진 코드는 DELETE, 새 코드는 INSERT
+	private void diffBadDetails(ProdResultDetailParent parent, BadDetailChanges changes) throws Exception {
+		Map<String, Integer> wanted = mergeBadQty(parent);
+		int lastSeq = 0;
+
+		for (ProdResultBadDetailDto row : productionResultDAO.selectBadDetailRows(parent)) {
+			if (row.getBadSeq() != null) lastSeq = Math.max(lastSeq, row.getBadSeq());
+
+			// 같은 QC_CODE가 여러 행이면 첫 행만 남기고 나머지는 삭제
+			Integer qty = wanted.remove(row.getQcCode());
+			if (qty == null) {
+				changes.deletes.add(row);
+			} else if (!qty.equals(row.getQcQty())) {
+				row.setQcQty(qty);
+				changes.updates.add(row);
+			}
+		}
 
-			// key 복사
-			dto.setFactoryCode(parent.getFactoryCode());
-			dto.setProdplanDate(parent.getProdplanDate());
-			dto.setProdplanSeq(parent.getProdplanSeq());
-			dto.setProdworkSeq(parent.getProdworkSeq());
-			dto.setWorkSeq(parent.getWorkSeq());
-			dto.setProdSeq(parent.getProdSeq());
-			dto.setWorkCode(parent.getWorkCode());
+		for (Map.Entry<String, Integer> bad : wanted.entrySet()) {
+			changes.inserts.add(newBadDetail(parent, bad.getKey(), bad.getValue(), ++lastSeq));
+		}
+	}
 
-			// 불량 정보
-			dto.setQcCode(bad.getQcCode());
-			dto.setQcQty(bad.getQcQty());
+	private ProdResultBadDetailDto newBadDetail(ProdResultDetailParent parent, String qcCode, Integer qcQty, int badSeq) {
+		ProdResultBadDetailDto dto = new ProdResultBadDetailDto();
+
+		// key 복사
+		dto.setFactoryCode(parent.getFactoryCode());
+		dto.setProdplanDate(parent.getProdplanDate());
+		dto.setProdplanSeq(parent.getProdplanSeq());
+		dto.setProdworkSeq(parent.getProdworkSeq());
+		dto.setWorkSeq(parent.getWorkSeq());
+		dto.setProdSeq(parent.getProdSeq());
+		dto.setWorkCode(parent.getWorkCode());
+
+		// 불량 정보
+		dto.setQcCode(qcCode);
+		dto.setQcQty(qcQty);
+		dto.setBadSeq(badSeq);
+		return dto;
+	}
 
-			dto.setBadSeq(seq++);
+	// 수집한 불량 상세 변경분을 배치로 반영 (INSERT 대상 TPR605ID는 한 번에 채번)
+	private void applyBadDetailChanges(BadDetailChanges changes) throws Exception {
+		log.info("==========> applyBadDetailChanges <==========");
 
-			productionResultDAO.insertBadDetail(dto);
+		if (!changes.deletes.isEmpty()) {
+			productionResultDAO.deleteBadDetailRows(changes.deletes);
+		}
+		if (!changes.updates.isEmpty()) {
+			productionResultDAO.updateBadDetails(changes.updates);
+		}
+		if (!changes.inserts.isEmpty()) {
+			List<String> badIds = dailySequenceService.nextIds(DailySequence.PROD_RESULT_BAD, changes.inserts.size());
+			for (int i = 0; i < changes.inserts.size(); i++) {
+				changes.inserts.get(i).setTpr605Id(badIds.get(i));
+			}
+			productionResultDAO.insertBadDetails(changes.inserts);
 		}
 	}
 
+	// 요청 단위로 모은 불량 상세 변경분
+	private static class BadDetailChanges {
+		private final List<ProdResultBadDetailDto> inserts = new ArrayList<>();
+		private final List<ProdResultBadDetailDto> updates = new ArrayList<>();
+		private final List<ProdResultBadDetailDto> deletes = new ArrayList<>();
+	}
+
 	// ERP IF 'A'(신규/재생성) 페이로드 구성
 	private ErpIFProdResultDto buildAddIfDto(
 			ProdResultErpLinkRow row, Integer prodQty, Integer goodQty, Integer badQty,
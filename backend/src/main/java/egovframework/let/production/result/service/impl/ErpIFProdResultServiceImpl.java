@@ -1,6 +1,7 @@
 package egovframework.let.production.result.service.impl;
 
 import egovframework.let.erpIf.domain.repository.ErpIFProdResultDAO;
+import egovframework.let.erpIf.service.ErpAccessGuard;
 import egovframework.let.production.result.domain.model.ErpIFProdResultDto;
 import egovframework.let.production.result.service.ErpIFProdResultService;
 import lombok.RequiredArgsConstructor;
@@ -13,11 +14,15 @@ import org.springframework.stereotype.Service;
 public class ErpIFProdResultServiceImpl implements ErpIFProdResultService {
 
     private final ErpIFProdResultDAO erpIfDao;
+    private final ErpAccessGuard erpAccessGuard;
 
     @Override
     public boolean sendProdResultToErp(ErpIFProdResultDto dto) {
         try {
-            erpIfDao.insertErpIFProdResult(dto);
+            erpAccessGuard.call("insertErpIFProdResult", () -> {
+                erpIfDao.insertErpIFProdResult(dto);
+                return null;
+            });
             return true;
         } catch (Exception e) {
             log.warn("[ERP IF][PROD RESULT] send failed. mesIfKey={}", dto != null ? dto.getMesIfKey() : null, e);
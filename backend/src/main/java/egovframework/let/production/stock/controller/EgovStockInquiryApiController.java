@@ -4,6 +4,7 @@ import egovframework.com.cmm.LoginVO;
 import egovframework.com.cmm.ResponseCode;
 import egovframework.com.cmm.service.ResultVO;
 import egovframework.com.cmm.util.ResultVoHelper;
+import egovframework.com.cmm.web.AsyncRequestSupport;
 import egovframework.let.production.stock.domain.model.StockInquiryVO;
 import egovframework.let.production.stock.service.EgovStockInquiryService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,6 +16,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.async.DeferredResult;
 
 import java.util.Map;
 
@@ -42,14 +44,15 @@ public class EgovStockInquiryApiController {
 
 	private final ResultVoHelper resultVoHelper;
 	private final EgovStockInquiryService stockInquiryService;
+	private final AsyncRequestSupport asyncRequestSupport;
 
 	/**
 	 * ERP 프로시저를 호출하여 재고 목록을 조회한다.
+	 * ERP 응답을 기다리는 동안 요청 스레드를 붙잡지 않도록 비동기 처리 스레드 풀에서 조회한다.
 	 *
 	 * @param searchVO 검색 조건
 	 * @param user 사용자 정보
 	 * @return ResultVO
-	 * @throws Exception
 	 */
 	@Operation(
 			summary = "재고 목록 조회",
@@ -62,12 +65,14 @@ public class EgovStockInquiryApiController {
 			@ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
 	})
 	@GetMapping(value = "/stock-inquiry")
-	public ResultVO selectStockList(
+	public DeferredResult<ResultVO> selectStockList(
 			@ModelAttribute StockInquiryVO searchVO,
-			@Parameter(hidden = true) @AuthenticationPrincipal LoginVO user) throws Exception {
+			@Parameter(hidden = true) @AuthenticationPrincipal LoginVO user) {
 
-		Map<String, Object> resultMap = stockInquiryService.selectStockList(searchVO);
+		return asyncRequestSupport.run("stock-inquiry", user.getUniqId(), () -> {
+			Map<String, Object> resultMap = stockInquiryService.selectStockList(searchVO);
 
-		return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+			return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+		});
 	}
 }
@@ -1,5 +1,6 @@
 package egovframework.let.production.stock.service;
 
+import egovframework.let.erpIf.service.ErpAccessGuard;
 import egovframework.let.production.stock.domain.model.StockInquiry;
 import egovframework.let.production.stock.domain.model.StockInquiryVO;
 import egovframework.let.production.stock.domain.repository.StockInquiryDAO;
@@ -23,6 +24,7 @@ import java.util.Map;
  *   수정일      수정자           수정내용
  *  -------    --------    ---------------------------
  *   2026.02.13 SHMT-MES          최초 생성
+ *   2026.10.17 SHMT-MES          ERP 접근 보호(동시 호출 제한/회로 차단) 적용
  *
  * </pre>
  */
@@ -31,6 +33,7 @@ import java.util.Map;
 public class EgovStockInquiryServiceImpl implements EgovStockInquiryService {
 
 	private final StockInquiryDAO stockInquiryDAO;
+	private final ErpAccessGuard erpAccessGuard;
 
 	/**
 	 * ERP 프로시저를 호출하여 재고 목록을 조회한다. (Java에서 페이징 처리)
@@ -45,8 +48,9 @@ public class EgovStockInquiryServiceImpl implements EgovStockInquiryService {
 	public Map<String, Object> selectStockList(StockInquiryVO searchVO) throws Exception {
 		Map<String, Object> resultMap = new HashMap<>();
 
-		// ERP 프로시저 호출하여 전체 재고 목록 조회
-		List<StockInquiry> allStockList = stockInquiryDAO.selectStockList(searchVO);
+		// ERP 프로시저 호출하여 전체 재고 목록 조회 (ERP 장애 시 바로 실패)
+		List<StockInquiry> allStockList = erpAccessGuard.call("SHM_IF_SLGWHStockListQuery",
+				() -> stockInquiryDAO.selectStockList(searchVO));
 		
 		// 전체 건수 계산
 		int totalCount = allStockList.size();
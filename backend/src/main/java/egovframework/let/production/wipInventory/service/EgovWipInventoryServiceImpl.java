@@ -1,5 +1,7 @@
 package egovframework.let.production.wipInventory.service;
 
+import egovframework.let.basedata.processFlow.domain.model.CompiledProcessFlow;
+import egovframework.let.basedata.processFlow.service.ProcessFlowDefinitionService;
 import egovframework.let.common.dto.ListResult;
 import egovframework.let.production.wipInventory.domain.model.WipInventory;
 import egovframework.let.production.wipInventory.domain.model.WipInventoryRow;
@@ -9,7 +11,10 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * 재고조회 관리를 위한 서비스 구현 클래스
@@ -32,6 +37,7 @@ import java.util.List;
 public class EgovWipInventoryServiceImpl implements EgovWipInventoryService {
 
 	private final WipInventoryDAO  wipInventoryDAO;
+	private final ProcessFlowDefinitionService processFlowDefinitionService;
 
 	/**
 	 * ERP 프로시저를 호출하여 재고 목록을 조회한다. (Java에서 페이징 처리)
@@ -47,8 +53,25 @@ public class EgovWipInventoryServiceImpl implements EgovWipInventoryService {
 
 		List<WipInventoryRow> list = wipInventoryDAO.selectWipInventoryList(searchVO);
 		int resultCnt = wipInventoryDAO.selectWipInventoryListCount(searchVO);
-
+		fillProcessFlow(list);
 
 		return new ListResult<>(list, resultCnt);
 	}
+
+	/**
+	 * 공정흐름 문자열("A > B")을 품목의 컴파일된 공정흐름에서 채운다.
+	 */
+	private void fillProcessFlow(List<WipInventoryRow> list) throws Exception {
+		Set<String> itemIds = new HashSet<>();
+		for (WipInventoryRow row : list) {
+			if (row.getItemCode() != null) {
+				itemIds.add(row.getItemCode());
+			}
+		}
+		Map<String, CompiledProcessFlow> flows = processFlowDefinitionService.getByItems(itemIds);
+		for (WipInventoryRow row : list) {
+			CompiledProcessFlow flow = row.getItemCode() != null ? flows.get(row.getItemCode()) : null;
+			row.setProcessFlow(flow != null ? flow.getFlowText() : null);
+		}
+	}
 }
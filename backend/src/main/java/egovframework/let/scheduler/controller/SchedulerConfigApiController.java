@@ -7,7 +7,9 @@ import egovframework.com.cmm.util.ResultVoHelper;
 import egovframework.com.jwt.EgovJwtTokenUtil;
 import egovframework.let.scheduler.domain.model.SchedulerConfig;
 import egovframework.let.scheduler.domain.model.SchedulerConfigVO;
+import egovframework.let.scheduler.domain.model.SchedulerWatermark;
 import egovframework.let.scheduler.service.SchedulerConfigService;
+import egovframework.let.scheduler.service.SchedulerWatermarkService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -25,6 +27,7 @@ import java.time.LocalDate;
 import java.time.format.DateTimeParseException;
 import java.time.temporal.ChronoUnit;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -44,6 +47,7 @@ public class SchedulerConfigApiController {
     private final EgovJwtTokenUtil jwtTokenUtil;
     private final ResultVoHelper resultVoHelper;
     private final SchedulerConfigService schedulerConfigService;
+    private final SchedulerWatermarkService schedulerWatermarkService;
     private final EgovPropertyService propertyService;
 
         private void validateExecutionDateRange(String fromDate, String toDate) {
@@ -255,7 +259,7 @@ public class SchedulerConfigApiController {
      */
     @Operation(
             summary = "스케쥴러 상태 확인",
-            description = "스케쥴러 시스템의 상태를 확인 (초기화 여부, 활성 작업 수 등)",
+            description = "스케쥴러 시스템의 상태를 확인 (초기화 여부, 활성 작업 수, ERP 접근 보호 회로 상태 등)",
             security = {@SecurityRequirement(name = "Authorization")},
             tags = {"SchedulerConfigApiController"}
     )
@@ -303,4 +307,65 @@ public class SchedulerConfigApiController {
 
         return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
     }
+
+    /**
+     * 스케쥴러의 증분 연동 기준점 목록을 조회한다.
+     */
+    @Operation(
+            summary = "증분 연동 기준점 조회",
+            description = "스케쥴러의 ERP 원천 뷰별 증분 연동 기준점(마지막 반영 LastDateTime, 키)을 조회",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"SchedulerConfigApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @GetMapping("/{schedulerId}/watermarks")
+    public ResultVO selectWatermarkList(@Parameter(description = "스케쥴러 ID") @PathVariable Long schedulerId,
+                                        @Parameter(hidden = true) @AuthenticationPrincipal LoginVO user)
+            throws Exception {
+
+        List<SchedulerWatermark> resultList = schedulerWatermarkService.selectWatermarkList(schedulerId);
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("resultList", resultList);
+
+        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+    }
+
+    /**
+     * 백필을 위해 증분 연동 기준점을 되돌린다.
+     */
+    @Operation(
+            summary = "증분 연동 기준점 되돌리기",
+            description = "지정 시각 이후 변경분을 다음 자동 실행에서 다시 연동하도록 기준점을 되돌림 (sourceView 미지정 시 전체)",
+            security = {@SecurityRequirement(name = "Authorization")},
+            tags = {"SchedulerConfigApiController"}
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "403", description = "인가된 사용자가 아님")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @PutMapping("/{schedulerId}/watermarks/rewind")
+    public ResultVO rewindWatermark(@Parameter(description = "스케쥴러 ID") @PathVariable Long schedulerId,
+                                    @RequestBody SchedulerWatermark watermark,
+                                    @Parameter(hidden = true) @AuthenticationPrincipal LoginVO user)
+            throws Exception {
+
+        SchedulerConfig scheduler = schedulerConfigService.selectSchedulerDetail(schedulerId);
+        if (scheduler == null) {
+            return resultVoHelper.buildFromMap(new HashMap<>(), ResponseCode.INPUT_CHECK_ERROR);
+        }
+
+        int updated = schedulerWatermarkService.rewindWatermark(schedulerId, watermark.getSourceView(),
+                watermark.getLastDateTime(), user.getId());
+
+        Map<String, Object> resultMap = new HashMap<>();
+        resultMap.put("updatedCount", updated);
+        resultMap.put("message", "증분 연동 기준점이 변경되었습니다.");
+
+        return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
+    }
 }
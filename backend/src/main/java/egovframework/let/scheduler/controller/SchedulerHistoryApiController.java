@@ -105,6 +105,7 @@ public class SchedulerHistoryApiController {
 
         Map<String, Object> resultMap = new HashMap<>();
         resultMap.put("history", history);
+        resultMap.put("steps", schedulerHistoryService.selectSchedulerHistoryStepList(historyId));
         resultMap.put("user", user);
 
         return resultVoHelper.buildFromMap(resultMap, ResponseCode.SUCCESS);
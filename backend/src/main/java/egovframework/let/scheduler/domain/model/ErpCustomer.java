@@ -102,4 +102,9 @@ public class ErpCustomer implements Serializable {
 	 * 최종수정일시 (LastDateTime)
 	 */
 	private Date lastDateTime;
-}
\ No newline at end of file
+
+	/**
+	 * MES 반영 내용 해시 (ERP_ROW_HASH) - 변경 없는 행의 UPDATE 생략용
+	 */
+	private String rowHash;
+}
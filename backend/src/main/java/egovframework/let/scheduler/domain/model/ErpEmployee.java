@@ -95,4 +95,9 @@ public class ErpEmployee implements Serializable {
 	 * 비밀번호 세팅용
 	 */
 	private String password = "";
+
+	/**
+	 * 일괄 반영(MERGE) 시 신규 등록용 암호화 비밀번호
+	 */
+	private String encPassword;
 }
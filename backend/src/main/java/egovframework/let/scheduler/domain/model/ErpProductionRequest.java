@@ -158,4 +158,9 @@ public class ErpProductionRequest implements Serializable {
 	 * 의뢰 구분명 (ReqTypeName) - NVARCHAR(100)
 	 */
 	private String reqTypeName;
+
+	/**
+	 * MES 반영 내용 해시 (ERP_ROW_HASH) - 변경 없는 행의 UPDATE 생략용
+	 */
+	private String rowHash;
 }
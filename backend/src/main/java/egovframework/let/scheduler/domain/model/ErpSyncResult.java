@@ -0,0 +1,72 @@
+package egovframework.let.scheduler.domain.model;
+
+import lombok.Getter;
+
+/**
+ * ERP → MES 연동 처리 건수 집계
+ * 대상별 총 처리/신규등록/업데이트/변경없음/오류 건수와 마지막 오류를 보관한다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Getter
+public class ErpSyncResult {
+
+	/**
+	 * 연동 대상명 (예: 품목정보, 사원정보)
+	 */
+	private final String target;
+
+	private int totalCount;
+	private int insertCount;
+	private int updateCount;
+	private int unchangedCount;
+	private int errorCount;
+	private Exception lastError;
+
+	public ErpSyncResult(String target) {
+		this.target = target;
+	}
+
+	public void addTotal(int count) {
+		this.totalCount += count;
+	}
+
+	public void addInsert(int count) {
+		this.insertCount += count;
+	}
+
+	public void addUpdate(int count) {
+		this.updateCount += count;
+	}
+
+	/**
+	 * 기존 행과 일치하지만 반영 내용 해시가 같아 UPDATE를 생략한 건수 (변경없음)
+	 */
+	public void addUnchanged(int count) {
+		this.unchangedCount += count;
+	}
+
+	public void addError(Exception e) {
+		this.errorCount++;
+		this.lastError = e;
+	}
+
+	/**
+	 * 오류가 하나라도 있으면 예외를 던져서 스케쥴러 히스토리에 실패로 기록
+	 * @throws Exception
+	 */
+	public void throwIfError() throws Exception {
+		if (errorCount > 0 && lastError != null) {
+			throw new Exception(String.format("%s 연동 중 오류 발생 - 총 처리: %d건, 성공: %d건, 실패: %d건. 마지막 오류: %s",
+					target, totalCount, insertCount + updateCount + unchangedCount, errorCount, lastError.getMessage()), lastError);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return String.format("총 처리: %d건, 신규등록: %d건, 업데이트: %d건, 변경없음: %d건, 오류: %d건",
+				totalCount, insertCount, updateCount, unchangedCount, errorCount);
+	}
+}
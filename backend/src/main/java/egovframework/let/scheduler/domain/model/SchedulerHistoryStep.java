@@ -0,0 +1,42 @@
+package egovframework.let.scheduler.domain.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Schema(description = "스케쥴러 실행 이력 단계 모델")
+@Getter
+@Setter
+public class SchedulerHistoryStep implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@Schema(description = "단계 ID")
+	private Long stepId = null;
+
+	@Schema(description = "이력 ID")
+	private Long historyId = null;
+
+	@Schema(description = "단계명 (예: 품목정보)")
+	private String stepName = "";
+
+	@Schema(description = "선행 단계 (쉼표 구분)")
+	private String dependsOn = "";
+
+	@Schema(description = "시작시간")
+	private String startTime = null;
+
+	@Schema(description = "종료시간")
+	private String endTime = null;
+
+	@Schema(description = "실행상태 (SUCCESS/FAILED/SKIPPED)")
+	private String status = "";
+
+	@Schema(description = "실행시간(밀리초)")
+	private Long executionTimeMs = null;
+
+	@Schema(description = "에러 메시지")
+	private String errorMessage = null;
+}
@@ -0,0 +1,33 @@
+package egovframework.let.scheduler.domain.model;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+import java.io.Serializable;
+
+@Schema(description = "스케쥴러 증분 연동 기준점(High-Water Mark) 모델")
+@Getter
+@Setter
+public class SchedulerWatermark implements Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	@Schema(description = "스케쥴러 ID")
+	private Long schedulerId = null;
+
+	@Schema(description = "ERP 원천 뷰명 (예: SHM_IF_VIEW_TDAItem)")
+	private String sourceView = "";
+
+	@Schema(description = "마지막 반영 ERP LastDateTime (yyyy-MM-dd HH:mm:ss.SSS)")
+	private String lastDateTime = "";
+
+	@Schema(description = "동일 LastDateTime 내 마지막 반영 원천 키")
+	private String lastKey = null;
+
+	@Schema(description = "수정일시")
+	private String updDt = "";
+
+	@Schema(description = "수정자 ID")
+	private String updUserId = null;
+}
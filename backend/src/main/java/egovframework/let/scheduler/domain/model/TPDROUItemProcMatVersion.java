@@ -0,0 +1,18 @@
+package egovframework.let.scheduler.domain.model;
+
+import lombok.Data;
+
+/**
+ * 제품별공정별소요자재 BOM 트리 버전
+ * 루트 품목 기준 재귀 트리의 행 수, 최종수정일시(밀리초 단위) 최대값, 내용 체크섬으로,
+ * ERP와 MES(TCO501) 트리가 같은지 전체 행을 읽지 않고 비교하는 데 사용한다.
+ * 체크섬은 ERP 조회에서만 채우며, 마지막으로 적재한 ERP 버전과 비교해 행 수/수정일시가 같은 변경도 감지한다.
+ * @author SHMT-MES
+ * @since 2026.10.17
+ */
+@Data
+public class TPDROUItemProcMatVersion {
+    private int rowCount;           // 트리 행 수
+    private String lastDateTime;    // 최종수정일시 최대값 (yyyy-MM-dd HH:mm:ss.SSS)
+    private Integer checksum;       // 트리 내용 체크섬 (ERP 조회만)
+}
@@ -5,6 +5,8 @@ import egovframework.let.scheduler.domain.model.ErpEmployee;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * MES 거래처 정보 인터페이스 DAO (MES 데이터베이스 쓰기)
  * 
@@ -47,9 +49,20 @@ public class MesCustInterfaceDAO extends EgovAbstractMapper {
 	/**
 	 * MES 거래처 테이블의 거래처 정보 업데이트
 	 * @param customer ERP 거래처 정보
+	 * @return 변경 건수 (반영 내용 해시가 같으면 0)
+	 * @throws Exception
+	 */
+	public int updateMesCust(ErpCustomer customer) throws Exception {
+		return update("MesCustInterfaceDAO.updateMesCust", customer);
+	}
+
+	/**
+	 * MES 거래처 테이블에 거래처 정보 일괄 반영 (MERGE)
+	 * @param customers ERP 거래처 정보 청크
+	 * @return 행별 처리 구분 (INSERT/UPDATE)
 	 * @throws Exception
 	 */
-	public void updateMesCust(ErpCustomer customer) throws Exception {
-		update("MesCustInterfaceDAO.updateMesCust", customer);
+	public List<String> mergeMesCusts(List<ErpCustomer> customers) throws Exception {
+		return selectList("MesCustInterfaceDAO.mergeMesCusts", customers);
 	}
 }
@@ -4,6 +4,8 @@ import egovframework.let.scheduler.domain.model.ErpItem;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * MES 품목 정보 인터페이스 DAO (MES 데이터베이스 쓰기)
  * 
@@ -46,10 +48,11 @@ public class MesItemInterfaceDAO extends EgovAbstractMapper {
 	/**
 	 * MES 품목 테이블의 품목 정보 업데이트
 	 * @param item ERP 품목 정보
+	 * @return 변경 건수 (반영 내용 해시가 같으면 0)
 	 * @throws Exception
 	 */
-	public void updateMesItem(ErpItem item) throws Exception {
-		update("MesItemInterfaceDAO.updateMesItem", item);
+	public int updateMesItem(ErpItem item) throws Exception {
+		return update("MesItemInterfaceDAO.updateMesItem", item);
 	}
 
 	/**
@@ -60,4 +63,23 @@ public class MesItemInterfaceDAO extends EgovAbstractMapper {
 	public void ensureLotIdSeed(ErpItem item) throws Exception {
 		insert("MesItemInterfaceDAO.ensureLotIdSeed", item);
 	}
+
+	/**
+	 * MES 품목 테이블에 품목 정보 일괄 반영 (MERGE)
+	 * @param items ERP 품목 정보 청크
+	 * @return 행별 처리 구분 (INSERT/UPDATE)
+	 * @throws Exception
+	 */
+	public List<String> mergeMesItems(List<ErpItem> items) throws Exception {
+		return selectList("MesItemInterfaceDAO.mergeMesItems", items);
+	}
+
+	/**
+	 * LOT 채번용 IDS2 시드를 일괄 보장한다.
+	 * @param items ERP 품목 정보 청크
+	 * @throws Exception
+	 */
+	public void ensureLotIdSeeds(List<ErpItem> items) throws Exception {
+		insert("MesItemInterfaceDAO.ensureLotIdSeeds", items);
+	}
 }
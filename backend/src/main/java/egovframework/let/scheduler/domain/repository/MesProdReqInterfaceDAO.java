@@ -4,6 +4,8 @@ import egovframework.let.scheduler.domain.model.ErpProductionRequest;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * MES 생산 의뢰 정보 인터페이스 DAO (MES 데이터베이스 쓰기)
  * 
@@ -46,9 +48,20 @@ public class MesProdReqInterfaceDAO extends EgovAbstractMapper {
 	/**
 	 * MES 생산 의뢰 테이블의 생산 의뢰 정보 업데이트
 	 * @param prodReq ERP 생산 의뢰 정보
+	 * @return 변경 건수 (반영 내용 해시가 같으면 0)
+	 * @throws Exception
+	 */
+	public int updateMesProdReq(ErpProductionRequest prodReq) throws Exception {
+		return update("MesProdReqInterfaceDAO.updateMesProdReq", prodReq);
+	}
+
+	/**
+	 * MES 생산 의뢰 테이블에 생산 의뢰 정보 일괄 반영 (MERGE)
+	 * @param prodReqs ERP 생산 의뢰 정보 청크
+	 * @return 행별 처리 구분 (INSERT/UPDATE)
 	 * @throws Exception
 	 */
-	public void updateMesProdReq(ErpProductionRequest prodReq) throws Exception {
-		update("MesProdReqInterfaceDAO.updateMesProdReq", prodReq);
+	public List<String> mergeMesProdReqs(List<ErpProductionRequest> prodReqs) throws Exception {
+		return selectList("MesProdReqInterfaceDAO.mergeMesProdReqs", prodReqs);
 	}
 }
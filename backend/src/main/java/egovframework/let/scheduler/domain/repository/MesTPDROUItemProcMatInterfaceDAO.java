@@ -1,6 +1,7 @@
 package egovframework.let.scheduler.domain.repository;
 
 import egovframework.let.scheduler.domain.model.ErpTPDROUItemProcMat;
+import egovframework.let.scheduler.domain.model.TPDROUItemProcMatVersion;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
@@ -37,10 +38,11 @@ public class MesTPDROUItemProcMatInterfaceDAO extends EgovAbstractMapper {
     /**
      * MES 제품별공정별소요자재(TCO501) 정보 업데이트
      * @param param ERP 제품별공정별소요자재 정보
+     * @return 변경 건수 (반영 내용 해시가 같으면 0)
      * @throws Exception
      */
-    public void updateMesTPDROUItemProcMat(Map<String, Object> param) throws Exception {
-        update("MesTPDROUItemProcMatInterfaceDAO.updateMesTPDROUItemProcMat", param);
+    public int updateMesTPDROUItemProcMat(Map<String, Object> param) throws Exception {
+        return update("MesTPDROUItemProcMatInterfaceDAO.updateMesTPDROUItemProcMat", param);
     }
 
     /**
@@ -53,6 +55,16 @@ public class MesTPDROUItemProcMatInterfaceDAO extends EgovAbstractMapper {
         return selectList("MesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeItemSeqs", itemSeq);
     }
 
+    /**
+     * 루트 품목 기준 TCO501 BOM 트리 버전 (행 수 + 최종수정일시 최대값)
+     * @param itemSeq 루트 품목의 ITEM_SEQ
+     * @return 트리 버전 (트리가 없으면 행 수 0)
+     * @throws Exception
+     */
+    public TPDROUItemProcMatVersion selectTPDROUItemProcMatTreeVersion(int itemSeq) throws Exception {
+        return selectOne("MesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion", itemSeq);
+    }
+
     /**
      * ITEM_SEQ 목록에 해당하는 TCO501 행 전체 삭제
      * @param itemSeqs 삭제할 ITEM_SEQ 목록
@@ -64,4 +76,14 @@ public class MesTPDROUItemProcMatInterfaceDAO extends EgovAbstractMapper {
         }
         delete("MesTPDROUItemProcMatInterfaceDAO.deleteMesTPDROUItemProcMatByItemSeqs", itemSeqs);
     }
+
+    /**
+     * MES 제품별공정별소요자재(TCO501) 정보 일괄 반영 (MERGE)
+     * @param params ERP 제품별공정별소요자재 정보 청크
+     * @return 행별 처리 구분 (INSERT/UPDATE)
+     * @throws Exception
+     */
+    public List<String> mergeMesTPDROUItemProcMats(List<Map<String, Object>> params) throws Exception {
+        return selectList("MesTPDROUItemProcMatInterfaceDAO.mergeMesTPDROUItemProcMats", params);
+    }
 }
@@ -4,6 +4,8 @@ import egovframework.let.scheduler.domain.model.ErpEmployee;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * MES 사용자 정보 인터페이스 DAO (MES 데이터베이스 쓰기)
  * 
@@ -51,4 +53,14 @@ public class MesUserInterfaceDAO extends EgovAbstractMapper {
 	public void updateMesUser(ErpEmployee employee) throws Exception {
 		update("MesUserInterfaceDAO.updateMesUser", employee);
 	}
+
+	/**
+	 * MES 사용자 테이블에 사원 정보 일괄 반영 (MERGE)
+	 * @param employees ERP 사원 정보 청크
+	 * @return 행별 처리 구분 (INSERT/UPDATE)
+	 * @throws Exception
+	 */
+	public List<String> mergeMesUsers(List<ErpEmployee> employees) throws Exception {
+		return selectList("MesUserInterfaceDAO.mergeMesUsers", employees);
+	}
 }
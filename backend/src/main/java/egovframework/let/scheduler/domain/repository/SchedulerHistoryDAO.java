@@ -1,6 +1,7 @@
 package egovframework.let.scheduler.domain.repository;
 
 import egovframework.let.scheduler.domain.model.SchedulerHistory;
+import egovframework.let.scheduler.domain.model.SchedulerHistoryStep;
 import egovframework.let.scheduler.domain.model.SchedulerHistoryVO;
 import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
 import org.springframework.stereotype.Repository;
@@ -65,4 +66,23 @@ public class SchedulerHistoryDAO extends EgovAbstractMapper {
     public void updateSchedulerHistory(SchedulerHistory history) throws Exception {
         update("SchedulerHistoryDAO.updateSchedulerHistory", history);
     }
+
+    /**
+     * 스케쥴러 실행 이력 단계를 등록한다.
+     * @param step
+     * @throws Exception
+     */
+    public void insertSchedulerHistoryStep(SchedulerHistoryStep step) throws Exception {
+        insert("SchedulerHistoryDAO.insertSchedulerHistoryStep", step);
+    }
+
+    /**
+     * 스케쥴러 실행 이력의 단계 목록을 조회한다.
+     * @param historyId
+     * @return 단계 목록
+     * @throws Exception
+     */
+    public List<SchedulerHistoryStep> selectSchedulerHistoryStepList(Long historyId) throws Exception {
+        return selectList("SchedulerHistoryDAO.selectSchedulerHistoryStepList", historyId);
+    }
 }
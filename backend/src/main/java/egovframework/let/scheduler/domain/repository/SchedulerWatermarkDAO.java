@@ -0,0 +1,56 @@
+package egovframework.let.scheduler.domain.repository;
+
+import egovframework.let.scheduler.domain.model.SchedulerWatermark;
+import org.egovframe.rte.psl.dataaccess.EgovAbstractMapper;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * 스케쥴러 증분 연동 기준점(High-Water Mark) DAO
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Repository("schedulerWatermarkDAO")
+public class SchedulerWatermarkDAO extends EgovAbstractMapper {
+
+    /**
+     * 스케쥴러의 원천 뷰별 기준점 목록을 조회한다.
+     * @param schedulerId
+     * @return 기준점 목록
+     * @throws Exception
+     */
+    public List<SchedulerWatermark> selectWatermarkList(Long schedulerId) throws Exception {
+        return selectList("SchedulerWatermarkDAO.selectWatermarkList", schedulerId);
+    }
+
+    /**
+     * 스케쥴러/원천 뷰의 기준점을 조회한다.
+     * @param watermark schedulerId, sourceView
+     * @return 기준점 (없으면 null)
+     * @throws Exception
+     */
+    public SchedulerWatermark selectWatermark(SchedulerWatermark watermark) throws Exception {
+        return selectOne("SchedulerWatermarkDAO.selectWatermark", watermark);
+    }
+
+    /**
+     * 기준점을 등록/수정한다. (MERGE)
+     * @param watermark
+     * @throws Exception
+     */
+    public void mergeWatermark(SchedulerWatermark watermark) throws Exception {
+        update("SchedulerWatermarkDAO.mergeWatermark", watermark);
+    }
+
+    /**
+     * 스케쥴러의 기존 기준점 전체를 지정 시각으로 되돌린다.
+     * @param watermark schedulerId, lastDateTime, updUserId
+     * @return 변경 건수
+     * @throws Exception
+     */
+    public int rewindAllWatermarks(SchedulerWatermark watermark) throws Exception {
+        return update("SchedulerWatermarkDAO.rewindAllWatermarks", watermark);
+    }
+}
@@ -1,6 +1,7 @@
 package egovframework.let.scheduler.service;
 
 import egovframework.let.scheduler.domain.model.ErpTPDROUItemProcMat;
+import egovframework.let.scheduler.domain.model.TPDROUItemProcMatVersion;
 
 import java.util.List;
 
@@ -41,6 +42,14 @@ public interface ErpToMesInterfaceService {
 	 */
 	List<ErpTPDROUItemProcMat> fetchTPDROUItemProcMatByItemSeq(int itemSeq) throws Exception;
 
+	/**
+	 * ERP 시스템에서 특정 품목을 루트로 하는 제품별공정별소요자재 트리의 버전(행 수 + 최종수정일시 최대값 + 내용 체크섬)만 조회한다.
+	 * @param itemSeq 루트 품목의 ERP ItemSeq
+	 * @return 트리 버전
+	 * @throws Exception
+	 */
+	TPDROUItemProcMatVersion fetchTPDROUItemProcMatVersion(int itemSeq) throws Exception;
+
 	/**
 	 * 루트 품목의 TCO501 BOM 트리를 삭제하고 ERP에서 재귀적으로 다시 가져와 저장한다.
 	 * @param rootItemSeq 루트 품목의 ERP ItemSeq
@@ -1,8 +1,10 @@
 package egovframework.let.scheduler.service;
 
 import egovframework.let.scheduler.domain.model.SchedulerHistory;
+import egovframework.let.scheduler.domain.model.SchedulerHistoryStep;
 import egovframework.let.scheduler.domain.model.SchedulerHistoryVO;
 
+import java.util.List;
 import java.util.Map;
 
 /**
@@ -43,4 +45,19 @@ public interface SchedulerHistoryService {
      * @throws Exception
      */
     void updateSchedulerHistory(SchedulerHistory history) throws Exception;
+
+    /**
+     * 스케쥴러 실행 이력 단계를 등록한다.
+     * @param step
+     * @throws Exception
+     */
+    void insertSchedulerHistoryStep(SchedulerHistoryStep step) throws Exception;
+
+    /**
+     * 스케쥴러 실행 이력의 단계 목록을 조회한다.
+     * @param historyId
+     * @return 단계 목록
+     * @throws Exception
+     */
+    List<SchedulerHistoryStep> selectSchedulerHistoryStepList(Long historyId) throws Exception;
 }
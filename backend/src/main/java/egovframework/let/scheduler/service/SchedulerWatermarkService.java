@@ -0,0 +1,53 @@
+package egovframework.let.scheduler.service;
+
+import egovframework.let.scheduler.domain.model.SchedulerWatermark;
+
+import java.util.List;
+
+/**
+ * 스케쥴러 증분 연동 기준점(High-Water Mark) 서비스
+ * 스케쥴러별/ERP 원천 뷰별로 마지막으로 반영에 성공한 LastDateTime + 키를 관리한다.
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public interface SchedulerWatermarkService {
+
+    /**
+     * 스케쥴러의 원천 뷰별 기준점 목록을 조회한다.
+     * @param schedulerId 스케쥴러 ID
+     * @return 기준점 목록
+     * @throws Exception
+     */
+    List<SchedulerWatermark> selectWatermarkList(Long schedulerId) throws Exception;
+
+    /**
+     * 스케쥴러/원천 뷰의 기준점을 조회한다.
+     * @param schedulerId 스케쥴러 ID
+     * @param sourceView ERP 원천 뷰명
+     * @return 기준점 (최초 실행이면 null)
+     * @throws Exception
+     */
+    SchedulerWatermark selectWatermark(Long schedulerId, String sourceView) throws Exception;
+
+    /**
+     * 연동 성공 후 기준점을 전진시킨다.
+     * @param schedulerId 스케쥴러 ID
+     * @param sourceView ERP 원천 뷰명
+     * @param lastDateTime 반영한 최대 LastDateTime (yyyy-MM-dd HH:mm:ss.SSS)
+     * @param lastKey 해당 LastDateTime 내 최대 원천 키 (키 비교를 하지 않는 뷰는 null)
+     * @throws Exception
+     */
+    void advanceWatermark(Long schedulerId, String sourceView, String lastDateTime, String lastKey) throws Exception;
+
+    /**
+     * 백필을 위해 기준점을 지정 시각으로 되돌린다.
+     * @param schedulerId 스케쥴러 ID
+     * @param sourceView ERP 원천 뷰명 (비어 있으면 해당 스케쥴러의 기존 기준점 전체)
+     * @param lastDateTime 되돌릴 시각 (yyyy-MM-dd 또는 yyyy-MM-dd HH:mm:ss)
+     * @param userId 수정자 ID
+     * @return 변경 건수
+     * @throws Exception
+     */
+    int rewindWatermark(Long schedulerId, String sourceView, String lastDateTime, String userId) throws Exception;
+}
@@ -0,0 +1,26 @@
+package egovframework.let.scheduler.service;
+
+/**
+ * 제품별공정별소요자재(TCO501) BOM 스냅샷 서비스
+ * 생산지시 화면 조회 시마다 ERP에서 BOM을 다시 가져오지 않고,
+ * 루트 품목별로 TCO501 스냅샷의 버전을 ERP와 비교하여 변경된 경우에만 다시 적재한다.
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public interface TPDROUItemProcMatSnapshotService {
+
+    /**
+     * 루트 품목의 TCO501 BOM 스냅샷을 조회 가능한 상태로 만든다.
+     * 확인 주기(TTL)가 지났으면 백그라운드에서 버전을 비교하여 갱신하고, 확인 주기 내에는 ERP를 조회하지 않는다.
+     * 스냅샷이 없으면 요청 안에서 적재하고(ERP 접근 보호의 시간 제한 적용), 적재에 실패해도 예외를 던지지 않고 다음 조회에서 다시 적재한다.
+     * @param rootItemSeq 루트 품목의 ERP ItemSeq
+     */
+    void ensureFresh(int rootItemSeq) throws Exception;
+
+    /**
+     * 루트 품목의 스냅샷 확인 시각을 초기화하여 다음 조회 시 버전을 다시 비교하도록 한다.
+     * @param rootItemSeq 루트 품목의 ERP ItemSeq
+     */
+    void invalidate(int rootItemSeq);
+}
@@ -199,7 +199,13 @@ public class DynamicSchedulerServiceImpl implements DynamicSchedulerService, Sch
     private Runnable createTaskRunnable(SchedulerConfig config) {
         return () -> {
             String today = new SimpleDateFormat("yyyy-MM-dd").format(new Date());
-            createTaskRunnable(config, today, today).run();
+            // 자동 실행은 스케쥴러별 증분 기준점 이후 변경분만 조회 (기준점이 없는 최초 실행은 오늘 날짜 범위)
+            SchedulerRunContext.beginIncremental(config.getSchedulerId());
+            try {
+                createTaskRunnable(config, today, today).run();
+            } finally {
+                SchedulerRunContext.clear();
+            }
         };
     }
 
@@ -229,6 +235,8 @@ public class DynamicSchedulerServiceImpl implements DynamicSchedulerService, Sch
                 return; // 이력 등록 실패 시 실행 중단
             }
 
+            // 복합 연동 작업이 단계별 이력을 남길 수 있도록 실행 이력 ID를 작업 스레드에 보관
+            SchedulerRunContext.bindHistory(history.getHistoryId());
             try {
                 // 스케쥴러 실행
                 executeJob(config, fromDate, toDate);
@@ -260,6 +268,7 @@ public class DynamicSchedulerServiceImpl implements DynamicSchedulerService, Sch
                         config.getSchedulerName(), endTime - startTime, e);
 
             } finally {
+                SchedulerRunContext.unbindHistory();
                 // 히스토리 업데이트
                 try {
                     log.debug("스케쥴러 이력 업데이트 시작 - historyId={}, status={}, schedulerName={}", 
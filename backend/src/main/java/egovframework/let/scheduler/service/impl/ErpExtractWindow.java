@@ -0,0 +1,159 @@
+package egovframework.let.scheduler.service.impl;
+
+import java.sql.Timestamp;
+import java.text.SimpleDateFormat;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * ERP 원천 뷰 조회 구간
+ * LastDateTime 컬럼을 가공하지 않는(sargable) 조건으로 날짜 범위 또는 증분 기준점 이후 구간을 표현한다.
+ * <ul>
+ *   <li>날짜 범위: LastDateTime &gt;= fromDate 00:00 AND LastDateTime &lt; (toDate + 1일) 00:00</li>
+ *   <li>증분: LastDateTime &gt; 기준시각 OR (LastDateTime = 기준시각 AND 키 &gt; 기준키)</li>
+ *   <li>증분(겹침 구간): LastDateTime &gt;= (기준시각 - N분)</li>
+ * </ul>
+ * 긴 트랜잭션이나 작성자 간 시각 차이로 기준시각 이전 LastDateTime을 가진 행이 늦게 커밋되면 엄격한 증분 조건으로는 영구히 누락되므로,
+ * 겹침 구간을 지정하면 기준시각 N분 전부터 다시 읽는다. (MERGE 반영이라 재처리해도 무해)
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+final class ErpExtractWindow {
+
+	private static final String DATE_TIME_PATTERN = "yyyy-MM-dd HH:mm:ss.SSS";
+
+	private final Timestamp fromInclusive;
+	private final Timestamp toExclusive;
+	private final Timestamp afterDateTime;
+	private final Long afterKey;
+	private final Timestamp watermarkDateTime;
+	private final Long watermarkKey;
+
+	private ErpExtractWindow(Timestamp fromInclusive, Timestamp toExclusive, Timestamp afterDateTime, Long afterKey,
+			Timestamp watermarkDateTime, Long watermarkKey) {
+		this.fromInclusive = fromInclusive;
+		this.toExclusive = toExclusive;
+		this.afterDateTime = afterDateTime;
+		this.afterKey = afterKey;
+		this.watermarkDateTime = watermarkDateTime;
+		this.watermarkKey = watermarkKey;
+	}
+
+	/**
+	 * 날짜 범위 구간
+	 * @param fromDate 조회 시작 날짜 (yyyy-MM-dd)
+	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd, 해당일 포함)
+	 */
+	static ErpExtractWindow ofDates(String fromDate, String toDate) {
+		LocalDate from = LocalDate.parse(fromDate);
+		LocalDate to = LocalDate.parse(toDate);
+		return new ErpExtractWindow(Timestamp.valueOf(from.atStartOfDay()),
+				Timestamp.valueOf(to.plusDays(1).atStartOfDay()), null, null, null, null);
+	}
+
+	/**
+	 * 증분 기준점 이후 구간
+	 * @param lastDateTime 기준 시각 (yyyy-MM-dd HH:mm:ss.SSS)
+	 * @param lastKey 기준 시각 내 마지막 키 (없으면 기준 시각 행을 다시 포함하여 조회)
+	 */
+	static ErpExtractWindow after(String lastDateTime, String lastKey) {
+		return after(lastDateTime, lastKey, 0);
+	}
+
+	/**
+	 * 증분 기준점 이후 구간 (겹침 구간 포함)
+	 * @param lastDateTime 기준 시각 (yyyy-MM-dd HH:mm:ss.SSS)
+	 * @param lastKey 기준 시각 내 마지막 키
+	 * @param overlapMinutes 기준 시각보다 앞서 다시 읽을 구간(분, 0이면 기준점 이후만 조회)
+	 */
+	static ErpExtractWindow after(String lastDateTime, String lastKey, long overlapMinutes) {
+		Long key = (lastKey == null || lastKey.trim().isEmpty()) ? null : Long.valueOf(lastKey.trim());
+		Timestamp watermark = Timestamp.valueOf(lastDateTime);
+		if (overlapMinutes <= 0) {
+			return new ErpExtractWindow(null, null, watermark, key, watermark, key);
+		}
+		Timestamp overlapFrom = Timestamp.valueOf(watermark.toLocalDateTime().minusMinutes(overlapMinutes));
+		return new ErpExtractWindow(null, null, overlapFrom, null, watermark, key);
+	}
+
+	boolean isIncremental() {
+		return afterDateTime != null;
+	}
+
+	/**
+	 * WHERE 조건 절
+	 * @param keyColumn 동일 시각 내 순서를 정하는 숫자 키 컬럼 (없으면 null)
+	 */
+	String predicate(String keyColumn) {
+		if (!isIncremental()) {
+			return "(LastDateTime >= ? AND LastDateTime < ?)";
+		}
+		if (keyColumn == null || afterKey == null) {
+			// 키 비교가 불가하면 기준 시각 행을 다시 포함 (MERGE 반영이므로 재처리해도 무해)
+			return "(LastDateTime >= ?)";
+		}
+		return "(LastDateTime > ? OR (LastDateTime = ? AND " + keyColumn + " > ?))";
+	}
+
+	/**
+	 * 조건 절 바인딩 값 ({@link #predicate(String)}와 같은 keyColumn 기준)
+	 * @param keyColumn 동일 시각 내 순서를 정하는 숫자 키 컬럼 (없으면 null)
+	 * @param leading 조건 절 앞에 오는 바인딩 값
+	 */
+	Object[] params(String keyColumn, Object... leading) {
+		List<Object> params = new ArrayList<>(Arrays.asList(leading));
+		if (!isIncremental()) {
+			params.add(fromInclusive);
+			params.add(toExclusive);
+		} else if (keyColumn == null || afterKey == null) {
+			params.add(afterDateTime);
+		} else {
+			params.add(afterDateTime);
+			params.add(afterDateTime);
+			params.add(afterKey);
+		}
+		return params.toArray();
+	}
+
+	/**
+	 * 조회 행의 최대 시각/키가 저장된 기준점보다 뒤인지 여부
+	 * 겹침 구간의 행만 다시 읽은 경우 기준점을 되돌리지 않기 위해 사용한다. (날짜 범위 조회는 항상 true)
+	 * @param maxDateTime 조회 행의 최대 LastDateTime
+	 * @param maxKey 최대 시각 내 최대 키 (없으면 null)
+	 */
+	boolean isPastWatermark(Date maxDateTime, Long maxKey) {
+		if (!isIncremental()) {
+			return true;
+		}
+		int compared = maxDateTime.compareTo(watermarkDateTime);
+		if (compared != 0) {
+			return compared > 0;
+		}
+		return maxKey != null && (watermarkKey == null || maxKey > watermarkKey);
+	}
+
+	/**
+	 * 구간 시작 시각 (yyyy-MM-dd HH:mm:ss.SSS)
+	 */
+	String lowerBound() {
+		return format(isIncremental() ? afterDateTime : fromInclusive);
+	}
+
+	static String format(Date dateTime) {
+		return new SimpleDateFormat(DATE_TIME_PATTERN).format(dateTime);
+	}
+
+	@Override
+	public String toString() {
+		if (!isIncremental()) {
+			return format(fromInclusive) + " ~ " + format(toExclusive) + " (미포함)";
+		}
+		String text = format(afterDateTime) + (afterKey != null ? " / 키 " + afterKey : "") + " 이후";
+		return afterDateTime.equals(watermarkDateTime) ? text : text + " (기준점 " + format(watermarkDateTime) + ", 겹침 구간 포함)";
+	}
+}
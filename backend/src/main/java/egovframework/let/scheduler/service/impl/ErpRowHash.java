@@ -0,0 +1,50 @@
+package egovframework.let.scheduler.service.impl;
+
+import org.springframework.util.DigestUtils;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Date;
+
+/**
+ * ERP → MES 반영 내용 해시
+ * MES에 기록되는 값만으로 행 단위 해시(MD5, 32자리 16진수)를 만들어 ERP_ROW_HASH 컬럼에 보관하고,
+ * 다음 연동 시 해시가 같으면 UPDATE를 생략하여 변경 없는 행의 로그/잠금 부하를 없앤다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+final class ErpRowHash {
+
+	/** 값 구분자 (Unit Separator) */
+	private static final char SEPARATOR = '\u001f';
+
+	/** null 표시 (빈 문자열과 구분) */
+	private static final char NULL_MARK = '\u0000';
+
+	private ErpRowHash() {
+	}
+
+	/**
+	 * @param values MES에 기록되는 값 (순서 고정)
+	 * @return 해시 문자열
+	 */
+	static String of(Object... values) {
+		StringBuilder canonical = new StringBuilder();
+		for (Object value : values) {
+			if (value == null) {
+				canonical.append(NULL_MARK);
+			} else if (value instanceof BigDecimal) {
+				// 1.00000과 1을 같은 값으로 취급
+				canonical.append(((BigDecimal) value).stripTrailingZeros().toPlainString());
+			} else if (value instanceof Date) {
+				canonical.append(((Date) value).getTime());
+			} else {
+				canonical.append(value);
+			}
+			canonical.append(SEPARATOR);
+		}
+		return DigestUtils.md5DigestAsHex(canonical.toString().getBytes(StandardCharsets.UTF_8));
+	}
+}
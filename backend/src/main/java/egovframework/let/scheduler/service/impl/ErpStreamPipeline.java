@@ -0,0 +1,159 @@
+package egovframework.let.scheduler.service.impl;
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * ERP → MES 스트리밍 연동 파이프라인
+ * ERP 조회는 별도 스레드에서 커서(fetch size)로 읽어 청크 단위로 제한 크기 큐에 넣고,
+ * 호출 스레드는 큐에서 청크를 꺼내 MES에 반영한다.
+ * MES 반영은 호출 스레드의 트랜잭션 안에서 수행되며, 첫 청크 반영이 ERP 조회와 겹쳐 진행된다.
+ * 메모리에는 최대 (큐 크기 + 2) 청크만 유지되므로 조회 기간과 무관하게 힙 사용량이 일정하다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+final class ErpStreamPipeline {
+
+	/** 조회 스레드가 앞서 읽어 둘 수 있는 최대 청크 수 */
+	static final int DEFAULT_QUEUE_CHUNKS = 4;
+
+	/** 조회 종료 표시 */
+	private static final List<Object> END_OF_STREAM = new ArrayList<>(0);
+
+	private static final long OFFER_WAIT_MILLIS = 500;
+
+	private ErpStreamPipeline() {
+	}
+
+	/**
+	 * ERP 행 스트리밍 조회 (행마다 sink 호출)
+	 */
+	@FunctionalInterface
+	interface Reader<T> {
+		void read(Consumer<T> sink) throws Exception;
+	}
+
+	/**
+	 * 청크 단위 MES 반영
+	 */
+	@FunctionalInterface
+	interface ChunkConsumer<T> {
+		void accept(List<T> chunk) throws Exception;
+	}
+
+	/**
+	 * 반영이 중단되어 조회를 멈추기 위한 내부 예외
+	 */
+	private static final class AbortedException extends RuntimeException {
+		private static final long serialVersionUID = 1L;
+
+		AbortedException() {
+			super("ERP 스트리밍 조회 중단", null, false, false);
+		}
+	}
+
+	/**
+	 * 스트리밍 파이프라인을 실행한다.
+	 * @param target 연동 대상명 (스레드명/로그용)
+	 * @param chunkSize 청크 크기
+	 * @param reader ERP 스트리밍 조회
+	 * @param consumer 청크 단위 MES 반영 (호출 스레드에서 실행)
+	 * @return 조회 건수
+	 */
+	static <T> int run(String target, int chunkSize, Reader<T> reader, ChunkConsumer<T> consumer) throws Exception {
+		BlockingQueue<List<T>> queue = new ArrayBlockingQueue<>(DEFAULT_QUEUE_CHUNKS);
+		ProducerState state = new ProducerState();
+
+		ExecutorService readerThread = Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "erp-stream-reader-" + target);
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		Future<?> readFuture = readerThread.submit(() -> {
+			List<T> buffer = new ArrayList<>(chunkSize);
+			try {
+				reader.read(row -> {
+					buffer.add(row);
+					state.rowCount++;
+					if (buffer.size() >= chunkSize) {
+						offer(queue, new ArrayList<>(buffer), state);
+						buffer.clear();
+					}
+				});
+				if (!buffer.isEmpty()) {
+					offer(queue, new ArrayList<>(buffer), state);
+				}
+				return null;
+			} finally {
+				// 조회 성공/실패와 무관하게 소비 측이 끝을 알 수 있도록 종료 표시
+				offerEnd(queue, state);
+			}
+		});
+
+		try {
+			while (true) {
+				List<T> chunk = queue.take();
+				if (chunk == (Object) END_OF_STREAM) {
+					break;
+				}
+				consumer.accept(chunk);
+			}
+			readFuture.get();
+			return state.rowCount;
+		} catch (ExecutionException e) {
+			Throwable cause = e.getCause();
+			if (cause instanceof Exception) {
+				throw (Exception) cause;
+			}
+			throw new Exception(target + " ERP 조회 실패", cause);
+		} catch (Exception e) {
+			state.aborted = true;
+			readFuture.cancel(true);
+			log.warn("{} 스트리밍 연동 중단", target);
+			throw e;
+		} finally {
+			readerThread.shutdownNow();
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> void offerEnd(BlockingQueue<List<T>> queue, ProducerState state) {
+		try {
+			offer(queue, (List<T>) (Object) END_OF_STREAM, state);
+		} catch (AbortedException e) {
+			// 소비 측이 이미 중단됨
+		}
+	}
+
+	private static <T> void offer(BlockingQueue<List<T>> queue, List<T> chunk, ProducerState state) {
+		try {
+			while (!queue.offer(chunk, OFFER_WAIT_MILLIS, TimeUnit.MILLISECONDS)) {
+				if (state.aborted) {
+					throw new AbortedException();
+				}
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new AbortedException();
+		}
+	}
+
+	private static final class ProducerState {
+		private volatile boolean aborted;
+		private volatile int rowCount;
+	}
+}
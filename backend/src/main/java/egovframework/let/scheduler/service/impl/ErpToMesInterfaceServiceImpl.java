@@ -1,15 +1,27 @@
 package egovframework.let.scheduler.service.impl;
 
+import egovframework.com.cmm.service.CommonCodeCache;
+import egovframework.let.basedata.bom.service.BomGraphService;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.service.MasterDataCacheService;
+import egovframework.let.erpIf.service.ErpAccessGuard;
 import egovframework.let.scheduler.domain.model.ErpCustomer;
 import egovframework.let.scheduler.domain.model.ErpEmployee;
 import egovframework.let.scheduler.domain.model.ErpItem;
 import egovframework.let.scheduler.domain.model.ErpProductionRequest;
+import egovframework.let.scheduler.domain.model.ErpSyncResult;
+import egovframework.let.scheduler.domain.model.ErpTPDROUItemProcMat;
 import egovframework.let.scheduler.domain.model.ErpWorkCenter;
+import egovframework.let.scheduler.domain.model.SchedulerWatermark;
+import egovframework.let.scheduler.domain.model.TPDROUItemProcMatVersion;
 import egovframework.let.scheduler.domain.repository.MesCustInterfaceDAO;
 import egovframework.let.scheduler.domain.repository.MesUserInterfaceDAO;
 import egovframework.let.scheduler.domain.repository.MesItemInterfaceDAO;
 import egovframework.let.scheduler.domain.repository.MesProdReqInterfaceDAO;
+import egovframework.let.scheduler.domain.model.SchedulerHistoryStep;
 import egovframework.let.scheduler.service.ErpToMesInterfaceService;
+import egovframework.let.scheduler.service.SchedulerHistoryService;
+import egovframework.let.scheduler.service.SchedulerWatermarkService;
 import egovframework.let.utl.sim.service.EgovFileScrty;
 import egovframework.let.basedata.commoncode.domain.model.CommonDetailCode;
 import egovframework.let.basedata.commoncode.domain.repository.CommonDetailCodeDAO;
@@ -17,15 +29,26 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
 import java.sql.ResultSet;
 import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
 
 /**
  * ERP-MES 인터페이스 서비스 구현체
@@ -54,6 +77,11 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	@Qualifier("erpJdbcTemplate")
 	private JdbcTemplate erpJdbcTemplate;
 
+	// ERP 대용량 스트리밍 조회용 (fetch size 지정)
+	@Autowired(required = false)
+	@Qualifier("erpStreamingJdbcTemplate")
+	private JdbcTemplate erpStreamingJdbcTemplate;
+
 	@Autowired
 	private MesUserInterfaceDAO mesUserInterfaceDAO;
 	@Autowired
@@ -71,65 +99,102 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	@Autowired
 	private CommonDetailCodeDAO commonDetailCodeDAO;
 
+	// 스케쥴러별 증분 연동 기준점 (자동 실행 시에만 사용)
+	@Autowired(required = false)
+	private SchedulerWatermarkService schedulerWatermarkService;
+
+	// 복합 연동 단계별 실행 이력 기록 (스케쥴러 실행 시에만 사용)
+	@Autowired(required = false)
+	private SchedulerHistoryService schedulerHistoryService;
+
+	// BOM 메모리 그래프 (TCO501/품목 변경 시 갱신 통지)
+	@Autowired(required = false)
+	private BomGraphService bomGraphService;
+
+	// 공통코드 코드그룹 캐시 (워크센터 COM010 반영 시 비움)
+	@Autowired(required = false)
+	private CommonCodeCache commonCodeCache;
+
+	// 기준정보 캐시 (품목/거래처 반영 시 갱신 통지)
+	@Autowired(required = false)
+	private MasterDataCacheService masterDataCacheService;
+
+	// 복합 연동 단계 동시 실행 스레드 풀 (없으면 호출 스레드에서 순차 실행)
+	@Autowired(required = false)
+	@Qualifier("erpSyncTaskExecutor")
+	private Executor erpSyncTaskExecutor;
+
+	// ERP 접근 보호 (동시 호출 제한/회로 차단, 없으면 바로 호출)
+	@Autowired(required = false)
+	private ErpAccessGuard erpAccessGuard;
+
+	// 증분 조회 시 기준점보다 앞서 다시 읽는 구간(분) - 늦게 커밋된 ERP 행 누락 방지
+	@Value("${Globals.erp.extract.overlapMinutes:5}")
+	private long extractOverlapMinutes;
+
+	// 단계별 트랜잭션 적용을 위한 자기 자신의 프록시 (없으면 this)
+	@Autowired(required = false)
+	@Lazy
+	private ErpToMesInterfaceService self;
+
+	// 복합 연동 단계명
+	static final String STEP_ITEM = "품목정보";
+	static final String STEP_USER = "사원정보";
+	static final String STEP_CUST = "거래처정보";
+	static final String STEP_WORK_CENTER = "작업장정보";
+	static final String STEP_PROD_REQ = "생산의뢰정보";
+
+	// 증분 연동 기준점 관리 대상 ERP 원천 뷰
+	static final String VIEW_EMP = "SHM_IF_VIEW_TDAEmp";
+	static final String VIEW_CUST = "SHM_IF_VIEW_TDACust";
+	static final String VIEW_ITEM = "SHM_IF_VIEW_TDAItem";
+	static final String VIEW_TPDROU_ITEM_PROC_MAT = "SHM_IF_VIEW_TPDROUItemProcMat";
+	static final String VIEW_WORK_CENTER = "SHM_IF_VIEW_TPDBaseWorkCenter";
+
+	// 일괄 반영(MERGE) 청크 크기 - 행당 바인딩 파라미터 수 기준 (반영 내용 해시 포함)
+	private static final int USER_CHUNK_SIZE = MesBulkUpsertSupport.chunkSize(7);
+	private static final int CUST_CHUNK_SIZE = MesBulkUpsertSupport.chunkSize(8);
+	private static final int ITEM_CHUNK_SIZE = MesBulkUpsertSupport.chunkSize(12);
+	private static final int PROD_REQ_CHUNK_SIZE = MesBulkUpsertSupport.chunkSize(20);
+	private static final int TPDROU_CHUNK_SIZE = MesBulkUpsertSupport.chunkSize(18);
+
 	/**
 	 * ERP 시스템의 사원 정보를 MES 시스템으로 연동
 	 * @param fromDate 조회 시작 날짜 (yyyy-MM-dd)
 	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
 	 */
 	@Override
-//	@Transactional
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void syncUsers(String fromDate, String toDate) throws Exception {
 		log.info("=== ERP 사원정보 연동 시작 ===");
 
-		int insertCount = 0;
-		int updateCount = 0;
-		int errorCount = 0;
-		Exception lastError = null;
+		ErpSyncResult result = new ErpSyncResult("사원정보");
 
 		try {
-			// 1. ERP 시스템에서 사원 정보 조회
+			// 1. ERP 시스템에서 사원 정보 스트리밍 조회
 			log.info("ERP 시스템(SHM_IF_VIEW_TDAEmp)에서 사원 데이터 조회 시작");
-			List<ErpEmployee> erpEmployees = selectErpEmployees(fromDate, toDate);
-			log.info("ERP 사원 데이터 조회 완료: {}건", erpEmployees.size());
-
-			// 2. MES 시스템에 사원 정보 등록/업데이트
-			for (ErpEmployee employee : erpEmployees) {
-				try {
-					// 2-1. MES에 해당 사원이 존재하는지 확인
-					int count = mesUserInterfaceDAO.selectMesUserCount(employee.getEmpId());
-
-					if (count == 0) {
-
-						//패스워드 암호화
-						String pass = EgovFileScrty.encryptPassword(employee.getPassword()+employee.getPassword(), employee.getEmpId());
-						employee.setPassword(pass);
-
-						// 2-2. 신규 사원인 경우 INSERT
-						mesUserInterfaceDAO.insertMesUser(employee);
-						insertCount++;
-						log.debug("신규 사원 등록: {} ({})", employee.getEmpName(), employee.getEmpId());
-					} else {
-						// 2-3. 기존 사원인 경우 UPDATE
-						mesUserInterfaceDAO.updateMesUser(employee);
-						updateCount++;
-						log.debug("기존 사원 업데이트: {} ({})", employee.getEmpName(), employee.getEmpId());
-					}
-				} catch (Exception e) {
-					errorCount++;
-					lastError = e;
-					log.error("사원 정보 처리 실패: {} ({})", employee.getEmpName(), employee.getEmpId(), e);
-				}
-			}
+			ErpExtractWindow window = resolveWindow(VIEW_EMP, fromDate, toDate);
+			WatermarkCandidate watermark = new WatermarkCandidate();
+
+			// 2. 조회와 동시에 MES 시스템에 사원 정보 청크 단위 일괄 등록/업데이트 (실패 청크는 행 단위 재처리)
+			int fetchCount = ErpStreamPipeline.<ErpEmployee>run(result.getTarget(), USER_CHUNK_SIZE,
+					sink -> streamErpEmployees(window, sink),
+					chunk -> {
+						chunk.forEach(employee -> watermark.observe(employee.getLastDateTime(), employee.getEmpSeq()));
+						MesBulkUpsertSupport.upsert(chunk, USER_CHUNK_SIZE, result,
+								this::mergeUserChunk,
+								this::upsertUser,
+								employee -> employee.getEmpName() + " (" + employee.getEmpId() + ")");
+					});
+			log.info("ERP 사원 데이터 조회 완료: {}건", fetchCount);
+
+			advanceWatermark(VIEW_EMP, window, result.getErrorCount() == 0, watermark);
 
 			log.info("=== ERP 사원정보 연동 완료 ===");
-			log.info("총 처리: {}건, 신규등록: {}건, 업데이트: {}건, 오류: {}건",
-					erpEmployees.size(), insertCount, updateCount, errorCount);
+			log.info(result.toString());
 
 			// 오류가 하나라도 있으면 예외를 던져서 스케쥴러 히스토리에 실패로 기록
-			if (errorCount > 0 && lastError != null) {
-				throw new Exception(String.format("사원정보 연동 중 오류 발생 - 총 처리: %d건, 성공: %d건, 실패: %d건. 마지막 오류: %s",
-						erpEmployees.size(), insertCount + updateCount, errorCount, lastError.getMessage()), lastError);
-			}
+			result.throwIfError();
 
 		} catch (Exception e) {
 			log.error("사원정보 연동 실패", e);
@@ -138,21 +203,170 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	}
 
 	/**
-	 * ERP에서 사원 정보 조회 (JdbcTemplate 사용)
+	 * ERP 원천 뷰 조회 구간 결정
+	 * 자동(CRON) 실행이면 스케쥴러/원천 뷰별 증분 기준점 이후 변경분, 그 외(수동 실행, 최초 실행)는 날짜 범위
+	 * @param sourceView ERP 원천 뷰명
 	 * @param fromDate 조회 시작 날짜 (yyyy-MM-dd)
 	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
-	 * @return 사원 정보 리스트
+	 * @return 조회 구간
+	 */
+	private ErpExtractWindow resolveWindow(String sourceView, String fromDate, String toDate) throws Exception {
+		Long schedulerId = SchedulerRunContext.incrementalSchedulerId();
+		if (schedulerId != null && schedulerWatermarkService != null) {
+			SchedulerWatermark watermark = schedulerWatermarkService.selectWatermark(schedulerId, sourceView);
+			if (watermark != null && StringUtils.hasText(watermark.getLastDateTime())) {
+				ErpExtractWindow window = ErpExtractWindow.after(watermark.getLastDateTime(), watermark.getLastKey(),
+						extractOverlapMinutes);
+				log.info("{} 증분 조회: {}", sourceView, window);
+				return window;
+			}
+			log.info("{} 증분 기준점 없음 - 날짜 범위({} ~ {})로 최초 조회", sourceView, fromDate, toDate);
+		}
+		return ErpExtractWindow.ofDates(fromDate, toDate);
+	}
+
+	/**
+	 * 연동 성공 시 증분 기준점을 반영한 최대 LastDateTime(+ 동일 시각 내 최대 키)으로 전진
+	 * 오류가 있으면 기준점을 유지하여 다음 실행에서 같은 구간을 다시 조회한다.
+	 * 겹침 구간의 행만 다시 읽어 최대 시각이 기존 기준점 이전이면 기준점을 되돌리지 않는다.
+	 * @param sourceView ERP 원천 뷰명
+	 * @param window 이번 조회 구간
+	 * @param succeeded 오류 없이 반영되었는지 여부
+	 * @param watermark 조회 행에서 수집한 최대 LastDateTime/키
+	 */
+	private void advanceWatermark(String sourceView, ErpExtractWindow window, boolean succeeded,
+			WatermarkCandidate watermark) throws Exception {
+		Long schedulerId = SchedulerRunContext.incrementalSchedulerId();
+		if (schedulerId == null || schedulerWatermarkService == null || !succeeded) {
+			return;
+		}
+
+		if (watermark.maxDateTime != null) {
+			if (!window.isPastWatermark(watermark.maxDateTime, watermark.maxKey)) {
+				return;
+			}
+			schedulerWatermarkService.advanceWatermark(schedulerId, sourceView,
+					ErpExtractWindow.format(watermark.maxDateTime),
+					watermark.maxKey != null ? String.valueOf(watermark.maxKey) : null);
+		} else if (!window.isIncremental()) {
+			// 최초 실행에서 변경분이 없으면 조회 시작 시각을 기준점으로 기록하여 이후 실행이 연속되도록 한다.
+			schedulerWatermarkService.advanceWatermark(schedulerId, sourceView, window.lowerBound(), null);
+		}
+	}
+
+	/**
+	 * 조회 행의 최대 LastDateTime 및 동일 시각 내 최대 키 수집
+	 * 스트리밍 조회에서 전체 목록을 보관하지 않고 기준점을 계산하기 위해 사용한다.
+	 */
+	private static final class WatermarkCandidate {
+		private Date maxDateTime;
+		private Long maxKey;
+
+		void observe(Date dateTime, Object rawKey) {
+			if (dateTime == null) {
+				return;
+			}
+			Long key = rawKey != null ? Long.valueOf(String.valueOf(rawKey).trim()) : null;
+			int compared = maxDateTime == null ? 1 : dateTime.compareTo(maxDateTime);
+			if (compared > 0) {
+				maxDateTime = dateTime;
+				maxKey = key;
+			} else if (compared == 0 && key != null && (maxKey == null || key > maxKey)) {
+				maxKey = key;
+			}
+		}
+	}
+
+	/**
+	 * ERP 스트리밍 조회 (fetch size 지정 커서로 행 단위 읽기)
+	 * @param sql 조회 SQL
+	 * @param rowMapper 행 매핑
+	 * @param sink 행 단위 수신
+	 * @param args 바인딩 값
+	 */
+	private <T> void streamErp(String sql, RowMapper<T> rowMapper, Consumer<T> sink, Object... args) {
+		JdbcTemplate template = erpStreamingJdbcTemplate != null ? erpStreamingJdbcTemplate : erpJdbcTemplate;
+		// 대용량 연동은 화면/전송 호출과 동시 호출 한도를 따로 쓴다
+		ErpAccessGuard.ErpCall<Void, RuntimeException> query = () -> {
+			template.query(sql, new RowCallbackHandler() {
+				private int rowNum = 0;
+
+				@Override
+				public void processRow(ResultSet rs) throws SQLException {
+					sink.accept(rowMapper.mapRow(rs, rowNum++));
+				}
+			}, args);
+			return null;
+		};
+		if (erpAccessGuard != null) {
+			erpAccessGuard.callBatch("streamErp", query);
+		} else {
+			query.call();
+		}
+	}
+
+	/**
+	 * ERP 호출을 접근 보호(동시 호출 제한/회로 차단) 안에서 실행한다.
+	 */
+	private <T, E extends Exception> T guarded(String operation, ErpAccessGuard.ErpCall<T, E> call) throws E {
+		return erpAccessGuard != null ? erpAccessGuard.call(operation, call) : call.call();
+	}
+
+	/**
+	 * 사원 정보 청크 일괄 반영
+	 * 신규 등록 대상이 될 수 있도록 행별 암호화 비밀번호를 미리 계산한다.
+	 * @param chunk ERP 사원 정보 청크
+	 * @return 행별 처리 구분
+	 */
+	private List<String> mergeUserChunk(List<ErpEmployee> chunk) throws Exception {
+		for (ErpEmployee employee : chunk) {
+			employee.setEncPassword(EgovFileScrty.encryptPassword(employee.getPassword() + employee.getPassword(), employee.getEmpId()));
+		}
+		return mesUserInterfaceDAO.mergeMesUsers(chunk);
+	}
+
+	/**
+	 * 사원 정보 행 단위 반영
+	 * @param employee ERP 사원 정보
+	 * @return 처리 구분 (INSERT/UPDATE)
+	 */
+	private String upsertUser(ErpEmployee employee) throws Exception {
+		// MES에 해당 사원이 존재하는지 확인
+		int count = mesUserInterfaceDAO.selectMesUserCount(employee.getEmpId());
+
+		if (count == 0) {
+
+			//패스워드 암호화
+			String pass = EgovFileScrty.encryptPassword(employee.getPassword()+employee.getPassword(), employee.getEmpId());
+			employee.setPassword(pass);
+
+			// 신규 사원인 경우 INSERT
+			mesUserInterfaceDAO.insertMesUser(employee);
+			log.debug("신규 사원 등록: {} ({})", employee.getEmpName(), employee.getEmpId());
+			return MesBulkUpsertSupport.ACTION_INSERT;
+		}
+
+		// 기존 사원인 경우 UPDATE
+		mesUserInterfaceDAO.updateMesUser(employee);
+		log.debug("기존 사원 업데이트: {} ({})", employee.getEmpName(), employee.getEmpId());
+		return MesBulkUpsertSupport.ACTION_UPDATE;
+	}
+
+	/**
+	 * ERP에서 사원 정보 스트리밍 조회 (JdbcTemplate 사용)
+	 * @param window 조회 구간 (날짜 범위 또는 증분 기준점 이후)
+	 * @param sink 행 단위 수신
 	 */
-	private List<ErpEmployee> selectErpEmployees(String fromDate, String toDate) {
+	private void streamErpEmployees(ErpExtractWindow window, Consumer<ErpEmployee> sink) {
 		String sql = "SELECT CompanySeq, EmpSeq, EmpId, EmpName, UMPgSeq, UMPgName, " +
 				"DeptSeq, DeptName, TypeSeq, TypeName, Email, UserId, UserSeq, " +
 				"LastUserSeq, LastDateTime " +
 				"FROM SHM_IF_VIEW_TDAEmp " +
 				"WHERE TypeSeq = 3031001 " +  // 재직자만 동기화
-				"AND CONVERT(VARCHAR(10), LastDateTime, 120) BETWEEN ? AND ? " +  // 날짜 범위 필터
+				"AND " + window.predicate("EmpSeq") + " " +  // 변경 구간 필터
 				"ORDER BY EmpSeq";
 
-		return erpJdbcTemplate.query(sql, new ErpEmployeeRowMapper(), fromDate, toDate);
+		streamErp(sql, new ErpEmployeeRowMapper(), sink, window.params("EmpSeq"));
 	}
 
 	/**
@@ -222,54 +436,41 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
 	 */
 	@Override
-//	@Transactional
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void syncCusts(String fromDate, String toDate) throws Exception {
 		log.info("=== ERP 거래처정보 연동 시작 ===");
 
-		int insertCount = 0;
-		int updateCount = 0;
-		int errorCount = 0;
-		Exception lastError = null;
+		ErpSyncResult result = new ErpSyncResult("거래처정보");
 
 		try {
-			// 1. ERP 시스템에서 거래처 정보 조회
+			// 1. ERP 시스템에서 거래처 정보 스트리밍 조회
 			log.info("ERP 시스템(SHM_IF_VIEW_TDACust)에서 거래처 데이터 조회 시작");
-			List<ErpCustomer> erpCustomers = selectErpCustomers(fromDate, toDate);
-			log.info("ERP 거래처 데이터 조회 완료: {}건", erpCustomers.size());
-
-			// 2. MES 시스템에 거래처 정보 등록/업데이트
-			for (ErpCustomer customer : erpCustomers) {
-				try {
-					// 2-1. MES에 해당 거래처가 존재하는지 확인
-					int count = mesCustInterfaceDAO.selectMesCustCount(customer.getCustSeq());
-
-					if (count == 0) {
-						// 2-2. 신규 거래처인 경우 INSERT
-						mesCustInterfaceDAO.insertMesCust(customer);
-						insertCount++;
-						log.debug("신규 거래처 등록: {} ({})", customer.getCustName(), customer.getCustSeq());
-					} else {
-						// 2-3. 기존 거래처인 경우 UPDATE
-						mesCustInterfaceDAO.updateMesCust(customer);
-						updateCount++;
-						log.debug("기존 거래처 업데이트: {} ({})", customer.getCustName(), customer.getCustSeq());
-					}
-				} catch (Exception e) {
-					errorCount++;
-					lastError = e;
-					log.error("거래처 정보 처리 실패: {} ({})", customer.getCustName(), customer.getCustSeq(), e);
-				}
-			}
+			ErpExtractWindow window = resolveWindow(VIEW_CUST, fromDate, toDate);
+			WatermarkCandidate watermark = new WatermarkCandidate();
+
+			// 2. 조회와 동시에 MES 시스템에 거래처 정보 청크 단위 일괄 등록/업데이트 (실패 청크는 행 단위 재처리)
+			int fetchCount = ErpStreamPipeline.<ErpCustomer>run(result.getTarget(), CUST_CHUNK_SIZE,
+					sink -> streamErpCustomers(window, sink),
+					chunk -> {
+						for (ErpCustomer customer : chunk) {
+							watermark.observe(customer.getLastDateTime(), customer.getCustSeq());
+							customer.setRowHash(rowHashOf(customer));
+						}
+						MesBulkUpsertSupport.upsert(chunk, CUST_CHUNK_SIZE, result,
+								mesCustInterfaceDAO::mergeMesCusts,
+								this::upsertCust,
+								customer -> customer.getCustName() + " (" + customer.getCustSeq() + ")");
+					});
+			log.info("ERP 거래처 데이터 조회 완료: {}건", fetchCount);
+
+			advanceWatermark(VIEW_CUST, window, result.getErrorCount() == 0, watermark);
+			refreshMasterData(MasterTable.CUSTOMER, result);
 
 			log.info("=== ERP 거래처정보 연동 완료 ===");
-			log.info("총 처리: {}건, 신규등록: {}건, 업데이트: {}건, 오류: {}건",
-					erpCustomers.size(), insertCount, updateCount, errorCount);
+			log.info(result.toString());
 
 			// 오류가 하나라도 있으면 예외를 던져서 스케쥴러 히스토리에 실패로 기록
-			if (errorCount > 0 && lastError != null) {
-				throw new Exception(String.format("거래처정보 연동 중 오류 발생 - 총 처리: %d건, 성공: %d건, 실패: %d건. 마지막 오류: %s",
-						erpCustomers.size(), insertCount + updateCount, errorCount, lastError.getMessage()), lastError);
-			}
+			result.throwIfError();
 
 		} catch (Exception e) {
 			log.error("거래처정보 연동 실패", e);
@@ -278,22 +479,53 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	}
 
 	/**
-	 * ERP에서 거래처 정보 조회 (JdbcTemplate 사용)
-	 * @param fromDate 조회 시작 날짜 (yyyy-MM-dd)
-	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
-	 * @return 거래처 정보 리스트
+	 * 거래처 정보 행 단위 반영
+	 * @param customer ERP 거래처 정보
+	 * @return 처리 구분 (INSERT/UPDATE/SKIP)
+	 */
+	private String upsertCust(ErpCustomer customer) throws Exception {
+		// MES에 해당 거래처가 존재하는지 확인
+		int count = mesCustInterfaceDAO.selectMesCustCount(customer.getCustSeq());
+
+		if (count == 0) {
+			// 신규 거래처인 경우 INSERT
+			mesCustInterfaceDAO.insertMesCust(customer);
+			log.debug("신규 거래처 등록: {} ({})", customer.getCustName(), customer.getCustSeq());
+			return MesBulkUpsertSupport.ACTION_INSERT;
+		}
+
+		// 기존 거래처인 경우 UPDATE (반영 내용 해시가 같으면 생략)
+		if (mesCustInterfaceDAO.updateMesCust(customer) == 0) {
+			return MesBulkUpsertSupport.ACTION_UNCHANGED;
+		}
+		log.debug("기존 거래처 업데이트: {} ({})", customer.getCustName(), customer.getCustSeq());
+		return MesBulkUpsertSupport.ACTION_UPDATE;
+	}
+
+	/**
+	 * 거래처 정보 반영 내용 해시 (TCO601에 기록되는 값 기준)
+	 */
+	static String rowHashOf(ErpCustomer customer) {
+		return ErpRowHash.of(customer.getFactoryCode(), customer.getCustSeq(), customer.getCustName(),
+				customer.getSmCustStatus(), customer.getBizNo(), customer.getBizAddr(), customer.getZipCode());
+	}
+
+	/**
+	 * ERP에서 거래처 정보 스트리밍 조회 (JdbcTemplate 사용)
+	 * @param window 조회 구간 (날짜 범위 또는 증분 기준점 이후)
+	 * @param sink 행 단위 수신
 	 */
-	private List<ErpCustomer> selectErpCustomers(String fromDate, String toDate) {
+	private void streamErpCustomers(ErpExtractWindow window, Consumer<ErpCustomer> sink) {
 		String sql = "SELECT CompanySeq, CustSeq, CustName, SMCustStatus, SMCustStatusName, " +
 				"SMDomFor, SMDomForName, BizNo, BizAddr, UMChannelSeq, UMChannelName, " +
 				"ZipCode, CustKindName, LastUserSeq, LastDateTime " +
 				"FROM SHM_IF_VIEW_TDACust " +
 				"WHERE SMCustStatus = '2004001' " +  // 정상 거래처만 동기화 (필요시 조건 수정)
 				"AND CustKindName IN ('국내매출거래처', '수출거래처') " +
-				"AND CONVERT(VARCHAR(10), LastDateTime, 120) BETWEEN ? AND ? " +  // 날짜 범위 필터
+				"AND " + window.predicate("CustSeq") + " " +  // 변경 구간 필터
 				"ORDER BY CustSeq";
 
-		return erpJdbcTemplate.query(sql, new ErpCustomerRowMapper(), fromDate, toDate);
+		streamErp(sql, new ErpCustomerRowMapper(), sink, window.params("CustSeq"));
 	}
 
 	/**
@@ -362,54 +594,33 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
 	 */
 	@Override
-//	@Transactional
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void syncProductionRequests(String fromDate, String toDate) throws Exception {
 		log.info("=== ERP 생산 의뢰 정보 연동 시작 (기간: {} ~ {}) ===", fromDate, toDate);
 
-		int insertCount = 0;
-		int updateCount = 0;
-		int errorCount = 0;
-		Exception lastError = null;
+		ErpSyncResult result = new ErpSyncResult("생산 의뢰 정보");
 
 		try {
-			// 1. ERP 시스템에서 생산 의뢰 정보 조회
+			// 1. ERP 시스템에서 생산 의뢰 정보 스트리밍 조회
 			log.info("ERP 시스템에서 생산 의뢰 데이터 조회 시작");
-			List<ErpProductionRequest> erpProdReqs = selectErpProductionRequests(fromDate, toDate);
-			log.info("ERP 생산 의뢰 데이터 조회 완료: {}건", erpProdReqs.size());
 
-			// 2. MES 시스템에 생산 의뢰 정보 등록/업데이트
-			for (ErpProductionRequest prodReq : erpProdReqs) {
-				try {
-					// 2-1. MES에 해당 생산 의뢰가 존재하는지 확인
-					int count = mesProdReqInterfaceDAO.selectMesProdReqCount(prodReq);
-
-					if (count == 0) {
-						// 2-2. 신규 생산 의뢰인 경우 INSERT
-						mesProdReqInterfaceDAO.insertMesProdReq(prodReq);
-						insertCount++;
-						log.debug("신규 생산 의뢰 등록: {} ({})", prodReq.getProdReqNo(), prodReq.getProdReqSeq());
-					} else {
-						// 2-3. 기존 생산 의뢰인 경우 UPDATE
-						mesProdReqInterfaceDAO.updateMesProdReq(prodReq);
-						updateCount++;
-						log.debug("기존 생산 의뢰 업데이트: {} ({})", prodReq.getProdReqNo(), prodReq.getProdReqSeq());
-					}
-				} catch (Exception e) {
-					errorCount++;
-					lastError = e;
-					log.error("생산 의뢰 정보 처리 실패: {} ({})", prodReq.getProdReqNo(), prodReq.getProdReqSeq(), e);
-				}
-			}
+			// 2. 조회와 동시에 MES 시스템에 생산 의뢰 정보 청크 단위 일괄 등록/업데이트 (실패 청크는 행 단위 재처리)
+			int fetchCount = ErpStreamPipeline.<ErpProductionRequest>run(result.getTarget(), PROD_REQ_CHUNK_SIZE,
+					sink -> streamErpProductionRequests(fromDate, toDate, sink),
+					chunk -> {
+						chunk.forEach(prodReq -> prodReq.setRowHash(rowHashOf(prodReq)));
+						MesBulkUpsertSupport.upsert(chunk, PROD_REQ_CHUNK_SIZE, result,
+								mesProdReqInterfaceDAO::mergeMesProdReqs,
+								this::upsertProdReq,
+								prodReq -> prodReq.getProdReqNo() + " (" + prodReq.getProdReqSeq() + ")");
+					});
+			log.info("ERP 생산 의뢰 데이터 조회 완료: {}건", fetchCount);
 
 			log.info("=== ERP 생산 의뢰 정보 연동 완료 ===");
-			log.info("총 처리: {}건, 신규등록: {}건, 업데이트: {}건, 오류: {}건",
-					erpProdReqs.size(), insertCount, updateCount, errorCount);
+			log.info(result.toString());
 
 			// 오류가 하나라도 있으면 예외를 던져서 스케쥴러 히스토리에 실패로 기록
-			if (errorCount > 0 && lastError != null) {
-				throw new Exception(String.format("생산 의뢰 정보 연동 중 오류 발생 - 총 처리: %d건, 성공: %d건, 실패: %d건. 마지막 오류: %s",
-						erpProdReqs.size(), insertCount + updateCount, errorCount, lastError.getMessage()), lastError);
-			}
+			result.throwIfError();
 
 		} catch (Exception e) {
 			log.error("생산 의뢰 정보 연동 실패", e);
@@ -418,13 +629,50 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	}
 
 	/**
-	 * ERP에서 생산 의뢰 정보 조회 (JdbcTemplate 사용)
+	 * 생산 의뢰 정보 행 단위 반영
+	 * @param prodReq ERP 생산 의뢰 정보
+	 * @return 처리 구분 (INSERT/UPDATE/SKIP)
+	 */
+	private String upsertProdReq(ErpProductionRequest prodReq) throws Exception {
+		// MES에 해당 생산 의뢰가 존재하는지 확인
+		int count = mesProdReqInterfaceDAO.selectMesProdReqCount(prodReq);
+
+		if (count == 0) {
+			// 신규 생산 의뢰인 경우 INSERT
+			mesProdReqInterfaceDAO.insertMesProdReq(prodReq);
+			log.debug("신규 생산 의뢰 등록: {} ({})", prodReq.getProdReqNo(), prodReq.getProdReqSeq());
+			return MesBulkUpsertSupport.ACTION_INSERT;
+		}
+
+		// 기존 생산 의뢰인 경우 UPDATE (반영 내용 해시가 같으면 생략)
+		if (mesProdReqInterfaceDAO.updateMesProdReq(prodReq) == 0) {
+			return MesBulkUpsertSupport.ACTION_UNCHANGED;
+		}
+		log.debug("기존 생산 의뢰 업데이트: {} ({})", prodReq.getProdReqNo(), prodReq.getProdReqSeq());
+		return MesBulkUpsertSupport.ACTION_UPDATE;
+	}
+
+	/**
+	 * 생산 의뢰 정보 반영 내용 해시 (TSA308에 기록되는 값 기준, 반제품 행은 반제품 품목 정보 포함)
+	 */
+	static String rowHashOf(ErpProductionRequest prodReq) {
+		return ErpRowHash.of(prodReq.getFactoryCode(), prodReq.getProdReqNo(), prodReq.getProdReqSeq(),
+				prodReq.getSerl(), prodReq.getItemFlag(),
+				prodReq.getItemSeq(), prodReq.getItemNo(), prodReq.getItemName(), prodReq.getSpec(),
+				prodReq.getSemiItemSeq(), prodReq.getSemiItemNo(), prodReq.getSemiItemName(), prodReq.getSemiSpec(),
+				prodReq.getCustSeq(), prodReq.getEmpSeq(), prodReq.getQty(), prodReq.getUnitSeq(),
+				prodReq.getDelvDate(), prodReq.getReqDate(), prodReq.getEndDate(),
+				prodReq.getRemark(), prodReq.getReqType(), prodReq.getReqTypeName());
+	}
+
+	/**
+	 * ERP에서 생산 의뢰 정보 스트리밍 조회 (JdbcTemplate 사용)
 	 * fromDate/toDate(yyyy-MM-dd)를 ReqDate(yyyyMMdd) 비교 형식으로 정규화하여 조회
 	 * @param fromDate 조회 시작 날짜 (yyyy-MM-dd)
 	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
-	 * @return 생산 의뢰 정보 리스트
+	 * @param sink 행 단위 수신
 	 */
-	private List<ErpProductionRequest> selectErpProductionRequests(String fromDate, String toDate) {
+	private void streamErpProductionRequests(String fromDate, String toDate, Consumer<ErpProductionRequest> sink) {
 		String fromReqDate = normalizeReqDateParam(fromDate);
 		String toReqDate = normalizeReqDateParam(toDate);
 
@@ -570,7 +818,7 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 
 
 
-		return erpJdbcTemplate.query(sql, new ErpProductionRequestRowMapper(), fromReqDate, toReqDate, fromReqDate, toReqDate, fromReqDate, toReqDate);
+		streamErp(sql, new ErpProductionRequestRowMapper(), sink, fromReqDate, toReqDate, fromReqDate, toReqDate, fromReqDate, toReqDate);
 	}
 
 	static String normalizeReqDateParam(String date) {
@@ -660,59 +908,43 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
 	 */
 	@Override
-//	@Transactional
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void syncItems(String fromDate, String toDate) throws Exception {
 		log.info("=== ERP 품목정보 연동 시작 (기간: {} ~ {}) ===", fromDate, toDate);
 
-		int insertCount = 0;
-		int updateCount = 0;
-		int errorCount = 0;
-		Exception lastError = null;
+		ErpSyncResult result = new ErpSyncResult("품목정보");
 
 		try {
-			// 1. ERP 시스템에서 품목 정보 조회
+			// 1. ERP 시스템에서 품목 정보 스트리밍 조회
 			log.info("ERP 시스템(SHM_IF_VIEW_TDAItem)에서 품목 데이터 조회 시작");
-			List<ErpItem> erpItems = selectErpItems(fromDate, toDate);
-			log.info("ERP 품목 데이터 조회 완료: {}건", erpItems.size());
-
-			// 2. MES 시스템에 품목 정보 등록/업데이트
-			for (ErpItem item : erpItems) {
-				try {
-					// 2-1. MES에 해당 품목이 존재하는지 확인
-					int count = mesItemInterfaceDAO.selectMesItemCount(item);
-
-					if (count == 0) {
-						// 2-2. 신규 품목인 경우 INSERT
-						mesItemInterfaceDAO.insertMesItem(item);
-						insertCount++;
-						log.debug("신규 품목 등록: {} ({})", item.getItemName(), item.getItemSeq());
-					} else {
-						// 2-3. 기존 품목인 경우 UPDATE
-						mesItemInterfaceDAO.updateMesItem(item);
-						updateCount++;
-						log.debug("기존 품목 업데이트: {} ({})", item.getItemName(), item.getItemSeq());
-					}
-
-					// 2-4. LOT 채번용 IDS2 시드 보장 (신규/기존 품목 모두 대상)
-					if (StringUtils.hasText(item.getItemNo())) {
-						mesItemInterfaceDAO.ensureLotIdSeed(item);
-					}
-				} catch (Exception e) {
-					errorCount++;
-					lastError = e;
-					log.error("품목 정보 처리 실패: {} ({})", item.getItemName(), item.getItemSeq(), e);
-				}
-			}
+			ErpExtractWindow window = resolveWindow(VIEW_ITEM, fromDate, toDate);
+			WatermarkCandidate watermark = new WatermarkCandidate();
+
+			// 2. 조회와 동시에 MES 시스템에 품목 정보 청크 단위 일괄 등록/업데이트 (실패 청크는 행 단위 재처리)
+			int fetchCount = ErpStreamPipeline.<ErpItem>run(result.getTarget(), ITEM_CHUNK_SIZE,
+					sink -> streamErpItems(window, sink),
+					chunk -> {
+						for (ErpItem item : chunk) {
+							watermark.observe(item.getLastDateTime(), item.getItemSeq());
+							item.setRowHash(rowHashOf(item));
+						}
+						MesBulkUpsertSupport.upsert(chunk, ITEM_CHUNK_SIZE, result,
+								this::mergeItemChunk,
+								this::upsertItem,
+								item -> item.getItemName() + " (" + item.getItemSeq() + ")");
+					});
+			log.info("ERP 품목 데이터 조회 완료: {}건", fetchCount);
+
+			advanceWatermark(VIEW_ITEM, window, result.getErrorCount() == 0, watermark);
+			// 품목명/규격/단위 변경을 BOM 그래프 표시 정보에 반영
+			invalidateBomGraph(result);
+			refreshMasterData(MasterTable.ITEM, result);
 
 			log.info("=== ERP 품목정보 연동 완료 ===");
-			log.info("총 처리: {}건, 신규등록: {}건, 업데이트: {}건, 오류: {}건",
-					erpItems.size(), insertCount, updateCount, errorCount);
+			log.info(result.toString());
 
 			// 오류가 하나라도 있으면 예외를 던져서 스케쥴러 히스토리에 실패로 기록
-			if (errorCount > 0 && lastError != null) {
-				throw new Exception(String.format("품목정보 연동 중 오류 발생 - 총 처리: %d건, 성공: %d건, 실패: %d건. 마지막 오류: %s",
-						erpItems.size(), insertCount + updateCount, errorCount, lastError.getMessage()), lastError);
-			}
+			result.throwIfError();
 
 		} catch (Exception e) {
 			log.error("품목정보 연동 실패", e);
@@ -721,21 +953,78 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	}
 
 	/**
-	 * ERP에서 품목 정보 조회 (JdbcTemplate 사용)
-	 * @param fromDate 조회 시작 날짜 (yyyy-MM-dd)
-	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
-	 * @return 품목 정보 리스트
+	 * 품목 정보 청크 일괄 반영 + LOT 채번용 IDS2 시드 일괄 보장
+	 * @param chunk ERP 품목 정보 청크
+	 * @return 행별 처리 구분
 	 */
-	private List<ErpItem> selectErpItems(String fromDate, String toDate) {
+	private List<String> mergeItemChunk(List<ErpItem> chunk) throws Exception {
+		List<String> actions = mesItemInterfaceDAO.mergeMesItems(chunk);
+
+		// LOT 채번용 IDS2 시드 보장 (신규/기존 품목 모두 대상)
+		List<ErpItem> seedTargets = chunk.stream()
+				.filter(item -> StringUtils.hasText(item.getItemNo()))
+				.collect(Collectors.toList());
+		if (!seedTargets.isEmpty()) {
+			mesItemInterfaceDAO.ensureLotIdSeeds(seedTargets);
+		}
+		return actions;
+	}
+
+	/**
+	 * 품목 정보 행 단위 반영
+	 * @param item ERP 품목 정보
+	 * @return 처리 구분 (INSERT/UPDATE/SKIP)
+	 */
+	private String upsertItem(ErpItem item) throws Exception {
+		// MES에 해당 품목이 존재하는지 확인
+		int count = mesItemInterfaceDAO.selectMesItemCount(item);
+		String action;
+
+		if (count == 0) {
+			// 신규 품목인 경우 INSERT
+			mesItemInterfaceDAO.insertMesItem(item);
+			log.debug("신규 품목 등록: {} ({})", item.getItemName(), item.getItemSeq());
+			action = MesBulkUpsertSupport.ACTION_INSERT;
+		} else if (mesItemInterfaceDAO.updateMesItem(item) == 0) {
+			// 기존 품목이지만 반영 내용 해시가 같아 UPDATE 생략
+			action = MesBulkUpsertSupport.ACTION_UNCHANGED;
+		} else {
+			// 기존 품목인 경우 UPDATE
+			log.debug("기존 품목 업데이트: {} ({})", item.getItemName(), item.getItemSeq());
+			action = MesBulkUpsertSupport.ACTION_UPDATE;
+		}
+
+		// LOT 채번용 IDS2 시드 보장 (신규/기존 품목 모두 대상)
+		if (StringUtils.hasText(item.getItemNo())) {
+			mesItemInterfaceDAO.ensureLotIdSeed(item);
+		}
+		return action;
+	}
+
+	/**
+	 * 품목 정보 반영 내용 해시 (TCO403에 기록되는 값 기준)
+	 */
+	static String rowHashOf(ErpItem item) {
+		return ErpRowHash.of(item.getFactoryCode(), item.getItemSeq(), item.getItemNo(), item.getItemName(),
+				item.getSpec(), item.getUnitSeq(), item.getAssetSeq(), item.getAssetName(),
+				item.getItemClassLSeq(), item.getItemClassMSeq(), item.getItemClassSSeq());
+	}
+
+	/**
+	 * ERP에서 품목 정보 스트리밍 조회 (JdbcTemplate 사용)
+	 * @param window 조회 구간 (날짜 범위 또는 증분 기준점 이후)
+	 * @param sink 행 단위 수신
+	 */
+	private void streamErpItems(ErpExtractWindow window, Consumer<ErpItem> sink) {
 		String sql = "SELECT CompanySeq, ItemNo, ItemSeq, ItemName, Spec, " +
 				"UnitSeq, UnitName, AssetSeq, AssetName, " +
 				"ItemClassLSeq, ItemClassMSeq, ItemClassSSeq, " +
 				"LastUserSeq, LastDateTime " +
 				"FROM SHM_IF_VIEW_TDAItem " +
-				"WHERE CONVERT(VARCHAR(10), LastDateTime, 120) BETWEEN ? AND ? " +  // 날짜 범위 필터
+				"WHERE " + window.predicate("ItemSeq") + " " +  // 변경 구간 필터
 				"ORDER BY ItemSeq";
 
-		return erpJdbcTemplate.query(sql, new ErpItemRowMapper(), fromDate, toDate);
+		streamErp(sql, new ErpItemRowMapper(), sink, window.params("ItemSeq"));
 	}
 
 	/**
@@ -798,7 +1087,10 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 
 	/**
 	 * 스케쥴러에서 호출되는 전체 인터페이스 프로세스 실행
-	 * 품목, 사원, 거래처, 생산 의뢰 순서로 연동 수행
+	 * 품목, 사원, 거래처, 작업장 연동은 서로 독립적이므로 연동 스레드 풀에서 동시에 실행하고,
+	 * 생산 의뢰 연동은 품목 연동이 성공한 뒤에 실행한다 (품목 연동 실패 시 건너뜀).
+	 * 각 단계는 프록시를 거쳐 REQUIRES_NEW로 실행되므로, 스레드 풀이 가득 차 호출 스레드에서 실행되어도 자기 트랜잭션으로 커밋된다.
+	 * 단계별 시작/종료 시각과 상태는 실행 이력에 기록한다.
 	 * @param fromDate 조회 시작 날짜 (yyyy-MM-dd)
 	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
 	 */
@@ -810,32 +1102,53 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 
 		long startTime = System.currentTimeMillis();
 
-		try {
-			// 품목 정보 연동 실행
-			syncItems(fromDate, toDate);
-
-			// 사원 정보 연동 실행
-			syncUsers(fromDate, toDate);
-
-			// 거래처 정보 연동 실행
-			syncCusts(fromDate, toDate);
-
-			// 생산 의뢰 정보 연동 실행
-			syncProductionRequests(fromDate, toDate);
-
-			long executionTime = System.currentTimeMillis() - startTime;
-			log.info("╔══════════════════════════════════════╗");
-			log.info("║  ERP-MES 인터페이스 연동 완료        ║");
-			log.info("║  실행 시간: {}ms                 ║", executionTime);
-			log.info("╚══════════════════════════════════════╝");
+		ErpToMesInterfaceService target = self != null ? self : this;
+		SyncJobDag dag = new SyncJobDag()
+				.step(STEP_ITEM, () -> target.syncItems(fromDate, toDate))
+				.step(STEP_USER, () -> target.syncUsers(fromDate, toDate))
+				.step(STEP_CUST, () -> target.syncCusts(fromDate, toDate))
+				.step(STEP_WORK_CENTER, () -> target.syncWorkCenters(fromDate, toDate))
+				.step(STEP_PROD_REQ, () -> target.syncProductionRequests(fromDate, toDate), STEP_ITEM);
+
+		Long historyId = SchedulerRunContext.historyId();
+		List<SchedulerHistoryStep> steps = dag.run(erpSyncTaskExecutor, step -> recordStep(historyId, step));
+
+		long executionTime = System.currentTimeMillis() - startTime;
+		List<String> notCompleted = new ArrayList<>();
+		for (SchedulerHistoryStep step : steps) {
+			log.info("  - {}: {} ({}ms)", step.getStepName(), step.getStatus(), step.getExecutionTimeMs());
+			if (!SyncJobDag.STATUS_SUCCESS.equals(step.getStatus())) {
+				notCompleted.add(step.getStepName() + "(" + step.getStatus() + ")");
+			}
+		}
 
-		} catch (Exception e) {
-			long executionTime = System.currentTimeMillis() - startTime;
+		if (!notCompleted.isEmpty()) {
 			log.error("╔══════════════════════════════════════╗");
 			log.error("║  ERP-MES 인터페이스 연동 실패        ║");
 			log.error("║  실행 시간: {}ms                 ║", executionTime);
 			log.error("╚══════════════════════════════════════╝");
-			throw e;
+			throw new Exception("ERP-MES 인터페이스 연동 실패 단계: " + String.join(", ", notCompleted),
+					dag.firstError());
+		}
+
+		log.info("╔══════════════════════════════════════╗");
+		log.info("║  ERP-MES 인터페이스 연동 완료        ║");
+		log.info("║  실행 시간: {}ms                 ║", executionTime);
+		log.info("╚══════════════════════════════════════╝");
+	}
+
+	/**
+	 * 복합 연동 단계 결과를 스케쥴러 실행 이력에 기록
+	 */
+	private void recordStep(Long historyId, SchedulerHistoryStep step) {
+		if (historyId == null || schedulerHistoryService == null) {
+			return;
+		}
+		step.setHistoryId(historyId);
+		try {
+			schedulerHistoryService.insertSchedulerHistoryStep(step);
+		} catch (Exception e) {
+			log.warn("연동 단계 이력 기록 실패: historyId={}, step={}", historyId, step.getStepName(), e);
 		}
 	}
 
@@ -849,82 +1162,47 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	public void syncTPDROUItemProcMat(String fromDate, String toDate) throws Exception {
 		log.info("=== ERP 제품별공정별소요자재 연동 시작 ===");
 
-		int insertCount = 0;
-		int updateCount = 0;
-		int errorCount = 0;
-		Exception lastError = null;
+		ErpSyncResult result = new ErpSyncResult("제품별공정별소요자재");
 
 		try {
 			// 1. ERP 시스템에서 제품별공정별소요자재 정보 조회
 			log.info("ERP 시스템(SHM_IF_VIEW_TPDROUItemProcMat)에서 제품별공정별소요자재 데이터 조회 시작");
+			ErpExtractWindow window = resolveWindow(VIEW_TPDROU_ITEM_PROC_MAT, fromDate, toDate);
 			String sql = "SELECT CompanySeq, ItemSeq, BOMRev, ProcRev, ProcSeq, Serl, " +
 					"WorkCenterSeq, MatItemSeq, UnitSeq, NeedQtyNumerator, NeedQtyDenominator, " +
 					"SMDelvType, UpperItemSeq, UpperBOMRev, BOMItemSerl, " +
 					"LastUserSeq, LastDateTime " +
 					"FROM SHM_IF_VIEW_TPDROUItemProcMat " +
-					"WHERE CONVERT(VARCHAR(10), LastDateTime, 120) BETWEEN ? AND ? " +
+					"WHERE " + window.predicate(null) + " " +  // 변경 구간 필터 (복합키라 기준 시각 행은 재포함)
 					"ORDER BY CompanySeq, ItemSeq, ProcSeq, Serl";
 
-			List<egovframework.let.scheduler.domain.model.ErpTPDROUItemProcMat> erpList =
-					erpJdbcTemplate.query(sql, new ErpTPDROUItemProcMatRowMapper(), fromDate, toDate);
-			log.info("ERP 제품별공정별소요자재 데이터 조회 완료: {}건", erpList.size());
-
-			// 2. MES 시스템에 제품별공정별소요자재 정보 등록/업데이트
-			for (egovframework.let.scheduler.domain.model.ErpTPDROUItemProcMat item : erpList) {
-				try {
-					// 2-1. 파라미터 Map 생성
-					java.util.Map<String, Object> param = new java.util.HashMap<>();
-					param.put("CompanySeq", item.getCompanySeq());
-					param.put("ItemSeq", item.getItemSeq());
-					param.put("BOMRev", item.getBOMRev());
-					param.put("ProcRev", item.getProcRev());
-					param.put("ProcSeq", item.getProcSeq());
-					param.put("WorkCenterSeq", item.getWorkCenterSeq());
-					param.put("Serl", item.getSerl());
-					param.put("MatItemSeq", item.getMatItemSeq());
-					param.put("UnitSeq", item.getUnitSeq());
-					param.put("NeedQtyNumerator", item.getNeedQtyNumerator());
-					param.put("NeedQtyDenominator", item.getNeedQtyDenominator());
-					param.put("SMDelvType", item.getSMDelvType());
-					param.put("UpperItemSeq", item.getUpperItemSeq());
-					param.put("UpperBOMRev", item.getUpperBOMRev());
-					param.put("BOMItemSerl", item.getBOMItemSerl());
-					param.put("LastUserSeq", item.getLastUserSeq());
-					param.put("LastDateTime", item.getLastDateTime());
-
-					// 2-2. MES에 해당 제품별공정별소요자재가 존재하는지 확인
-					int count = mesTPDROUItemProcMatInterfaceDAO.selectMesTPDROUItemProcMatCount(param);
-
-					if (count == 0) {
-						// 2-3. 신규인 경우 INSERT
-						mesTPDROUItemProcMatInterfaceDAO.insertMesTPDROUItemProcMat(param);
-						insertCount++;
-						log.debug("신규 제품별공정별소요자재 등록: 품목코드={}, 공정코드={}, 순번={}",
-								item.getItemSeq(), item.getProcSeq(), item.getSerl());
-					} else {
-						// 2-4. 기존인 경우 UPDATE
-						mesTPDROUItemProcMatInterfaceDAO.updateMesTPDROUItemProcMat(param);
-						updateCount++;
-						log.debug("기존 제품별공정별소요자재 업데이트: 품목코드={}, 공정코드={}, 순번={}",
-								item.getItemSeq(), item.getProcSeq(), item.getSerl());
-					}
-				} catch (Exception e) {
-					errorCount++;
-					lastError = e;
-					log.error("제품별공정별소요자재 정보 처리 실패: 품목코드={}, 공정코드={}, 순번={}",
-							item.getItemSeq(), item.getProcSeq(), item.getSerl(), e);
-				}
-			}
+			WatermarkCandidate watermark = new WatermarkCandidate();
+
+			// 2. 조회와 동시에 MES 시스템에 제품별공정별소요자재 정보 청크 단위 일괄 등록/업데이트 (실패 청크는 행 단위 재처리)
+			int fetchCount = ErpStreamPipeline.<ErpTPDROUItemProcMat>run(result.getTarget(), TPDROU_CHUNK_SIZE,
+					sink -> streamErp(sql, new ErpTPDROUItemProcMatRowMapper(), sink, window.params(null)),
+					chunk -> {
+						List<Map<String, Object>> params = new ArrayList<>(chunk.size());
+						for (ErpTPDROUItemProcMat item : chunk) {
+							watermark.observe(item.getLastDateTime(), null);
+							params.add(toTPDROUItemProcMatParam(item));
+						}
+						MesBulkUpsertSupport.upsert(params, TPDROU_CHUNK_SIZE, result,
+								mesTPDROUItemProcMatInterfaceDAO::mergeMesTPDROUItemProcMats,
+								this::upsertTPDROUItemProcMat,
+								param -> String.format("품목코드=%s, 공정코드=%s, 순번=%s",
+										param.get("ItemSeq"), param.get("ProcSeq"), param.get("Serl")));
+					});
+			log.info("ERP 제품별공정별소요자재 데이터 조회 완료: {}건", fetchCount);
+
+			advanceWatermark(VIEW_TPDROU_ITEM_PROC_MAT, window, result.getErrorCount() == 0, watermark);
+			invalidateBomGraph(result);
 
 			log.info("=== ERP 제품별공정별소요자재 연동 완료 ===");
-			log.info("총 처리: {}건, 신규등록: {}건, 업데이트: {}건, 오류: {}건",
-					erpList.size(), insertCount, updateCount, errorCount);
+			log.info(result.toString());
 
 			// 오류가 하나라도 있으면 예외를 던져서 스케쥴러 히스토리에 실패로 기록
-			if (errorCount > 0 && lastError != null) {
-				throw new Exception(String.format("제품별공정별소요자재 연동 중 오류 발생 - 총 처리: %d건, 성공: %d건, 실패: %d건. 마지막 오류: %s",
-						erpList.size(), insertCount + updateCount, errorCount, lastError.getMessage()), lastError);
-			}
+			result.throwIfError();
 
 		} catch (Exception e) {
 			log.error("제품별공정별소요자재 연동 실패", e);
@@ -932,6 +1210,65 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 		}
 	}
 
+	/**
+	 * 제품별공정별소요자재 정보 행 단위 반영
+	 * @param param 제품별공정별소요자재 파라미터 Map
+	 * @return 처리 구분 (INSERT/UPDATE/SKIP)
+	 */
+	private String upsertTPDROUItemProcMat(Map<String, Object> param) throws Exception {
+		// MES에 해당 제품별공정별소요자재가 존재하는지 확인
+		int count = mesTPDROUItemProcMatInterfaceDAO.selectMesTPDROUItemProcMatCount(param);
+
+		if (count == 0) {
+			// 신규인 경우 INSERT
+			mesTPDROUItemProcMatInterfaceDAO.insertMesTPDROUItemProcMat(param);
+			log.debug("신규 제품별공정별소요자재 등록: 품목코드={}, 공정코드={}, 순번={}",
+					param.get("ItemSeq"), param.get("ProcSeq"), param.get("Serl"));
+			return MesBulkUpsertSupport.ACTION_INSERT;
+		}
+
+		// 기존인 경우 UPDATE (반영 내용 해시가 같으면 생략)
+		if (mesTPDROUItemProcMatInterfaceDAO.updateMesTPDROUItemProcMat(param) == 0) {
+			return MesBulkUpsertSupport.ACTION_UNCHANGED;
+		}
+		log.debug("기존 제품별공정별소요자재 업데이트: 품목코드={}, 공정코드={}, 순번={}",
+				param.get("ItemSeq"), param.get("ProcSeq"), param.get("Serl"));
+		return MesBulkUpsertSupport.ACTION_UPDATE;
+	}
+
+	/**
+	 * ERP 제품별공정별소요자재 정보를 TCO501 파라미터 Map으로 변환
+	 * @param item ERP 제품별공정별소요자재 정보
+	 * @return 파라미터 Map
+	 */
+	private Map<String, Object> toTPDROUItemProcMatParam(ErpTPDROUItemProcMat item) {
+		Map<String, Object> param = new HashMap<>();
+		param.put("CompanySeq", item.getCompanySeq());
+		param.put("ItemSeq", item.getItemSeq());
+		param.put("BOMRev", item.getBOMRev());
+		param.put("ProcRev", item.getProcRev());
+		param.put("ProcSeq", item.getProcSeq());
+		param.put("WorkCenterSeq", item.getWorkCenterSeq());
+		param.put("Serl", item.getSerl());
+		param.put("MatItemSeq", item.getMatItemSeq());
+		param.put("UnitSeq", item.getUnitSeq());
+		param.put("NeedQtyNumerator", item.getNeedQtyNumerator());
+		param.put("NeedQtyDenominator", item.getNeedQtyDenominator());
+		param.put("SMDelvType", item.getSMDelvType());
+		param.put("UpperItemSeq", item.getUpperItemSeq());
+		param.put("UpperBOMRev", item.getUpperBOMRev());
+		param.put("BOMItemSerl", item.getBOMItemSerl());
+		param.put("LastUserSeq", item.getLastUserSeq());
+		param.put("LastDateTime", item.getLastDateTime());
+		// 반영 내용 해시 (TCO501에 기록되는 값 기준)
+		param.put("RowHash", ErpRowHash.of(item.getCompanySeq(), item.getItemSeq(), item.getBOMRev(),
+				item.getProcRev(), item.getProcSeq(), item.getWorkCenterSeq(), item.getSerl(),
+				item.getMatItemSeq(), item.getUnitSeq(), item.getNeedQtyNumerator(), item.getNeedQtyDenominator(),
+				item.getSMDelvType(), item.getUpperItemSeq(), item.getUpperBOMRev(), item.getBOMItemSerl(),
+				item.getLastUserSeq(), item.getLastDateTime()));
+		return param;
+	}
+
 	/**
 	 * ERP 시스템에서 특정 품목을 루트로 하위 자재까지 재귀적으로 제품별공정별소요자재 정보를 조회한다.
 	 * @param itemSeq 루트 품목의 ERP ItemSeq
@@ -951,7 +1288,41 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 				"SELECT DISTINCT * FROM BOM_TREE " +
 				"OPTION (MAXRECURSION 0)";
 
-		return erpJdbcTemplate.query(sql, new ErpTPDROUItemProcMatRowMapper(), itemSeq);
+		return guarded("fetchTPDROUItemProcMat", () -> erpJdbcTemplate.query(sql, new ErpTPDROUItemProcMatRowMapper(), itemSeq));
+	}
+
+	/**
+	 * ERP 시스템에서 특정 품목을 루트로 하는 제품별공정별소요자재 트리의 버전만 조회한다.
+	 * 트리 전체를 가져오지 않고 행 수, 최종수정일시 최대값, 내용 체크섬만 집계하므로 BOM 스냅샷 신선도 확인에 사용한다.
+	 * @param itemSeq 루트 품목의 ERP ItemSeq
+	 * @return 트리 버전
+	 */
+	@Override
+	public TPDROUItemProcMatVersion fetchTPDROUItemProcMatVersion(int itemSeq) throws Exception {
+		String sql = ";WITH BOM_TREE AS (" +
+				"SELECT T.* " +
+				"FROM dbo.SHM_IF_VIEW_TPDROUItemProcMat AS T " +
+				"WHERE T.ItemSeq = ? " +
+				"UNION ALL " +
+				"SELECT C.* " +
+				"FROM BOM_TREE AS B " +
+				"INNER JOIN dbo.SHM_IF_VIEW_TPDROUItemProcMat AS C ON C.ItemSeq = B.MatItemSeq" +
+				") " +
+				"SELECT COUNT(*) AS RowCnt, CONVERT(VARCHAR(23), MAX(T.LastDateTime), 121) AS MaxLastDateTime, " +
+				"CHECKSUM_AGG(BINARY_CHECKSUM(T.ItemSeq, T.BOMRev, T.ProcRev, T.ProcSeq, T.WorkCenterSeq, T.Serl, " +
+				"T.MatItemSeq, T.UnitSeq, T.NeedQtyNumerator, T.NeedQtyDenominator, T.SMDelvType, " +
+				"T.UpperItemSeq, T.UpperBOMRev, T.BOMItemSerl, T.LastDateTime)) AS TreeChecksum " +
+				"FROM (SELECT DISTINCT * FROM BOM_TREE) AS T " +
+				"OPTION (MAXRECURSION 0)";
+
+		return guarded("fetchTPDROUItemProcMatVersion", () -> erpJdbcTemplate.queryForObject(sql, (rs, rowNum) -> {
+			TPDROUItemProcMatVersion version = new TPDROUItemProcMatVersion();
+			version.setRowCount(rs.getInt("RowCnt"));
+			version.setLastDateTime(rs.getString("MaxLastDateTime"));
+			int checksum = rs.getInt("TreeChecksum");
+			version.setChecksum(rs.wasNull() ? null : checksum);
+			return version;
+		}, itemSeq));
 	}
 
 	/**
@@ -971,27 +1342,31 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 				.collect(java.util.stream.Collectors.toList());
 		mesTPDROUItemProcMatInterfaceDAO.deleteMesTPDROUItemProcMatByItemSeqs(treeItemSeqs);
 
-		for (egovframework.let.scheduler.domain.model.ErpTPDROUItemProcMat item : erpList) {
-			java.util.Map<String, Object> param = new java.util.HashMap<>();
-			param.put("CompanySeq", item.getCompanySeq());
-			param.put("ItemSeq", item.getItemSeq());
-			param.put("BOMRev", item.getBOMRev());
-			param.put("ProcRev", item.getProcRev());
-			param.put("ProcSeq", item.getProcSeq());
-			param.put("WorkCenterSeq", item.getWorkCenterSeq());
-			param.put("Serl", item.getSerl());
-			param.put("MatItemSeq", item.getMatItemSeq());
-			param.put("UnitSeq", item.getUnitSeq());
-			param.put("NeedQtyNumerator", item.getNeedQtyNumerator());
-			param.put("NeedQtyDenominator", item.getNeedQtyDenominator());
-			param.put("SMDelvType", item.getSMDelvType());
-			param.put("UpperItemSeq", item.getUpperItemSeq());
-			param.put("UpperBOMRev", item.getUpperBOMRev());
-			param.put("BOMItemSerl", item.getBOMItemSerl());
-			param.put("LastUserSeq", item.getLastUserSeq());
-			param.put("LastDateTime", item.getLastDateTime());
+		for (ErpTPDROUItemProcMat item : erpList) {
+			mesTPDROUItemProcMatInterfaceDAO.insertMesTPDROUItemProcMat(toTPDROUItemProcMatParam(item));
+		}
 
-			mesTPDROUItemProcMatInterfaceDAO.insertMesTPDROUItemProcMat(param);
+		// 재적재한 품목만 BOM 그래프 부분 갱신
+		if (bomGraphService != null) {
+			bomGraphService.itemsChanged(treeItemSeqs);
+		}
+	}
+
+	/**
+	 * TCO501/TCO403 반영 건이 있으면 BOM 그래프 전체 재적재 통지
+	 */
+	private void invalidateBomGraph(ErpSyncResult result) {
+		if (bomGraphService != null && result.getInsertCount() + result.getUpdateCount() > 0) {
+			bomGraphService.invalidate();
+		}
+	}
+
+	/**
+	 * 반영한 건이 있으면 기준정보 캐시에 테이블 변경을 알린다.
+	 */
+	private void refreshMasterData(MasterTable<?> table, ErpSyncResult result) {
+		if (masterDataCacheService != null && result.getInsertCount() + result.getUpdateCount() > 0) {
+			masterDataCacheService.refresh(table);
 		}
 	}
 
@@ -1061,6 +1436,7 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
 	 */
 	@Override
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
 	public void syncWorkCenters(String fromDate, String toDate) throws Exception {
 		log.info("=== ERP 워크센터 정보 연동 시작 ===");
 
@@ -1072,7 +1448,8 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 		try {
 			// 1. ERP 시스템에서 워크센터 정보 조회
 			log.info("ERP 시스템(SHM_IF_VIEW_TPDBaseWorkCenter)에서 워크센터 데이터 조회 시작");
-			List<ErpWorkCenter> erpWorkCenters = selectErpWorkCenters(fromDate, toDate);
+			ErpExtractWindow window = resolveWindow(VIEW_WORK_CENTER, fromDate, toDate);
+			List<ErpWorkCenter> erpWorkCenters = selectErpWorkCenters(window);
 			log.info("ERP 워크센터 데이터 조회 완료: {}건", erpWorkCenters.size());
 
 			// 2. MES 공통코드 상세(COM010)에 워크센터 정보 등록/업데이트
@@ -1110,6 +1487,15 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 				}
 			}
 
+			// 반영한 건이 있으면 공통코드 캐시의 워크센터 코드그룹(COM010)만 비움
+			if (commonCodeCache != null && insertCount + updateCount > 0) {
+				commonCodeCache.invalidate("COM010");
+			}
+
+			WatermarkCandidate watermark = new WatermarkCandidate();
+			erpWorkCenters.forEach(workCenter -> watermark.observe(workCenter.getLastDateTime(), workCenter.getWorkCenterSeq()));
+			advanceWatermark(VIEW_WORK_CENTER, window, errorCount == 0, watermark);
+
 			log.info("=== ERP 워크센터 정보 연동 완료 ===");
 			log.info("총 처리: {}건, 신규등록: {}건, 업데이트: {}건, 오류: {}건",
 					erpWorkCenters.size(), insertCount, updateCount, errorCount);
@@ -1128,18 +1514,17 @@ public class ErpToMesInterfaceServiceImpl implements ErpToMesInterfaceService {
 
 	/**
 	 * ERP에서 워크센터 정보 조회 (JdbcTemplate 사용)
-	 * @param fromDate 조회 시작 날짜 (yyyy-MM-dd)
-	 * @param toDate 조회 종료 날짜 (yyyy-MM-dd)
+	 * @param window 조회 구간 (날짜 범위 또는 증분 기준점 이후)
 	 * @return 워크센터 정보 리스트
 	 */
-	private List<ErpWorkCenter> selectErpWorkCenters(String fromDate, String toDate) {
+	private List<ErpWorkCenter> selectErpWorkCenters(ErpExtractWindow window) {
 		String sql = "SELECT CompanySeq, WorkCenterSeq, WorkCenterName, Remark, " +
 				"LastUserSeq, LastDateTime " +
 				"FROM SHM_IF_VIEW_TPDBaseWorkCenter " +
-				"WHERE CONVERT(VARCHAR(10), LastDateTime, 120) BETWEEN ? AND ? " +
+				"WHERE " + window.predicate("WorkCenterSeq") + " " +  // 변경 구간 필터
 				"ORDER BY WorkCenterSeq";
 
-		return erpJdbcTemplate.query(sql, new ErpWorkCenterRowMapper(), fromDate, toDate);
+		return guarded("selectErpWorkCenters", () -> erpJdbcTemplate.query(sql, new ErpWorkCenterRowMapper(), window.params("WorkCenterSeq")));
 	}
 
 	/**
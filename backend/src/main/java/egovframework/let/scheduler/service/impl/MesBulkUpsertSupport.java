@@ -0,0 +1,111 @@
+package egovframework.let.scheduler.service.impl;
+
+import egovframework.let.scheduler.domain.model.ErpSyncResult;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * ERP → MES 일괄 반영(MERGE) 지원 유틸
+ * ERP 조회 결과를 청크 단위로 나누어 한 번의 MERGE로 반영하고,
+ * 청크 반영이 실패하면 해당 청크만 기존 행 단위(존재확인 → INSERT/UPDATE) 처리로 재시도하여 오류를 행 단위로 격리한다.
+ * 기존 행과 일치하지만 반영 내용 해시가 같아 MERGE/UPDATE가 생략된 행은 신규/변경과 구분하여 변경없음(unchanged)으로 집계한다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+final class MesBulkUpsertSupport {
+
+	/** MERGE ... OUTPUT $action 결과 중 신규 등록 값 */
+	static final String ACTION_INSERT = "INSERT";
+
+	/** MERGE ... OUTPUT $action 결과 중 변경 값 */
+	static final String ACTION_UPDATE = "UPDATE";
+
+	/** 기존 행과 일치하고 반영 내용 해시가 같아 UPDATE가 생략된 행 (행 단위 반영 결과) */
+	static final String ACTION_UNCHANGED = "UNCHANGED";
+
+	/** SQL Server 파라미터 최대 개수(2100) 이내로 청크 크기를 맞추기 위한 여유 한도 */
+	private static final int MAX_PARAMS_PER_STATEMENT = 2000;
+
+	private MesBulkUpsertSupport() {
+	}
+
+	/**
+	 * 청크 단위 MERGE 실행 (OUTPUT $action 목록 반환)
+	 */
+	@FunctionalInterface
+	interface ChunkWriter<T> {
+		List<String> merge(List<T> chunk) throws Exception;
+	}
+
+	/**
+	 * 행 단위 반영 (처리 구분 INSERT/UPDATE/UNCHANGED 반환)
+	 */
+	@FunctionalInterface
+	interface RowWriter<T> {
+		String upsert(T row) throws Exception;
+	}
+
+	/**
+	 * 행당 바인딩 파라미터 수 기준 청크 크기
+	 * @param paramsPerRow 행당 파라미터 수
+	 * @return 청크 크기
+	 */
+	static int chunkSize(int paramsPerRow) {
+		return Math.max(1, MAX_PARAMS_PER_STATEMENT / paramsPerRow);
+	}
+
+	/**
+	 * 목록을 청크 단위로 일괄 반영한다.
+	 * @param rows ERP 조회 결과
+	 * @param chunkSize 청크 크기
+	 * @param result 처리 건수 집계
+	 * @param chunkWriter 청크 MERGE
+	 * @param rowWriter 청크 실패 시 행 단위 반영
+	 * @param describer 오류 로그용 행 설명
+	 */
+	static <T> void upsert(List<T> rows, int chunkSize, ErpSyncResult result,
+			ChunkWriter<T> chunkWriter, RowWriter<T> rowWriter, Function<T, String> describer) {
+		for (int from = 0; from < rows.size(); from += chunkSize) {
+			List<T> chunk = rows.subList(from, Math.min(from + chunkSize, rows.size()));
+			result.addTotal(chunk.size());
+			try {
+				List<String> actions = chunkWriter.merge(chunk);
+				int inserted = 0;
+				int updated = 0;
+				for (String action : actions) {
+					if (ACTION_INSERT.equals(action)) {
+						inserted++;
+					} else if (ACTION_UPDATE.equals(action)) {
+						updated++;
+					}
+				}
+				result.addInsert(inserted);
+				result.addUpdate(updated);
+				// OUTPUT에 나오지 않은 행은 기존 행과 일치하지만 해시가 같아 UPDATE가 생략된 행
+				result.addUnchanged(Math.max(0, chunk.size() - inserted - updated));
+			} catch (Exception e) {
+				log.warn("{} 일괄 반영 실패 - 행 단위로 재처리합니다. ({}건)", result.getTarget(), chunk.size(), e);
+				for (T row : chunk) {
+					try {
+						String action = rowWriter.upsert(row);
+						if (ACTION_INSERT.equals(action)) {
+							result.addInsert(1);
+						} else if (ACTION_UPDATE.equals(action)) {
+							result.addUpdate(1);
+						} else {
+							result.addUnchanged(1);
+						}
+					} catch (Exception ex) {
+						result.addError(ex);
+						log.error("{} 처리 실패: {}", result.getTarget(), describer.apply(row), ex);
+					}
+				}
+			}
+		}
+	}
+}
@@ -1,5 +1,6 @@
 package egovframework.let.scheduler.service.impl;
 
+import egovframework.let.erpIf.service.ErpAccessGuard;
 import egovframework.let.scheduler.domain.repository.SchedulerConfigDAO;
 import egovframework.let.scheduler.domain.model.SchedulerConfig;
 import egovframework.let.scheduler.domain.model.SchedulerConfigVO;
@@ -25,6 +26,7 @@ public class SchedulerConfigServiceImpl implements SchedulerConfigService {
 
     private final SchedulerConfigDAO schedulerConfigDAO;
     private final DynamicSchedulerService dynamicSchedulerService;
+    private final ErpAccessGuard erpAccessGuard;
 
     @Override
     public Map<String, Object> selectSchedulerList(SchedulerConfigVO searchVO) throws Exception {
@@ -84,6 +86,9 @@ public class SchedulerConfigServiceImpl implements SchedulerConfigService {
         // DB에서 활성화된 스케줄러 수 조회
         List<SchedulerConfig> enabledSchedulers = schedulerConfigDAO.selectEnabledSchedulers();
         healthStatus.put("enabledSchedulersInDb", enabledSchedulers.size());
+
+        // ERP 접근 보호 상태 (회로 상태, 실패율, 동시 호출 수 등)
+        healthStatus.put("erpAccess", erpAccessGuard.status());
         
         return healthStatus;
     }
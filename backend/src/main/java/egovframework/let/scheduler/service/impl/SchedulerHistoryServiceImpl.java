@@ -2,6 +2,7 @@ package egovframework.let.scheduler.service.impl;
 
 import egovframework.let.scheduler.domain.repository.SchedulerHistoryDAO;
 import egovframework.let.scheduler.domain.model.SchedulerHistory;
+import egovframework.let.scheduler.domain.model.SchedulerHistoryStep;
 import egovframework.let.scheduler.domain.model.SchedulerHistoryVO;
 import egovframework.let.scheduler.service.SchedulerHistoryService;
 import lombok.RequiredArgsConstructor;
@@ -57,4 +58,15 @@ public class SchedulerHistoryServiceImpl implements SchedulerHistoryService {
     public void updateSchedulerHistory(SchedulerHistory history) throws Exception {
         schedulerHistoryDAO.updateSchedulerHistory(history);
     }
+
+    @Override
+    @Transactional(propagation = org.springframework.transaction.annotation.Propagation.REQUIRES_NEW)
+    public void insertSchedulerHistoryStep(SchedulerHistoryStep step) throws Exception {
+        schedulerHistoryDAO.insertSchedulerHistoryStep(step);
+    }
+
+    @Override
+    public List<SchedulerHistoryStep> selectSchedulerHistoryStepList(Long historyId) throws Exception {
+        return schedulerHistoryDAO.selectSchedulerHistoryStepList(historyId);
+    }
 }
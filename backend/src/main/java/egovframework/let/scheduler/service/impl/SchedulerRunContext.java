@@ -0,0 +1,83 @@
+package egovframework.let.scheduler.service.impl;
+
+/**
+ * 스케쥴러 실행 컨텍스트
+ * 자동(CRON) 실행 시 실행 중인 스케쥴러 ID를 작업 스레드에 보관하여,
+ * 연동 서비스가 스케쥴러별 증분 기준점(High-Water Mark)을 사용하도록 한다.
+ * 수동 실행(날짜 범위 지정)에는 설정하지 않으므로 기존 날짜 범위 조회를 그대로 사용한다.
+ * 실행 이력 ID도 함께 보관하여 복합 연동 작업이 단계별 실행 이력을 남길 수 있도록 한다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+final class SchedulerRunContext {
+
+	private static final ThreadLocal<Long> INCREMENTAL_SCHEDULER_ID = new ThreadLocal<>();
+
+	private static final ThreadLocal<Long> HISTORY_ID = new ThreadLocal<>();
+
+	private SchedulerRunContext() {
+	}
+
+	static void beginIncremental(Long schedulerId) {
+		INCREMENTAL_SCHEDULER_ID.set(schedulerId);
+	}
+
+	/**
+	 * @return 증분 실행 중인 스케쥴러 ID (증분 실행이 아니면 null)
+	 */
+	static Long incrementalSchedulerId() {
+		return INCREMENTAL_SCHEDULER_ID.get();
+	}
+
+	static void clear() {
+		INCREMENTAL_SCHEDULER_ID.remove();
+	}
+
+	static void bindHistory(Long historyId) {
+		HISTORY_ID.set(historyId);
+	}
+
+	/**
+	 * @return 실행 중인 스케쥴러 이력 ID (스케쥴러 실행이 아니면 null)
+	 */
+	static Long historyId() {
+		return HISTORY_ID.get();
+	}
+
+	static void unbindHistory() {
+		HISTORY_ID.remove();
+	}
+
+	/**
+	 * 현재 스레드의 실행 컨텍스트를 다른 스레드에서 실행할 작업에 전달한다.
+	 * @param task 작업 스레드에서 실행할 작업
+	 * @return 실행 전 컨텍스트를 설정하고 실행 후 복원하는 작업
+	 */
+	static Runnable propagate(Runnable task) {
+		Long schedulerId = INCREMENTAL_SCHEDULER_ID.get();
+		Long historyId = HISTORY_ID.get();
+		return () -> {
+			Long previousSchedulerId = INCREMENTAL_SCHEDULER_ID.get();
+			Long previousHistoryId = HISTORY_ID.get();
+			set(INCREMENTAL_SCHEDULER_ID, schedulerId);
+			set(HISTORY_ID, historyId);
+			try {
+				task.run();
+			} finally {
+				// CallerRunsPolicy로 호출 스레드에서 실행된 경우에도 원래 컨텍스트를 유지
+				set(INCREMENTAL_SCHEDULER_ID, previousSchedulerId);
+				set(HISTORY_ID, previousHistoryId);
+			}
+		};
+	}
+
+	private static void set(ThreadLocal<Long> holder, Long value) {
+		if (value == null) {
+			holder.remove();
+		} else {
+			holder.set(value);
+		}
+	}
+}
@@ -0,0 +1,94 @@
+package egovframework.let.scheduler.service.impl;
+
+import egovframework.let.scheduler.domain.model.SchedulerWatermark;
+import egovframework.let.scheduler.domain.repository.SchedulerWatermarkDAO;
+import egovframework.let.scheduler.service.SchedulerWatermarkService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+
+import java.sql.Timestamp;
+import java.util.List;
+
+/**
+ * 스케쥴러 증분 연동 기준점(High-Water Mark) 서비스 구현체
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Service("schedulerWatermarkService")
+@RequiredArgsConstructor
+public class SchedulerWatermarkServiceImpl implements SchedulerWatermarkService {
+
+    private static final String SYSTEM_USER_ID = "SCHEDULER";
+
+    private final SchedulerWatermarkDAO schedulerWatermarkDAO;
+
+    @Override
+    public List<SchedulerWatermark> selectWatermarkList(Long schedulerId) throws Exception {
+        return schedulerWatermarkDAO.selectWatermarkList(schedulerId);
+    }
+
+    @Override
+    public SchedulerWatermark selectWatermark(Long schedulerId, String sourceView) throws Exception {
+        SchedulerWatermark param = new SchedulerWatermark();
+        param.setSchedulerId(schedulerId);
+        param.setSourceView(sourceView);
+        return schedulerWatermarkDAO.selectWatermark(param);
+    }
+
+    @Override
+    public void advanceWatermark(Long schedulerId, String sourceView, String lastDateTime, String lastKey) throws Exception {
+        SchedulerWatermark watermark = new SchedulerWatermark();
+        watermark.setSchedulerId(schedulerId);
+        watermark.setSourceView(sourceView);
+        watermark.setLastDateTime(lastDateTime);
+        watermark.setLastKey(lastKey);
+        watermark.setUpdUserId(SYSTEM_USER_ID);
+        schedulerWatermarkDAO.mergeWatermark(watermark);
+        log.debug("증분 연동 기준점 갱신: schedulerId={}, sourceView={}, lastDateTime={}, lastKey={}",
+                schedulerId, sourceView, lastDateTime, lastKey);
+    }
+
+    @Override
+    public int rewindWatermark(Long schedulerId, String sourceView, String lastDateTime, String userId) throws Exception {
+        SchedulerWatermark watermark = new SchedulerWatermark();
+        watermark.setSchedulerId(schedulerId);
+        watermark.setSourceView(sourceView);
+        watermark.setLastDateTime(normalizeDateTime(lastDateTime));
+        watermark.setLastKey(null);
+        watermark.setUpdUserId(userId);
+
+        int updated;
+        if (StringUtils.hasText(sourceView)) {
+            schedulerWatermarkDAO.mergeWatermark(watermark);
+            updated = 1;
+        } else {
+            updated = schedulerWatermarkDAO.rewindAllWatermarks(watermark);
+        }
+
+        log.info("증분 연동 기준점 되돌림: schedulerId={}, sourceView={}, lastDateTime={}, 변경: {}건, 수정자: {}",
+                schedulerId, StringUtils.hasText(sourceView) ? sourceView : "(전체)", watermark.getLastDateTime(), updated, userId);
+        return updated;
+    }
+
+    /**
+     * yyyy-MM-dd 또는 yyyy-MM-dd HH:mm:ss[.SSS] 형식을 yyyy-MM-dd HH:mm:ss.SSS 로 정규화
+     */
+    private String normalizeDateTime(String lastDateTime) {
+        if (!StringUtils.hasText(lastDateTime)) {
+            throw new IllegalStateException("되돌릴 기준 시각을 입력해주세요.");
+        }
+        String value = lastDateTime.trim();
+        if (value.length() == 10) {
+            value = value + " 00:00:00";
+        }
+        try {
+            return ErpExtractWindow.format(Timestamp.valueOf(value));
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("기준 시각 형식이 올바르지 않습니다. (yyyy-MM-dd HH:mm:ss)");
+        }
+    }
+}
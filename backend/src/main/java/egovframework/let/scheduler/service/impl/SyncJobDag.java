@@ -0,0 +1,206 @@
+package egovframework.let.scheduler.service.impl;
+
+import egovframework.let.scheduler.domain.model.SchedulerHistoryStep;
+import lombok.extern.slf4j.Slf4j;
+
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+
+/**
+ * 연동 작업 의존 그래프(DAG) 실행기
+ * 선행 단계가 없는 작업은 제한된 스레드 풀에서 동시에 실행하고,
+ * 선행 단계가 있는 작업은 선행 단계가 모두 성공한 뒤에 실행한다.
+ * 선행 단계가 실패하면 해당 작업은 실행하지 않고 SKIPPED로 기록한다.
+ * 선행 단계는 먼저 등록된 단계만 지정할 수 있으므로 순환이 생기지 않는다.
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+final class SyncJobDag {
+
+	static final String STATUS_SUCCESS = "SUCCESS";
+	static final String STATUS_FAILED = "FAILED";
+	static final String STATUS_SKIPPED = "SKIPPED";
+
+	/** ERROR_MESSAGE 컬럼 크기 */
+	private static final int MAX_ERROR_MESSAGE_LENGTH = 4000;
+
+	/**
+	 * 단계 작업
+	 */
+	@FunctionalInterface
+	interface Step {
+		void run() throws Exception;
+	}
+
+	private static final class Node {
+		private final String name;
+		private final Step step;
+		private final List<String> dependsOn;
+		private Throwable error;
+
+		private Node(String name, Step step, List<String> dependsOn) {
+			this.name = name;
+			this.step = step;
+			this.dependsOn = dependsOn;
+		}
+	}
+
+	private final Map<String, Node> nodes = new LinkedHashMap<>();
+
+	/**
+	 * 단계를 등록한다.
+	 * @param name 단계명
+	 * @param step 단계 작업
+	 * @param dependsOn 선행 단계명 (먼저 등록된 단계만 가능)
+	 */
+	SyncJobDag step(String name, Step step, String... dependsOn) {
+		if (nodes.containsKey(name)) {
+			throw new IllegalArgumentException("이미 등록된 단계입니다: " + name);
+		}
+		for (String dependency : dependsOn) {
+			if (!nodes.containsKey(dependency)) {
+				throw new IllegalArgumentException("선행 단계가 먼저 등록되어야 합니다: " + name + " → " + dependency);
+			}
+		}
+		nodes.put(name, new Node(name, step, Arrays.asList(dependsOn)));
+		return this;
+	}
+
+	/**
+	 * 등록된 단계를 의존 관계에 따라 실행하고 모든 단계가 끝날 때까지 기다린다.
+	 * @param executor 단계 실행 스레드 풀 (null이면 호출 스레드에서 등록 순서대로 실행)
+	 * @param onComplete 단계 종료 시 호출 (단계 실행 스레드에서 호출됨)
+	 * @return 등록 순서대로 정렬된 단계별 실행 결과
+	 */
+	List<SchedulerHistoryStep> run(Executor executor, Consumer<SchedulerHistoryStep> onComplete) {
+		Executor stepExecutor = executor == null
+				? Runnable::run
+				: task -> executor.execute(SchedulerRunContext.propagate(task));
+
+		Map<String, CompletableFuture<SchedulerHistoryStep>> futures = new LinkedHashMap<>();
+		for (Node node : nodes.values()) {
+			CompletableFuture<SchedulerHistoryStep> future;
+			if (node.dependsOn.isEmpty()) {
+				future = CompletableFuture.supplyAsync(() -> execute(node, onComplete), stepExecutor);
+			} else {
+				CompletableFuture<?>[] dependencies = node.dependsOn.stream()
+						.map(futures::get)
+						.toArray(CompletableFuture[]::new);
+				future = CompletableFuture.allOf(dependencies)
+						.thenApplyAsync(ignored -> {
+							for (String dependency : node.dependsOn) {
+								if (!STATUS_SUCCESS.equals(futures.get(dependency).join().getStatus())) {
+									return skip(node, dependency, onComplete);
+								}
+							}
+							return execute(node, onComplete);
+						}, stepExecutor);
+			}
+			futures.put(node.name, future.exceptionally(e -> fail(node, e, onComplete)));
+		}
+
+		List<SchedulerHistoryStep> results = new ArrayList<>(futures.size());
+		for (CompletableFuture<SchedulerHistoryStep> future : futures.values()) {
+			results.add(future.join());
+		}
+		return results;
+	}
+
+	/**
+	 * 실패한 단계의 원인 예외 (등록 순서상 첫 번째)
+	 */
+	Throwable firstError() {
+		for (Node node : nodes.values()) {
+			if (node.error != null) {
+				return node.error;
+			}
+		}
+		return null;
+	}
+
+	private SchedulerHistoryStep execute(Node node, Consumer<SchedulerHistoryStep> onComplete) {
+		SchedulerHistoryStep result = newResult(node);
+		long startTime = System.currentTimeMillis();
+		result.setStartTime(formatTime(startTime));
+		try {
+			node.step.run();
+			result.setStatus(STATUS_SUCCESS);
+		} catch (Exception e) {
+			node.error = e;
+			result.setStatus(STATUS_FAILED);
+			result.setErrorMessage(truncate(e.getMessage() != null ? e.getMessage() : e.getClass().getName()));
+			log.error("연동 단계 실패: {}", node.name, e);
+		}
+		long endTime = System.currentTimeMillis();
+		result.setEndTime(formatTime(endTime));
+		result.setExecutionTimeMs(endTime - startTime);
+		return complete(result, onComplete);
+	}
+
+	private SchedulerHistoryStep skip(Node node, String failedDependency, Consumer<SchedulerHistoryStep> onComplete) {
+		SchedulerHistoryStep result = newResult(node);
+		String now = formatTime(System.currentTimeMillis());
+		result.setStartTime(now);
+		result.setEndTime(now);
+		result.setExecutionTimeMs(0L);
+		result.setStatus(STATUS_SKIPPED);
+		result.setErrorMessage("선행 단계 미완료: " + failedDependency);
+		log.warn("연동 단계 건너뜀: {} (선행 단계 미완료: {})", node.name, failedDependency);
+		return complete(result, onComplete);
+	}
+
+	private SchedulerHistoryStep fail(Node node, Throwable e, Consumer<SchedulerHistoryStep> onComplete) {
+		// 스레드 풀 종료 등으로 단계를 실행하지 못한 경우
+		Throwable cause = e.getCause() != null ? e.getCause() : e;
+		node.error = cause;
+		SchedulerHistoryStep result = newResult(node);
+		result.setStartTime(formatTime(System.currentTimeMillis()));
+		result.setEndTime(result.getStartTime());
+		result.setExecutionTimeMs(0L);
+		result.setStatus(STATUS_FAILED);
+		result.setErrorMessage(truncate(String.valueOf(cause.getMessage())));
+		log.error("연동 단계 실행 불가: {}", node.name, cause);
+		return complete(result, onComplete);
+	}
+
+	private SchedulerHistoryStep newResult(Node node) {
+		SchedulerHistoryStep result = new SchedulerHistoryStep();
+		result.setStepName(node.name);
+		result.setDependsOn(String.join(",", node.dependsOn));
+		return result;
+	}
+
+	private SchedulerHistoryStep complete(SchedulerHistoryStep result, Consumer<SchedulerHistoryStep> onComplete) {
+		if (onComplete != null) {
+			try {
+				onComplete.accept(result);
+			} catch (Exception e) {
+				// 단계 이력 기록 실패가 연동 결과에 영향을 주지 않도록 로그만 남긴다
+				log.warn("연동 단계 결과 처리 실패: {}", result.getStepName(), e);
+			}
+		}
+		return result;
+	}
+
+	private static String formatTime(long millis) {
+		return new SimpleDateFormat("yyyy-MM-dd HH:mm:ss").format(new Date(millis));
+	}
+
+	private static String truncate(String message) {
+		if (message != null && message.length() > MAX_ERROR_MESSAGE_LENGTH) {
+			return message.substring(0, MAX_ERROR_MESSAGE_LENGTH - 3) + "...";
+		}
+		return message;
+	}
+}
@@ -0,0 +1,172 @@
+package egovframework.let.scheduler.service.impl;
+
+import egovframework.let.scheduler.domain.model.TPDROUItemProcMatVersion;
+import egovframework.let.scheduler.domain.repository.MesTPDROUItemProcMatInterfaceDAO;
+import egovframework.let.scheduler.service.ErpToMesInterfaceService;
+import egovframework.let.scheduler.service.TPDROUItemProcMatSnapshotService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * 제품별공정별소요자재(TCO501) BOM 스냅샷 서비스 구현체
+ * 루트 품목별 마지막 확인 시각과 마지막으로 적재한 ERP 버전(행 수 + 최종수정일시 + 내용 체크섬)을 메모리에 보관하고,
+ * ERP 버전이 바뀌었을 때만 TCO501을 다시 적재한다. 적재한 ERP 버전을 모르면(서버 기동 직후) MES 트리의 행 수/최종수정일시와 비교한다.
+ * 스냅샷이 있으면 갱신은 전용 스레드 풀(bomSnapshotTaskExecutor)에서만 실행하므로 조회 요청 스레드는 ERP를 기다리지 않는다.
+ * 스냅샷이 없으면(서버 기동 후 첫 조회 포함) 요청 안에서 적재하며, ERP 호출은 ErpAccessGuard의 대기/조회 시간 제한 안에서만 기다린다.
+ * ERP에도 BOM이 없는 품목은 빈 트리 그대로 최신으로 본다.
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+@Slf4j
+@Service("tpdrouItemProcMatSnapshotService")
+public class TPDROUItemProcMatSnapshotServiceImpl implements TPDROUItemProcMatSnapshotService {
+
+    private final ErpToMesInterfaceService erpToMesInterfaceService;
+
+    private final MesTPDROUItemProcMatInterfaceDAO mesTPDROUItemProcMatInterfaceDAO;
+
+    private final Executor refreshExecutor;
+
+    private final long ttlMillis;
+
+    /** 루트 품목별 마지막 버전 확인 시각 */
+    private final Map<Integer, Long> checkedAtByRoot = new ConcurrentHashMap<>();
+
+    /** 루트 품목별 마지막으로 적재(또는 일치 확인)한 ERP 버전 */
+    private final Map<Integer, TPDROUItemProcMatVersion> syncedVersionByRoot = new ConcurrentHashMap<>();
+
+    /** 갱신 진행 중인 루트 품목 (중복 갱신 방지) */
+    private final Set<Integer> refreshing = ConcurrentHashMap.newKeySet();
+
+    public TPDROUItemProcMatSnapshotServiceImpl(ErpToMesInterfaceService erpToMesInterfaceService,
+                                                MesTPDROUItemProcMatInterfaceDAO mesTPDROUItemProcMatInterfaceDAO,
+                                                @Qualifier("bomSnapshotTaskExecutor") Executor refreshExecutor,
+                                                @Value("${Globals.erp.bomSnapshot.ttlSeconds:600}") long ttlSeconds) {
+        this.erpToMesInterfaceService = erpToMesInterfaceService;
+        this.mesTPDROUItemProcMatInterfaceDAO = mesTPDROUItemProcMatInterfaceDAO;
+        this.refreshExecutor = refreshExecutor;
+        this.ttlMillis = ttlSeconds * 1000L;
+    }
+
+    @Override
+    public void ensureFresh(int rootItemSeq) throws Exception {
+        Long checkedAt = checkedAtByRoot.get(rootItemSeq);
+        if (checkedAt != null && System.currentTimeMillis() - checkedAt < ttlMillis) {
+            return;
+        }
+
+        if (checkedAt == null) {
+            TPDROUItemProcMatVersion mesVersion =
+                    mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(rootItemSeq);
+            if (mesVersion == null || mesVersion.getRowCount() == 0) {
+                // 스냅샷이 없으면 조회 결과가 비므로 요청 안에서 적재
+                syncedVersionByRoot.remove(rootItemSeq);
+                loadNow(rootItemSeq);
+                return;
+            }
+        }
+
+        scheduleRefresh(rootItemSeq);
+    }
+
+    @Override
+    public void invalidate(int rootItemSeq) {
+        checkedAtByRoot.remove(rootItemSeq);
+    }
+
+    /**
+     * 스냅샷이 없는 루트 품목을 요청 스레드에서 적재한다.
+     * 실패해도 조회/생산지시를 막지 않고(빈 공정흐름으로 처리) 다음 조회에서 다시 적재한다.
+     */
+    private void loadNow(int rootItemSeq) {
+        if (!refreshing.add(rootItemSeq)) {
+            // 다른 요청 또는 백그라운드에서 적재 중
+            return;
+        }
+        try {
+            refresh(rootItemSeq);
+        } catch (Exception e) {
+            log.warn("BOM 스냅샷 적재 실패: rootItemSeq={}", rootItemSeq, e);
+        } finally {
+            refreshing.remove(rootItemSeq);
+        }
+    }
+
+    /**
+     * 백그라운드 스냅샷 갱신 예약 (같은 루트 품목은 한 번만 실행)
+     */
+    private void scheduleRefresh(int rootItemSeq) {
+        if (!refreshing.add(rootItemSeq)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    refresh(rootItemSeq);
+                } catch (Exception e) {
+                    // 기존 스냅샷으로 계속 조회하고 다음 조회 시 다시 확인
+                    log.warn("BOM 스냅샷 갱신 실패: rootItemSeq={}", rootItemSeq, e);
+                } finally {
+                    refreshing.remove(rootItemSeq);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            refreshing.remove(rootItemSeq);
+            log.warn("BOM 스냅샷 갱신 예약 실패: rootItemSeq={}", rootItemSeq, e);
+        }
+    }
+
+    /**
+     * ERP 버전이 마지막으로 적재한 버전과 다를 때만 TCO501을 다시 적재한다.
+     * 적재 전에 읽은 ERP 버전을 보관하므로, 적재 중 ERP가 바뀌면 다음 확인에서 다시 적재한다.
+     */
+    void refresh(int rootItemSeq) throws Exception {
+        TPDROUItemProcMatVersion erpVersion = erpToMesInterfaceService.fetchTPDROUItemProcMatVersion(rootItemSeq);
+        TPDROUItemProcMatVersion syncedVersion = syncedVersionByRoot.get(rootItemSeq);
+
+        boolean unchanged;
+        if (syncedVersion != null) {
+            unchanged = Objects.equals(erpVersion, syncedVersion);
+        } else {
+            TPDROUItemProcMatVersion mesVersion =
+                    mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(rootItemSeq);
+            unchanged = sameTree(erpVersion, mesVersion);
+        }
+
+        if (!unchanged) {
+            log.info("BOM 스냅샷 변경 감지: rootItemSeq={}, ERP={}, 적재={}", rootItemSeq, erpVersion, syncedVersion);
+            erpToMesInterfaceService.resyncTPDROUItemProcMatByRootItem(rootItemSeq);
+        }
+        if (erpVersion != null) {
+            syncedVersionByRoot.put(rootItemSeq, erpVersion);
+        }
+        checkedAtByRoot.put(rootItemSeq, System.currentTimeMillis());
+    }
+
+    /**
+     * 체크섬이 없는 MES 트리 버전과 비교 (행 수 + 최종수정일시)
+     * ERP에 BOM이 없고 MES 트리도 비어 있으면 같은 것으로 본다.
+     */
+    private static boolean sameTree(TPDROUItemProcMatVersion erpVersion, TPDROUItemProcMatVersion mesVersion) {
+        if (erpVersion == null) {
+            return false;
+        }
+        int mesRowCount = mesVersion != null ? mesVersion.getRowCount() : 0;
+        if (erpVersion.getRowCount() == 0) {
+            return mesRowCount == 0;
+        }
+        return mesVersion != null
+                && erpVersion.getRowCount() == mesRowCount
+                && Objects.equals(erpVersion.getLastDateTime(), mesVersion.getLastDateTime());
+    }
+}
@@ -257,6 +257,12 @@ public class EgovLoginApiController {
 			return resultMap;
 		}
 
+		if (jwtTokenUtil.isRevoked(refreshToken)) {
+			resultMap.put("resultCode", "401");
+			resultMap.put("resultMessage", "로그아웃된 리프레쉬 토큰입니다");
+			return resultMap;
+		}
+
 		if (!jwtTokenUtil.isValidRefreshToken(refreshToken)) {
 			resultMap.put("resultCode", "401");
 			resultMap.put("resultMessage", "유효하지 않은 리프레쉬 토큰입니다");
@@ -353,6 +359,25 @@ public class EgovLoginApiController {
 			log.warn("loginHistoryId를 찾을 수 없습니다. 로그아웃 이력 업데이트를 건너뜁니다.");
 		}
 
+		// 액세스 토큰 폐기 (로그아웃한 토큰으로 만료 전까지 다시 인증되지 않도록)
+		String jwtToken = request.getHeader("Authorization");
+		if (jwtToken != null) {
+			jwtToken = jwtToken.trim();
+			if (jwtToken.startsWith("Bearer ")) {
+				jwtToken = jwtToken.substring(7).trim();
+			}
+			if (!jwtToken.isEmpty()) {
+				jwtTokenUtil.revoke(jwtToken);
+			}
+		}
+		// 리프레쉬 토큰도 폐기 (로그아웃 후 새 액세스 토큰을 발급받지 못하도록)
+		if (params != null && params.get("refreshToken") instanceof String) {
+			String refreshToken = ((String) params.get("refreshToken")).trim();
+			if (!refreshToken.isEmpty()) {
+				jwtTokenUtil.revoke(refreshToken);
+			}
+		}
+
 		// 시큐리티 로그아웃 수행 (세션/컨텍스트 초기화)
 		new SecurityContextLogoutHandler().logout(request, response, null);
 
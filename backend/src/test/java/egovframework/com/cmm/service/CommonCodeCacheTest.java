@@ -0,0 +1,101 @@
+package egovframework.com.cmm.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CommonCodeCacheTest {
+
+    @Test
+    @DisplayName("코드그룹은 처음 한 번만 읽고, 비운 코드그룹만 다시 읽는다")
+    void loadsOncePerGroupAndInvalidatesOnlyThatGroup() throws Exception {
+        CommonCodeCache cache = new CommonCodeCache();
+        AtomicInteger loads = new AtomicInteger();
+
+        List<String> units = cache.get("COM007", "detail", () -> {
+            loads.incrementAndGet();
+            return Arrays.asList("EA", "KG");
+        });
+        cache.get("COM007", "detail", () -> {
+            loads.incrementAndGet();
+            return Collections.singletonList("X");
+        });
+        cache.get("COM010", "detail", () -> {
+            loads.incrementAndGet();
+            return Collections.singletonList("WC1");
+        });
+
+        cache.invalidate("COM010");
+        cache.get("COM007", "detail", () -> {
+            loads.incrementAndGet();
+            return Collections.singletonList("X");
+        });
+        List<String> workCenters = cache.get("COM010", "detail", () -> {
+            loads.incrementAndGet();
+            return Collections.singletonList("WC2");
+        });
+
+        assertThat(units).containsExactly("EA", "KG");
+        assertThat(workCenters).containsExactly("WC2");
+        assertThat(loads).hasValue(3);
+        assertThat(cache.stats())
+                .containsEntry("hits", 2L)
+                .containsEntry("misses", 3L)
+                .containsEntry("cachedGroups", 2);
+        assertThatThrownBy(() -> units.add("BOX")).isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 같은 코드그룹이 비워지면 읽은 값은 보관하지 않는다")
+    void discardsLoadRacingWithInvalidation() throws Exception {
+        CommonCodeCache cache = new CommonCodeCache();
+
+        List<String> stale = cache.get("COM010", "detail", () -> {
+            cache.invalidate("COM010");
+            return Collections.singletonList("OLD");
+        });
+        List<String> fresh = cache.get("COM010", "detail", () -> Collections.singletonList("NEW"));
+
+        assertThat(stale).containsExactly("OLD");
+        assertThat(fresh).containsExactly("NEW");
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 비우면 커밋 후에 한 번 더 비운다")
+    void evictsAgainAfterCommit() throws Exception {
+        assertEvictedAfterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+    }
+
+    @Test
+    @DisplayName("트랜잭션이 롤백되어도 트랜잭션 중 읽어 둔 값을 비운다")
+    void evictsAgainAfterRollback() throws Exception {
+        assertEvictedAfterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+    }
+
+    private static void assertEvictedAfterCompletion(int status) throws Exception {
+        CommonCodeCache cache = new CommonCodeCache();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            cache.invalidate("COM010");
+            // 완료 전에 다른 요청이나 같은 트랜잭션이 값을 읽어 둔 경우
+            cache.get("COM010", "detail", () -> Collections.singletonList("OLD"));
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCompletion(status);
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(cache.get("COM010", "detail", () -> Collections.singletonList("NEW"))).containsExactly("NEW");
+    }
+}
@@ -0,0 +1,67 @@
+package egovframework.com.cmm.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertiesSnapshotTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    @DisplayName("확인 간격 안에서는 파일을 다시 보지 않고, 간격이 지나면 수정 시각이 바뀐 경우에만 다시 읽는다")
+    void reloadsOnlyWhenModifiedAfterInterval() throws IOException {
+        Path file = dir.resolve("application.properties");
+        write(file, "Globals.a = one \n", 1_000_000L);
+        AtomicLong now = new AtomicLong();
+        PropertiesSnapshot snapshot = new PropertiesSnapshot(new FileSystemResource(file.toFile()), 5000, now::get);
+
+        assertThat(snapshot.get("Globals.a")).isEqualTo("one");
+        assertThat(snapshot.get("Globals.missing")).isNull();
+
+        write(file, "Globals.a=two\n", 2_000_000L);
+        now.set(4999);
+        assertThat(snapshot.get("Globals.a")).isEqualTo("one");
+
+        now.set(5000);
+        assertThat(snapshot.get("Globals.a")).isEqualTo("two");
+
+        write(file, "Globals.a=three\n", 2_000_000L);
+        now.set(10_000);
+        assertThat(snapshot.get("Globals.a")).isEqualTo("two");
+    }
+
+    @Test
+    @DisplayName("파일을 읽지 못하면 기존 값을 유지하고, 처음부터 없던 파일은 생기면 읽는다")
+    void keepsLastGoodSnapshot() throws IOException {
+        Path file = dir.resolve("application.properties");
+        AtomicLong now = new AtomicLong();
+        PropertiesSnapshot snapshot = new PropertiesSnapshot(new FileSystemResource(file.toFile()), 5000, now::get);
+
+        assertThat(snapshot.get("Globals.a")).isNull();
+
+        write(file, "Globals.a=one\n", 1_000_000L);
+        now.set(5000);
+        assertThat(snapshot.get("Globals.a")).isEqualTo("one");
+
+        Files.delete(file);
+        now.set(10_000);
+        assertThat(snapshot.get("Globals.a")).isEqualTo("one");
+    }
+
+    private static void write(Path file, String content, long lastModified) throws IOException {
+        Files.write(file, content.getBytes(StandardCharsets.ISO_8859_1));
+        Files.setLastModifiedTime(file, FileTime.fromMillis(lastModified));
+    }
+}
@@ -0,0 +1,93 @@
+package egovframework.com.cmm.service.impl;
+
+import org.apache.ibatis.executor.BatchResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Statement;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BatchWriteDAOTest {
+
+    @Mock
+    private SqlSessionTemplate batchSqlSessionTemplate;
+
+    @Mock
+    private SqlSessionTemplate sqlSessionTemplate;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("flushSize건마다 전송하고 BatchResult 건수를 입력 행 순서대로 돌려준 뒤 로컬 캐시를 비운다")
+    void insertAll_flushesEveryNAndMapsCountsToRows() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        BatchWriteDAO dao = new BatchWriteDAO(batchSqlSessionTemplate, sqlSessionTemplate, 2);
+        List<String> rows = Arrays.asList("A", "B", "C");
+
+        when(batchSqlSessionTemplate.flushStatements()).thenReturn(
+                Arrays.asList(result("A", 1), result("B", 0)),
+                Collections.singletonList(result("C", Statement.SUCCESS_NO_INFO)));
+
+        int[] counts = dao.insertAll("TestDAO.insertRow", rows);
+
+        assertThat(counts).containsExactly(1, 0, Statement.SUCCESS_NO_INFO);
+        assertThat(BatchWriteDAO.total(counts)).isEqualTo(2);
+
+        InOrder order = inOrder(batchSqlSessionTemplate);
+        order.verify(batchSqlSessionTemplate).insert("TestDAO.insertRow", "A");
+        order.verify(batchSqlSessionTemplate).insert("TestDAO.insertRow", "B");
+        order.verify(batchSqlSessionTemplate).flushStatements();
+        order.verify(batchSqlSessionTemplate).insert("TestDAO.insertRow", "C");
+        order.verify(batchSqlSessionTemplate).flushStatements();
+        order.verify(batchSqlSessionTemplate).clearCache();
+        verify(sqlSessionTemplate).clearCache();
+    }
+
+    @Test
+    @DisplayName("전송 결과 건수가 입력 행 수와 다르면 예외를 던진다")
+    void updateAll_rejectsMismatchedResults() {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        BatchWriteDAO dao = new BatchWriteDAO(batchSqlSessionTemplate, sqlSessionTemplate, 10);
+
+        when(batchSqlSessionTemplate.flushStatements()).thenReturn(Collections.singletonList(result("A", 1)));
+
+        assertThatThrownBy(() -> dao.updateAll("TestDAO.updateRow", Arrays.asList("A", "B")))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 밖에서는 배치로 실행하지 않는다")
+    void deleteAll_requiresTransaction() {
+        BatchWriteDAO dao = new BatchWriteDAO(batchSqlSessionTemplate, sqlSessionTemplate, 10);
+
+        assertThatThrownBy(() -> dao.deleteAll("TestDAO.deleteRow", Collections.singletonList("A")))
+                .isInstanceOf(IllegalStateException.class);
+        verifyNoInteractions(batchSqlSessionTemplate, sqlSessionTemplate);
+    }
+
+    private static BatchResult result(String row, int count) {
+        BatchResult result = new BatchResult(null, "SQL", row);
+        result.setUpdateCounts(new int[]{count});
+        return result;
+    }
+}
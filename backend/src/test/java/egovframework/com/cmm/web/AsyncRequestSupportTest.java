@@ -0,0 +1,152 @@
+package egovframework.com.cmm.web;
+
+import egovframework.com.cmm.ResponseCode;
+import egovframework.com.cmm.exception.BizException;
+import egovframework.com.cmm.service.AsyncJob;
+import egovframework.com.cmm.service.ResultVO;
+import egovframework.com.cmm.util.ResultVoHelper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ConcurrentTaskExecutor;
+import org.springframework.web.context.request.async.DeferredResult;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncRequestSupportTest {
+
+    @Test
+    @DisplayName("작업 결과를 그대로 응답하고, 작업 예외는 예외 처리기로 넘기며, 스레드 풀이 가득 차면 바로 실패 응답한다")
+    void runRespondsWithResultErrorOrBusy() {
+        AsyncRequestSupport support = new AsyncRequestSupport(
+                new ConcurrentTaskExecutor(Runnable::run), new ResultVoHelper(), 60000, 30, 10, new MutableClock());
+
+        ResultVO ok = success("done");
+        assertThat(support.run("ok", "user1", () -> ok).getResult()).isSameAs(ok);
+
+        BizException error = new BizException("ERP 오류");
+        assertThat(support.run("error", "user1", () -> {
+            throw error;
+        }).getResult()).isSameAs(error);
+
+        AsyncRequestSupport full = new AsyncRequestSupport(new ConcurrentTaskExecutor(task -> {
+            throw new RejectedExecutionException("full");
+        }), new ResultVoHelper(), 60000, 30, 10, new MutableClock());
+        ResultVO busy = (ResultVO) full.run("busy", "user1", () -> ok).getResult();
+        assertThat(busy.getResultCode()).isEqualTo(ResponseCode.BUSINESS_ERROR.getCode());
+        assertThat(busy.getResultMessage()).isEqualTo("요청이 많아 처리하지 못했습니다. 잠시 후 다시 시도해주세요.");
+    }
+
+    @Test
+    @DisplayName("접수한 작업은 jobId로 본인만 조회할 수 있고, 실패하면 업무 메시지를 남긴다")
+    void submittedJobIsVisibleToOwnerOnly() {
+        AsyncRequestSupport support = new AsyncRequestSupport(
+                new ConcurrentTaskExecutor(Runnable::run), new ResultVoHelper(), 60000, 30, 10, new MutableClock());
+
+        String okId = jobId(support.submit("bulk", "user1", () -> success("done")));
+        String bizId = jobId(support.submit("bulk", "user1", () -> {
+            throw new BizException("생산계획을 찾을 수 없습니다.");
+        }));
+        String errorId = jobId(support.submit("bulk", "user1", () -> {
+            throw new Exception("connection reset");
+        }));
+
+        AsyncJob ok = support.getJob(okId, "user1");
+        assertThat(ok.getStatus()).isEqualTo(AsyncJob.SUCCEEDED);
+        assertThat(ok.getResult().getResultMessage()).isEqualTo("done");
+        assertThat(support.getJob(bizId, "user1").getMessage()).isEqualTo("생산계획을 찾을 수 없습니다.");
+        assertThat(support.getJob(errorId, "user1").getMessage()).isEqualTo("서버 처리 중 오류가 발생했습니다.");
+        assertThatThrownBy(() -> support.getJob(okId, "user2")).isInstanceOf(BizException.class);
+    }
+
+    @Test
+    @DisplayName("진행 중인 작업으로 가득 차면 접수를 거부하고, 끝난 작업은 오래된 것부터 비우며 보관 시간이 지나면 지운다")
+    void boundsRetainedJobs() {
+        MutableClock clock = new MutableClock();
+        List<Runnable> pending = new ArrayList<>();
+        AsyncRequestSupport support = new AsyncRequestSupport(
+                new ConcurrentTaskExecutor(pending::add), new ResultVoHelper(), 60000, 30, 2, clock);
+
+        String first = jobId(support.submit("bulk", "user1", () -> success("first")));
+        String second = jobId(support.submit("bulk", "user1", () -> success("second")));
+        ResultVO rejected = (ResultVO) support.submit("bulk", "user1", () -> success("third")).getResult();
+        assertThat(rejected.getResultCode()).isEqualTo(ResponseCode.BUSINESS_ERROR.getCode());
+        assertThat(support.getJob(first, "user1").getStatus()).isEqualTo(AsyncJob.RUNNING);
+
+        pending.get(0).run();
+        clock.advanceMinutes(1);
+        pending.get(1).run();
+        String third = jobId(support.submit("bulk", "user1", () -> success("third")));
+
+        assertThatThrownBy(() -> support.getJob(first, "user1")).isInstanceOf(BizException.class);
+        assertThat(support.getJob(second, "user1").getStatus()).isEqualTo(AsyncJob.SUCCEEDED);
+
+        clock.advanceMinutes(31);
+        assertThatThrownBy(() -> support.getJob(second, "user1")).isInstanceOf(BizException.class);
+        assertThat(support.getJob(third, "user1").getStatus()).isEqualTo(AsyncJob.RUNNING);
+    }
+
+    @Test
+    @DisplayName("시간 안에 응답한 작업은 보관하지 않아 접수 작업 자리를 차지하지 않는다")
+    void runDoesNotRetainJobsAnsweredInTime() {
+        AsyncRequestSupport support = new AsyncRequestSupport(
+                new ConcurrentTaskExecutor(Runnable::run), new ResultVoHelper(), 60000, 30, 1, new MutableClock());
+
+        for (int i = 0; i < 3; i++) {
+            ResultVO result = (ResultVO) support.run("stock-inquiry", "user1", () -> success("done")).getResult();
+            assertThat(result.getResultMessage()).isEqualTo("done");
+        }
+
+        String jobId = jobId(support.submit("bulk", "user1", () -> success("other")));
+        assertThat(support.getJob(jobId, "user1").getStatus()).isEqualTo(AsyncJob.SUCCEEDED);
+    }
+
+    private static ResultVO success(String message) {
+        ResultVO resultVO = new ResultVO();
+        resultVO.setResultCode(ResponseCode.SUCCESS.getCode());
+        resultVO.setResultMessage(message);
+        return resultVO;
+    }
+
+    private static String jobId(DeferredResult<ResultVO> deferred) {
+        ResultVO accepted = (ResultVO) deferred.getResult();
+        assertThat(accepted.getResultCode()).isEqualTo(ResponseCode.SUCCESS.getCode());
+        return (String) accepted.getResult("jobId");
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis = Instant.parse("2026-10-17T00:00:00Z").toEpochMilli();
+
+        void advanceMinutes(long minutes) {
+            millis += TimeUnit.MINUTES.toMillis(minutes);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
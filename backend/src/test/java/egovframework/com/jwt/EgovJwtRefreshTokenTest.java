@@ -64,4 +64,22 @@ class EgovJwtRefreshTokenTest {
         // when & then
         assertFalse(jwtTokenUtil.isValidRefreshToken(invalidToken));
     }
-}
\ No newline at end of file
+
+    @DisplayName("로그아웃으로 폐기한 리프레쉬 토큰은 검증되지 않는다")
+    @Test
+    void testRevokedRefreshTokenIsNotValid() {
+        // given
+        LoginVO loginVO = new LoginVO();
+        loginVO.setId("testUser");
+        loginVO.setUniqId("testUniqId");
+        String refreshToken = jwtTokenUtil.generateRefreshToken(loginVO);
+        assertTrue(jwtTokenUtil.isValidRefreshToken(refreshToken));
+
+        // when
+        jwtTokenUtil.revoke(refreshToken);
+
+        // then
+        assertTrue(jwtTokenUtil.isRevoked(refreshToken));
+        assertFalse(jwtTokenUtil.isValidRefreshToken(refreshToken));
+    }
+}
@@ -1,6 +1,8 @@
 package egovframework.com.jwt;
 
 import egovframework.com.cmm.LoginVO;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -9,7 +11,12 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.annotation.DirtiesContext;
 
+import java.util.Date;
+
 import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class EgovJwtTokenUtilTest {
 
@@ -68,4 +75,80 @@ class EgovJwtTokenUtilTest {
             jwtTokenUtil.getLoginVOFromToken(token);
         });
     }
+
+    @DisplayName("같은 토큰은 한 번만 서명 검증하고, 이후 요청은 캐시된 클레임으로 LoginVO를 새로 만든다.")
+    @Test
+    void testTokenIsVerifiedOnce() {
+        // given
+        EgovJwtTokenUtil util = spy(new EgovJwtTokenUtil());
+        String token = util.generateToken(loginVO());
+
+        // when
+        LoginVO first = util.getLoginVOFromToken(token);
+        LoginVO second = util.getLoginVOFromToken(token);
+        String uniqId = util.getInfoFromToken("uniqId", token);
+
+        // then
+        verify(util, times(1)).getAllClaimsFromToken(token);
+        assertNotSame(first, second);
+        assertEquals("testUser", second.getId());
+        assertEquals("testUniqId", uniqId);
+    }
+
+    @DisplayName("변조된 토큰과 로그아웃으로 폐기한 토큰은 InvalidJwtException 예외가 발생한다.")
+    @Test
+    void testTamperedAndRevokedTokenThrowException() {
+        // given
+        String token = jwtTokenUtil.generateToken(loginVO());
+        String refreshToken = jwtTokenUtil.generateRefreshToken(loginVO());
+        String tampered = token.substring(0, token.length() - 4) + "AAAA";
+        jwtTokenUtil.getLoginVOFromToken(token);
+
+        // when
+        jwtTokenUtil.revoke(token);
+
+        // then
+        assertThrows(InvalidJwtException.class, () -> jwtTokenUtil.getLoginVOFromToken(tampered));
+        assertThrows(InvalidJwtException.class, () -> jwtTokenUtil.getLoginVOFromToken(token));
+        assertTrue(jwtTokenUtil.isValidRefreshToken(refreshToken));
+    }
+
+    @DisplayName("검증 캐시는 최근 사용 순으로 최대 건수를 지키고, 만료되었거나 폐기한 토큰은 돌려주지 않는다.")
+    @Test
+    void testVerifiedTokenCacheIsBoundedAndRespectsExpiry() {
+        // given
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("a", claims(1000));
+        cache.put("b", claims(1000));
+        cache.get("a", 0);
+
+        // when
+        cache.put("c", claims(1000));
+        cache.revoke("c", 1000, 0);
+
+        // then
+        assertEquals(1, cache.size());
+        assertNull(cache.get("b", 0));
+        assertNotNull(cache.get("a", 0));
+        assertNull(cache.get("a", 1000));
+        assertTrue(cache.isRevoked("c", 999));
+        assertNull(cache.get("c", 0));
+        assertFalse(cache.isRevoked("c", 1000));
+    }
+
+    private static JwtClaims claims(long expiresAt) {
+        Claims claims = Jwts.claims();
+        claims.put("id", "testUser");
+        claims.setExpiration(new Date(expiresAt));
+        return JwtClaims.from(claims);
+    }
+
+    private static LoginVO loginVO() {
+        LoginVO loginVO = new LoginVO();
+        loginVO.setId("testUser");
+        loginVO.setName("Test User");
+        loginVO.setUniqId("testUniqId");
+        loginVO.setGroupNm("ROLE_USER");
+        return loginVO;
+    }
 }
@@ -0,0 +1,68 @@
+package egovframework.com.jwt;
+
+import egovframework.com.cmm.LoginVO;
+import io.jsonwebtoken.Claims;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 요청당 JWT 인증 비용 측정 (수동 실행용 마이크로벤치마크, 테스트 실행 대상 아님)
+ * <ul>
+ *   <li>before: 기존 getLoginVOFromToken과 같이 클레임 6개를 꺼낼 때마다 토큰을 다시 파싱/서명 검증</li>
+ *   <li>parse-once: 요청당 한 번만 파싱/서명 검증 (캐시 미사용)</li>
+ *   <li>cached: 검증 캐시 사용 (대시보드 폴링처럼 같은 토큰이 반복되는 경우)</li>
+ * </ul>
+ * 실행: mvn -q test-compile exec:java -Dexec.classpathScope=test -Dexec.mainClass=egovframework.com.jwt.JwtAuthenticationBenchmark
+ *
+ * @author SHMT-MES
+ * @since 2026.10.17
+ * @version 1.0
+ */
+public final class JwtAuthenticationBenchmark {
+
+    private static final String[] CLAIM_NAMES = {"id", "name", "userSe", "orgnztId", "uniqId", "groupNm"};
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+
+    private static volatile Object sink;
+
+    private JwtAuthenticationBenchmark() {
+    }
+
+    public static void main(String[] args) {
+        EgovJwtTokenUtil util = new EgovJwtTokenUtil();
+        LoginVO loginVO = new LoginVO();
+        loginVO.setId("admin");
+        loginVO.setName("관리자");
+        loginVO.setUserSe("USR");
+        loginVO.setUniqId("USRCNFRM_00000000000");
+        loginVO.setGroupNm("ROLE_ADMIN");
+        String token = util.generateToken(loginVO);
+
+        Runnable before = () -> {
+            for (String name : CLAIM_NAMES) {
+                Claims claims = util.getAllClaimsFromToken(token);
+                sink = claims.get(name);
+            }
+        };
+        Runnable parseOnce = () -> sink = JwtClaims.from(util.getAllClaimsFromToken(token)).toLoginVO();
+        Runnable cached = () -> sink = util.getLoginVOFromToken(token);
+
+        report("before (6x parse)", before);
+        report("parse-once", parseOnce);
+        report("cached", cached);
+    }
+
+    private static void report(String name, Runnable request) {
+        for (int i = 0; i < WARMUP; i++) {
+            request.run();
+        }
+        long started = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            request.run();
+        }
+        long elapsed = System.nanoTime() - started;
+        System.out.printf("%-20s %,10d ns/request (%d requests, %d ms)%n",
+                name, elapsed / ITERATIONS, ITERATIONS, TimeUnit.NANOSECONDS.toMillis(elapsed));
+    }
+}
@@ -28,15 +28,23 @@ public class BomInquirySqlContractTest {
     }
 
     @Test
-    public void selectBomTreeRowsWalksMatItemSeqRecursivelyWithSiblingOrder() throws Exception {
+    public void bomGraphLoadsTco501RowsWithoutRecursiveCte() throws Exception {
         String xml = mapperXml();
 
-        assertThat(xml).contains("<select id=\"BomInquiryDAO.selectBomTreeRows\"");
-        assertThat(xml).contains("WITH BOM_SOURCE AS");
-        assertThat(xml).contains("PARTITION BY T.COMPANY_SEQ, T.ITEM_SEQ");
-        assertThat(xml).contains("ON C.COMPANY_SEQ = B.COMPANY_SEQ");
-        assertThat(xml).contains("AND C.ITEM_SEQ = B.MAT_ITEM_SEQ");
-        assertThat(xml).contains("WHERE B.VISITED_PATH NOT LIKE");
-        assertThat(xml).contains("OPTION (MAXRECURSION 0)");
+        assertThat(xml).contains("<select id=\"BomInquiryDAO.selectBomGraphEdges\"");
+        assertThat(xml).contains("<select id=\"BomInquiryDAO.selectBomGraphEdgesByItemSeqs\"");
+        assertThat(xml).contains("FROM TCO501");
+        assertThat(xml).doesNotContain("WITH BOM_SOURCE AS");
+        assertThat(xml).doesNotContain("VARCHAR(MAX)");
+    }
+
+    @Test
+    public void bomGraphItemsJoinUnitNameFromCommonCode() throws Exception {
+        String xml = mapperXml();
+
+        assertThat(xml).contains("<select id=\"BomInquiryDAO.selectBomGraphItems\"");
+        assertThat(xml).contains("<select id=\"BomInquiryDAO.selectBomGraphItemsByItemSeqs\"");
+        assertThat(xml).contains("UNIT_CODE.CODE_ID = 'COM007' AND ITEM.UNIT = UNIT_CODE.CODE");
+        assertThat(xml).contains("CAST(#{itemSeq} AS VARCHAR(20))");
     }
 }
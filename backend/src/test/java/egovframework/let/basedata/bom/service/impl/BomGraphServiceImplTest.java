@@ -0,0 +1,130 @@
+package egovframework.let.basedata.bom.service.impl;
+
+import egovframework.let.basedata.bom.domain.model.BomGraphEdge;
+import egovframework.let.basedata.bom.domain.repository.BomInquiryDAO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class BomGraphServiceImplTest {
+
+    @Mock
+    private BomInquiryDAO bomInquiryDAO;
+
+    @Test
+    @DisplayName("그래프는 최초 조회 시 한 번만 적재하고 이후 조회는 DB를 읽지 않는다")
+    void explode_loadsGraphOnce() throws Exception {
+        BomGraphServiceImpl service = new BomGraphServiceImpl(bomInquiryDAO);
+        when(bomInquiryDAO.selectBomGraphEdges()).thenReturn(Collections.singletonList(edge(100, 1, 200)));
+        when(bomInquiryDAO.selectBomGraphItems()).thenReturn(Collections.emptyList());
+
+        service.explode(100);
+        service.whereUsed(200);
+        service.requirements(100, BigDecimal.ONE);
+
+        verify(bomInquiryDAO, times(1)).selectBomGraphEdges();
+        verify(bomInquiryDAO, times(1)).selectBomGraphItems();
+        verifyNoMoreInteractions(bomInquiryDAO);
+    }
+
+    @Test
+    @DisplayName("변경 통지된 품목은 해당 품목의 구성 행만 다시 읽어 반영한다")
+    void itemsChanged_patchesOnlyChangedItems() throws Exception {
+        BomGraphServiceImpl service = new BomGraphServiceImpl(bomInquiryDAO);
+        when(bomInquiryDAO.selectBomGraphEdges()).thenReturn(Collections.singletonList(edge(100, 1, 200)));
+        when(bomInquiryDAO.selectBomGraphItems()).thenReturn(Collections.emptyList());
+        service.explode(100);
+
+        List<Integer> changed = Collections.singletonList(100);
+        when(bomInquiryDAO.selectBomGraphEdgesByItemSeqs(changed)).thenReturn(Collections.singletonList(edge(100, 1, 300)));
+        when(bomInquiryDAO.selectBomGraphItemsByItemSeqs(Arrays.asList(100, 300)))
+                .thenReturn(Collections.emptyList());
+        service.itemsChanged(changed);
+
+        assertThat(service.explode(100)).extracting("matItemSeq").containsExactly(300);
+        verify(bomInquiryDAO, times(1)).selectBomGraphEdges();
+    }
+
+    @Test
+    @DisplayName("부분 갱신 중 같은 품목이 다시 변경 통지되면 다음 조회에서 한 번 더 반영한다")
+    void itemsChanged_keepsNotificationArrivingDuringPatch() throws Exception {
+        BomGraphServiceImpl service = new BomGraphServiceImpl(bomInquiryDAO);
+        when(bomInquiryDAO.selectBomGraphEdges()).thenReturn(Collections.singletonList(edge(100, 1, 200)));
+        when(bomInquiryDAO.selectBomGraphItems()).thenReturn(Collections.emptyList());
+        service.explode(100);
+
+        List<Integer> changed = Collections.singletonList(100);
+        when(bomInquiryDAO.selectBomGraphEdgesByItemSeqs(changed)).thenAnswer(invocation -> {
+            // 구성 행을 읽은 직후 연동이 같은 품목을 다시 변경
+            service.itemsChanged(changed);
+            return Collections.singletonList(edge(100, 1, 300));
+        }).thenReturn(Collections.singletonList(edge(100, 1, 400)));
+        when(bomInquiryDAO.selectBomGraphItemsByItemSeqs(anyList())).thenReturn(Collections.emptyList());
+        service.itemsChanged(changed);
+
+        assertThat(service.explode(100)).extracting("matItemSeq").containsExactly(300);
+        assertThat(service.explode(100)).extracting("matItemSeq").containsExactly(400);
+        verify(bomInquiryDAO, times(2)).selectBomGraphEdgesByItemSeqs(changed);
+    }
+
+    @Test
+    @DisplayName("부분 갱신에 실패하면 대기 품목을 되돌려 다음 조회에서 다시 반영한다")
+    void itemsChanged_requeuesItemsWhenPatchFails() throws Exception {
+        BomGraphServiceImpl service = new BomGraphServiceImpl(bomInquiryDAO);
+        when(bomInquiryDAO.selectBomGraphEdges()).thenReturn(Collections.singletonList(edge(100, 1, 200)));
+        when(bomInquiryDAO.selectBomGraphItems()).thenReturn(Collections.emptyList());
+        service.explode(100);
+
+        List<Integer> changed = Collections.singletonList(100);
+        when(bomInquiryDAO.selectBomGraphEdgesByItemSeqs(changed))
+                .thenThrow(new RuntimeException("DB down"))
+                .thenReturn(Collections.singletonList(edge(100, 1, 300)));
+        when(bomInquiryDAO.selectBomGraphItemsByItemSeqs(anyList())).thenReturn(Collections.emptyList());
+        service.itemsChanged(changed);
+
+        assertThatThrownBy(() -> service.explode(100)).hasMessage("DB down");
+        assertThat(service.explode(100)).extracting("matItemSeq").containsExactly(300);
+    }
+
+    @Test
+    @DisplayName("전체 무효화 후에는 다음 조회 시 그래프를 다시 적재한다")
+    void invalidate_reloadsOnNextRead() throws Exception {
+        BomGraphServiceImpl service = new BomGraphServiceImpl(bomInquiryDAO);
+        when(bomInquiryDAO.selectBomGraphEdges()).thenReturn(Collections.singletonList(edge(100, 1, 200)));
+        when(bomInquiryDAO.selectBomGraphItems()).thenReturn(Collections.emptyList());
+
+        service.explode(100);
+        service.invalidate();
+        service.explode(100);
+
+        verify(bomInquiryDAO, times(2)).selectBomGraphEdges();
+    }
+
+    private static BomGraphEdge edge(int itemSeq, int serl, int matItemSeq) {
+        BomGraphEdge edge = new BomGraphEdge();
+        edge.setCompanySeq(1);
+        edge.setItemSeq(itemSeq);
+        edge.setProcSeq(10);
+        edge.setSerl(serl);
+        edge.setMatItemSeq(matItemSeq);
+        edge.setNeedQtyNumerator(BigDecimal.ONE);
+        edge.setNeedQtyDenominator(BigDecimal.ONE);
+        return edge;
+    }
+}
@@ -0,0 +1,117 @@
+package egovframework.let.basedata.bom.service.impl;
+
+import egovframework.let.basedata.bom.domain.model.BomGraphEdge;
+import egovframework.let.basedata.bom.domain.model.BomGraphItem;
+import egovframework.let.basedata.bom.domain.model.BomRequirementRow;
+import egovframework.let.basedata.bom.domain.model.BomTreeRow;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BomGraphTest {
+
+    /**
+     * 100 ─┬ (10,1) 400 x 1/2
+     *      ├ (10,2) 200 x 2 ─┬ (10,1) 400 x 3
+     *      │                 └ (10,2) 100 x 1 (순환)
+     *      └ (20,1) 300 x 1
+     */
+    private final List<BomGraphEdge> edges = Arrays.asList(
+            edge(100, 20, 1, 300, "1", "1"),
+            edge(100, 10, 2, 200, "2", "1"),
+            edge(100, 10, 1, 400, "1", "2"),
+            edge(200, 10, 1, 400, "3", "1"),
+            edge(200, 10, 2, 100, "1", "1"));
+
+    @Test
+    @DisplayName("정전개는 형제를 PROC_SEQ, SERL 순으로 정렬하고 경로상 품목은 다시 전개하지 않는다")
+    void explode_ordersSiblingsAndStopsAtCycle() {
+        BomGraph graph = BomGraph.build(edges, Collections.singletonList(item(400, "MAT-400", "부품A", "EA")));
+
+        List<BomTreeRow> rows = graph.explode(100);
+
+        assertThat(rows).extracting(BomTreeRow::getDepth)
+                .containsExactly("01", "02", "02-01", "02-02", "03");
+        assertThat(rows).extracting(BomTreeRow::getMatItemSeq)
+                .containsExactly(400, 200, 400, 100, 300);
+        assertThat(rows.get(0).getMatItemNo()).isEqualTo("MAT-400");
+        assertThat(rows.get(0).getMatItemName()).isEqualTo("부품A");
+        assertThat(rows.get(0).getUnitName()).isEqualTo("EA");
+        assertThat(graph.explode(999)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("역전개는 자재를 사용하는 상위 품목을 최상위까지 순환 없이 조회한다")
+    void whereUsed_walksParentsWithoutCycle() {
+        BomGraph graph = BomGraph.build(edges, Collections.emptyList());
+
+        List<BomTreeRow> rows = graph.whereUsed(400);
+
+        assertThat(rows).extracting(BomTreeRow::getDepth)
+                .containsExactly("01", "01-01", "01-01-01", "02", "02-01", "02-01-01");
+        assertThat(rows).extracting(BomTreeRow::getItemSeq)
+                .containsExactly(100, 200, 100, 200, 100, 200);
+    }
+
+    @Test
+    @DisplayName("누적 소요량은 경로별 소요량분자/분모 곱을 자재별로 합산한다")
+    void requirements_rollsUpNeedQtyAlongPaths() {
+        BomGraph graph = BomGraph.build(edges, Collections.emptyList());
+
+        List<BomRequirementRow> rows = graph.requirements(100, new BigDecimal("2"));
+
+        assertThat(rows).extracting(BomRequirementRow::getMatItemSeq).containsExactly(400, 200, 100, 300);
+        BomRequirementRow mat400 = rows.get(0);
+        // 2 x 1/2 + 2 x 2 x 3
+        assertThat(mat400.getNeedQty()).isEqualByComparingTo("13");
+        assertThat(mat400.getLevel()).isEqualTo(2);
+        assertThat(mat400.isLeaf()).isTrue();
+        assertThat(rows.get(1).getNeedQty()).isEqualByComparingTo("4");
+        assertThat(rows.get(1).isLeaf()).isFalse();
+    }
+
+    @Test
+    @DisplayName("부분 갱신은 지정한 상위 품목의 구성 행만 교체한다")
+    void patch_replacesOnlyChangedItemRows() {
+        BomGraph graph = BomGraph.build(edges, Collections.emptyList());
+
+        BomGraph patched = graph.patch(Collections.singletonList(200),
+                Collections.singletonList(edge(200, 10, 1, 500, "1", "1")),
+                Collections.singletonList(item(500, "MAT-500", "부품B", "EA")));
+
+        List<BomTreeRow> rows = patched.explode(100);
+        assertThat(rows).extracting(BomTreeRow::getDepth).containsExactly("01", "02", "02-01", "03");
+        assertThat(rows).extracting(BomTreeRow::getMatItemSeq).containsExactly(400, 200, 500, 300);
+        assertThat(rows.get(2).getMatItemName()).isEqualTo("부품B");
+        // 기존 그래프는 변경되지 않는다
+        assertThat(graph.explode(100)).hasSize(5);
+    }
+
+    private static BomGraphEdge edge(int itemSeq, int procSeq, int serl, int matItemSeq,
+                                     String numerator, String denominator) {
+        BomGraphEdge edge = new BomGraphEdge();
+        edge.setCompanySeq(1);
+        edge.setItemSeq(itemSeq);
+        edge.setProcSeq(procSeq);
+        edge.setSerl(serl);
+        edge.setMatItemSeq(matItemSeq);
+        edge.setNeedQtyNumerator(new BigDecimal(numerator));
+        edge.setNeedQtyDenominator(new BigDecimal(denominator));
+        return edge;
+    }
+
+    private static BomGraphItem item(int itemSeq, String itemCode, String itemName, String unitName) {
+        BomGraphItem item = new BomGraphItem();
+        item.setItemSeq(itemSeq);
+        item.setItemCode(itemCode);
+        item.setItemName(itemName);
+        item.setUnitName(unitName);
+        return item;
+    }
+}
@@ -2,6 +2,7 @@ package egovframework.let.basedata.bom.service.impl;
 
 import egovframework.let.basedata.bom.domain.model.BomTreeRow;
 import egovframework.let.basedata.bom.domain.repository.BomInquiryDAO;
+import egovframework.let.basedata.bom.service.BomGraphService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -20,10 +21,13 @@ class BomInquiryServiceImplTest {
     @Mock
     private BomInquiryDAO bomInquiryDAO;
 
+    @Mock
+    private BomGraphService bomGraphService;
+
     @Test
-    @DisplayName("getBomTree는 DAO가 조회한 평면 BOM 행을 그대로 반환한다")
-    void getBomTree_returnsFlatRowsFromDao() throws Exception {
-        BomInquiryServiceImpl service = new BomInquiryServiceImpl(bomInquiryDAO);
+    @DisplayName("getBomTree는 BOM 그래프가 전개한 평면 BOM 행을 그대로 반환한다")
+    void getBomTree_returnsFlatRowsFromBomGraph() throws Exception {
+        BomInquiryServiceImpl service = new BomInquiryServiceImpl(bomInquiryDAO, bomGraphService);
         BomTreeRow row = new BomTreeRow();
         row.setDepth("01");
         row.setItemSeq(100);
@@ -34,7 +38,7 @@ class BomInquiryServiceImplTest {
         row.setMatItemName("부품A");
         row.setMatItemSpec("SPEC-200");
         List<BomTreeRow> rows = Arrays.asList(row);
-        when(bomInquiryDAO.selectBomTreeRows(100)).thenReturn(rows);
+        when(bomGraphService.explode(100)).thenReturn(rows);
 
         List<BomTreeRow> result = service.getBomTree(100);
 
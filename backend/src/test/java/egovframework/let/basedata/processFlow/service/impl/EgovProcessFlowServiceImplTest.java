@@ -7,6 +7,7 @@ import egovframework.let.basedata.processFlow.domain.model.ProcessFlowProcess;
 import egovframework.let.basedata.processFlow.domain.repository.ProcessFlowDAO;
 import egovframework.let.basedata.processFlow.dto.ProcessFlowItemDeltaResponse;
 import egovframework.let.basedata.processFlow.dto.ProcessFlowProcessSaveRequest;
+import egovframework.let.basedata.processFlow.service.ProcessFlowDefinitionService;
 import org.egovframe.rte.fdl.cmmn.exception.FdlException;
 import org.egovframe.rte.fdl.idgnr.EgovIdGnrService;
 import org.junit.jupiter.api.BeforeEach;
@@ -43,6 +44,9 @@ class EgovProcessFlowServiceImplTest {
     @Mock
     private EgovIdGnrService processIdGenerator;
 
+    @Mock
+    private ProcessFlowDefinitionService processFlowDefinitionService;
+
     @InjectMocks
     private EgovProcessFlowServiceImpl service;
 
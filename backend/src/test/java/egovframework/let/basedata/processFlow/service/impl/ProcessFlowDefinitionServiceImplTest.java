@@ -0,0 +1,118 @@
+package egovframework.let.basedata.processFlow.service.impl;
+
+import egovframework.let.basedata.processFlow.domain.model.CompiledProcessFlow;
+import egovframework.let.basedata.processFlow.domain.model.ProcessFlowDefinitionRow;
+import egovframework.let.basedata.processFlow.domain.model.ProcessFlowItem;
+import egovframework.let.basedata.processFlow.domain.repository.ProcessFlowDAO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ProcessFlowDefinitionServiceImplTest {
+
+    @Mock
+    private ProcessFlowDAO processFlowDAO;
+
+    @Test
+    @DisplayName("공정흐름을 한 번만 적재해 품목별로 순번 순 공정과 앞/뒤 공정, 공정흐름 문자열을 만든다")
+    void compilesFlowsOncePerItem() throws Exception {
+        ProcessFlowDefinitionServiceImpl service = new ProcessFlowDefinitionServiceImpl(processFlowDAO);
+        // 적재 순서와 상관없이 순번 순으로 정렬한다
+        when(processFlowDAO.selectProcessFlowDefinitionRows()).thenReturn(Arrays.asList(
+                step("PF-1", 3, "P3", null, "30", "N", "Y"),
+                step("PF-1", 1, "P1", "절단", "10", "Y", "N"),
+                step("PF-1", 2, "P2", "용접", "20", "N", "N"),
+                step("PF-2", null, null, null, null, null, null)));
+        when(processFlowDAO.selectProcessFlowItemLinks()).thenReturn(Arrays.asList(
+                link("PF-1", "100"), link("PF-1", "200"), link("PF-2", "300"), link("PF-9", "400")));
+
+        CompiledProcessFlow flow = service.getByItem("100");
+        Map<String, CompiledProcessFlow> flows = service.getByItems(Arrays.asList("100", "200", "300", "400", "500"));
+
+        assertThat(flow.getSteps()).extracting(CompiledProcessFlow.Step::getWorkCode)
+                .containsExactly("P1", "P2", "P3");
+        assertThat(flow.getFlowText()).isEqualTo("절단 > 용접 > P3");
+        assertThat(flow.getPlanStep().getWorkCode()).isEqualTo("P1");
+
+        CompiledProcessFlow.Step middle = flow.step(2, "P2");
+        assertThat(flow.predecessor(middle).getWorkCode()).isEqualTo("P1");
+        assertThat(flow.successor(middle).getWorkCode()).isEqualTo("P3");
+        assertThat(flow.successor(flow.step(3))).isNull();
+        assertThat(flow.step(3).isFinalStep()).isTrue();
+        assertThat(flow.step(3).isLastProcess()).isTrue();
+        assertThat(flow.step(2, "P9")).isNull();
+        assertThat(middle.getErpProcessMapping()).isEqualTo("20");
+
+        assertThat(flows).containsOnlyKeys("100", "200", "300");
+        assertThat(flows.get("200")).isSameAs(flow);
+        assertThat(flows.get("300").getSteps()).isEmpty();
+        assertThat(flows.get("300").getFlowText()).isNull();
+        verify(processFlowDAO, times(1)).selectProcessFlowDefinitionRows();
+        verify(processFlowDAO, times(1)).selectProcessFlowItemLinks();
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 무효화하면 커밋 후 다음 조회에서 다시 적재한다")
+    void reloadsAfterCommittedInvalidation() throws Exception {
+        ProcessFlowDefinitionServiceImpl service = new ProcessFlowDefinitionServiceImpl(processFlowDAO);
+        when(processFlowDAO.selectProcessFlowDefinitionRows()).thenReturn(
+                Collections.singletonList(step("PF-1", 1, "P1", "절단", "10", "Y", "Y")),
+                Collections.singletonList(step("PF-1", 1, "P2", "용접", "20", "Y", "Y")));
+        when(processFlowDAO.selectProcessFlowItemLinks()).thenReturn(Collections.singletonList(link("PF-1", "100")));
+
+        assertThat(service.getByItem("100").getFlowText()).isEqualTo("절단");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.invalidate();
+            // 커밋 전에는 기존 정의를 그대로 쓴다
+            assertThat(service.getByItem("100").getFlowText()).isEqualTo("절단");
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.getByItem("100").getFlowText()).isEqualTo("용접");
+        verify(processFlowDAO, times(2)).selectProcessFlowDefinitionRows();
+    }
+
+    private static ProcessFlowDefinitionRow step(String flowId, Integer seq, String workCode, String workName,
+                                                 String erpProcessMapping, String planFlag, String lastFlag) {
+        ProcessFlowDefinitionRow row = new ProcessFlowDefinitionRow();
+        row.setFactoryCode("000001");
+        row.setProcessFlowId(flowId);
+        row.setProcessFlowCode(flowId);
+        row.setSeq(seq);
+        row.setWorkSeq(seq != null ? 1 : null);
+        row.setWorkCode(workCode);
+        row.setWorkName(workName);
+        row.setErpProcessMapping(erpProcessMapping);
+        row.setPlanFlag(planFlag);
+        row.setLastFlag(lastFlag);
+        return row;
+    }
+
+    private static ProcessFlowItem link(String flowId, String itemId) {
+        ProcessFlowItem item = new ProcessFlowItem();
+        item.setProcessFlowId(flowId);
+        item.setFlowItemCodeId(itemId);
+        return item;
+    }
+}
@@ -0,0 +1,58 @@
+package egovframework.let.common.idgen.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveBlockSizeTest {
+
+    @Test
+    @DisplayName("블록을 목표 간격보다 빨리 소진하면 상한까지 두 배씩 늘린다")
+    void next_growsUpToMaxUnderLoad() {
+        AdaptiveBlockSize policy = new AdaptiveBlockSize(10, 50, 1000);
+
+        assertThat(allocate(policy, 0)).isEqualTo(10);
+        assertThat(allocate(policy, 100)).isEqualTo(20);
+        assertThat(allocate(policy, 200)).isEqualTo(40);
+        assertThat(allocate(policy, 300)).isEqualTo(50);
+        assertThat(allocate(policy, 400)).isEqualTo(50);
+        assertThat(policy.growCount()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("목표 간격 안에서 소진하면 크기를 유지한다")
+    void next_keepsSizeAtSteadyRate() {
+        AdaptiveBlockSize policy = new AdaptiveBlockSize(10, 50, 1000);
+
+        allocate(policy, 0);
+        assertThat(allocate(policy, 1500)).isEqualTo(10);
+        assertThat(allocate(policy, 3000)).isEqualTo(10);
+        assertThat(policy.growCount()).isZero();
+        assertThat(policy.shrinkCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("유휴 구간마다 절반으로 줄이고 최소값 아래로는 줄이지 않는다")
+    void next_shrinksWhenIdle() {
+        AdaptiveBlockSize policy = new AdaptiveBlockSize(5, 80, 1000);
+        long now = 0;
+        for (int i = 0; i < 5; i++) {
+            allocate(policy, now);
+            now += 100;
+        }
+        assertThat(policy.size()).isEqualTo(80);
+
+        // 유휴 4초(1구간) -> 40, 이후 유휴 8초(2구간) -> 10
+        assertThat(allocate(policy, now + 4000)).isEqualTo(40);
+        assertThat(allocate(policy, now + 12000)).isEqualTo(10);
+        assertThat(allocate(policy, now + 100000)).isEqualTo(5);
+        assertThat(policy.shrinkCount()).isEqualTo(3);
+    }
+
+    private static int allocate(AdaptiveBlockSize policy, long now) {
+        int size = policy.next(now);
+        policy.allocated(now);
+        return size;
+    }
+}
@@ -0,0 +1,73 @@
+package egovframework.let.common.idgen.service.impl;
+
+import egovframework.let.common.idgen.domain.model.ConditionalIdKey;
+import egovframework.let.common.idgen.domain.repository.ConditionalIdDAO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EgovConditionalIdServiceImplTest {
+
+    @Mock
+    private ConditionalIdDAO conditionalIdDAO;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @DisplayName("여러 건 채번은 한 번의 갱신으로 연속 구간을 예약한다")
+    void getNextStringIds_reservesRangeInOneStatement() throws Exception {
+        EgovConditionalIdServiceImpl service = new EgovConditionalIdServiceImpl(conditionalIdDAO, txManager, 20, "");
+        when(conditionalIdDAO.reserveConditionalIds(any(ConditionalIdKey.class))).thenReturn(7L);
+
+        assertThat(service.getNextStringIds("TPR301M", "ITEM-A", "26", "ITEM-A-26", 3, '0', 3))
+                .containsExactly("ITEM-A-26005", "ITEM-A-26006", "ITEM-A-26007");
+
+        ArgumentCaptor<ConditionalIdKey> captor = ArgumentCaptor.forClass(ConditionalIdKey.class);
+        verify(conditionalIdDAO).reserveConditionalIds(captor.capture());
+        assertThat(captor.getValue().getCount()).isEqualTo(3);
+        assertThat(captor.getValue().getCondition1()).isEqualTo("ITEM-A");
+        verify(conditionalIdDAO, never()).nextConditionalId(any(ConditionalIdKey.class));
+        // 캐시 대상이 아니면 호출 트랜잭션 안에서 갱신
+        verifyNoInteractions(txManager);
+    }
+
+    @Test
+    @DisplayName("단건 채번은 기존 MERGE 문을 그대로 사용한다")
+    void getNextStringId_usesSingleIncrement() throws Exception {
+        EgovConditionalIdServiceImpl service = new EgovConditionalIdServiceImpl(conditionalIdDAO, txManager, 20, "");
+        when(conditionalIdDAO.nextConditionalId(any(ConditionalIdKey.class))).thenReturn(12L);
+
+        assertThat(service.getNextStringId("TPR301", null, "20261017", "PP", 4, '0')).isEqualTo("PP0012");
+    }
+
+    @Test
+    @DisplayName("캐시 대상 테이블은 조건별 블록을 예약하고 블록 안에서는 DB를 조회하지 않는다")
+    void getNextStringIds_servesCachedTableFromBlock() throws Exception {
+        EgovConditionalIdServiceImpl service = new EgovConditionalIdServiceImpl(conditionalIdDAO, txManager, 5, "TPR301M");
+        when(conditionalIdDAO.reserveConditionalIds(any(ConditionalIdKey.class))).thenReturn(5L, 10L, 5L);
+
+        assertThat(service.getNextStringIds("TPR301M", "ITEM-A", "26", "A-", 3, '0', 2))
+                .containsExactly("A-001", "A-002");
+        assertThat(service.getNextStringIds("TPR301M", "ITEM-A", "26", "A-", 3, '0', 4))
+                .containsExactly("A-003", "A-004", "A-005", "A-006");
+        assertThat(service.getNextStringId("TPR301M", "ITEM-B", "26", "B-", 3, '0'))
+                .isEqualTo("B-001");
+
+        verify(conditionalIdDAO, times(3)).reserveConditionalIds(any(ConditionalIdKey.class));
+        verify(txManager, times(3)).commit(any());
+    }
+}
@@ -0,0 +1,92 @@
+package egovframework.let.common.idgen.service.impl;
+
+import egovframework.let.common.idgen.domain.model.DailySequenceBlock;
+import egovframework.let.common.idgen.domain.repository.ConditionalIdDAO;
+import egovframework.let.common.idgen.service.DailySequence;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EgovDailySequenceServiceImplTest {
+
+    @Mock
+    private ConditionalIdDAO conditionalIdDAO;
+
+    @Mock
+    private PlatformTransactionManager txManager;
+
+    private static String today() {
+        return LocalDate.now().format(DateTimeFormatter.BASIC_ISO_DATE);
+    }
+
+    @Test
+    @DisplayName("일자 첫 블록은 대상 테이블 최대 번호 이후로 예약하고 블록 안에서는 DB를 조회하지 않는다")
+    void nextId_reservesOnePerBlockAndSeedsFirstBlock() throws Exception {
+        EgovDailySequenceServiceImpl service = new EgovDailySequenceServiceImpl(conditionalIdDAO, txManager, 3, 0);
+        when(conditionalIdDAO.selectDailySequenceSeed(any(DailySequenceBlock.class))).thenReturn(7L);
+        when(conditionalIdDAO.reserveDailySequenceBlock(any(DailySequenceBlock.class))).thenReturn(10L, 13L);
+
+        assertThat(service.nextId(DailySequence.PROD_ORDER)).isEqualTo("PO" + today() + "0008");
+        assertThat(service.nextId(DailySequence.PROD_ORDER)).isEqualTo("PO" + today() + "0009");
+        assertThat(service.nextId(DailySequence.PROD_ORDER)).isEqualTo("PO" + today() + "0010");
+        assertThat(service.nextId(DailySequence.PROD_ORDER)).isEqualTo("PO" + today() + "0011");
+
+        ArgumentCaptor<DailySequenceBlock> captor = ArgumentCaptor.forClass(DailySequenceBlock.class);
+        verify(conditionalIdDAO, times(1)).selectDailySequenceSeed(any(DailySequenceBlock.class));
+        verify(conditionalIdDAO, times(2)).reserveDailySequenceBlock(captor.capture());
+        DailySequenceBlock first = captor.getAllValues().get(0);
+        assertThat(first.getTableName()).isEqualTo("TPR504");
+        assertThat(first.getIdPrefix()).isEqualTo("PO" + today());
+        assertThat(first.getBlockSize()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("여러 건 요청은 부족한 만큼 한 번에 예약하고 자릿수를 넘으면 그대로 늘어난다")
+    void nextIds_reservesRemainderAndGrowsPastWidth() throws Exception {
+        EgovDailySequenceServiceImpl service = new EgovDailySequenceServiceImpl(conditionalIdDAO, txManager, 2, 0);
+        when(conditionalIdDAO.selectDailySequenceSeed(any(DailySequenceBlock.class))).thenReturn(9998L);
+        when(conditionalIdDAO.reserveDailySequenceBlock(any(DailySequenceBlock.class))).thenReturn(10002L);
+
+        List<String> ids = service.nextIds(DailySequence.PROD_RESULT, 4);
+
+        assertThat(ids).containsExactly(
+                "PR" + today() + "9999", "PR" + today() + "10000",
+                "PR" + today() + "10001", "PR" + today() + "10002");
+        verify(conditionalIdDAO, times(1)).reserveDailySequenceBlock(any(DailySequenceBlock.class));
+    }
+
+    @Test
+    @DisplayName("확장 자릿수를 설정하면 기본 자릿수보다 길게 채운다")
+    void nextId_usesWideWidth() throws Exception {
+        EgovDailySequenceServiceImpl service = new EgovDailySequenceServiceImpl(conditionalIdDAO, txManager, 20, 6);
+        when(conditionalIdDAO.selectDailySequenceSeed(any(DailySequenceBlock.class))).thenReturn(0L);
+        when(conditionalIdDAO.reserveDailySequenceBlock(any(DailySequenceBlock.class))).thenReturn(20L);
+
+        assertThat(service.nextId(DailySequence.PROD_RESULT_BAD)).isEqualTo("QC" + today() + "000001");
+    }
+
+    @Test
+    @DisplayName("블록 크기와 확장 자릿수 범위를 벗어나면 생성할 수 없다")
+    void constructor_rejectsInvalidSettings() {
+        assertThatThrownBy(() -> new EgovDailySequenceServiceImpl(conditionalIdDAO, txManager, 0, 0))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new EgovDailySequenceServiceImpl(conditionalIdDAO, txManager, 20, 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,94 @@
+package egovframework.let.common.master.service.impl;
+
+import egovframework.let.common.master.domain.model.MasterItem;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.domain.repository.MasterDataDAO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class MasterDataCacheServiceImplTest {
+
+    @Mock
+    private MasterDataDAO masterDataDAO;
+
+    @Test
+    @DisplayName("테이블은 한 번만 적재하고 이후 키 목록 조회는 DB를 읽지 않는다")
+    void getAll_loadsTableOnce() throws Exception {
+        MasterDataCacheServiceImpl service = new MasterDataCacheServiceImpl(masterDataDAO);
+        when(masterDataDAO.selectAll(MasterTable.ITEM)).thenReturn(Arrays.asList(item("100", "A"), item("200", "B")));
+
+        Map<String, MasterItem> first = service.getAll(MasterTable.ITEM, Arrays.asList("100", null, "100"));
+        MasterItem second = service.get(MasterTable.ITEM, "200");
+
+        assertThat(first).containsOnlyKeys("100");
+        assertThat(second.getItemName()).isEqualTo("B");
+        verify(masterDataDAO, times(1)).selectAll(MasterTable.ITEM);
+        verifyNoMoreInteractions(masterDataDAO);
+    }
+
+    @Test
+    @DisplayName("캐시에 없는 키는 한 번에 보충하고, DB에도 없는 키는 다시 조회하지 않는다")
+    void getAll_fillsMissingKeysOnce() throws Exception {
+        MasterDataCacheServiceImpl service = new MasterDataCacheServiceImpl(masterDataDAO);
+        when(masterDataDAO.selectAll(MasterTable.ITEM)).thenReturn(Collections.singletonList(item("100", "A")));
+        when(masterDataDAO.selectByKeys(MasterTable.ITEM, Arrays.asList("300", "999")))
+                .thenReturn(Collections.singletonList(item("300", "C")));
+
+        Map<String, MasterItem> first = service.getAll(MasterTable.ITEM, Arrays.asList("100", "300", "999"));
+        Map<String, MasterItem> second = service.getAll(MasterTable.ITEM, Arrays.asList("300", "999"));
+
+        assertThat(first).containsOnlyKeys("100", "300");
+        assertThat(second).containsOnlyKeys("300");
+        verify(masterDataDAO, times(1)).selectAll(MasterTable.ITEM);
+        verify(masterDataDAO, times(1)).selectByKeys(MasterTable.ITEM, Arrays.asList("300", "999"));
+        verifyNoMoreInteractions(masterDataDAO);
+    }
+
+    @Test
+    @DisplayName("트랜잭션 안에서 갱신을 알리면 커밋 후 다음 조회에서 해당 테이블만 다시 적재한다")
+    void refresh_reloadsAfterCommit() throws Exception {
+        MasterDataCacheServiceImpl service = new MasterDataCacheServiceImpl(masterDataDAO);
+        when(masterDataDAO.selectAll(MasterTable.ITEM))
+                .thenReturn(Collections.singletonList(item("100", "A")))
+                .thenReturn(Collections.singletonList(item("100", "A2")));
+        service.get(MasterTable.ITEM, "100");
+
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.refresh(MasterTable.ITEM);
+            service.refresh(MasterTable.CUSTOMER);
+            // 커밋 전에는 기존 값
+            assertThat(service.get(MasterTable.ITEM, "100").getItemName()).isEqualTo("A");
+
+            for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+                synchronization.afterCommit();
+            }
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+
+        assertThat(service.get(MasterTable.ITEM, "100").getItemName()).isEqualTo("A2");
+        verify(masterDataDAO, times(2)).selectAll(MasterTable.ITEM);
+        verifyNoMoreInteractions(masterDataDAO);
+    }
+
+    private static MasterItem item(String itemId, String itemName) {
+        return new MasterItem(itemId, "CODE" + itemId, itemName, "", "1", "EA");
+    }
+}
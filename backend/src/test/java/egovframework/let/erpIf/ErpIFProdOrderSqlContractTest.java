@@ -0,0 +1,33 @@
+package egovframework.let.erpIf;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+
+public class ErpIFProdOrderSqlContractTest {
+
+    @Test
+    public void insertIfAbsentChecksOnlyLatestPendingRowSoReorderCycleIsSent() throws Exception {
+        Path mapper = Paths.get(
+                "src/main/resources/egovframework/mapper/let/erpIf/ErpIFProdOrder_SQL_mssql.xml");
+        String xml = new String(Files.readAllBytes(mapper), StandardCharsets.UTF_8);
+
+        int selectStart = xml.indexOf("<select id=\"insertErpIFProdOrderIfAbsent\"");
+        int selectEnd = xml.indexOf("</select>", selectStart);
+        String insert = xml.substring(selectStart, selectEnd);
+
+        // A → D → A: 최근 행(D)만 비교하므로 두 번째 A는 등록되고, 같은 태그라도 ERP 처리 완료 행이면 다시 등록된다
+        assertThat(insert).contains("SELECT TOP (1) X.WorkingTag, X.ERPProcYn");
+        assertThat(insert).contains("WHERE X.MESIFKey = V.MESIFKey");
+        assertThat(insert).contains("ORDER BY X.RegDateTime DESC");
+        assertThat(insert).contains("WHERE L.WorkingTag = V.WorkingTag");
+        assertThat(insert).contains("AND LTRIM(RTRIM(ISNULL(L.ERPProcYn, 'N'))) = 'N'");
+        assertThat(insert).doesNotContain("AND X.WorkingTag = V.WorkingTag");
+        assertThat(insert).contains("flushCache=\"true\"");
+    }
+}
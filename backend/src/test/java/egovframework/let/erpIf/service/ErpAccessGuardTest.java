@@ -0,0 +1,169 @@
+package egovframework.let.erpIf.service;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ErpAccessGuardTest {
+
+    @Test
+    @DisplayName("실패율이 기준을 넘으면 회로를 열어 ERP를 호출하지 않고, 열린 시간이 지나면 시험 호출 성공 후 닫는다")
+    void opensOnFailureRateAndClosesAfterSuccessfulProbes() {
+        MutableClock clock = new MutableClock();
+        ErpAccessGuard guard = new ErpAccessGuard(4, 0, 1, 0, 4, 4, 50, 30, 2, clock);
+        AtomicInteger erpCalls = new AtomicInteger();
+
+        guard.call("ok", erpCalls::incrementAndGet);
+        guard.call("ok", erpCalls::incrementAndGet);
+        failWithTimeout(guard);
+        assertThat(guard.status().get("state")).isEqualTo(ErpAccessGuard.CLOSED);
+        failWithTimeout(guard);
+        assertThat(guard.status().get("state")).isEqualTo(ErpAccessGuard.OPEN);
+
+        assertThatThrownBy(() -> guard.call("blocked", erpCalls::incrementAndGet))
+                .isInstanceOf(ErpUnavailableException.class);
+        assertThat(erpCalls).hasValue(2);
+        assertThat(guard.isCallPermitted()).isFalse();
+
+        clock.advanceSeconds(30);
+        assertThat(guard.isCallPermitted()).isTrue();
+        guard.call("probe", erpCalls::incrementAndGet);
+        assertThat(guard.status().get("state")).isEqualTo(ErpAccessGuard.HALF_OPEN);
+        guard.call("probe", erpCalls::incrementAndGet);
+
+        assertThat(guard.status().get("state")).isEqualTo(ErpAccessGuard.CLOSED);
+        assertThat(guard.status().get("rejectedByCircuit")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("시험 호출이 실패하면 회로를 다시 연다")
+    void reopensWhenProbeFails() {
+        MutableClock clock = new MutableClock();
+        ErpAccessGuard guard = new ErpAccessGuard(4, 0, 1, 0, 2, 2, 50, 30, 2, clock);
+        failWithTimeout(guard);
+        failWithTimeout(guard);
+        clock.advanceSeconds(30);
+
+        failWithTimeout(guard);
+
+        assertThat(guard.status().get("state")).isEqualTo(ErpAccessGuard.OPEN);
+        assertThatThrownBy(() -> guard.call("blocked", () -> "x")).isInstanceOf(ErpUnavailableException.class);
+    }
+
+    @Test
+    @DisplayName("무결성 위반처럼 ERP 상태와 무관한 오류는 실패율에 넣지 않는다")
+    void ignoresIntegrityViolations() {
+        ErpAccessGuard guard = new ErpAccessGuard(4, 0, 1, 0, 2, 2, 50, 30, 2, new MutableClock());
+
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> guard.call("dup", () -> {
+                throw new DataIntegrityViolationException("duplicate key");
+            })).isInstanceOf(DataIntegrityViolationException.class);
+        }
+
+        assertThat(guard.status().get("state")).isEqualTo(ErpAccessGuard.CLOSED);
+        assertThat(guard.status().get("failedCalls")).isEqualTo(0);
+    }
+
+    @Test
+    @DisplayName("동시 호출 한도를 넘으면 대기하지 않고 바로 거부한다")
+    void rejectsWhenBulkheadIsFull() throws Exception {
+        ErpAccessGuard guard = new ErpAccessGuard(1, 0, 1, 0, 20, 10, 50, 30, 2, new MutableClock());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> slow = CompletableFuture.supplyAsync(() -> guard.call("slow", () -> {
+            entered.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThatThrownBy(() -> guard.call("fast", () -> "x")).isInstanceOf(ErpUnavailableException.class);
+        assertThat(guard.status().get("activeCalls")).isEqualTo(1);
+
+        release.countDown();
+        slow.get(5, TimeUnit.SECONDS);
+        assertThat(guard.call("fast", () -> "x")).isEqualTo("x");
+        assertThat(guard.status().get("rejectedByBulkhead")).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("대용량 연동 호출은 별도 동시 호출 한도를 써서 화면 호출의 자리를 차지하지 않는다")
+    void batchCallsUseSeparateBulkhead() throws Exception {
+        ErpAccessGuard guard = new ErpAccessGuard(1, 0, 1, 0, 20, 10, 50, 30, 2, new MutableClock());
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Boolean> sync = CompletableFuture.supplyAsync(() -> guard.callBatch("streamErp", () -> {
+            entered.countDown();
+            try {
+                return release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        assertThat(guard.call("fast", () -> "x")).isEqualTo("x");
+        assertThatThrownBy(() -> guard.callBatch("streamErp", () -> "y")).isInstanceOf(ErpUnavailableException.class);
+        assertThat(guard.status().get("activeCalls")).isEqualTo(0);
+        assertThat(guard.status().get("batchActiveCalls")).isEqualTo(1);
+
+        release.countDown();
+        sync.get(5, TimeUnit.SECONDS);
+        assertThat(guard.status().get("rejectedByBulkhead")).isEqualTo(0L);
+        assertThat(guard.status().get("batchRejectedByBulkhead")).isEqualTo(1L);
+    }
+
+    private static void failWithTimeout(ErpAccessGuard guard) {
+        assertThatThrownBy(() -> guard.call("timeout", () -> {
+            throw new QueryTimeoutException("query timeout");
+        })).isInstanceOf(QueryTimeoutException.class);
+    }
+
+    private static final class MutableClock extends Clock {
+        private long millis = Instant.parse("2026-10-17T00:00:00Z").toEpochMilli();
+
+        void advanceSeconds(long seconds) {
+            millis += TimeUnit.SECONDS.toMillis(seconds);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneId.of("Asia/Seoul");
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return Instant.ofEpochMilli(millis);
+        }
+
+        @Override
+        public long millis() {
+            return millis;
+        }
+    }
+}
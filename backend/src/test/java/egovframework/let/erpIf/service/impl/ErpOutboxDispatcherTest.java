@@ -0,0 +1,187 @@
+package egovframework.let.erpIf.service.impl;
+
+import egovframework.let.erpIf.domain.model.ErpIfKeyCount;
+import egovframework.let.erpIf.domain.model.ErpOutboxMessage;
+import egovframework.let.erpIf.domain.repository.ErpIFProdOrderDAO;
+import egovframework.let.erpIf.domain.repository.ErpIFProdResultDAO;
+import egovframework.let.erpIf.domain.repository.ErpOutboxDAO;
+import egovframework.let.erpIf.service.ErpAccessGuard;
+import egovframework.let.production.order.domain.model.ErpIFProdOrderDto;
+import egovframework.let.production.order.service.EgovProductionOrderService;
+import egovframework.let.production.result.domain.model.ErpIFProdResultDto;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.core.task.TaskExecutor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ErpOutboxDispatcherTest {
+
+    @Mock
+    private ErpOutboxDAO outboxDAO;
+
+    @Mock
+    private ErpIFProdOrderDAO erpOrderDAO;
+
+    @Mock
+    private ErpIFProdResultDAO erpResultDAO;
+
+    @Mock
+    private ObjectProvider<EgovProductionOrderService> productionOrderServiceProvider;
+
+    @Mock
+    private EgovProductionOrderService productionOrderService;
+
+    @Mock
+    private TaskExecutor executor;
+
+    private final ErpAccessGuard erpAccessGuard = new ErpAccessGuard(4, 0, 2, 0, 20, 10, 50, 30, 2);
+
+    private ErpOutboxDispatcher dispatcher() {
+        return new ErpOutboxDispatcher(outboxDAO, erpOrderDAO, erpResultDAO, erpAccessGuard,
+                productionOrderServiceProvider, executor, true, 10, 3, 60, 5, 600);
+    }
+
+    @Test
+    @DisplayName("첫 전송 건은 EXPECT_CNT를 기록하고 다건 INSERT 1회로 보낸 뒤 완료 처리와 결과 동기화를 한다")
+    @SuppressWarnings("unchecked")
+    void dispatch_sendsOrdersInOneBatchAndSyncsResults() throws Exception {
+        ErpOutboxMessage first = orderMessage(1L, "ORDER-1", null, 0);
+        ErpOutboxMessage second = orderMessage(2L, "ORDER-2", null, 0);
+        when(outboxDAO.claimOutbox(10, 60)).thenReturn(Arrays.asList(first, second));
+        when(erpOrderDAO.selectIfKeyCounts(anyList())).thenReturn(Collections.singletonList(keyCount("ORDER-2", "A", 1)));
+        when(productionOrderServiceProvider.getIfAvailable()).thenReturn(productionOrderService);
+
+        int handled = dispatcher().dispatch();
+
+        assertThat(handled).isEqualTo(2);
+        assertThat(first.getExpectCnt()).isEqualTo(1);
+        assertThat(second.getExpectCnt()).isEqualTo(2);
+        verify(outboxDAO).updateExpectCnt(Arrays.asList(first, second));
+
+        ArgumentCaptor<List<ErpIFProdOrderDto>> sent = ArgumentCaptor.forClass(List.class);
+        verify(erpOrderDAO, times(1)).insertErpIFProdOrderBatch(sent.capture());
+        assertThat(sent.getValue()).extracting(ErpIFProdOrderDto::getMesIfKey).containsExactly("ORDER-1", "ORDER-2");
+
+        verify(outboxDAO).updateSent(Arrays.asList(1L, 2L));
+        verify(productionOrderService).syncErpResultByMesIfKeys(Arrays.asList("ORDER-1", "ORDER-2"));
+    }
+
+    @Test
+    @DisplayName("재시도 건이 이미 ERP에 반영되어 있으면 다시 보내지 않고 완료 처리한다")
+    void dispatch_skipsRetryAlreadyDeliveredToErp() {
+        ErpOutboxMessage delivered = resultMessage(3L, "PR-1", "D", 1, 1);
+        when(outboxDAO.claimOutbox(10, 60)).thenReturn(Collections.singletonList(delivered));
+        when(erpResultDAO.selectIfKeyCounts(anyList())).thenReturn(Arrays.asList(
+                keyCount("PR-1", "A", 1), keyCount("PR-1", "D", 1)));
+
+        dispatcher().dispatch();
+
+        verify(outboxDAO).updateSent(Collections.singletonList(3L));
+        verify(erpResultDAO, never()).insertErpIFProdResultBatch(anyList());
+    }
+
+    @Test
+    @DisplayName("다건 전송이 실패하면 건별로 다시 보내고 실패 건만 지연 재시도, 한도 도달 시 FAILED로 둔다")
+    void dispatch_isolatesFailedRowsWithBackoff() {
+        ErpOutboxMessage ok = resultMessage(4L, "PR-OK", "A", null, 0);
+        ErpOutboxMessage retry = resultMessage(5L, "PR-RETRY", "A", null, 0);
+        ErpOutboxMessage exhausted = resultMessage(6L, "PR-LAST", "A", 1, 2);
+        when(outboxDAO.claimOutbox(10, 60)).thenReturn(Arrays.asList(ok, retry, exhausted));
+        when(erpResultDAO.selectIfKeyCounts(anyList())).thenReturn(Collections.emptyList());
+        doAnswer(invocation -> {
+            List<ErpIFProdResultDto> list = invocation.getArgument(0);
+            if (list.size() > 1 || !"PR-OK".equals(list.get(0).getMesIfKey())) {
+                throw new RuntimeException("erp insert failed");
+            }
+            return null;
+        }).when(erpResultDAO).insertErpIFProdResultBatch(anyList());
+
+        dispatcher().dispatch();
+
+        verify(outboxDAO).updateSent(Collections.singletonList(4L));
+        verify(outboxDAO).updateRetry(argThat(m -> m.getOutboxId() == 5L
+                && "PENDING".equals(m.getStatus()) && m.getRetryCnt() == 1 && m.getDelaySeconds() == 5));
+        verify(outboxDAO).updateRetry(argThat(m -> m.getOutboxId() == 6L
+                && "FAILED".equals(m.getStatus()) && m.getRetryCnt() == 3));
+        verify(productionOrderServiceProvider, never()).getIfAvailable();
+    }
+
+    @Test
+    @DisplayName("ERP 반영 여부를 확인하지 못하면 전송하지 않고 모두 지연 재시도한다")
+    void dispatch_retriesAllWhenErpCountCheckFails() {
+        ErpOutboxMessage message = orderMessage(7L, "ORDER-7", null, 0);
+        when(outboxDAO.claimOutbox(10, 60)).thenReturn(Collections.singletonList(message));
+        when(erpOrderDAO.selectIfKeyCounts(anyList())).thenThrow(new RuntimeException("erp down"));
+
+        dispatcher().dispatch();
+
+        verify(erpOrderDAO, never()).insertErpIFProdOrderBatch(any());
+        verify(outboxDAO, never()).updateSent(any());
+        verify(outboxDAO).updateRetry(argThat(m -> "PENDING".equals(m.getStatus()) && m.getRetryCnt() == 1));
+    }
+
+    @Test
+    @DisplayName("재시도 지연은 실패할 때마다 두 배로 늘고 최대값을 넘지 않는다")
+    void backoffSeconds_doublesUpToMax() {
+        assertThat(ErpOutboxDispatcher.backoffSeconds(1, 5, 600)).isEqualTo(5);
+        assertThat(ErpOutboxDispatcher.backoffSeconds(2, 5, 600)).isEqualTo(10);
+        assertThat(ErpOutboxDispatcher.backoffSeconds(5, 5, 600)).isEqualTo(80);
+        assertThat(ErpOutboxDispatcher.backoffSeconds(8, 5, 600)).isEqualTo(600);
+        assertThat(ErpOutboxDispatcher.backoffSeconds(64, 5, 600)).isEqualTo(600);
+    }
+
+    private static ErpOutboxMessage orderMessage(long id, String key, Integer expectCnt, int retryCnt) {
+        ErpIFProdOrderDto dto = new ErpIFProdOrderDto();
+        dto.setWorkingTag("A");
+        dto.setMesIfKey(key);
+        return message(id, "PROD_ORDER", key, "A", ErpOutboxPayload.write(dto), expectCnt, retryCnt);
+    }
+
+    private static ErpOutboxMessage resultMessage(long id, String key, String tag, Integer expectCnt, int retryCnt) {
+        ErpIFProdResultDto dto = new ErpIFProdResultDto();
+        dto.setWorkingTag(tag);
+        dto.setMesIfKey(key);
+        return message(id, "PROD_RESULT", key, tag, ErpOutboxPayload.write(dto), expectCnt, retryCnt);
+    }
+
+    private static ErpOutboxMessage message(long id, String type, String key, String tag,
+                                            String payload, Integer expectCnt, int retryCnt) {
+        ErpOutboxMessage message = new ErpOutboxMessage();
+        message.setOutboxId(id);
+        message.setMsgType(type);
+        message.setMesIfKey(key);
+        message.setWorkingTag(tag);
+        message.setPayload(payload);
+        message.setStatus("SENDING");
+        message.setExpectCnt(expectCnt);
+        message.setRetryCnt(retryCnt);
+        return message;
+    }
+
+    private static ErpIfKeyCount keyCount(String key, String tag, int cnt) {
+        ErpIfKeyCount count = new ErpIfKeyCount();
+        count.setMesIfKey(key);
+        count.setWorkingTag(tag);
+        count.setCnt(cnt);
+        return count;
+    }
+}
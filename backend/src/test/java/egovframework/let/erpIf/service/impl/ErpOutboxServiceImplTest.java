@@ -0,0 +1,137 @@
+package egovframework.let.erpIf.service.impl;
+
+import egovframework.com.cmm.service.impl.BatchWriteDAO;
+import egovframework.let.erpIf.domain.model.ErpOutboxMessage;
+import egovframework.let.erpIf.domain.repository.ErpOutboxDAO;
+import egovframework.let.erpIf.service.ErpOutboxType;
+import egovframework.let.production.result.domain.model.ErpIFProdResultDto;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ErpOutboxServiceImplTest {
+
+    @Mock
+    private ErpOutboxDAO outboxDAO;
+
+    @Mock
+    private BatchWriteDAO batchWriteDAO;
+
+    @Mock
+    private ErpOutboxDispatcher dispatcher;
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+    }
+
+    @Test
+    @DisplayName("같은 실적의 미전송 D/A에 다시 D/A가 등록되면 첫 D와 마지막 A만 남기고 기존 전송 예정 시각을 이어받는다")
+    @SuppressWarnings("unchecked")
+    void enqueueProdResults_coalescesPendingEditsIntoNetDelta() throws Exception {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        ErpOutboxServiceImpl service = new ErpOutboxServiceImpl(outboxDAO, batchWriteDAO, dispatcher, 60);
+
+        ErpOutboxMessage pendingDelete = pending(10L, "RESULT-1", "D", "{\"qty\":5}");
+        ErpOutboxMessage pendingAdd = pending(11L, "RESULT-1", "A", "{\"qty\":6}");
+        when(outboxDAO.selectCoalescable(eq("PROD_RESULT"), anyList()))
+                .thenReturn(Arrays.asList(pendingDelete, pendingAdd));
+
+        service.enqueueProdResults(Arrays.asList(
+                result("RESULT-1", "D", 6), result("RESULT-1", "A", 7), result("RESULT-2", "A", 3)));
+
+        verify(outboxDAO).deleteOutbox(Arrays.asList(10L, 11L));
+
+        ArgumentCaptor<List<ErpOutboxMessage>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(batchWriteDAO).insertAll(eq(ErpOutboxDAO.INSERT_OUTBOX), inserted.capture());
+        List<ErpOutboxMessage> messages = inserted.getValue();
+
+        assertThat(messages).extracting(ErpOutboxMessage::getMesIfKey, ErpOutboxMessage::getWorkingTag)
+                .containsExactly(
+                        tuple("RESULT-1", "D"),
+                        tuple("RESULT-1", "A"),
+                        tuple("RESULT-2", "A"));
+        assertThat(messages.get(0).getPayload()).isEqualTo("{\"qty\":5}");
+        assertThat(ErpOutboxPayload.read(messages.get(1).getPayload(), ErpIFProdResultDto.class).getProdQty())
+                .isEqualTo(7);
+        assertThat(messages.get(0).getNextTryDtm()).isEqualTo("2026-10-17 10:00:00");
+        assertThat(messages.get(1).getNextTryDtm()).isEqualTo("2026-10-17 10:00:00");
+        assertThat(messages.get(2).getNextTryDtm()).isNull();
+        assertThat(messages.get(2).getDelaySeconds()).isEqualTo(60);
+    }
+
+    @Test
+    @DisplayName("아직 전송하지 않은 신규 실적을 삭제하면 대기 건만 지우고 ERP에는 보내지 않는다")
+    void enqueueProdResults_dropsAddFollowedByDelete() throws Exception {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        ErpOutboxServiceImpl service = new ErpOutboxServiceImpl(outboxDAO, batchWriteDAO, dispatcher, 60);
+
+        when(outboxDAO.selectCoalescable(eq("PROD_RESULT"), anyList()))
+                .thenReturn(Collections.singletonList(pending(20L, "RESULT-3", "A", "{}")));
+
+        service.enqueueProdResults(Collections.singletonList(result("RESULT-3", "D", 0)));
+
+        verify(outboxDAO).deleteOutbox(Collections.singletonList(20L));
+        verify(batchWriteDAO, never()).insertAll(anyString(), anyList());
+        verify(dispatcher, never()).wakeUp();
+    }
+
+    @Test
+    @DisplayName("A/D 순서가 맞지 않는 키는 합치지 않고 등록 순서대로 둔다")
+    void coalescer_keepsIrregularSequence() {
+        assertThat(ErpOutboxCoalescer.net(Arrays.asList(
+                pending(1L, "K", "A", "{}"), pending(2L, "K", "A", "{}")))).isNull();
+        assertThat(ErpOutboxCoalescer.net(Arrays.asList(
+                pending(1L, "K", "D", "{}"), pending(2L, "K", "A", "{}"), pending(3L, "K", "D", "{}"))))
+                .extracting(ErpOutboxMessage::getOutboxId).containsExactly(1L);
+    }
+
+    @Test
+    @DisplayName("병합 대기 건 즉시 전송 요청 시 대기 시각을 앞당기고 디스패처를 깨운다")
+    void flush_releasesDelayedAndWakesDispatcher() throws Exception {
+        ErpOutboxServiceImpl service = new ErpOutboxServiceImpl(outboxDAO, batchWriteDAO, dispatcher, 60);
+        when(outboxDAO.releaseDelayed("PROD_RESULT")).thenReturn(4);
+
+        assertThat(service.flush(ErpOutboxType.PROD_RESULT)).isEqualTo(4);
+        verify(dispatcher).wakeUp();
+    }
+
+    private static ErpOutboxMessage pending(Long id, String key, String tag, String payload) {
+        ErpOutboxMessage message = new ErpOutboxMessage();
+        message.setOutboxId(id);
+        message.setMsgType("PROD_RESULT");
+        message.setMesIfKey(key);
+        message.setWorkingTag(tag);
+        message.setPayload(payload);
+        message.setStatus("PENDING");
+        message.setNextTryDtm("2026-10-17 10:00:00");
+        return message;
+    }
+
+    private static ErpIFProdResultDto result(String key, String tag, int qty) {
+        ErpIFProdResultDto dto = new ErpIFProdResultDto();
+        dto.setMesIfKey(key);
+        dto.setWorkingTag(tag);
+        dto.setProdQty(qty);
+        return dto;
+    }
+}
@@ -24,6 +24,22 @@ public class ProductionOrderSqlContractTest {
         assertThat(xml).contains("A.PRODWORK_SEQ = #{prodworkSeq}");
     }
 
+    @Test
+    public void selectRootItemCodesByPlansReturnsPlanKeyWithItem() throws Exception {
+        Path mapper = Paths.get(
+                "src/main/resources/egovframework/mapper/let/production/order/ProductionOrder_SQL_mssql.xml");
+        String xml = new String(Files.readAllBytes(mapper), StandardCharsets.UTF_8);
+
+        int selectStart = xml.indexOf("<select id=\"selectRootItemCodesByPlans\"");
+        int selectEnd = xml.indexOf("</select>", selectStart);
+        String select = xml.substring(selectStart, selectEnd);
+
+        assertThat(select).contains("A.PRODPLAN_SEQ  AS prodplanSeq");
+        assertThat(select).contains("A.ITEM_CODE     AS itemSeq");
+        assertThat(select).contains("(#{p.prodplanDate}, #{p.prodplanSeq}, #{p.prodworkSeq})");
+        assertThat(select).contains("ON A.PRODPLAN_DATE = P.PRODPLAN_DATE");
+    }
+
     @Test
     public void selectFlowProcessReturnsPlanFlag() throws Exception {
         Path mapper = Paths.get(
@@ -49,4 +65,37 @@ public class ProductionOrderSqlContractTest {
         assertThat(xml).contains("#{remark}");
         assertThat(xml).contains("TOTAL_GROUP_COUNT,");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void updateProdPlansToPlannedRestoresStatusAndLotOnPlanAndMaster() throws Exception {
+        Path mapper = Paths.get(
+                "src/main/resources/egovframework/mapper/let/production/order/ProductionOrder_SQL_mssql.xml");
+        String xml = new String(Files.readAllBytes(mapper), StandardCharsets.UTF_8);
+
+        int updateStart = xml.indexOf("<update id=\"updateProdPlansToPlanned\"");
+        int updateEnd = xml.indexOf("</update>", updateStart);
+        String update = xml.substring(updateStart, updateEnd);
+
+        assertThat(update).contains("UPDATE G SET ORDER_FLAG = 'PLANNED',");
+        assertThat(update).contains("LOT_NO     = ''");
+        assertThat(update).contains("FROM TPR301 G");
+        assertThat(update).contains("UPDATE M SET ORDER_FLAG  = 'PLANNED',");
+        assertThat(update).contains("ITEM_LOT_NO = ''");
+        assertThat(update).contains("FROM TPR301M M");
+    }
+
+    @Test
+    public void applyErpResultWorkUsesLastResultPerMesIfKey() throws Exception {
+        Path mapper = Paths.get(
+                "src/main/resources/egovframework/mapper/let/production/order/ProductionOrder_SQL_mssql.xml");
+        String xml = new String(Files.readAllBytes(mapper), StandardCharsets.UTF_8);
+
+        int selectStart = xml.indexOf("<select id=\"applyErpResultWork\"");
+        int selectEnd = xml.indexOf("</select>", selectStart);
+        String apply = xml.substring(selectStart, selectEnd);
+
+        assertThat(apply).contains("ORDER BY R.CHUNK_NO DESC, R.ROW_NO DESC");
+        assertThat(apply).contains("AND D.STATUS = '0'");
+        assertThat(apply).contains("AND E1.LAST_FLAG = 'Y'");
+    }
+}
@@ -1,16 +1,24 @@
 package egovframework.let.production.order.service.impl;
 
 import egovframework.com.cmm.exception.BizException;
+import egovframework.let.basedata.processFlow.domain.model.CompiledProcessFlow;
+import egovframework.let.basedata.processFlow.domain.model.ProcessFlowDefinitionRow;
+import egovframework.let.basedata.processFlow.service.ProcessFlowDefinitionService;
 import egovframework.let.common.dto.ListResult;
+import egovframework.let.common.idgen.service.DailySequence;
 import egovframework.let.common.idgen.service.EgovConditionalIdService;
+import egovframework.let.common.idgen.service.EgovDailySequenceService;
+import egovframework.let.erpIf.service.ErpOutboxService;
+import egovframework.let.erpIf.service.ErpOutboxType;
 import egovframework.let.production.order.domain.model.*;
 import egovframework.let.production.order.domain.repository.ProductionOrderDAO;
 import egovframework.let.production.order.service.ErpIFProdOrderService;
-import egovframework.let.scheduler.service.ErpToMesInterfaceService;
+import egovframework.let.scheduler.service.TPDROUItemProcMatSnapshotService;
 import org.mockito.ArgumentCaptor;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyCollection;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import org.junit.jupiter.api.Test;
@@ -19,18 +27,21 @@ import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.never;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.when;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.never;
 
 import java.lang.reflect.Method;
@@ -49,12 +60,22 @@ class EgovProductionOrderServiceImplTest {
     private EgovConditionalIdService egovConditionalIdService;
 
     @Mock
-    private ErpToMesInterfaceService erpToMesInterfaceService;
+    private TPDROUItemProcMatSnapshotService bomSnapshotService;
+
+    @Mock
+    private EgovDailySequenceService dailySequenceService;
+
+    @Mock
+    private ErpOutboxService erpOutboxService;
+
+    @Mock
+    private ProcessFlowDefinitionService processFlowDefinitionService;
 
     @Test
-    void selectFlowProcessByPlanId_resyncsEachRootItemBeforeQuerying() throws Exception {
+    void selectFlowProcessByPlanId_ensuresBomSnapshotForEachRootItemBeforeQuerying() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdOrderSearchParam param = new ProdOrderSearchParam();
         param.setProdplanDate("20260723");
@@ -67,9 +88,9 @@ class EgovProductionOrderServiceImplTest {
 
         ListResult<ProdOrderRow> result = service.selectFlowProcessByPlanId(param);
 
-        InOrder inOrder = inOrder(erpToMesInterfaceService, productionOrderDAO);
-        inOrder.verify(erpToMesInterfaceService).resyncTPDROUItemProcMatByRootItem(eq(100));
-        inOrder.verify(erpToMesInterfaceService).resyncTPDROUItemProcMatByRootItem(eq(200));
+        InOrder inOrder = inOrder(bomSnapshotService, productionOrderDAO);
+        inOrder.verify(bomSnapshotService).ensureFresh(eq(100));
+        inOrder.verify(bomSnapshotService).ensureFresh(eq(200));
         inOrder.verify(productionOrderDAO).selectFlowProcessByPlanId(param);
 
         assertThat(result.getResultList()).isEqualTo(rows);
@@ -77,9 +98,10 @@ class EgovProductionOrderServiceImplTest {
     }
 
     @Test
-    void bulkCreateProductionOrders_resyncsBomForEachPlan() throws Exception {
+    void bulkCreateProductionOrders_ensuresBomSnapshotForEachPlan() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdPlanKeyDto plan = new ProdPlanKeyDto();
         plan.setProdplanDate("20260724");
@@ -100,13 +122,14 @@ class EgovProductionOrderServiceImplTest {
 
         service.bulkCreateProductionOrders(Collections.singletonList(plan));
 
-        verify(erpToMesInterfaceService).resyncTPDROUItemProcMatByRootItem(eq(100));
+        verify(bomSnapshotService).ensureFresh(eq(100));
     }
 
     @Test
-    void bulkCreateProductionOrders_propagatesResyncFailure() throws Exception {
+    void bulkCreateProductionOrders_propagatesBomSnapshotLoadFailure() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdPlanKeyDto plan = new ProdPlanKeyDto();
         plan.setProdplanDate("20260724");
@@ -116,7 +139,7 @@ class EgovProductionOrderServiceImplTest {
         when(productionOrderDAO.selectRootItemCodesByPlan(any(ProdOrderSearchParam.class)))
                 .thenReturn(Collections.singletonList(100));
         doThrow(new RuntimeException("ERP down"))
-                .when(erpToMesInterfaceService).resyncTPDROUItemProcMatByRootItem(100);
+                .when(bomSnapshotService).ensureFresh(100);
 
         assertThatThrownBy(() -> service.bulkCreateProductionOrders(Collections.singletonList(plan)))
                 .isInstanceOf(RuntimeException.class)
@@ -136,19 +159,30 @@ class EgovProductionOrderServiceImplTest {
         assertThat(annotation.rollbackFor()).contains((Class) Exception.class);
     }
 
+    @Test
+    void createProductionOrdersForPlan_rollsBackOnlyThePlanOnCheckedExceptions() throws Exception {
+        Method method = EgovProductionOrderServiceImpl.class
+                .getMethod("createProductionOrdersForPlan", ProdPlanKeyDto.class);
+
+        Transactional annotation = method.getAnnotation(Transactional.class);
+
+        assertThat(annotation).isNotNull();
+        assertThat(annotation.rollbackFor()).contains((Class) Exception.class);
+    }
+
     @Test
     void insertProductionOrders_updatesPlanWithThePlanProcessLotNo() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdOrderInsertDto normalProcess = order("N", "NORMAL-LOT");
         ProdOrderInsertDto planProcess = order("Y", "PLAN-LOT");
 
-        when(productionOrderDAO.selectProdOrderNextId())
+        when(dailySequenceService.nextId(DailySequence.PROD_ORDER))
                 .thenReturn("ORDER-1", "ORDER-2");
         when(productionOrderDAO.selectProdOrderWorkSeq(any(ProdOrderInsertDto.class)))
                 .thenReturn(1, 2);
-        when(erpIfService.sendProdOrderBatchToErp(any())).thenReturn(true);
 
         service.insertProductionOrders(Arrays.asList(normalProcess, planProcess));
 
@@ -167,7 +201,8 @@ class EgovProductionOrderServiceImplTest {
     @Test
     void bulkCreateProductionOrders_updatesEachPlanWithItsPlanProcessLotNo() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdPlanKeyDto firstPlan = bulkPlan("20260724", 1, 11, "DETAIL-1");
         ProdPlanKeyDto secondPlan = bulkPlan("20260725", 2, 22, "DETAIL-2");
@@ -212,10 +247,41 @@ class EgovProductionOrderServiceImplTest {
         assertThat(erpIfFailed).isFalse();
     }
 
+    @Test
+    void bulkCreateProductionOrders_reservesLotNosOncePerProdCode() throws Exception {
+        EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
+
+        ProdPlanKeyDto plan = bulkPlan("20260724", 5, 55, "DETAIL-5");
+        List<ProdOrderRow> targets = Arrays.asList(
+                bulkRow("20260724", 5, 55, "SAME-5", "N", 1),
+                bulkRow("20260724", 5, 55, "SAME-5", "Y", 2)
+        );
+
+        when(productionOrderDAO.selectFlowProcessByPlanId(any(ProdOrderSearchParam.class)))
+                .thenReturn(targets);
+        stubBulkInfrastructure("SAME-LOT-1", "SAME-LOT-2");
+
+        service.bulkCreateProductionOrders(Collections.singletonList(plan));
+
+        verify(egovConditionalIdService, times(1)).getNextStringIds(
+                eq("TPR301M"), eq("SAME-5"), anyString(), anyString(), eq(3), eq('0'), eq(2));
+        ArgumentCaptor<ProdOrderInsertDto> insertCaptor = ArgumentCaptor.forClass(ProdOrderInsertDto.class);
+        verify(productionOrderDAO, times(2)).insertProductionOrder(insertCaptor.capture());
+        assertThat(insertCaptor.getAllValues()).extracting(ProdOrderInsertDto::getLotNo)
+                .containsExactly("SAME-LOT-1", "SAME-LOT-2");
+
+        ArgumentCaptor<ProdPlanLotNoDto> lotCaptor = ArgumentCaptor.forClass(ProdPlanLotNoDto.class);
+        verify(productionOrderDAO).updateProdPlanLotNo(lotCaptor.capture());
+        assertPlanLot(lotCaptor.getValue(), "20260724", 5, 55, "SAME-LOT-2");
+    }
+
     @Test
     void bulkCreateProductionOrders_skipsPlanLotUpdateWhenPlanFlagIsMissing() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdPlanKeyDto plan = bulkPlan("20260724", 3, 33, "DETAIL-3");
         List<ProdOrderRow> targets = Collections.singletonList(
@@ -233,9 +299,10 @@ class EgovProductionOrderServiceImplTest {
     }
 
     @Test
-    void bulkCreateProductionOrders_updatesPlanLotWhenErpIfFails() throws Exception {
+    void bulkCreateProductionOrders_enqueuesErpIfToOutboxAndUpdatesPlanLot() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdPlanKeyDto plan = bulkPlan("20260724", 4, 44, "DETAIL-4");
         List<ProdOrderRow> targets = Collections.singletonList(
@@ -245,7 +312,6 @@ class EgovProductionOrderServiceImplTest {
         when(productionOrderDAO.selectFlowProcessByPlanId(any(ProdOrderSearchParam.class)))
                 .thenReturn(targets);
         stubBulkInfrastructure("PLAN-LOT-4");
-        when(erpIfService.sendProdOrderBatchToErp(any())).thenReturn(false);
 
         boolean erpIfFailed = service.bulkCreateProductionOrders(
                 Collections.singletonList(plan));
@@ -255,13 +321,21 @@ class EgovProductionOrderServiceImplTest {
         verify(productionOrderDAO).updateProdPlanLotNo(captor.capture());
         verify(productionOrderDAO).updateProdPlanLotNo2(any(ProdPlanLotNoDto.class));
         assertPlanLot(captor.getValue(), "20260724", 4, 44, "PLAN-LOT-4");
-        assertThat(erpIfFailed).isTrue();
+        assertThat(erpIfFailed).isFalse();
+
+        // ERP는 트랜잭션 안에서 직접 호출하지 않고 아웃박스에만 등록
+        ArgumentCaptor<List<ErpIFProdOrderDto>> erpCaptor = listCaptor();
+        verify(erpOutboxService).enqueueProdOrders(erpCaptor.capture());
+        assertThat(erpCaptor.getValue()).extracting(ErpIFProdOrderDto::getMesIfKey).containsExactly("ORDER-1");
+        assertThat(erpCaptor.getValue()).extracting(ErpIFProdOrderDto::getWorkingTag).containsExactly("A");
+        verify(erpIfService, never()).sendProdOrderBatchToErp(any());
     }
 
     @Test
     void deleteProductionOrder_sendsErpIfOnlyForLastFlagRows() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdOrderDeleteDto dto = new ProdOrderDeleteDto();
         dto.setProdplanDate("20260805");
@@ -287,16 +361,17 @@ class EgovProductionOrderServiceImplTest {
         when(productionOrderDAO.selectProdResultCount(any(ProdOrderDeleteDto.class))).thenReturn(0);
         when(productionOrderDAO.selectProdOrdersByPlanId(any(ProdOrderSearchParam.class)))
                 .thenReturn(Arrays.asList(lastProcessRow, normalProcessRow));
-        when(erpIfService.sendProdOrderToErp(any())).thenReturn(true);
 
         service.deleteProductionOrder(dto);
 
-        ArgumentCaptor<ErpIFProdOrderDto> erpCaptor = ArgumentCaptor.forClass(ErpIFProdOrderDto.class);
-        verify(erpIfService, times(1)).sendProdOrderToErp(erpCaptor.capture());
-        assertThat(erpCaptor.getValue().getMesIfKey()).isEqualTo("ORDER-LAST");
-        assertThat(erpCaptor.getValue().getWorkingTag()).isEqualTo("D");
-        assertThat(erpCaptor.getValue().getWorkOrderSeq()).isEqualTo(501);
-        assertThat(erpCaptor.getValue().getWorkOrderSerl()).isEqualTo(1);
+        ArgumentCaptor<List<ErpIFProdOrderDto>> erpCaptor = listCaptor();
+        verify(erpOutboxService, times(1)).enqueueProdOrders(erpCaptor.capture());
+        assertThat(erpCaptor.getValue()).hasSize(1);
+        ErpIFProdOrderDto erpDto = erpCaptor.getValue().get(0);
+        assertThat(erpDto.getMesIfKey()).isEqualTo("ORDER-LAST");
+        assertThat(erpDto.getWorkingTag()).isEqualTo("D");
+        assertThat(erpDto.getWorkOrderSeq()).isEqualTo(501);
+        assertThat(erpDto.getWorkOrderSerl()).isEqualTo(1);
 
         verify(productionOrderDAO, times(2)).deleteReqProductionOrder(any(ProdOrderDeleteDto.class));
     }
@@ -304,7 +379,8 @@ class EgovProductionOrderServiceImplTest {
     @Test
     void deleteProductionOrder_throwsWhenLastFlagRowMissingErpWorkOrderValues() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdOrderDeleteDto dto = new ProdOrderDeleteDto();
         dto.setProdplanDate("20260805");
@@ -328,14 +404,15 @@ class EgovProductionOrderServiceImplTest {
                 .isInstanceOf(BizException.class)
                 .hasMessageContaining("LOT-NEVER-SYNCED");
 
-        verify(erpIfService, never()).sendProdOrderToErp(any());
+        verify(erpOutboxService, never()).enqueueProdOrders(any());
         verify(productionOrderDAO, never()).deleteReqProductionOrder(any(ProdOrderDeleteDto.class));
     }
 
     @Test
     void deleteProductionOrder_throwsWhenLastFlagRowHasZeroErpWorkOrderValues() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdOrderDeleteDto dto = new ProdOrderDeleteDto();
         dto.setProdplanDate("20260805");
@@ -360,14 +437,16 @@ class EgovProductionOrderServiceImplTest {
                 .isInstanceOf(BizException.class)
                 .hasMessageContaining("LOT-ZERO");
 
-        verify(erpIfService, never()).sendProdOrderToErp(any());
+        verify(erpOutboxService, never()).enqueueProdOrders(any());
         verify(productionOrderDAO, never()).deleteReqProductionOrder(any(ProdOrderDeleteDto.class));
     }
 
     @Test
+    @SuppressWarnings("unchecked")
     void syncErpResult_revertsPlanToPlannedWhenNoOrdersRemain() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdPlanKeyDto plan = bulkPlan("20260805", 1, 1, "DETAIL-1");
 
@@ -378,35 +457,40 @@ class EgovProductionOrderServiceImplTest {
         result.setMesIfKey("ORDER-DELETED");
         when(erpIfService.selectErpResultByMesIfKeys(anyList()))
                 .thenReturn(Collections.singletonList(result));
-        when(productionOrderDAO.updateErpResultByProdorderId(result)).thenReturn(1);
+        when(productionOrderDAO.applyErpResultWork()).thenReturn(1);
 
         ProdPlanKeyDto planKey = new ProdPlanKeyDto();
         planKey.setProdplanDate("20260805");
         planKey.setProdplanSeq(1);
         planKey.setProdworkSeq(1);
-        when(productionOrderDAO.selectProdPlanKeyByProdorderId("ORDER-DELETED")).thenReturn(planKey);
-        when(productionOrderDAO.selectProdorderIdsByPlanKey(planKey)).thenReturn(Collections.emptyList());
+        when(productionOrderDAO.selectEmptiedErpResultPlans()).thenReturn(Collections.singletonList(planKey));
 
         int updated = service.syncErpResult(Collections.singletonList(plan));
 
         assertThat(updated).isEqualTo(1);
 
-        ArgumentCaptor<ProdPlanOrderFlagDto> flagCaptor = ArgumentCaptor.forClass(ProdPlanOrderFlagDto.class);
-        verify(productionOrderDAO).updateProdPlanOrderFlag(flagCaptor.capture());
-        verify(productionOrderDAO).updateProdPlanOrderFlag2(any(ProdPlanOrderFlagDto.class));
-        assertThat(flagCaptor.getValue().getOrderFlag()).isEqualTo("PLANNED");
-        assertThat(flagCaptor.getValue().getProdplanDate()).isEqualTo("20260805");
-
-        ArgumentCaptor<ProdPlanLotNoDto> lotCaptor = ArgumentCaptor.forClass(ProdPlanLotNoDto.class);
-        verify(productionOrderDAO).updateProdPlanLotNo(lotCaptor.capture());
-        verify(productionOrderDAO).updateProdPlanLotNo2(any(ProdPlanLotNoDto.class));
-        assertThat(lotCaptor.getValue().getLotNo()).isEmpty();
+        // 계획의 생산지시 결과가 그대로 반영 대상으로 적재된다
+        ArgumentCaptor<List<ErpIFProdOrderResultDto>> rowsCaptor = ArgumentCaptor.forClass(List.class);
+        verify(productionOrderDAO).insertErpResultWork(eq(0), rowsCaptor.capture());
+        assertThat(rowsCaptor.getValue()).extracting(ErpIFProdOrderResultDto::getMesIfKey)
+                .containsExactly("ORDER-DELETED");
+
+        // 생산지시가 모두 삭제된 계획만 PLANNED / LOT_NO 빈값으로 되돌린다 (ORDER_FLAG, LOT_NO 값은 SQL 계약 테스트에서 확인)
+        ArgumentCaptor<List<ProdPlanKeyDto>> plannedCaptor = ArgumentCaptor.forClass(List.class);
+        verify(productionOrderDAO).updateProdPlansToPlanned(plannedCaptor.capture());
+        assertThat(plannedCaptor.getValue()).hasSize(1);
+        assertThat(plannedCaptor.getValue().get(0).getProdplanDate()).isEqualTo("20260805");
+        assertThat(plannedCaptor.getValue().get(0).getProdplanSeq()).isEqualTo(1);
+        assertThat(plannedCaptor.getValue().get(0).getProdworkSeq()).isEqualTo(1);
+
+        verify(productionOrderDAO).dropErpResultWork();
     }
 
     @Test
     void syncErpResult_keepsPlanOrderedWhenOrdersRemain() throws Exception {
         EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
-                productionOrderDAO, erpIfService, egovConditionalIdService, erpToMesInterfaceService);
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
 
         ProdPlanKeyDto plan = bulkPlan("20260805", 2, 2, "DETAIL-2");
 
@@ -417,19 +501,176 @@ class EgovProductionOrderServiceImplTest {
         result.setMesIfKey("ORDER-A");
         when(erpIfService.selectErpResultByMesIfKeys(anyList()))
                 .thenReturn(Collections.singletonList(result));
+        when(productionOrderDAO.selectEmptiedErpResultPlans()).thenReturn(Collections.emptyList());
 
-        ProdPlanKeyDto planKey = new ProdPlanKeyDto();
-        planKey.setProdplanDate("20260805");
-        planKey.setProdplanSeq(2);
-        planKey.setProdworkSeq(2);
-        when(productionOrderDAO.selectProdPlanKeyByProdorderId("ORDER-A")).thenReturn(planKey);
-        when(productionOrderDAO.selectProdorderIdsByPlanKey(planKey))
-                .thenReturn(Arrays.asList("ORDER-A", "ORDER-B"));
+        when(productionOrderDAO.applyErpResultWork()).thenReturn(1);
 
-        service.syncErpResult(Collections.singletonList(plan));
+        int updated = service.syncErpResult(Collections.singletonList(plan));
 
+        // 결과는 반영되지만 남은 생산지시가 있으므로 계획 상태와 LOT는 그대로 둔다
+        assertThat(updated).isEqualTo(1);
+        verify(productionOrderDAO).insertErpResultWork(0, Collections.singletonList(result));
+        verify(productionOrderDAO, never()).updateProdPlansToPlanned(anyList());
         verify(productionOrderDAO, never()).updateProdPlanOrderFlag(any(ProdPlanOrderFlagDto.class));
         verify(productionOrderDAO, never()).updateProdPlanLotNo(any(ProdPlanLotNoDto.class));
+        verify(productionOrderDAO).dropErpResultWork();
+    }
+
+    @Test
+    void syncErpResultByMesIfKeys_loadsResultsInChunksAndDropsWorkTableOnFailure() throws Exception {
+        EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
+
+        List<ErpIFProdOrderResultDto> results = new ArrayList<>();
+        for (int i = 0; i < 450; i++) {
+            ErpIFProdOrderResultDto r = new ErpIFProdOrderResultDto();
+            r.setMesIfKey("ORDER-" + (i % 300));
+            results.add(r);
+        }
+        when(erpIfService.selectErpResultByMesIfKeys(anyList())).thenReturn(results);
+        when(productionOrderDAO.applyErpResultWork()).thenThrow(new RuntimeException("deadlock"));
+
+        assertThatThrownBy(() -> service.syncErpResultByMesIfKeys(Collections.singletonList("ORDER-0")))
+                .hasMessage("deadlock");
+
+        verify(productionOrderDAO).insertErpResultWork(0, results.subList(0, 200));
+        verify(productionOrderDAO).insertErpResultWork(1, results.subList(200, 400));
+        verify(productionOrderDAO).insertErpResultWork(2, results.subList(400, 450));
+        verify(productionOrderDAO).applyErpResultWork();
+        verify(productionOrderDAO, never()).selectEmptiedErpResultPlans();
+        verify(productionOrderDAO).dropErpResultWork();
+    }
+
+    @Test
+    void resendErpIf_sendsAddsAndDeletesInBatchesSkippingOutboxPendingKeys() throws Exception {
+        EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
+
+        ProdPlanKeyDto plan = bulkPlan("20260805", 3, 3, "DETAIL-3");
+        plan.setOpmanCode("admin");
+
+        ProdOrderRow orderedRow = resendRow("ORDER-A", "O");
+        ProdOrderRow cancelRow = resendRow("ORDER-D", "D");
+        cancelRow.setErpWorkOrderSeq(700);
+        cancelRow.setErpWorkOrderSerl(2);
+        ProdOrderRow pendingRow = resendRow("ORDER-PENDING", "O");
+
+        when(productionOrderDAO.selectProdOrdersByPlanId(any(ProdOrderSearchParam.class)))
+                .thenReturn(Arrays.asList(orderedRow, cancelRow, pendingRow));
+        when(erpOutboxService.selectUnsentMesIfKeys(eq(ErpOutboxType.PROD_ORDER), anyList()))
+                .thenReturn(Collections.singleton("ORDER-PENDING"));
+
+        ErpIfSendResult sent = new ErpIfSendResult();
+        sent.setMesIfKey("ORDER-A");
+        sent.setOutcome(ErpIfSendResult.SENT);
+        ErpIfSendResult failed = new ErpIfSendResult();
+        failed.setMesIfKey("ORDER-D");
+        failed.setOutcome(ErpIfSendResult.FAILED);
+        when(erpIfService.resendProdOrdersToErp(anyList())).thenReturn(Collections.singletonList(sent));
+        when(erpIfService.deleteProdOrdersFromErp(anyList())).thenReturn(Collections.singletonList(failed));
+
+        List<ErpIfSendResult> results = service.resendErpIf(Collections.singletonList(plan));
+
+        assertThat(results).extracting(ErpIfSendResult::getMesIfKey, ErpIfSendResult::getOutcome)
+                .containsExactly(tuple("ORDER-A", "SENT"), tuple("ORDER-D", "FAILED"));
+
+        ArgumentCaptor<List<ErpIFProdOrderDto>> addCaptor = listCaptor();
+        verify(erpIfService).resendProdOrdersToErp(addCaptor.capture());
+        assertThat(addCaptor.getValue()).extracting(ErpIFProdOrderDto::getMesIfKey).containsExactly("ORDER-A");
+        assertThat(addCaptor.getValue().get(0).getWorkingTag()).isEqualTo("A");
+
+        ArgumentCaptor<List<ErpIFProdOrderDto>> deleteCaptor = listCaptor();
+        verify(erpIfService).deleteProdOrdersFromErp(deleteCaptor.capture());
+        assertThat(deleteCaptor.getValue()).hasSize(1);
+        assertThat(deleteCaptor.getValue().get(0).getWorkingTag()).isEqualTo("D");
+        assertThat(deleteCaptor.getValue().get(0).getWorkOrderSeq()).isEqualTo(700);
+
+        verify(erpOutboxService).requeueFailed(ErpOutboxType.PROD_ORDER, Collections.singletonList("ORDER-PENDING"), null);
+    }
+
+    @Test
+    void insertProductionOrders_takesProcessFlagsFromCompiledFlow() throws Exception {
+        EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
+
+        // 화면에서는 두 공정 모두 계획/연동 아님으로 넘어와도 공정흐름 값으로 맞춘다
+        ProdOrderInsertDto first = flowOrder("N", "LOT-1", "P1", 1);
+        ProdOrderInsertDto second = flowOrder("N", "LOT-2", "P2", 2);
+        when(processFlowDefinitionService.getByItems(anyCollection()))
+                .thenReturn(Collections.singletonMap("100", compiledFlow()));
+        when(dailySequenceService.nextId(DailySequence.PROD_ORDER))
+                .thenReturn("ORDER-1", "ORDER-2");
+        when(productionOrderDAO.selectProdOrderWorkSeq(any(ProdOrderInsertDto.class)))
+                .thenReturn(1, 2);
+
+        service.insertProductionOrders(Arrays.asList(first, second));
+
+        ArgumentCaptor<ProdOrderInsertDto> insertCaptor = ArgumentCaptor.forClass(ProdOrderInsertDto.class);
+        verify(productionOrderDAO, times(2)).insertProductionOrder(insertCaptor.capture());
+        assertThat(insertCaptor.getAllValues())
+                .extracting(ProdOrderInsertDto::getPlanFlag, ProdOrderInsertDto::getLastFlag)
+                .containsExactly(tuple("Y", "N"), tuple("N", "Y"));
+
+        ArgumentCaptor<List<ErpIFProdOrderDto>> erpCaptor = listCaptor();
+        verify(erpOutboxService).enqueueProdOrders(erpCaptor.capture());
+        assertThat(erpCaptor.getValue()).extracting(ErpIFProdOrderDto::getMesIfKey).containsExactly("ORDER-2");
+
+        ArgumentCaptor<ProdPlanLotNoDto> lotCaptor = ArgumentCaptor.forClass(ProdPlanLotNoDto.class);
+        verify(productionOrderDAO).updateProdPlanLotNo(lotCaptor.capture());
+        assertThat(lotCaptor.getValue().getLotNo()).isEqualTo("LOT-1");
+    }
+
+    @Test
+    void insertProductionOrders_rejectsProcessOutsideCompiledFlow() throws Exception {
+        EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
+
+        // 순번 2는 P2 공정이므로 P1로 지시할 수 없다
+        ProdOrderInsertDto wrongStep = flowOrder("N", "LOT-1", "P1", 2);
+        when(processFlowDefinitionService.getByItems(anyCollection()))
+                .thenReturn(Collections.singletonMap("100", compiledFlow()));
+
+        assertThatThrownBy(() -> service.insertProductionOrders(Collections.singletonList(wrongStep)))
+                .isInstanceOf(BizException.class)
+                .hasMessageContaining("공정흐름에 없는 공정");
+
+        verify(productionOrderDAO, never()).insertProductionOrder(any(ProdOrderInsertDto.class));
+        verify(erpOutboxService, never()).enqueueProdOrders(any());
+    }
+
+    @Test
+    void selectProdOrdersByPlanId_fillsLastFlagFromCompiledFlow() throws Exception {
+        EgovProductionOrderServiceImpl service = new EgovProductionOrderServiceImpl(
+                productionOrderDAO, erpIfService, egovConditionalIdService, bomSnapshotService, dailySequenceService,
+                erpOutboxService, processFlowDefinitionService);
+
+        ProdOrderRow lastProcess = flowRow("P2", 2);
+        ProdOrderRow normalProcess = flowRow("P1", 1);
+        ProdOrderRow mismatched = flowRow("P9", 1);
+        when(productionOrderDAO.selectProdOrdersByPlanId(any(ProdOrderSearchParam.class)))
+                .thenReturn(Arrays.asList(lastProcess, normalProcess, mismatched));
+        when(processFlowDefinitionService.getByItems(anyCollection()))
+                .thenReturn(Collections.singletonMap("100", compiledFlow()));
+
+        List<ProdOrderRow> rows = service.selectProdOrdersByPlanId(new ProdOrderSearchParam()).getResultList();
+
+        assertThat(rows).extracting(ProdOrderRow::getLastFlag).containsExactly("Y", "N", null);
+    }
+
+    private ProdOrderRow resendRow(String prodorderId, String orderFlag) {
+        ProdOrderRow row = new ProdOrderRow();
+        row.setProdplanDate("20260805");
+        row.setProdplanSeq(3);
+        row.setProdworkSeq(3);
+        row.setProdorderId(prodorderId);
+        row.setOrderFlag(orderFlag);
+        row.setLastFlag("Y");
+        row.setWorkCodeId(10);
+        return row;
     }
 
     private ProdOrderInsertDto order(String planFlag, String lotNo) {
@@ -443,6 +684,43 @@ class EgovProductionOrderServiceImplTest {
         return dto;
     }
 
+    private ProdOrderInsertDto flowOrder(String planFlag, String lotNo, String workCode, int tpr110dSeq) {
+        ProdOrderInsertDto dto = order(planFlag, lotNo);
+        dto.setItemCodeId(100);
+        dto.setWorkCode(workCode);
+        dto.setTpr110dSeq(tpr110dSeq);
+        dto.setOpmanCode("admin");
+        return dto;
+    }
+
+    private ProdOrderRow flowRow(String workCode, int tpr110dSeq) {
+        ProdOrderRow row = new ProdOrderRow();
+        row.setItemCodeId(100);
+        row.setWorkCode(workCode);
+        row.setTpr110dSeq(tpr110dSeq);
+        return row;
+    }
+
+    /** 품목 100의 공정흐름: 1) P1 계획 공정 -> 2) P2 I/F연동 공정 */
+    private static CompiledProcessFlow compiledFlow() {
+        return CompiledProcessFlow.compile(Arrays.asList(
+                flowStep(1, "P1", "Y", "N"),
+                flowStep(2, "P2", "N", "Y")));
+    }
+
+    private static ProcessFlowDefinitionRow flowStep(int seq, String workCode, String planFlag, String lastFlag) {
+        ProcessFlowDefinitionRow row = new ProcessFlowDefinitionRow();
+        row.setProcessFlowId("PF-1");
+        row.setSeq(seq);
+        row.setWorkSeq(1);
+        row.setWorkCode(workCode);
+        row.setPlanFlag(planFlag);
+        row.setLastFlag(lastFlag);
+        row.setErpResultFlag("N");
+        row.setPackingFlag("N");
+        return row;
+    }
+
     private void assertPlanLot(ProdPlanLotNoDto dto) {
         assertThat(dto.getProdplanDate()).isEqualTo("20260724");
         assertThat(dto.getProdplanSeq()).isEqualTo(10);
@@ -498,24 +776,34 @@ class EgovProductionOrderServiceImplTest {
         assertThat(dto.getLotNo()).isEqualTo(lotNo);
     }
 
+    @SuppressWarnings("unchecked")
+    private static ArgumentCaptor<List<ErpIFProdOrderDto>> listCaptor() {
+        return ArgumentCaptor.forClass(List.class);
+    }
+
     private void stubBulkInfrastructure(String... lotNos) throws Exception {
         when(productionOrderDAO.selectProdPlanOrderedCount(any(ProdPlanKeyDto.class)))
                 .thenReturn(0);
 
         final int[] lotIndex = {0};
-        when(egovConditionalIdService.getNextStringId(
+        when(egovConditionalIdService.getNextStringIds(
                 eq("TPR301M"),
                 anyString(),
                 anyString(),
                 anyString(),
                 eq(3),
-                eq('0')
-        )).thenAnswer(invocation -> lotNos[lotIndex[0]++]);
-
-        when(productionOrderDAO.selectProdOrderNextId())
+                eq('0'),
+                anyInt()
+        )).thenAnswer(invocation -> {
+            int count = invocation.getArgument(6);
+            List<String> reserved = Arrays.asList(lotNos).subList(lotIndex[0], lotIndex[0] + count);
+            lotIndex[0] += count;
+            return reserved;
+        });
+
+        when(dailySequenceService.nextId(DailySequence.PROD_ORDER))
                 .thenReturn("ORDER-1", "ORDER-2", "ORDER-3", "ORDER-4");
         when(productionOrderDAO.selectProdOrderWorkSeq(any(ProdOrderInsertDto.class)))
                 .thenReturn(1, 2, 3, 4);
-        when(erpIfService.sendProdOrderBatchToErp(any())).thenReturn(true);
     }
 }
\ No newline at end of file
@@ -0,0 +1,91 @@
+package egovframework.let.production.order.service.impl;
+
+import egovframework.let.erpIf.domain.model.ErpIfKeyCount;
+import egovframework.let.erpIf.domain.repository.ErpIFProdOrderDAO;
+import egovframework.let.erpIf.service.ErpAccessGuard;
+import egovframework.let.production.order.domain.model.ErpIFProdOrderDto;
+import egovframework.let.production.order.domain.model.ErpIfSendResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ErpIFProdOrderServiceImplTest {
+
+    @Mock
+    private ErpIFProdOrderDAO erpIfDao;
+
+    @Mock
+    private DataSource erpDataSource;
+
+    private final ErpAccessGuard erpAccessGuard = new ErpAccessGuard(4, 0, 2, 0, 20, 10, 50, 30, 2);
+
+    @Test
+    @DisplayName("한 문장으로 등록한 키는 SENT, 이미 있던 키는 SKIPPED로 돌려준다")
+    void deleteProdOrdersFromErp_reportsPerKeyOutcome() {
+        ErpIFProdOrderServiceImpl service = new ErpIFProdOrderServiceImpl(erpIfDao, erpDataSource, erpAccessGuard);
+        doAnswer(invocation -> Collections.singletonList(inserted("ORDER-1", "D")))
+                .when(erpIfDao).insertErpIFProdOrderIfAbsent(anyList());
+
+        List<ErpIfSendResult> results = service.deleteProdOrdersFromErp(
+                Arrays.asList(dto("ORDER-1", "D"), dto("ORDER-2", "D"), dto("ORDER-1", "D")));
+
+        assertThat(results).extracting(ErpIfSendResult::getMesIfKey, ErpIfSendResult::getOutcome)
+                .containsExactlyInAnyOrder(
+                        tuple("ORDER-1", ErpIfSendResult.SKIPPED),
+                        tuple("ORDER-1", ErpIfSendResult.SENT),
+                        tuple("ORDER-2", ErpIfSendResult.SKIPPED));
+        verify(erpIfDao, times(1)).insertErpIFProdOrderIfAbsent(anyList());
+    }
+
+    @Test
+    @DisplayName("다건 등록이 실패하면 건별로 다시 보내 실패한 키만 FAILED로 돌려준다")
+    void resendProdOrdersToErp_isolatesFailedRows() {
+        ErpIFProdOrderServiceImpl service = new ErpIFProdOrderServiceImpl(erpIfDao, erpDataSource, erpAccessGuard);
+        doAnswer(invocation -> {
+            List<ErpIFProdOrderDto> rows = invocation.getArgument(0);
+            if (rows.size() > 1 || "ORDER-BAD".equals(rows.get(0).getMesIfKey())) {
+                throw new IllegalStateException("truncation");
+            }
+            return Collections.singletonList(inserted(rows.get(0).getMesIfKey(), "A"));
+        }).when(erpIfDao).insertErpIFProdOrderIfAbsent(anyList());
+
+        List<ErpIfSendResult> results = service.resendProdOrdersToErp(
+                Arrays.asList(dto("ORDER-OK", "A"), dto("ORDER-BAD", "A")));
+
+        assertThat(results).extracting(ErpIfSendResult::getMesIfKey, ErpIfSendResult::getOutcome)
+                .containsExactly(
+                        tuple("ORDER-OK", ErpIfSendResult.SENT),
+                        tuple("ORDER-BAD", ErpIfSendResult.FAILED));
+        assertThat(results.get(1).getMessage()).isEqualTo("truncation");
+    }
+
+    private static ErpIFProdOrderDto dto(String key, String tag) {
+        ErpIFProdOrderDto dto = new ErpIFProdOrderDto();
+        dto.setMesIfKey(key);
+        dto.setWorkingTag(tag);
+        return dto;
+    }
+
+    private static ErpIfKeyCount inserted(String key, String tag) {
+        ErpIfKeyCount row = new ErpIfKeyCount();
+        row.setMesIfKey(key);
+        row.setWorkingTag(tag);
+        row.setCnt(1);
+        return row;
+    }
+}
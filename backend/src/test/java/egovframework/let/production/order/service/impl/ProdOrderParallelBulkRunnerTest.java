@@ -0,0 +1,153 @@
+package egovframework.let.production.order.service.impl;
+
+import egovframework.com.cmm.exception.BizException;
+import egovframework.let.production.order.domain.model.ProdPlanKeyDto;
+import egovframework.let.production.order.domain.model.ProdPlanOrderResult;
+import egovframework.let.production.order.domain.model.ProdPlanRootItemRow;
+import egovframework.let.production.order.domain.repository.ProductionOrderDAO;
+import egovframework.let.production.order.service.EgovProductionOrderService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ProdOrderParallelBulkRunnerTest {
+
+    @Mock
+    private EgovProductionOrderService productionOrderService;
+
+    @Mock
+    private ProductionOrderDAO productionOrderDAO;
+
+    @Test
+    @DisplayName("최상위 품목이 겹치는 계획은 한 묶음으로 실행하고, 실패한 계획이 있어도 나머지 결과를 요청 순서대로 모은다")
+    void bulkCreate_groupsPlansByRootItemAndCollectsPerPlanOutcome() throws Exception {
+        List<Runnable> submitted = new ArrayList<>();
+        Executor executor = task -> {
+            submitted.add(task);
+            task.run();
+        };
+        ProdOrderParallelBulkRunner runner = new ProdOrderParallelBulkRunner(productionOrderService, productionOrderDAO, executor, 60);
+
+        ProdPlanKeyDto first = plan(1, "DETAIL-1");
+        ProdPlanKeyDto second = plan(2, "DETAIL-2");
+        ProdPlanKeyDto third = plan(3, "DETAIL-3");
+
+        when(productionOrderDAO.selectRootItemCodesByPlans(anyList())).thenReturn(Arrays.asList(
+                rootItem(1, 100), rootItem(2, 200), rootItem(3, 300), rootItem(3, 100)));
+
+        doAnswer(invocation -> {
+            ProdPlanKeyDto plan = invocation.getArgument(0);
+            if (plan.getProdplanSeq() == 2) {
+                throw new BizException("공정흐름이 등록되지 않은 품목이 존재합니다.");
+            }
+            return plan.getProdplanSeq() == 1;
+        }).when(productionOrderService).createProductionOrdersForPlan(any(ProdPlanKeyDto.class));
+
+        List<ProdPlanOrderResult> results = runner.bulkCreateProductionOrdersParallel(
+                Arrays.asList(first, second, third, plan(1, "DETAIL-1")));
+
+        assertThat(submitted).hasSize(2);
+        verify(productionOrderService, times(3)).createProductionOrdersForPlan(any(ProdPlanKeyDto.class));
+        assertThat(results)
+                .extracting(ProdPlanOrderResult::getProdplanDetailId, ProdPlanOrderResult::getOutcome)
+                .containsExactly(
+                        tuple("DETAIL-1", ProdPlanOrderResult.ORDERED),
+                        tuple("DETAIL-2", ProdPlanOrderResult.FAILED),
+                        tuple("DETAIL-3", ProdPlanOrderResult.SKIPPED));
+        assertThat(results.get(1).getMessage()).isEqualTo("공정흐름이 등록되지 않은 품목이 존재합니다.");
+        verify(productionOrderDAO, times(1)).selectRootItemCodesByPlans(anyList());
+    }
+
+    @Test
+    @DisplayName("제한 시간이 지나 늦게 시작된 묶음은 계획을 처리하지 않고 NOT_STARTED로 돌려준다")
+    void bulkCreate_returnsNotStartedAndSkipsRemainingPlansAfterDeadline() throws Exception {
+        List<Runnable> pending = new ArrayList<>();
+        ProdOrderParallelBulkRunner runner = new ProdOrderParallelBulkRunner(productionOrderService, productionOrderDAO, pending::add, 1);
+
+        when(productionOrderDAO.selectRootItemCodesByPlans(anyList())).thenReturn(Arrays.asList(
+                rootItem(1, 100), rootItem(2, 200)));
+
+        List<ProdPlanOrderResult> results = runner.bulkCreateProductionOrdersParallel(
+                Arrays.asList(plan(1, "DETAIL-1"), plan(2, "DETAIL-2")));
+
+        assertThat(results)
+                .extracting(ProdPlanOrderResult::getProdplanDetailId, ProdPlanOrderResult::getOutcome)
+                .containsExactly(
+                        tuple("DETAIL-1", ProdPlanOrderResult.NOT_STARTED),
+                        tuple("DETAIL-2", ProdPlanOrderResult.NOT_STARTED));
+
+        pending.forEach(Runnable::run);
+        verify(productionOrderService, never()).createProductionOrdersForPlan(any(ProdPlanKeyDto.class));
+    }
+
+    @Test
+    @DisplayName("제한 시간에 처리 중이던 계획은 TIMEOUT, 같은 묶음에서 그 뒤에 있어 시작하지 못한 계획은 NOT_STARTED로 구분한다")
+    void bulkCreate_separatesInFlightPlansFromNotStartedPlansAfterDeadline() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        List<Thread> workers = new ArrayList<>();
+        Executor executor = task -> {
+            Thread worker = new Thread(task);
+            workers.add(worker);
+            worker.start();
+        };
+        ProdOrderParallelBulkRunner runner = new ProdOrderParallelBulkRunner(productionOrderService, productionOrderDAO, executor, 1);
+
+        when(productionOrderDAO.selectRootItemCodesByPlans(anyList())).thenReturn(Arrays.asList(
+                rootItem(1, 100), rootItem(2, 100)));
+        doAnswer(invocation -> release.await(10, TimeUnit.SECONDS))
+                .when(productionOrderService).createProductionOrdersForPlan(any(ProdPlanKeyDto.class));
+
+        List<ProdPlanOrderResult> results = runner.bulkCreateProductionOrdersParallel(
+                Arrays.asList(plan(1, "DETAIL-1"), plan(2, "DETAIL-2")));
+
+        assertThat(results)
+                .extracting(ProdPlanOrderResult::getProdplanDetailId, ProdPlanOrderResult::getOutcome)
+                .containsExactly(
+                        tuple("DETAIL-1", ProdPlanOrderResult.TIMEOUT),
+                        tuple("DETAIL-2", ProdPlanOrderResult.NOT_STARTED));
+
+        release.countDown();
+        for (Thread worker : workers) {
+            worker.join(10000);
+        }
+        verify(productionOrderService, times(1)).createProductionOrdersForPlan(any(ProdPlanKeyDto.class));
+    }
+
+    private static ProdPlanRootItemRow rootItem(int prodplanSeq, int itemSeq) {
+        ProdPlanRootItemRow row = new ProdPlanRootItemRow();
+        row.setProdplanDate("20261017");
+        row.setProdplanSeq(prodplanSeq);
+        row.setProdworkSeq(1);
+        row.setItemSeq(itemSeq);
+        return row;
+    }
+
+    private static ProdPlanKeyDto plan(int prodplanSeq, String detailId) {
+        ProdPlanKeyDto plan = new ProdPlanKeyDto();
+        plan.setProdplanDate("20261017");
+        plan.setProdplanSeq(prodplanSeq);
+        plan.setProdworkSeq(1);
+        plan.setProdplanDetailId(detailId);
+        return plan;
+    }
+}
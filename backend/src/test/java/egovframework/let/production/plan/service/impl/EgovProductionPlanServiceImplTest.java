@@ -0,0 +1,135 @@
+package egovframework.let.production.plan.service.impl;
+
+import egovframework.let.common.idgen.service.EgovConditionalIdService;
+import egovframework.let.production.plan.domain.model.ProductionPlan;
+import egovframework.let.production.plan.domain.model.ProductionPlanDeleteBlocker;
+import egovframework.let.production.plan.domain.model.ProductionPlanMaster;
+import egovframework.let.production.plan.domain.repository.ProductionPlanDAO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class EgovProductionPlanServiceImplTest {
+
+    @Mock
+    private ProductionPlanDAO productionPlanDAO;
+
+    @Mock
+    private EgovConditionalIdService egovConditionalIdService;
+
+    @InjectMocks
+    private EgovProductionPlanServiceImpl service;
+
+    @Test
+    @DisplayName("지시 완료 계획의 일자 변경은 실적 체크 1회 후 계획 행과 생산지시를 일괄 UPDATE로 전파한다")
+    void updateProductionPlan_cascadesOrderedPlanDatesInSetStatements() throws Exception {
+        List<ProductionPlan> planList = Arrays.asList(plan(1), plan(2), plan(3));
+        when(productionPlanDAO.selectProductionPlanOrderFlag(any())).thenReturn("ORDERED");
+        when(productionPlanDAO.selectProductionResultCountByWorks(planList)).thenReturn(0);
+
+        service.updateProductionPlan(master(), planList, null);
+
+        InOrder order = inOrder(productionPlanDAO);
+        order.verify(productionPlanDAO).selectProductionResultCountByWorks(planList);
+        order.verify(productionPlanDAO).updateProductionPlanDates(planList);
+        order.verify(productionPlanDAO).updateProductionOrdersByPlans(planList);
+        order.verify(productionPlanDAO).updateProductionPlanMaster(any());
+        verify(productionPlanDAO, never()).updateProductionPlan(any());
+    }
+
+    @Test
+    @DisplayName("실적이 등록된 행이 하나라도 있으면 아무 행도 수정하지 않는다")
+    void updateProductionPlan_rejectsWhenAnyRowHasResults() throws Exception {
+        List<ProductionPlan> planList = Arrays.asList(plan(1), plan(2));
+        when(productionPlanDAO.selectProductionPlanOrderFlag(any())).thenReturn("ORDERED");
+        when(productionPlanDAO.selectProductionResultCountByWorks(planList)).thenReturn(1);
+
+        assertThatThrownBy(() -> service.updateProductionPlan(master(), planList, null))
+                .hasMessage("생산실적이 등록된 계획은 계획일을 수정할 수 없습니다.");
+        verify(productionPlanDAO, never()).updateProductionPlanDates(anyList());
+        verify(productionPlanDAO, never()).updateProductionOrdersByPlans(anyList());
+    }
+
+    @Test
+    @DisplayName("일괄 삭제는 삭제 불가 사유를 한 번에 조회하고 나머지 계획만 한 번에 삭제한다")
+    @SuppressWarnings("unchecked")
+    void deleteProductionPlans_validatesOnceAndDeletesTheRest() throws Exception {
+        when(productionPlanDAO.selectProductionPlanDeleteBlockers("000001", Arrays.asList("P1", "P2", "P3", "P4")))
+                .thenReturn(Arrays.asList(
+                        blocker("P2", ProductionPlanDeleteBlocker.ORDERED),
+                        blocker("P4", ProductionPlanDeleteBlocker.NOT_FOUND)));
+
+        Map<String, Object> result = service.deleteProductionPlans(
+                Arrays.asList("P1", "P2", "", "P3", "P1", "P4"), "000001", "admin");
+
+        verify(productionPlanDAO).deleteProductionPlansByPlanIds("000001", Arrays.asList("P1", "P3"));
+        assertThat(result.get("deletedCount")).isEqualTo(2);
+        assertThat(result.get("failedCount")).isEqualTo(3);
+        assertThat((List<Map<String, String>>) result.get("failureDetails"))
+                .extracting(detail -> detail.get("planNo"), detail -> detail.get("reason"))
+                .containsExactly(
+                        tuple("", "계획번호가 없습니다."),
+                        tuple("P2", "생산지시가 등록된 계획은 삭제할 수 없습니다. 먼저 생산지시를 취소해주세요."),
+                        tuple("P4", "삭제할 생산계획을 찾을 수 없습니다."));
+    }
+
+    @Test
+    @DisplayName("단건 삭제도 같은 검증 쿼리로 생산실적 등록 여부를 막는다")
+    void deleteProductionPlan_rejectsPlanWithResults() throws Exception {
+        when(productionPlanDAO.selectProductionPlanDeleteBlockers("000001", Collections.singletonList("P1")))
+                .thenReturn(Collections.singletonList(blocker("P1", ProductionPlanDeleteBlocker.RESULTED)));
+
+        ProductionPlanMaster master = master();
+        master.setProdPlanId("P1");
+
+        assertThatThrownBy(() -> service.deleteProductionPlan(master))
+                .hasMessage("생산실적이 등록된 계획은 삭제할 수 없습니다.");
+        verify(productionPlanDAO, never()).deleteProductionPlanMaster(any());
+    }
+
+    private static ProductionPlanMaster master() {
+        ProductionPlanMaster master = new ProductionPlanMaster();
+        master.setProdPlanId("PLAN-1");
+        master.setPlanDate("20261019");
+        master.setOpmanCode2("admin");
+        return master;
+    }
+
+    private static ProductionPlan plan(int prodworkSeq) {
+        ProductionPlan plan = new ProductionPlan();
+        plan.setProdPlanId("PLAN-1");
+        plan.setProdworkSeq(prodworkSeq);
+        plan.setPlanDate("20261020");
+        plan.setDeliveryDate("20261030");
+        plan.setPlannedQty(BigDecimal.TEN);
+        return plan;
+    }
+
+    private static ProductionPlanDeleteBlocker blocker(String planNo, String blockCode) {
+        ProductionPlanDeleteBlocker blocker = new ProductionPlanDeleteBlocker();
+        blocker.setPlanNo(planNo);
+        blocker.setBlockCode(blockCode);
+        return blocker;
+    }
+}
@@ -1,23 +1,35 @@
 package egovframework.let.production.result.service.impl;
 
+import egovframework.let.common.idgen.service.DailySequence;
+import egovframework.let.common.idgen.service.EgovDailySequenceService;
+import egovframework.let.common.master.domain.model.MasterCustomer;
+import egovframework.let.common.master.domain.model.MasterItem;
+import egovframework.let.common.master.domain.model.MasterProcess;
+import egovframework.let.common.master.domain.model.MasterTable;
+import egovframework.let.common.master.service.MasterDataCacheService;
+import egovframework.let.erpIf.service.ErpOutboxService;
 import egovframework.let.production.result.domain.model.*;
 import egovframework.let.production.result.domain.repository.ProductionResultDAO;
-import egovframework.let.production.result.service.ErpIFProdResultService;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
-import static org.mockito.Mockito.doThrow;
-import static org.mockito.Mockito.inOrder;
-
-import org.mockito.InOrder;
 
 
 @ExtendWith(MockitoExtension.class)
@@ -27,7 +39,13 @@ class EgovProductionResultServiceImplTest {
     private ProductionResultDAO productionResultDAO;
 
     @Mock
-    private ErpIFProdResultService erpIfService;
+    private ErpOutboxService erpOutboxService;
+
+    @Mock
+    private EgovDailySequenceService dailySequenceService;
+
+    @Mock
+    private MasterDataCacheService masterDataCacheService;
 
     private ProdResultErpLinkRow linkRow() {
         ProdResultErpLinkRow row = new ProdResultErpLinkRow();
@@ -45,9 +63,9 @@ class EgovProductionResultServiceImplTest {
     }
 
     @Test
-    void insertProductionResult_sendsAddToErp() throws Exception {
+    void insertProductionResult_enqueuesAddToErpOutbox() throws Exception {
         EgovProductionResultServiceImpl service =
-                new EgovProductionResultServiceImpl(productionResultDAO, erpIfService);
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
 
         ProdResultInsertDto dto = new ProdResultInsertDto();
         dto.setTpr601Id("new-1");
@@ -61,13 +79,13 @@ class EgovProductionResultServiceImplTest {
         dto.setProdStime("2026-07-27 08:00");
         dto.setProdEtime("2026-07-27 09:00");
 
-        when(productionResultDAO.selectProdResultNextId()).thenReturn("PR20260727001");
+        when(dailySequenceService.nextId(DailySequence.PROD_RESULT)).thenReturn("PR20260727001");
         when(productionResultDAO.selectProdSeq(dto)).thenReturn(1);
         when(productionResultDAO.selectProductionResultForErp(dto)).thenReturn(linkRow());
 
         service.insertProductionResult(Collections.singletonList(dto));
 
-        verify(erpIfService).sendProdResultToErp(argThat(ifDto ->
+        verify(erpOutboxService).enqueueProdResults(argThat(list -> list.size() == 1 && list.stream().allMatch(ifDto ->
                 "A".equals(ifDto.getWorkingTag())
                         && "PR20260727001".equals(ifDto.getMesIfKey())
                         && "LOT1".equals(ifDto.getLotNo())
@@ -75,13 +93,13 @@ class EgovProductionResultServiceImplTest {
                         && Integer.valueOf(10).equals(ifDto.getProdQty())
                         && "0800".equals(ifDto.getWorkStartTime())
                         && "0900".equals(ifDto.getWorkEndTime())
-        ));
+        )));
     }
 
     @Test
     void insertProductionResult_erpFailureDoesNotBlockMesSave() throws Exception {
         EgovProductionResultServiceImpl service =
-                new EgovProductionResultServiceImpl(productionResultDAO, erpIfService);
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
 
         ProdResultInsertDto dto = new ProdResultInsertDto();
         dto.setTpr601Id("new-1");
@@ -90,7 +108,7 @@ class EgovProductionResultServiceImplTest {
         dto.setProdworkSeq(1);
         dto.setWorkSeq(1);
 
-        when(productionResultDAO.selectProdResultNextId()).thenReturn("PR20260727001");
+        when(dailySequenceService.nextId(DailySequence.PROD_RESULT)).thenReturn("PR20260727001");
         when(productionResultDAO.selectProdSeq(dto)).thenReturn(1);
         when(productionResultDAO.selectProductionResultForErp(dto))
                 .thenThrow(new RuntimeException("erp db down"));
@@ -99,12 +117,13 @@ class EgovProductionResultServiceImplTest {
                 .doesNotThrowAnyException();
 
         verify(productionResultDAO).insertProductionResult(dto);
+        verify(erpOutboxService).enqueueProdResults(Collections.emptyList());
     }
 
     @Test
-    void updateProductionResult_sendsDeleteThenAddToErp() throws Exception {
+    void updateProductionResult_enqueuesDeleteThenAddToErpOutbox() throws Exception {
         EgovProductionResultServiceImpl service =
-                new EgovProductionResultServiceImpl(productionResultDAO, erpIfService);
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
 
         ProdResultUpdateDto dto = new ProdResultUpdateDto();
         dto.setTpr601Id("PR20260727001");
@@ -123,42 +142,65 @@ class EgovProductionResultServiceImplTest {
 
         service.updateProductionResult(Collections.singletonList(dto));
 
-        InOrder inOrder = inOrder(erpIfService);
-        inOrder.verify(erpIfService).sendProdResultToErp(argThat(d -> "D".equals(d.getWorkingTag())));
-        inOrder.verify(erpIfService).sendProdResultToErp(argThat(d ->
-                "A".equals(d.getWorkingTag())
-                        && Integer.valueOf(20).equals(d.getProdQty())
-                        && "1100".equals(d.getWorkEndTime()) // 새 prodEtime(11:00)을 써야 함 - linkRow의 09:00이 아님
-        ));
+        List<ErpIFProdResultDto> enqueued = captureEnqueued();
+        assertThat(enqueued).hasSize(2);
+        assertThat(enqueued.get(0).getWorkingTag()).isEqualTo("D");
+        assertThat(enqueued.get(1).getWorkingTag()).isEqualTo("A");
+        assertThat(enqueued.get(1).getProdQty()).isEqualTo(20);
+        assertThat(enqueued.get(1).getWorkEndTime()).isEqualTo("1100"); // 새 prodEtime(11:00)을 써야 함 - linkRow의 09:00이 아님
     }
 
     @Test
-    void updateProductionResult_deleteFailureStillSendsAdd() throws Exception {
+    void updateProductionResult_enqueuesAllRowsInOneCallKeepingOrder() throws Exception {
         EgovProductionResultServiceImpl service =
-                new EgovProductionResultServiceImpl(productionResultDAO, erpIfService);
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
+
+        ProdResultUpdateDto first = new ProdResultUpdateDto();
+        first.setTpr601Id("PR20260727001");
+        first.setProdQty(20);
+        ProdResultUpdateDto second = new ProdResultUpdateDto();
+        second.setTpr601Id("PR20260727002");
+        second.setProdQty(30);
+
+        ProdResultErpLinkRow secondRow = linkRow();
+        secondRow.setTpr601Id("PR20260727002");
+        when(productionResultDAO.selectProductionResultForErp(first)).thenReturn(linkRow());
+        when(productionResultDAO.selectProductionResultForErp(second)).thenReturn(secondRow);
+
+        service.updateProductionResult(Arrays.asList(first, second));
+
+        List<ErpIFProdResultDto> enqueued = captureEnqueued();
+        assertThat(enqueued).extracting(ErpIFProdResultDto::getWorkingTag).containsExactly("D", "A", "D", "A");
+        assertThat(enqueued).extracting(ErpIFProdResultDto::getMesIfKey).containsExactly(
+                "PR20260727001", "PR20260727001", "PR20260727002", "PR20260727002");
+    }
 
-        ProdResultUpdateDto dto = new ProdResultUpdateDto();
+    @Test
+    void deleteProductionResult_enqueuesDeleteToErpOutbox() throws Exception {
+        EgovProductionResultServiceImpl service =
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
+
+        ProdResultDeleteDto dto = new ProdResultDeleteDto();
         dto.setTpr601Id("PR20260727001");
         dto.setProdplanDate("20260727");
         dto.setProdplanSeq(1);
         dto.setProdworkSeq(1);
         dto.setWorkSeq(1);
         dto.setProdSeq(1);
-        dto.setProdQty(20);
 
         when(productionResultDAO.selectProductionResultForErp(dto)).thenReturn(linkRow());
-        doThrow(new RuntimeException("erp down"))
-                .when(erpIfService).sendProdResultToErp(argThat(d -> "D".equals(d.getWorkingTag())));
 
-        service.updateProductionResult(Collections.singletonList(dto));
+        service.deleteProductionResult(dto);
 
-        verify(erpIfService).sendProdResultToErp(argThat(d -> "A".equals(d.getWorkingTag())));
+        verify(erpOutboxService).enqueueProdResults(argThat(list -> list.size() == 1
+                && "D".equals(list.get(0).getWorkingTag()) && "PR20260727001".equals(list.get(0).getMesIfKey())));
+        verify(productionResultDAO).deleteProductionResult(dto);
     }
 
     @Test
-    void deleteProductionResult_sendsDeleteToErp() throws Exception {
+    void deleteProductionResult_erpFailureDoesNotBlockMesDelete() throws Exception {
         EgovProductionResultServiceImpl service =
-                new EgovProductionResultServiceImpl(productionResultDAO, erpIfService);
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
 
         ProdResultDeleteDto dto = new ProdResultDeleteDto();
         dto.setTpr601Id("PR20260727001");
@@ -168,33 +210,185 @@ class EgovProductionResultServiceImplTest {
         dto.setWorkSeq(1);
         dto.setProdSeq(1);
 
-        when(productionResultDAO.selectProductionResultForErp(dto)).thenReturn(linkRow());
+        when(productionResultDAO.selectProductionResultForErp(dto))
+                .thenThrow(new RuntimeException("erp db down"));
 
-        service.deleteProductionResult(dto);
+        assertThatCode(() -> service.deleteProductionResult(dto)).doesNotThrowAnyException();
 
-        verify(erpIfService).sendProdResultToErp(argThat(d ->
-                "D".equals(d.getWorkingTag()) && "PR20260727001".equals(d.getMesIfKey())));
         verify(productionResultDAO).deleteProductionResult(dto);
+        verify(erpOutboxService, never()).enqueueProdResults(argThat(list -> !list.isEmpty()));
     }
 
     @Test
-    void deleteProductionResult_erpFailureDoesNotBlockMesDelete() throws Exception {
+    @SuppressWarnings("unchecked")
+    void registerProductionResults_allocatesIdsAndSeqsOnceAndWritesInBatches() throws Exception {
         EgovProductionResultServiceImpl service =
-                new EgovProductionResultServiceImpl(productionResultDAO, erpIfService);
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
+
+        ProdResultInsertDto first = newResult("new-1");
+        first.setWorkerCodes(Arrays.asList("W1", "W2"));
+        first.setBadDetails(Arrays.asList(bad("Q1", 1), bad("Q2", 0), bad("Q1", 2)));
+        ProdResultInsertDto second = newResult("new-2");
+        ProdResultInsertDto existing = newResult("PR20260727000");
+
+        ProdResultBaseDetailDto maxSeq = new ProdResultBaseDetailDto();
+        maxSeq.setProdplanDate("20260727");
+        maxSeq.setProdplanSeq(1);
+        maxSeq.setProdworkSeq(1);
+        maxSeq.setWorkSeq(1);
+        maxSeq.setProdSeq(3);
+
+        ProdResultErpLinkRow secondRow = linkRow();
+        secondRow.setTpr601Id("PR20260727002");
+
+        when(dailySequenceService.nextIds(DailySequence.PROD_RESULT, 2))
+                .thenReturn(Arrays.asList("PR20260727001", "PR20260727002"));
+        when(dailySequenceService.nextIds(DailySequence.PROD_RESULT_WORKER, 2))
+                .thenReturn(Arrays.asList("PW20260727001", "PW20260727002"));
+        when(dailySequenceService.nextIds(DailySequence.PROD_RESULT_BAD, 1))
+                .thenReturn(Collections.singletonList("PB20260727001"));
+        when(productionResultDAO.selectMaxProdSeqs(argThat(keys -> keys.size() == 1)))
+                .thenReturn(Collections.singletonList(maxSeq));
+        when(productionResultDAO.selectProductionResultsForErp(Arrays.asList("PR20260727001", "PR20260727002")))
+                .thenReturn(Arrays.asList(linkRow(), secondRow));
+
+        String erpFailReason = service.registerProductionResults(Arrays.asList(first, existing, second));
+
+        assertThat(erpFailReason).isNull();
+        assertThat(first.getTpr601Id()).isEqualTo("PR20260727001");
+        assertThat(first.getProdSeq()).isEqualTo(4);
+        assertThat(second.getProdSeq()).isEqualTo(5);
+        verify(productionResultDAO).insertProductionResults(Arrays.asList(first, second));
+
+        ArgumentCaptor<List<ProdResultWorkerDto>> workers = ArgumentCaptor.forClass(List.class);
+        verify(productionResultDAO).insertProductionResultWorkers(workers.capture());
+        assertThat(workers.getValue())
+                .extracting(ProdResultWorkerDto::getTpr601wId, ProdResultWorkerDto::getWorkerSeq, ProdResultWorkerDto::getProdSeq)
+                .containsExactly(tuple("PW20260727001", 1, 4), tuple("PW20260727002", 2, 4));
+
+        ArgumentCaptor<List<ProdResultBadDetailDto>> bads = ArgumentCaptor.forClass(List.class);
+        verify(productionResultDAO).insertBadDetails(bads.capture());
+        assertThat(bads.getValue())
+                .extracting(ProdResultBadDetailDto::getTpr605Id, ProdResultBadDetailDto::getQcCode,
+                        ProdResultBadDetailDto::getQcQty, ProdResultBadDetailDto::getBadSeq)
+                .containsExactly(tuple("PB20260727001", "Q1", 3, 1));
+
+        assertThat(captureEnqueued()).extracting(ErpIFProdResultDto::getMesIfKey)
+                .containsExactly("PR20260727001", "PR20260727002");
+        verify(productionResultDAO, never()).selectProductionResultForErp(any());
+    }
 
-        ProdResultDeleteDto dto = new ProdResultDeleteDto();
+    @Test
+    @SuppressWarnings("unchecked")
+    void updateProductionResult_diffsBadDetailsByQcCode() throws Exception {
+        EgovProductionResultServiceImpl service =
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
+
+        ProdResultUpdateDto dto = new ProdResultUpdateDto();
         dto.setTpr601Id("PR20260727001");
         dto.setProdplanDate("20260727");
         dto.setProdplanSeq(1);
         dto.setProdworkSeq(1);
         dto.setWorkSeq(1);
         dto.setProdSeq(1);
+        dto.setBadDetails(Arrays.asList(bad("Q1", 1), bad("Q2", 4), bad("Q4", 2)));
 
-        when(productionResultDAO.selectProductionResultForErp(dto))
-                .thenThrow(new RuntimeException("erp db down"));
+        ProdResultBadDetailDto unchanged = existingBad("Q1", 1, 1);
+        ProdResultBadDetailDto changed = existingBad("Q2", 3, 2);
+        ProdResultBadDetailDto removed = existingBad("Q3", 5, 3);
 
-        assertThatCode(() -> service.deleteProductionResult(dto)).doesNotThrowAnyException();
+        when(productionResultDAO.selectProductionResultForErp(dto)).thenReturn(linkRow());
+        when(productionResultDAO.selectBadDetailRows(dto)).thenReturn(Arrays.asList(unchanged, changed, removed));
+        when(dailySequenceService.nextIds(DailySequence.PROD_RESULT_BAD, 1))
+                .thenReturn(Collections.singletonList("PB20260727009"));
 
-        verify(productionResultDAO).deleteProductionResult(dto);
+        service.updateProductionResult(Collections.singletonList(dto));
+
+        verify(productionResultDAO, never()).deleteBadDetails(any());
+        verify(productionResultDAO).deleteBadDetailRows(Collections.singletonList(removed));
+        verify(productionResultDAO).updateBadDetails(Collections.singletonList(changed));
+        assertThat(changed.getQcQty()).isEqualTo(4);
+
+        ArgumentCaptor<List<ProdResultBadDetailDto>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(productionResultDAO).insertBadDetails(inserted.capture());
+        assertThat(inserted.getValue())
+                .extracting(ProdResultBadDetailDto::getTpr605Id, ProdResultBadDetailDto::getQcCode,
+                        ProdResultBadDetailDto::getBadSeq)
+                .containsExactly(tuple("PB20260727009", "Q4", 4));
+    }
+
+    @Test
+    void selectProductionOrderList_fillsMasterNamesFromCache() throws Exception {
+        EgovProductionResultServiceImpl service =
+                new EgovProductionResultServiceImpl(productionResultDAO, erpOutboxService, dailySequenceService, masterDataCacheService);
+
+        ProdResultSearchDto search = new ProdResultSearchDto();
+        ProdResultOrderRow row = new ProdResultOrderRow();
+        row.setCustomerCode("501");
+        row.setFactoryCode("000001");
+        row.setWorkCode("P10");
+        row.setItemCodeId("100");
+        row.setProdCodeId("200");
+        row.setEquipSysCd("EQ9");
+
+        when(productionResultDAO.selectProductionOrderList(search)).thenReturn(Collections.singletonList(row));
+        when(productionResultDAO.selectProductionOrderListCount(search)).thenReturn(1);
+        when(masterDataCacheService.getAll(any(), any())).thenReturn(Collections.emptyMap());
+        when(masterDataCacheService.getAll(MasterTable.CUSTOMER, Collections.singletonList("501")))
+                .thenReturn(Collections.singletonMap("501", new MasterCustomer("501", "고객사")));
+        Map<String, MasterItem> items = new HashMap<>();
+        items.put("100", new MasterItem("100", "ITM100", "반제품", "S1", "1", "EA"));
+        items.put("200", new MasterItem("200", "PRD200", "완제품", "S2", "2", "EA"));
+        when(masterDataCacheService.getAll(MasterTable.ITEM, Arrays.asList("100", "200"))).thenReturn(items);
+        // 공정은 공장코드 + 공정코드로 찾는다 (다른 공장의 같은 공정코드는 쓰지 않음)
+        Map<String, MasterProcess> processes = new HashMap<>();
+        processes.put("000002|P10", new MasterProcess("000002", "P10", "다른공장 절단", null, "N"));
+        processes.put("000001|P10", new MasterProcess("000001", "P10", "절단", "10", "N"));
+        when(masterDataCacheService.getAll(MasterTable.PROCESS, Collections.singletonList("000001|P10")))
+                .thenReturn(processes);
+
+        service.selectProductionOrderList(search);
+
+        assertThat(row.getCustomerName()).isEqualTo("고객사");
+        assertThat(row.getItemCode()).isEqualTo("ITM100");
+        assertThat(row.getItemName()).isEqualTo("반제품");
+        assertThat(row.getProdCode()).isEqualTo("PRD200");
+        assertThat(row.getProdSpec()).isEqualTo("S2");
+        assertThat(row.getWorkName()).isEqualTo("절단");
+        // 캐시에 없는 설비/작업장은 기존 조인과 같이 빈 값/null
+        assertThat(row.getEquipSysCdNm()).isEmpty();
+        assertThat(row.getWorkcenterName()).isNull();
+    }
+
+    private static ProdResultInsertDto newResult(String tpr601Id) {
+        ProdResultInsertDto dto = new ProdResultInsertDto();
+        dto.setTpr601Id(tpr601Id);
+        dto.setProdplanDate("20260727");
+        dto.setProdplanSeq(1);
+        dto.setProdworkSeq(1);
+        dto.setWorkSeq(1);
+        dto.setProdQty(10);
+        return dto;
+    }
+
+    private static ProdResultBadDetailDto bad(String qcCode, int qcQty) {
+        ProdResultBadDetailDto dto = new ProdResultBadDetailDto();
+        dto.setQcCode(qcCode);
+        dto.setQcQty(qcQty);
+        return dto;
+    }
+
+    private static ProdResultBadDetailDto existingBad(String qcCode, int qcQty, int badSeq) {
+        ProdResultBadDetailDto dto = bad(qcCode, qcQty);
+        dto.setBadSeq(badSeq);
+        dto.setTpr605Id("PB2026072600" + badSeq);
+        return dto;
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ErpIFProdResultDto> captureEnqueued() throws Exception {
+        ArgumentCaptor<List<ErpIFProdResultDto>> captor = ArgumentCaptor.forClass(List.class);
+        verify(erpOutboxService).enqueueProdResults(captor.capture());
+        return captor.getValue();
     }
 }
\ No newline at end of file
@@ -1,6 +1,7 @@
 package egovframework.let.production.result.service.impl;
 
 import egovframework.let.erpIf.domain.repository.ErpIFProdResultDAO;
+import egovframework.let.erpIf.service.ErpAccessGuard;
 import egovframework.let.production.result.domain.model.ErpIFProdResultDto;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,9 +19,11 @@ class ErpIFProdResultServiceImplTest {
     @Mock
     private ErpIFProdResultDAO erpIfDao;
 
+    private final ErpAccessGuard erpAccessGuard = new ErpAccessGuard(4, 0, 2, 0, 20, 10, 50, 30, 2);
+
     @Test
     void sendProdResultToErp_insertsAndReturnsTrue() {
-        ErpIFProdResultServiceImpl service = new ErpIFProdResultServiceImpl(erpIfDao);
+        ErpIFProdResultServiceImpl service = new ErpIFProdResultServiceImpl(erpIfDao, erpAccessGuard);
         ErpIFProdResultDto dto = new ErpIFProdResultDto();
         dto.setMesIfKey("PR20260727001");
 
@@ -32,7 +35,7 @@ class ErpIFProdResultServiceImplTest {
 
     @Test
     void sendProdResultToErp_daoExceptionReturnsFalseWithoutThrowing() {
-        ErpIFProdResultServiceImpl service = new ErpIFProdResultServiceImpl(erpIfDao);
+        ErpIFProdResultServiceImpl service = new ErpIFProdResultServiceImpl(erpIfDao, erpAccessGuard);
         ErpIFProdResultDto dto = new ErpIFProdResultDto();
         dto.setMesIfKey("PR20260727002");
 
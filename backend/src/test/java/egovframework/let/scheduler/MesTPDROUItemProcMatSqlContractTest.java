@@ -28,6 +28,15 @@ public class MesTPDROUItemProcMatSqlContractTest {
         assertThat(xml).contains("OPTION (MAXRECURSION 0)");
     }
 
+    @Test
+    public void selectTreeVersionAggregatesCountAndLastDateTime() throws Exception {
+        String xml = mapperXml();
+
+        assertThat(xml).contains("<select id=\"selectTPDROUItemProcMatTreeVersion\"");
+        assertThat(xml).contains("SELECT COUNT(*) AS rowCount,");
+        assertThat(xml).contains("CONVERT(VARCHAR(23), MAX(LAST_DATE_TIME), 121) AS lastDateTime");
+    }
+
     @Test
     public void deleteByItemSeqsUsesForeachInClause() throws Exception {
         String xml = mapperXml();
@@ -45,4 +54,23 @@ public class MesTPDROUItemProcMatSqlContractTest {
         assertThat(xml).contains("#{WorkCenterSeq}");
         assertThat(xml).contains("WORKCENTER_SEQ = #{WorkCenterSeq}");
     }
-}
\ No newline at end of file
+
+    @Test
+    public void mergeChunkUsesPrimaryKeyAndReturnsAction() throws Exception {
+        String xml = mapperXml();
+
+        assertThat(xml).contains("<select id=\"mergeMesTPDROUItemProcMats\" parameterType=\"list\" resultType=\"string\" flushCache=\"true\" useCache=\"false\">");
+        assertThat(xml).contains("MERGE TCO501 WITH (HOLDLOCK) AS TARGET");
+        assertThat(xml).contains("#{item.WorkCenterSeq}");
+        assertThat(xml).contains("OUTPUT $action;");
+    }
+
+    @Test
+    public void mergeAndUpdateSkipRowsWithUnchangedHash() throws Exception {
+        String xml = mapperXml();
+
+        assertThat(xml).contains("WHEN MATCHED AND (TARGET.ERP_ROW_HASH IS NULL OR TARGET.ERP_ROW_HASH &lt;&gt; SOURCE.ERP_ROW_HASH) THEN");
+        assertThat(xml).contains("ERP_ROW_HASH = SOURCE.ERP_ROW_HASH");
+        assertThat(xml).contains("AND (ERP_ROW_HASH IS NULL OR ERP_ROW_HASH &lt;&gt; #{RowHash})");
+    }
+}
@@ -0,0 +1,62 @@
+package egovframework.let.scheduler.service.impl;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Timestamp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ErpExtractWindowTest {
+
+    @Test
+    @DisplayName("날짜 범위는 LastDateTime을 가공하지 않고 종료일 다음날 0시 미만으로 조회한다")
+    void ofDates_usesSargableHalfOpenRange() {
+        ErpExtractWindow window = ErpExtractWindow.ofDates("2026-10-01", "2026-10-17");
+
+        assertThat(window.isIncremental()).isFalse();
+        assertThat(window.predicate("ItemSeq")).isEqualTo("(LastDateTime >= ? AND LastDateTime < ?)");
+        assertThat(window.params("ItemSeq")).containsExactly(
+                Timestamp.valueOf("2026-10-01 00:00:00"),
+                Timestamp.valueOf("2026-10-18 00:00:00"));
+    }
+
+    @Test
+    @DisplayName("증분 구간은 기준 시각 이후 또는 같은 시각의 더 큰 키만 조회한다")
+    void after_usesKeysetPredicate() {
+        ErpExtractWindow window = ErpExtractWindow.after("2026-10-17 09:30:00.123", "1500");
+
+        assertThat(window.isIncremental()).isTrue();
+        assertThat(window.predicate("EmpSeq"))
+                .isEqualTo("(LastDateTime > ? OR (LastDateTime = ? AND EmpSeq > ?))");
+        assertThat(window.params("EmpSeq", 3031001)).containsExactly(
+                3031001,
+                Timestamp.valueOf("2026-10-17 09:30:00.123"),
+                Timestamp.valueOf("2026-10-17 09:30:00.123"),
+                1500L);
+    }
+
+    @Test
+    @DisplayName("키 비교를 하지 않는 뷰는 기준 시각 행을 다시 포함하여 조회한다")
+    void after_withoutKeyColumn_includesWatermarkRows() {
+        ErpExtractWindow window = ErpExtractWindow.after("2026-10-17 09:30:00.123", null);
+
+        assertThat(window.predicate(null)).isEqualTo("(LastDateTime >= ?)");
+        assertThat(window.params(null)).containsExactly(Timestamp.valueOf("2026-10-17 09:30:00.123"));
+        assertThat(window.lowerBound()).isEqualTo("2026-10-17 09:30:00.123");
+    }
+
+    @Test
+    @DisplayName("겹침 구간을 지정하면 기준 시각 N분 전부터 다시 읽고, 그 구간의 행만으로는 기준점을 되돌리지 않는다")
+    void after_withOverlap_rereadsWindowBelowWatermark() {
+        ErpExtractWindow window = ErpExtractWindow.after("2026-10-17 09:30:00.123", "1500", 5);
+
+        assertThat(window.predicate("EmpSeq")).isEqualTo("(LastDateTime >= ?)");
+        assertThat(window.params("EmpSeq")).containsExactly(Timestamp.valueOf("2026-10-17 09:25:00.123"));
+
+        assertThat(window.isPastWatermark(Timestamp.valueOf("2026-10-17 09:28:00"), 9000L)).isFalse();
+        assertThat(window.isPastWatermark(Timestamp.valueOf("2026-10-17 09:30:00.123"), 1500L)).isFalse();
+        assertThat(window.isPastWatermark(Timestamp.valueOf("2026-10-17 09:30:00.123"), 1501L)).isTrue();
+        assertThat(window.isPastWatermark(Timestamp.valueOf("2026-10-17 09:31:00"), null)).isTrue();
+    }
+}
@@ -1,5 +1,6 @@
 package egovframework.let.scheduler.service.impl;
 
+import egovframework.let.basedata.bom.service.BomGraphService;
 import egovframework.let.scheduler.domain.model.ErpProductionRequest;
 import egovframework.let.scheduler.domain.model.ErpTPDROUItemProcMat;
 import egovframework.let.scheduler.domain.repository.MesProdReqInterfaceDAO;
@@ -12,23 +13,32 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
 import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
 import org.springframework.jdbc.core.RowMapper;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
+import java.sql.ResultSet;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyMap;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
@@ -60,32 +70,96 @@ class ErpToMesInterfaceServiceImplTest {
     @Test
     @DisplayName("생산의뢰 연동은 ERP Remark를 MES BIGO로 전달한다")
     void syncProductionRequests_keepsRemarkForMesBigo() throws Exception {
-        ErpProductionRequest req = new ErpProductionRequest();
-        req.setProdReqNo("PR-1001");
-        req.setProdReqSeq(1);
-        req.setSerl(1);
-        req.setReqDate("20260608");
-        req.setCustSeq(10);
-        req.setDeptSeq(11);
-        req.setEmpSeq(12);
-        req.setItemSeq(20);
-        req.setItemNo("A100");
-        req.setItemName("품목A");
-        req.setSpec("SPEC");
-        req.setUnitSeq(1);
-        req.setQty(BigDecimal.valueOf(3));
-        req.setEndDate("20260610");
-        req.setDelvDate("20260612");
-        req.setRemark("특별지시");
-        when(erpJdbcTemplate.query(anyString(), any(RowMapper.class), anyString(), anyString(), anyString(), anyString(), anyString(), anyString()))
-                .thenReturn(Collections.singletonList(req));
-        when(mesProdReqInterfaceDAO.selectMesProdReqCount(req)).thenReturn(0);
+        givenErpProdReqRows(prodReqRow("PR-1001", "특별지시"));
+        when(mesProdReqInterfaceDAO.mergeMesProdReqs(anyList())).thenReturn(Collections.singletonList("INSERT"));
+
+        service.syncProductionRequests("2026-06-01", "2026-06-30");
+
+        ArgumentCaptor<List<ErpProductionRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mesProdReqInterfaceDAO).mergeMesProdReqs(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        assertThat(captor.getValue().get(0).getProdReqNo()).isEqualTo("PR-1001");
+        assertThat(captor.getValue().get(0).getRemark()).isEqualTo("특별지시");
+        verify(mesProdReqInterfaceDAO, never()).insertMesProdReq(any());
+    }
+
+    @Test
+    @DisplayName("생산의뢰 반영 내용 해시는 내용이 같으면 같고 비고가 바뀌면 달라진다")
+    void syncProductionRequests_attachesContentHashForNoOpSkip() throws Exception {
+        givenErpProdReqRows(prodReqRow("PR-1003", "원본"), prodReqRow("PR-1003", "원본"), prodReqRow("PR-1003", "변경"));
+        when(mesProdReqInterfaceDAO.mergeMesProdReqs(anyList())).thenReturn(Collections.emptyList());
+
+        service.syncProductionRequests("2026-06-01", "2026-06-30");
+
+        ArgumentCaptor<List<ErpProductionRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mesProdReqInterfaceDAO).mergeMesProdReqs(captor.capture());
+        List<ErpProductionRequest> rows = captor.getValue();
+        assertThat(rows.get(0).getRowHash()).hasSize(32).isEqualTo(rows.get(1).getRowHash());
+        assertThat(rows.get(2).getRowHash()).isNotEqualTo(rows.get(0).getRowHash());
+    }
+
+    @Test
+    @DisplayName("생산의뢰 일괄 반영이 실패하면 행 단위 등록으로 재처리한다")
+    void syncProductionRequests_fallsBackToRowUpsertWhenMergeFails() throws Exception {
+        givenErpProdReqRows(prodReqRow("PR-1002", "재처리"));
+        when(mesProdReqInterfaceDAO.mergeMesProdReqs(anyList())).thenThrow(new RuntimeException("merge failed"));
+        when(mesProdReqInterfaceDAO.selectMesProdReqCount(any())).thenReturn(0);
 
         service.syncProductionRequests("2026-06-01", "2026-06-30");
 
         ArgumentCaptor<ErpProductionRequest> captor = ArgumentCaptor.forClass(ErpProductionRequest.class);
         verify(mesProdReqInterfaceDAO).insertMesProdReq(captor.capture());
-        assertThat(captor.getValue().getRemark()).isEqualTo("특별지시");
+        assertThat(captor.getValue().getRemark()).isEqualTo("재처리");
+    }
+
+    @Test
+    @DisplayName("생산의뢰 연동은 ERP 조회를 스트리밍하며 청크 단위로 MES에 반영한다")
+    void syncProductionRequests_streamsRowsInChunks() throws Exception {
+        int chunkSize = MesBulkUpsertSupport.chunkSize(19);
+        ResultSet[] rows = new ResultSet[chunkSize + 1];
+        for (int i = 0; i < rows.length; i++) {
+            rows[i] = prodReqRow("PR-" + i, null);
+        }
+        givenErpProdReqRows(rows);
+        when(mesProdReqInterfaceDAO.mergeMesProdReqs(anyList())).thenReturn(Collections.emptyList());
+
+        service.syncProductionRequests("2026-06-01", "2026-06-30");
+
+        ArgumentCaptor<List<ErpProductionRequest>> captor = ArgumentCaptor.forClass(List.class);
+        verify(mesProdReqInterfaceDAO, times(2)).mergeMesProdReqs(captor.capture());
+        assertThat(captor.getAllValues().get(0)).hasSize(chunkSize);
+        assertThat(captor.getAllValues().get(1)).hasSize(1);
+        assertThat(captor.getAllValues().get(1).get(0).getProdReqNo()).isEqualTo("PR-" + chunkSize);
+    }
+
+    @Test
+    @DisplayName("ERP 조회가 실패하면 연동도 실패로 종료한다")
+    void syncProductionRequests_propagatesErpReadFailure() {
+        doThrow(new DataAccessResourceFailureException("ERP 연결 실패"))
+                .when(erpJdbcTemplate).query(anyString(), any(RowCallbackHandler.class),
+                        anyString(), anyString(), anyString(), anyString(), anyString(), anyString());
+
+        assertThatThrownBy(() -> service.syncProductionRequests("2026-06-01", "2026-06-30"))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+        verify(mesProdReqInterfaceDAO, never()).mergeMesProdReqs(anyList());
+    }
+
+    private ResultSet prodReqRow(String prodReqNo, String remark) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        lenient().when(rs.getString("ProdReqNo")).thenReturn(prodReqNo);
+        lenient().when(rs.getString("Remark")).thenReturn(remark);
+        return rs;
+    }
+
+    private void givenErpProdReqRows(ResultSet... rows) {
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet row : rows) {
+                handler.processRow(row);
+            }
+            return null;
+        }).when(erpJdbcTemplate).query(anyString(), any(RowCallbackHandler.class),
+                anyString(), anyString(), anyString(), anyString(), anyString(), anyString());
     }
 
     @Test
@@ -136,6 +210,20 @@ class ErpToMesInterfaceServiceImplTest {
         verify(mesTPDROUItemProcMatInterfaceDAO, never()).selectTPDROUItemProcMatTreeItemSeqs(anyInt());
     }
 
+    @Test
+    @DisplayName("재동기화는 다시 적재한 ITEM_SEQ만 BOM 그래프에 변경 통지한다")
+    void resyncTPDROUItemProcMatByRootItem_notifiesBomGraphOfReloadedItems() throws Exception {
+        BomGraphService bomGraphService = mock(BomGraphService.class);
+        ReflectionTestUtils.setField(service, "bomGraphService", bomGraphService);
+        when(erpJdbcTemplate.query(anyString(), any(RowMapper.class), eq(100)))
+                .thenReturn(Arrays.asList(erpRow(100, 20), erpRow(20, 0)));
+
+        service.resyncTPDROUItemProcMatByRootItem(100);
+
+        verify(bomGraphService).itemsChanged(Arrays.asList(100, 20));
+        verify(bomGraphService, never()).invalidate();
+    }
+
     @Test
     @DisplayName("재동기화 메서드는 delete가 롤백되도록 트랜잭션으로 묶여 있다")
     void resyncTPDROUItemProcMatByRootItem_isTransactional() throws Exception {
@@ -0,0 +1,55 @@
+package egovframework.let.scheduler.service.impl;
+
+import egovframework.let.scheduler.domain.model.ErpSyncResult;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MesBulkUpsertSupportTest {
+
+    @Test
+    @DisplayName("MERGE OUTPUT에 나오지 않은 기존 행은 신규/변경과 구분하여 변경없음으로 집계한다")
+    void upsert_countsMatchedButUnchangedRowsSeparately() {
+        ErpSyncResult result = new ErpSyncResult("품목정보");
+        List<String> rows = Arrays.asList("A", "B", "C", "D");
+
+        MesBulkUpsertSupport.upsert(rows, 10, result,
+                chunk -> Arrays.asList(MesBulkUpsertSupport.ACTION_INSERT, MesBulkUpsertSupport.ACTION_UPDATE),
+                row -> { throw new IllegalStateException("행 단위 반영은 호출되지 않아야 합니다."); },
+                row -> row);
+
+        assertThat(result.getTotalCount()).isEqualTo(4);
+        assertThat(result.getInsertCount()).isEqualTo(1);
+        assertThat(result.getUpdateCount()).isEqualTo(1);
+        assertThat(result.getUnchangedCount()).isEqualTo(2);
+        assertThat(result.getErrorCount()).isZero();
+    }
+
+    @Test
+    @DisplayName("청크 반영이 실패하면 행 단위 처리 구분대로 신규/변경/변경없음/오류를 집계한다")
+    void upsert_fallsBackToRowsAndCountsEachAction() {
+        ErpSyncResult result = new ErpSyncResult("거래처정보");
+        List<String> rows = Arrays.asList(
+                MesBulkUpsertSupport.ACTION_INSERT, MesBulkUpsertSupport.ACTION_UPDATE,
+                MesBulkUpsertSupport.ACTION_UNCHANGED, "ERROR");
+
+        MesBulkUpsertSupport.upsert(rows, 10, result,
+                chunk -> { throw new IllegalStateException("MERGE 실패"); },
+                row -> {
+                    if ("ERROR".equals(row)) throw new IllegalStateException("행 반영 실패");
+                    return row;
+                },
+                row -> row);
+
+        assertThat(result.getInsertCount()).isEqualTo(1);
+        assertThat(result.getUpdateCount()).isEqualTo(1);
+        assertThat(result.getUnchangedCount()).isEqualTo(1);
+        assertThat(result.getErrorCount()).isEqualTo(1);
+        assertThat(result.toString()).contains("변경없음: 1건");
+        assertThat(result.getLastError()).hasMessage("행 반영 실패");
+    }
+}
@@ -0,0 +1,78 @@
+package egovframework.let.scheduler.service.impl;
+
+import egovframework.let.scheduler.domain.model.SchedulerHistoryStep;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SyncJobDagTest {
+
+    @Test
+    @DisplayName("독립 단계는 동시에 실행되고 후행 단계는 선행 단계 완료 후 실행된다")
+    void run_executesIndependentStepsConcurrently() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        CountDownLatch bothStarted = new CountDownLatch(2);
+        List<String> order = Collections.synchronizedList(new ArrayList<>());
+        try {
+            SyncJobDag dag = new SyncJobDag()
+                    .step("items", () -> awaitPeer(bothStarted, order, "items"))
+                    .step("users", () -> awaitPeer(bothStarted, order, "users"))
+                    .step("prodReqs", () -> order.add("prodReqs"), "items");
+
+            List<SchedulerHistoryStep> steps = dag.run(executor, null);
+
+            assertThat(steps).extracting(SchedulerHistoryStep::getStatus)
+                    .containsOnly(SyncJobDag.STATUS_SUCCESS);
+            assertThat(steps.get(2).getDependsOn()).isEqualTo("items");
+            assertThat(order.indexOf("prodReqs")).isGreaterThan(order.indexOf("items"));
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("선행 단계가 실패하면 후행 단계는 건너뛰고 독립 단계는 계속 실행된다")
+    void run_skipsDependentsOfFailedStep() {
+        List<String> completed = Collections.synchronizedList(new ArrayList<>());
+        IllegalStateException failure = new IllegalStateException("품목 연동 실패");
+
+        SyncJobDag dag = new SyncJobDag()
+                .step("items", () -> {
+                    throw failure;
+                })
+                .step("users", () -> { })
+                .step("prodReqs", () -> { }, "items");
+
+        List<SchedulerHistoryStep> steps = dag.run(null, step -> completed.add(step.getStepName()));
+
+        assertThat(steps).extracting(SchedulerHistoryStep::getStatus).containsExactly(
+                SyncJobDag.STATUS_FAILED, SyncJobDag.STATUS_SUCCESS, SyncJobDag.STATUS_SKIPPED);
+        assertThat(steps.get(0).getErrorMessage()).isEqualTo("품목 연동 실패");
+        assertThat(completed).containsExactlyInAnyOrder("items", "users", "prodReqs");
+        assertThat(dag.firstError()).isSameAs(failure);
+    }
+
+    @Test
+    @DisplayName("등록되지 않은 선행 단계는 지정할 수 없다")
+    void step_rejectsUnknownDependency() {
+        assertThatThrownBy(() -> new SyncJobDag().step("prodReqs", () -> { }, "items"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static void awaitPeer(CountDownLatch bothStarted, List<String> order, String name) throws Exception {
+        bothStarted.countDown();
+        // 두 단계가 동시에 실행 중이 아니면 시간 초과
+        assertThat(bothStarted.await(5, TimeUnit.SECONDS)).isTrue();
+        order.add(name);
+    }
+}
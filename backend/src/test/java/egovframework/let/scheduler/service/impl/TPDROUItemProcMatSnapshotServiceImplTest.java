@@ -0,0 +1,176 @@
+package egovframework.let.scheduler.service.impl;
+
+import egovframework.let.scheduler.domain.model.TPDROUItemProcMatVersion;
+import egovframework.let.scheduler.domain.repository.MesTPDROUItemProcMatInterfaceDAO;
+import egovframework.let.scheduler.service.ErpToMesInterfaceService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.concurrent.RejectedExecutionException;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class TPDROUItemProcMatSnapshotServiceImplTest {
+
+    @Mock
+    private ErpToMesInterfaceService erpToMesInterfaceService;
+
+    @Mock
+    private MesTPDROUItemProcMatInterfaceDAO mesTPDROUItemProcMatInterfaceDAO;
+
+    private TPDROUItemProcMatSnapshotServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        // 백그라운드 갱신을 호출 스레드에서 실행
+        service = new TPDROUItemProcMatSnapshotServiceImpl(
+                erpToMesInterfaceService, mesTPDROUItemProcMatInterfaceDAO, Runnable::run, 600);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없으면 갱신 스레드 풀을 거치지 않고 요청 안에서 적재하며, 확인 주기 내 재조회는 ERP를 조회하지 않는다")
+    void ensureFresh_loadsMissingSnapshotOnCaller() throws Exception {
+        service = new TPDROUItemProcMatSnapshotServiceImpl(
+                erpToMesInterfaceService, mesTPDROUItemProcMatInterfaceDAO,
+                command -> { throw new RejectedExecutionException("full"); }, 600);
+        when(mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(100)).thenReturn(version(0, null));
+        when(erpToMesInterfaceService.fetchTPDROUItemProcMatVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00.000", 777));
+
+        service.ensureFresh(100);
+        service.ensureFresh(100);
+
+        verify(erpToMesInterfaceService, times(1)).resyncTPDROUItemProcMatByRootItem(100);
+        verify(erpToMesInterfaceService, times(1)).fetchTPDROUItemProcMatVersion(100);
+    }
+
+    @Test
+    @DisplayName("ERP와 MES 트리 버전이 같으면 TCO501을 다시 적재하지 않는다")
+    void ensureFresh_skipsResyncWhenVersionUnchanged() throws Exception {
+        when(mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00.000"));
+        when(erpToMesInterfaceService.fetchTPDROUItemProcMatVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00.000", 777));
+
+        service.ensureFresh(100);
+        service.ensureFresh(100);
+
+        verify(erpToMesInterfaceService, times(1)).fetchTPDROUItemProcMatVersion(100);
+        verify(erpToMesInterfaceService, never()).resyncTPDROUItemProcMatByRootItem(anyInt());
+    }
+
+    @Test
+    @DisplayName("ERP 트리가 변경되었으면 TCO501을 다시 적재한다")
+    void ensureFresh_resyncsWhenErpVersionChanged() throws Exception {
+        when(mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00.000"));
+        when(erpToMesInterfaceService.fetchTPDROUItemProcMatVersion(100))
+                .thenReturn(version(13, "2026-10-02 14:30:00.000", 778));
+
+        service.ensureFresh(100);
+
+        verify(erpToMesInterfaceService).resyncTPDROUItemProcMatByRootItem(100);
+    }
+
+    @Test
+    @DisplayName("백그라운드 갱신 실패는 조회에 전달하지 않고 다음 조회 시 다시 확인한다")
+    void ensureFresh_keepsServingSnapshotWhenRefreshFails() throws Exception {
+        when(mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00"));
+        doThrow(new RuntimeException("ERP down"))
+                .when(erpToMesInterfaceService).fetchTPDROUItemProcMatVersion(100);
+
+        service.ensureFresh(100);
+        service.ensureFresh(100);
+
+        verify(erpToMesInterfaceService, times(2)).fetchTPDROUItemProcMatVersion(100);
+        verifyNoMoreInteractions(erpToMesInterfaceService);
+    }
+
+    @Test
+    @DisplayName("스냅샷이 없는 상태에서 적재에 실패해도 요청을 실패시키지 않고 다음 조회에서 다시 적재한다")
+    void ensureFresh_retriesFailedInitialLoadOnNextRequest() throws Exception {
+        when(mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(100)).thenReturn(version(0, null));
+        when(erpToMesInterfaceService.fetchTPDROUItemProcMatVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00.000", 777));
+        doThrow(new RuntimeException("ERP down"))
+                .when(erpToMesInterfaceService).resyncTPDROUItemProcMatByRootItem(100);
+
+        assertThatCode(() -> service.ensureFresh(100)).doesNotThrowAnyException();
+        assertThatCode(() -> service.ensureFresh(100)).doesNotThrowAnyException();
+
+        verify(erpToMesInterfaceService, times(2)).resyncTPDROUItemProcMatByRootItem(100);
+    }
+
+    @Test
+    @DisplayName("ERP에도 BOM이 없는 품목은 빈 트리를 최신으로 보고 확인 시각을 기록한다")
+    void ensureFresh_treatsEmptyErpTreeAsFresh() throws Exception {
+        when(mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(100)).thenReturn(version(0, null));
+        when(erpToMesInterfaceService.fetchTPDROUItemProcMatVersion(100)).thenReturn(version(0, null));
+
+        service.ensureFresh(100);
+        service.ensureFresh(100);
+
+        verify(erpToMesInterfaceService, times(1)).fetchTPDROUItemProcMatVersion(100);
+        verify(erpToMesInterfaceService, never()).resyncTPDROUItemProcMatByRootItem(anyInt());
+    }
+
+    @Test
+    @DisplayName("행 수와 최종수정일시가 같아도 ERP 체크섬이 바뀌면 TCO501을 다시 적재한다")
+    void ensureFresh_resyncsWhenOnlyChecksumChanged() throws Exception {
+        when(mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00.000"));
+        when(erpToMesInterfaceService.fetchTPDROUItemProcMatVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00.000", 777),
+                        version(12, "2026-10-01 09:00:00.000", 778));
+
+        service.ensureFresh(100);
+        verify(erpToMesInterfaceService, never()).resyncTPDROUItemProcMatByRootItem(anyInt());
+
+        service.invalidate(100);
+        service.ensureFresh(100);
+
+        verify(erpToMesInterfaceService, times(1)).resyncTPDROUItemProcMatByRootItem(100);
+    }
+
+    @Test
+    @DisplayName("갱신 스레드 풀이 가득 차면 요청 스레드에서 실행하지 않고 다음 조회 때 다시 예약한다")
+    void ensureFresh_neverRefreshesOnCallerWhenExecutorRejects() throws Exception {
+        service = new TPDROUItemProcMatSnapshotServiceImpl(
+                erpToMesInterfaceService, mesTPDROUItemProcMatInterfaceDAO,
+                command -> { throw new RejectedExecutionException("full"); }, 600);
+        when(mesTPDROUItemProcMatInterfaceDAO.selectTPDROUItemProcMatTreeVersion(100))
+                .thenReturn(version(12, "2026-10-01 09:00:00.000"));
+
+        service.ensureFresh(100);
+        service.ensureFresh(100);
+
+        verify(mesTPDROUItemProcMatInterfaceDAO, times(2)).selectTPDROUItemProcMatTreeVersion(100);
+        verifyNoMoreInteractions(erpToMesInterfaceService);
+    }
+
+    private static TPDROUItemProcMatVersion version(int rowCount, String lastDateTime) {
+        TPDROUItemProcMatVersion version = new TPDROUItemProcMatVersion();
+        version.setRowCount(rowCount);
+        version.setLastDateTime(lastDateTime);
+        return version;
+    }
+
+    private static TPDROUItemProcMatVersion version(int rowCount, String lastDateTime, int checksum) {
+        TPDROUItemProcMatVersion version = version(rowCount, lastDateTime);
+        version.setChecksum(checksum);
+        return version;
+    }
+}
@@ -104,9 +104,10 @@ export const authService = {
   async logout() {
     try {
       const loginHistoryId = sessionStorage.getItem('loginHistoryId');
-      // 백엔드 로그아웃 호출로 서버측 세션/이력 업데이트 수행
+      // 백엔드 로그아웃 호출로 서버측 세션/이력 업데이트 및 토큰 폐기 수행
       await apiClient.post('/auth/logout', {
         loginHistoryId: loginHistoryId ? parseInt(loginHistoryId) : null,
+        refreshToken: sessionStorage.getItem('refreshToken'),
       });
     } catch (e) {
       console.warn('백엔드 로그아웃 호출 실패, 클라이언트만 정리합니다.', e);